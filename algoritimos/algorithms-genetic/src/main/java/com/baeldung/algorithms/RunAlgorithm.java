@@ -5,6 +5,9 @@ import java.util.Scanner;
 import com.baeldung.algorithms.ga.annealing.SimulatedAnnealing;
 import com.baeldung.algorithms.ga.ant_colony.AntColonyOptimization;
 import com.baeldung.algorithms.ga.binary.SimpleGeneticAlgorithm;
+import com.baeldung.algorithms.ga.island.BitFitnessFunctions;
+import com.baeldung.algorithms.ga.island.IslandGeneticAlgorithm;
+import com.baeldung.algorithms.ga.island.IslandGeneticAlgorithm.IslandMetrics;
 
 public class RunAlgorithm {
 
@@ -14,6 +17,7 @@ public class RunAlgorithm {
 		System.out.println("1 - Simulated Annealing");
 		System.out.println("2 - Simple Genetic Algorithm");
 		System.out.println("3 - Ant Colony");
+		System.out.println("4 - Island Model Genetic Algorithm");
 		int decision = in.nextInt();
 		switch (decision) {
 		case 1:
@@ -28,6 +32,21 @@ public class RunAlgorithm {
 			AntColonyOptimization antColony = new AntColonyOptimization(21);
 			antColony.startAntOptimization();
 			break;
+		case 4:
+			String solution = "1011000100000100010000100000100111001000000100000100000000001111";
+			IslandGeneticAlgorithm islands = new IslandGeneticAlgorithm(solution.length(), BitFitnessFunctions.matching(solution),
+					Runtime.getRuntime().availableProcessors());
+			try {
+				islands.solve(1000, solution.length());
+				IslandMetrics metrics = islands.getMetrics();
+				System.out.println("Correct genes found: " + islands.getBestFitness() + " in " + metrics.getGenerationCount()
+						+ " generations");
+				System.out.printf("%.0f evaluations/s, %.3f ms/generation on average, %.3f ms at most%n",
+						metrics.getEvaluationsPerSecond(), metrics.getAverageGenerationMillis(), metrics.getMaxGenerationMillis());
+			} finally {
+				islands.shutdown();
+			}
+			break;
 		default:
 			System.out.println("Unknown option");
 			break;
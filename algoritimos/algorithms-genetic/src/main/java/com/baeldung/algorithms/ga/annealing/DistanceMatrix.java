@@ -0,0 +1,165 @@
+package com.baeldung.algorithms.ga.annealing;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Symmetric distances between cities in a flat {@code float[]}, with the nearest neighbours of
+ * each city. It's immutable, so any number of {@link ParallelTempering} runs can share it.
+ * <p>
+ * The matrix holds {@code n * n} floats: 400 MB for 10,000 cities, half of the same matrix in
+ * {@code double}s.
+ */
+public final class DistanceMatrix {
+
+    private final int size;
+    private final float[] distances;
+    private final int neighbourCount;
+
+    /**
+     * {@code neighbours[i * neighbourCount + k]} is the {@code k}-th nearest city to city {@code i}.
+     */
+    private final int[] neighbours;
+
+    private DistanceMatrix(int size, float[] distances, int neighbourCount, ForkJoinPool pool) {
+        this.size = size;
+        this.distances = distances;
+        this.neighbourCount = Math.min(neighbourCount, size - 1);
+        this.neighbours = new int[size * this.neighbourCount];
+        inPool(pool, () -> rows(pool).forEach(this::findNeighbours));
+    }
+
+    /**
+     * @param distances      Distances from city {@code i} to city {@code j} at {@code i * n + j},
+     *                       the same as from {@code j} to {@code i}.
+     * @param neighbourCount Nearest neighbours of each city to which moves are proposed.
+     * @param pool           The pool computing the neighbours, or {@code null} to compute them on
+     *                       the calling thread.
+     */
+    public static DistanceMatrix of(float[] distances, int neighbourCount, ForkJoinPool pool) {
+        int size = (int) Math.round(Math.sqrt(distances.length));
+        if (size < 4 || size * size != distances.length) {
+            throw new IllegalArgumentException("The distances should be a square matrix of at least four cities");
+        }
+        if (neighbourCount < 1) {
+            throw new IllegalArgumentException("Each city should have at least one neighbour");
+        }
+        // 2-opt moves reverse part of the tour, which only keeps its length with symmetric distances
+        for (int i = 0; i < size; i++) {
+            for (int j = i + 1; j < size; j++) {
+                if (Float.compare(distances[i * size + j], distances[j * size + i]) != 0) {
+                    throw new IllegalArgumentException("The distances should be symmetric, unlike from " + i + " to " + j);
+                }
+            }
+        }
+        return new DistanceMatrix(size, distances.clone(), neighbourCount, pool);
+    }
+
+    /**
+     * Euclidean distances between points.
+     */
+    public static DistanceMatrix euclidean(double[] x, double[] y, int neighbourCount, ForkJoinPool pool) {
+        int size = x.length;
+        if (y.length != size) {
+            throw new IllegalArgumentException("There should be as many x as y coordinates");
+        }
+        if (size < 4 || (long) size * size > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("There should be between 4 and 46340 cities");
+        }
+        if (neighbourCount < 1) {
+            throw new IllegalArgumentException("Each city should have at least one neighbour");
+        }
+        float[] distances = new float[size * size];
+        inPool(pool, () -> rows(pool, size).forEach(i -> {
+            for (int j = 0; j < size; j++) {
+                distances[i * size + j] = (float) Math.hypot(x[i] - x[j], y[i] - y[j]);
+            }
+        }));
+        return new DistanceMatrix(size, distances, neighbourCount, pool);
+    }
+
+    /**
+     * The cities of a {@link Travel}.
+     */
+    public static DistanceMatrix of(List<City> cities, int neighbourCount, ForkJoinPool pool) {
+        double[] x = new double[cities.size()];
+        double[] y = new double[cities.size()];
+        for (int i = 0; i < x.length; i++) {
+            x[i] = cities.get(i).getX();
+            y[i] = cities.get(i).getY();
+        }
+        return euclidean(x, y, neighbourCount, pool);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public float distance(int from, int to) {
+        return distances[from * size + to];
+    }
+
+    public int getNeighbourCount() {
+        return neighbourCount;
+    }
+
+    public int neighbour(int city, int k) {
+        return neighbours[city * neighbourCount + k];
+    }
+
+    /**
+     * @return The length of the closed tour.
+     */
+    public double tourLength(int[] tour) {
+        double length = 0;
+        for (int i = 0; i < tour.length; i++) {
+            length += distance(tour[i], tour[i + 1 == tour.length ? 0 : i + 1]);
+        }
+        return length;
+    }
+
+    /**
+     * Keeps the nearest cities in a sorted array, inserting closer cities as they are found.
+     */
+    private void findNeighbours(int city) {
+        int base = city * neighbourCount;
+        float[] nearest = new float[neighbourCount];
+        int found = 0;
+        for (int other = 0; other < size; other++) {
+            if (other == city) {
+                continue;
+            }
+            float distance = distance(city, other);
+            if (found == neighbourCount && distance >= nearest[found - 1]) {
+                continue;
+            }
+            int k = found < neighbourCount ? found++ : found - 1;
+            while (k > 0 && nearest[k - 1] > distance) {
+                nearest[k] = nearest[k - 1];
+                neighbours[base + k] = neighbours[base + k - 1];
+                k--;
+            }
+            nearest[k] = distance;
+            neighbours[base + k] = other;
+        }
+    }
+
+    private IntStream rows(ForkJoinPool pool) {
+        return rows(pool, size);
+    }
+
+    private static IntStream rows(ForkJoinPool pool, int size) {
+        IntStream rows = IntStream.range(0, size);
+        return pool == null ? rows : rows.parallel();
+    }
+
+    private static void inPool(ForkJoinPool pool, Runnable task) {
+        if (pool == null) {
+            task.run();
+        } else {
+            pool.submit(task)
+                .join();
+        }
+    }
+}
@@ -0,0 +1,369 @@
+package com.baeldung.algorithms.ga.annealing;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Simulated annealing of a travelling salesman tour with parallel tempering (replica exchange).
+ * Compared to {@link SimulatedAnnealing}:
+ * <ul>
+ * <li>several replicas of the tour are annealed at once, each at its own temperature of a
+ * geometric ladder, on the threads of a pool; after each round, neighbouring temperatures swap
+ * their tours with the Metropolis probability {@code min(1, exp((1/T_i - 1/T_j)(E_i - E_j)))},
+ * so that good tours found while hot keep improving while cold;</li>
+ * <li>moves are 2-opt moves towards one of the nearest neighbours of a city, whose change of
+ * length is computed from four entries of a {@link DistanceMatrix}, and only accepted moves
+ * reverse a segment of the tour, the shorter of its two sides;</li>
+ * <li>all the state of a run is in its instance, so runs only share the immutable matrix;</li>
+ * <li>progress goes to a {@link TemperingListener} and to the {@link TemperingMetrics} of the
+ * run.</li>
+ * </ul>
+ * With a seed, runs are reproducible whatever the pool.
+ */
+public class ParallelTempering {
+
+    private int replicaCount = 8;
+    private double minTemperature;
+    private double maxTemperature;
+    private double coolingRate = 1;
+    private int movesPerRound;
+    private TemperingListener listener;
+    private SplittableRandom random = new SplittableRandom();
+
+    private final DistanceMatrix distances;
+    private final ForkJoinPool pool;
+
+    private int[] bestTour;
+    private double bestLength;
+    private TemperingMetrics metrics;
+
+    /**
+     * @param distances The distances between cities.
+     * @param pool      The pool annealing the replicas, or {@code null} to anneal them on the
+     *                  calling thread.
+     */
+    public ParallelTempering(DistanceMatrix distances, ForkJoinPool pool) {
+        this.distances = distances;
+        this.pool = pool;
+        this.movesPerRound = distances.size();
+
+        // by default, from accepting most moves lengthening a tour by a typical edge to accepting
+        // almost none
+        double nearest = 0;
+        for (int city = 0; city < distances.size(); city++) {
+            nearest += distances.distance(city, distances.neighbour(city, 0));
+        }
+        this.maxTemperature = nearest / distances.size();
+        this.minTemperature = maxTemperature / 100;
+    }
+
+    public void setReplicaCount(int replicaCount) {
+        if (replicaCount < 1) {
+            throw new IllegalArgumentException("At least one replica is required");
+        }
+        this.replicaCount = replicaCount;
+    }
+
+    /**
+     * @param minTemperature The temperature of the coldest replica.
+     * @param maxTemperature The temperature of the hottest replica.
+     */
+    public void setTemperatures(double minTemperature, double maxTemperature) {
+        if (minTemperature <= 0 || maxTemperature < minTemperature) {
+            throw new IllegalArgumentException("The temperatures should be positive, the maximum at least the minimum");
+        }
+        this.minTemperature = minTemperature;
+        this.maxTemperature = maxTemperature;
+    }
+
+    /**
+     * @param coolingRate Factor applied to all temperatures after each round, 1 to keep them.
+     */
+    public void setCoolingRate(double coolingRate) {
+        if (coolingRate <= 0 || coolingRate > 1) {
+            throw new IllegalArgumentException("The cooling rate should be in (0, 1]");
+        }
+        this.coolingRate = coolingRate;
+    }
+
+    /**
+     * @param movesPerRound Moves proposed to each replica between two exchanges.
+     */
+    public void setMovesPerRound(int movesPerRound) {
+        if (movesPerRound < 1) {
+            throw new IllegalArgumentException("At least one move per round is required");
+        }
+        this.movesPerRound = movesPerRound;
+    }
+
+    public void setListener(TemperingListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Makes the following runs reproducible.
+     */
+    public void setSeed(long seed) {
+        this.random = new SplittableRandom(seed);
+    }
+
+    /**
+     * Anneals random tours for the given number of rounds.
+     *
+     * @return The shortest tour found.
+     */
+    public int[] solve(int rounds) {
+        long start = System.nanoTime();
+        Replica[] replicas = new Replica[replicaCount];
+        for (int r = 0; r < replicaCount; r++) {
+            replicas[r] = new Replica(random.split());
+        }
+        // replicas[t] is the replica at temperatures[t], coldest first
+        double[] temperatures = new double[replicaCount];
+        for (int t = 0; t < replicaCount; t++) {
+            temperatures[t] = replicaCount == 1 ? minTemperature : minTemperature * Math.pow(maxTemperature / minTemperature, (double) t / (replicaCount - 1));
+        }
+        bestTour = replicas[0].tour.clone();
+        bestLength = replicas[0].length;
+        updateBest(replicas);
+
+        long[] roundNanos = new long[rounds];
+        double[] roundBestLengths = new double[rounds];
+        long[] exchangeAttempts = new long[Math.max(0, replicaCount - 1)];
+        long[] exchanges = new long[exchangeAttempts.length];
+        double[] lengths = new double[replicaCount];
+        long setupNanos = System.nanoTime() - start;
+
+        for (int round = 0; round < rounds; round++) {
+            long roundStart = System.nanoTime();
+            anneal(replicas, temperatures);
+
+            // alternates between pairs starting at even and odd temperatures
+            for (int t = round % 2; t + 1 < replicaCount; t += 2) {
+                exchangeAttempts[t]++;
+                double exponent = (1 / temperatures[t] - 1 / temperatures[t + 1]) * (replicas[t].length - replicas[t + 1].length);
+                if (exponent >= 0 || random.nextDouble() < Math.exp(exponent)) {
+                    Replica colder = replicas[t];
+                    replicas[t] = replicas[t + 1];
+                    replicas[t + 1] = colder;
+                    exchanges[t]++;
+                }
+            }
+            for (int t = 0; t < replicaCount; t++) {
+                temperatures[t] *= coolingRate;
+            }
+            updateBest(replicas);
+
+            roundNanos[round] = System.nanoTime() - roundStart;
+            roundBestLengths[round] = bestLength;
+            if (listener != null) {
+                for (int t = 0; t < replicaCount; t++) {
+                    lengths[t] = replicas[t].length;
+                }
+                listener.roundCompleted(round, bestLength, lengths);
+            }
+        }
+
+        long proposed = 0;
+        long accepted = 0;
+        for (Replica replica : replicas) {
+            proposed += replica.proposed;
+            accepted += replica.accepted;
+        }
+        metrics = new TemperingMetrics(setupNanos, roundNanos, roundBestLengths, proposed, accepted, exchangeAttempts, exchanges);
+        return getBestTour();
+    }
+
+    public int[] getBestTour() {
+        return bestTour.clone();
+    }
+
+    public double getBestLength() {
+        return bestLength;
+    }
+
+    public TemperingMetrics getMetrics() {
+        return metrics;
+    }
+
+    private void anneal(Replica[] replicas, double[] temperatures) {
+        if (pool == null) {
+            for (int t = 0; t < replicaCount; t++) {
+                replicas[t].anneal(temperatures[t], movesPerRound);
+            }
+        } else {
+            pool.submit(() -> IntStream.range(0, replicaCount)
+                .parallel()
+                .forEach(t -> replicas[t].anneal(temperatures[t], movesPerRound)))
+                .join();
+        }
+    }
+
+    /**
+     * Recomputes the length of better tours, so that rounding errors of the deltas don't
+     * accumulate into the result.
+     */
+    private void updateBest(Replica[] replicas) {
+        for (Replica replica : replicas) {
+            if (replica.length < bestLength) {
+                double length = distances.tourLength(replica.tour);
+                replica.length = length;
+                if (length < bestLength) {
+                    bestLength = length;
+                    System.arraycopy(replica.tour, 0, bestTour, 0, bestTour.length);
+                }
+            }
+        }
+    }
+
+    /**
+     * A tour, the position of each city in it, and the random generator moving it.
+     */
+    private class Replica {
+
+        private final SplittableRandom random;
+        private final int size = distances.size();
+        private final int[] tour = new int[size];
+        private final int[] positions = new int[size];
+        private double length;
+        private long proposed;
+        private long accepted;
+
+        Replica(SplittableRandom random) {
+            this.random = random;
+            for (int i = 0; i < size; i++) {
+                tour[i] = i;
+            }
+            for (int i = size - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                int city = tour[i];
+                tour[i] = tour[j];
+                tour[j] = city;
+            }
+            for (int i = 0; i < size; i++) {
+                positions[tour[i]] = i;
+            }
+            length = distances.tourLength(tour);
+        }
+
+        /**
+         * Proposes moves replacing the edges {@code (a, b)} and {@code (c, d)} with {@code (a, c)}
+         * and {@code (b, d)}, where {@code c} is a near neighbour of {@code a}.
+         */
+        void anneal(double temperature, int moves) {
+            int neighbourCount = distances.getNeighbourCount();
+            for (int move = 0; move < moves; move++) {
+                int i = random.nextInt(size);
+                int a = tour[i];
+                int b = tour[next(i)];
+                int c = distances.neighbour(a, random.nextInt(neighbourCount));
+                int j = positions[c];
+                int d = tour[next(j)];
+                if (c == b || d == a) {
+                    continue;
+                }
+
+                proposed++;
+                double delta = distances.distance(a, c) + distances.distance(b, d) - distances.distance(a, b) - distances.distance(c, d);
+                if (delta <= 0 || random.nextDouble() < Math.exp(-delta / temperature)) {
+                    reverse(next(i), j);
+                    length += delta;
+                    accepted++;
+                }
+            }
+        }
+
+        /**
+         * Reverses the tour from position {@code from} to position {@code to}, going forward, or
+         * the rest of the tour if it's shorter, which gives the same cycle.
+         */
+        private void reverse(int from, int to) {
+            int count = (to - from + size) % size + 1;
+            if (2 * count > size) {
+                int start = next(to);
+                to = from == 0 ? size - 1 : from - 1;
+                from = start;
+                count = size - count;
+            }
+            for (int swaps = count / 2; swaps > 0; swaps--) {
+                int first = tour[from];
+                int second = tour[to];
+                tour[from] = second;
+                positions[second] = from;
+                tour[to] = first;
+                positions[first] = to;
+                from = next(from);
+                to = to == 0 ? size - 1 : to - 1;
+            }
+        }
+
+        private int next(int position) {
+            return position + 1 == size ? 0 : position + 1;
+        }
+    }
+
+    public static class TemperingMetrics {
+
+        private final long setupNanos;
+        private final long[] roundNanos;
+        private final double[] bestLengths;
+        private final long proposedMoves;
+        private final long acceptedMoves;
+        private final long[] exchangeAttempts;
+        private final long[] exchanges;
+
+        TemperingMetrics(long setupNanos, long[] roundNanos, double[] bestLengths, long proposedMoves, long acceptedMoves, long[] exchangeAttempts,
+            long[] exchanges) {
+            this.setupNanos = setupNanos;
+            this.roundNanos = roundNanos;
+            this.bestLengths = bestLengths;
+            this.proposedMoves = proposedMoves;
+            this.acceptedMoves = acceptedMoves;
+            this.exchangeAttempts = exchangeAttempts;
+            this.exchanges = exchanges;
+        }
+
+        public int getRoundCount() {
+            return roundNanos.length;
+        }
+
+        public long getRoundNanos(int round) {
+            return roundNanos[round];
+        }
+
+        /**
+         * @return The length of the best tour found up to and including the given round.
+         */
+        public double getBestLength(int round) {
+            return bestLengths[round];
+        }
+
+        public long getProposedMoves() {
+            return proposedMoves;
+        }
+
+        public long getAcceptedMoves() {
+            return acceptedMoves;
+        }
+
+        /**
+         * @return The fraction of the attempted exchanges between temperatures {@code t} and
+         *         {@code t + 1} which were accepted.
+         */
+        public double getExchangeRate(int t) {
+            return exchangeAttempts[t] == 0 ? 0 : (double) exchanges[t] / exchangeAttempts[t];
+        }
+
+        public long getTotalNanos() {
+            return setupNanos + Arrays.stream(roundNanos)
+                .sum();
+        }
+
+        public double getMovesPerSecond() {
+            long nanos = getTotalNanos();
+            return nanos == 0 ? 0 : proposedMoves * 1e9 / nanos;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.baeldung.algorithms.ga.annealing;
+
+/**
+ * Receives the progress of a {@link ParallelTempering} run, on the thread running it, after each
+ * round of moves and replica exchanges.
+ */
+@FunctionalInterface
+public interface TemperingListener {
+
+    /**
+     * @param round      The round just completed, from 0.
+     * @param bestLength The length of the best tour found so far.
+     * @param lengths    The length of the current tour at each temperature, coldest first; only
+     *                   valid during the call.
+     */
+    void roundCompleted(int round, double bestLength, double[] lengths);
+}
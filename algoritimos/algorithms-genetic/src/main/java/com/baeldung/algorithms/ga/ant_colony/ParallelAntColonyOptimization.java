@@ -0,0 +1,356 @@
+package com.baeldung.algorithms.ga.ant_colony;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Ant colony optimization for large travelling salesman instances. Compared to
+ * {@link AntColonyOptimization}:
+ * <ul>
+ * <li>ants build their tours concurrently, each with its own random generator;</li>
+ * <li>an ant only chooses among the nearest neighbours of its current city (its candidate list),
+ * falling back to the nearest unvisited city once all candidates are visited;</li>
+ * <li>{@code pheromone^alpha * (1/d)^beta} is computed once per iteration for the candidate
+ * edges instead of at every step of every ant;</li>
+ * <li>the pheromone matrix is updated by rows, each row by a single task, so deposits from all
+ * ants are merged without locking.</li>
+ * </ul>
+ */
+public class ParallelAntColonyOptimization {
+
+    private double c = 1.0;
+    private double alpha = 1;
+    private double beta = 5;
+    private double evaporation = 0.5;
+    private double Q = 500;
+    private double antFactor = 0.8;
+
+    private int maxIterations = 1000;
+
+    private final int numberOfCities;
+    private final int numberOfAnts;
+    private final double[][] graph;
+    private final double[][] trails;
+    private final ForkJoinPool pool;
+
+    /**
+     * {@code candidates[i]} lists the cities closest to city {@code i}, nearest first.
+     */
+    private final int[][] candidates;
+
+    /**
+     * {@code (1/d)^beta} and {@code pheromone^alpha * (1/d)^beta} of the candidate edges, indexed
+     * like {@link #candidates}.
+     */
+    private final double[][] heuristics;
+    private final double[][] attractiveness;
+
+    private final Ant[] ants;
+
+    /**
+     * {@code successors[a][i]} is the city visited by ant {@code a} after city {@code i}.
+     */
+    private final int[][] successors;
+    private final double[] tourLengths;
+
+    private SplittableRandom random = new SplittableRandom();
+
+    private int[] bestTourOrder;
+    private double bestTourLength;
+    private ColonyMetrics metrics;
+
+    /**
+     * @param graph             Distances between cities; distances between different cities must
+     *                          be positive.
+     * @param candidateListSize Number of nearest neighbours an ant considers at each step.
+     * @param parallelism       Number of worker threads.
+     */
+    public ParallelAntColonyOptimization(double[][] graph, int candidateListSize, int parallelism) {
+        if (graph.length < 2) {
+            throw new IllegalArgumentException("At least two cities are required");
+        }
+        if (candidateListSize < 1) {
+            throw new IllegalArgumentException("The candidate list should hold at least one city");
+        }
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("At least one thread is required");
+        }
+
+        this.graph = graph;
+        this.numberOfCities = graph.length;
+        this.numberOfAnts = Math.max(1, (int) (numberOfCities * antFactor));
+        this.pool = new ForkJoinPool(parallelism);
+        this.trails = new double[numberOfCities][numberOfCities];
+
+        int size = Math.min(candidateListSize, numberOfCities - 1);
+        this.candidates = new int[numberOfCities][];
+        this.heuristics = new double[numberOfCities][size];
+        this.attractiveness = new double[numberOfCities][size];
+        inPool(() -> IntStream.range(0, numberOfCities)
+            .parallel()
+            .forEach(i -> {
+                candidates[i] = nearestNeighbours(i, size);
+                for (int k = 0; k < size; k++) {
+                    heuristics[i][k] = Math.pow(1.0 / graph[i][candidates[i][k]], beta);
+                }
+            }));
+
+        this.ants = new Ant[numberOfAnts];
+        this.successors = new int[numberOfAnts][numberOfCities];
+        this.tourLengths = new double[numberOfAnts];
+        for (int a = 0; a < numberOfAnts; a++) {
+            ants[a] = new Ant(numberOfCities);
+        }
+    }
+
+    public int getMaxIterations() {
+        return maxIterations;
+    }
+
+    public void setMaxIterations(int maxIterations) {
+        if (maxIterations < 1) {
+            throw new IllegalArgumentException("At least one iteration is required");
+        }
+        this.maxIterations = maxIterations;
+    }
+
+    /**
+     * Makes the following runs reproducible, whatever the number of threads.
+     */
+    public void setSeed(long seed) {
+        this.random = new SplittableRandom(seed);
+    }
+
+    public double getBestTourLength() {
+        return bestTourLength;
+    }
+
+    /**
+     * @return Timing and convergence of the last {@link #solve()} call.
+     */
+    public ColonyMetrics getMetrics() {
+        return metrics;
+    }
+
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    /**
+     * Use this method to run the main logic
+     */
+    public int[] solve() {
+        clearTrails();
+        bestTourOrder = null;
+        bestTourLength = Double.POSITIVE_INFINITY;
+        long[] iterationNanos = new long[maxIterations];
+        double[] bestLengths = new double[maxIterations];
+
+        for (int iteration = 0; iteration < maxIterations; iteration++) {
+            long start = System.nanoTime();
+            updateAttractiveness();
+            moveAnts();
+            updateTrails();
+            updateBest();
+            iterationNanos[iteration] = System.nanoTime() - start;
+            bestLengths[iteration] = bestTourLength;
+        }
+
+        metrics = new ColonyMetrics(iterationNanos, bestLengths);
+        return bestTourOrder.clone();
+    }
+
+    private void updateAttractiveness() {
+        inPool(() -> IntStream.range(0, numberOfCities)
+            .parallel()
+            .forEach(i -> {
+                int[] row = candidates[i];
+                for (int k = 0; k < row.length; k++) {
+                    attractiveness[i][k] = Math.pow(trails[i][row[k]], alpha) * heuristics[i][k];
+                }
+            }));
+    }
+
+    /**
+     * Every ant builds a whole tour in its own task. Generators are split up front, so the tours
+     * don't depend on which thread runs which ant.
+     */
+    private void moveAnts() {
+        SplittableRandom[] generators = new SplittableRandom[numberOfAnts];
+        for (int a = 0; a < numberOfAnts; a++) {
+            generators[a] = random.split();
+        }
+
+        inPool(() -> IntStream.range(0, numberOfAnts)
+            .parallel()
+            .forEach(a -> buildTour(a, generators[a])));
+    }
+
+    private void buildTour(int index, SplittableRandom generator) {
+        Ant ant = ants[index];
+        ant.clear();
+        ant.visitCity(-1, generator.nextInt(numberOfCities));
+        for (int step = 0; step < numberOfCities - 1; step++) {
+            ant.visitCity(step, selectNextCity(ant, ant.trail[step], generator));
+        }
+
+        int[] next = successors[index];
+        for (int i = 0; i < numberOfCities - 1; i++) {
+            next[ant.trail[i]] = ant.trail[i + 1];
+        }
+        next[ant.trail[numberOfCities - 1]] = ant.trail[0];
+        tourLengths[index] = ant.trailLength(graph);
+    }
+
+    private int selectNextCity(Ant ant, int city, SplittableRandom generator) {
+        int[] row = candidates[city];
+        double[] weights = attractiveness[city];
+        double total = 0;
+        for (int k = 0; k < row.length; k++) {
+            if (!ant.visited(row[k])) {
+                total += weights[k];
+            }
+        }
+
+        if (total > 0) {
+            double r = generator.nextDouble() * total;
+            int last = -1;
+            for (int k = 0; k < row.length; k++) {
+                if (!ant.visited(row[k])) {
+                    last = row[k];
+                    r -= weights[k];
+                    if (r < 0) {
+                        return last;
+                    }
+                }
+            }
+            // rounding left r slightly above 0
+            return last;
+        }
+
+        return nearestUnvisited(ant, city);
+    }
+
+    private int nearestUnvisited(Ant ant, int city) {
+        int nearest = -1;
+        for (int j = 0; j < numberOfCities; j++) {
+            if (!ant.visited(j) && (nearest == -1 || graph[city][j] < graph[city][nearest])) {
+                nearest = j;
+            }
+        }
+
+        if (nearest == -1) {
+            throw new IllegalStateException("There are no other cities");
+        }
+        return nearest;
+    }
+
+    /**
+     * Evaporates and deposits pheromone one row at a time. Row {@code i} only receives deposits
+     * on the edges leaving city {@code i}, which the successor arrays give directly, so each
+     * task owns its rows and no two tasks write to the same cell.
+     */
+    private void updateTrails() {
+        double[] contributions = new double[numberOfAnts];
+        for (int a = 0; a < numberOfAnts; a++) {
+            contributions[a] = Q / tourLengths[a];
+        }
+
+        inPool(() -> IntStream.range(0, numberOfCities)
+            .parallel()
+            .forEach(i -> {
+                double[] row = trails[i];
+                for (int j = 0; j < numberOfCities; j++) {
+                    row[j] *= evaporation;
+                }
+                for (int a = 0; a < numberOfAnts; a++) {
+                    row[successors[a][i]] += contributions[a];
+                }
+            }));
+    }
+
+    private void updateBest() {
+        for (int a = 0; a < numberOfAnts; a++) {
+            if (tourLengths[a] < bestTourLength) {
+                bestTourLength = tourLengths[a];
+                bestTourOrder = ants[a].trail.clone();
+            }
+        }
+    }
+
+    private void clearTrails() {
+        for (double[] row : trails) {
+            Arrays.fill(row, c);
+        }
+    }
+
+    private int[] nearestNeighbours(int city, int size) {
+        Integer[] others = new Integer[numberOfCities - 1];
+        for (int j = 0, k = 0; j < numberOfCities; j++) {
+            if (j != city) {
+                if (!(graph[city][j] > 0)) {
+                    throw new IllegalArgumentException("Distance between cities " + city + " and " + j + " should be positive");
+                }
+                others[k++] = j;
+            }
+        }
+
+        Arrays.sort(others, (a, b) -> Double.compare(graph[city][a], graph[city][b]));
+        int[] nearest = new int[size];
+        for (int k = 0; k < size; k++) {
+            nearest[k] = others[k];
+        }
+        return nearest;
+    }
+
+    /**
+     * Runs a parallel stream on this instance's pool rather than the common one.
+     */
+    private void inPool(Runnable task) {
+        pool.submit(task)
+            .join();
+    }
+
+    /**
+     * Timing and convergence of a run, one entry per iteration.
+     */
+    public static class ColonyMetrics {
+
+        private final long[] iterationNanos;
+        private final double[] bestTourLengths;
+
+        ColonyMetrics(long[] iterationNanos, double[] bestTourLengths) {
+            this.iterationNanos = iterationNanos;
+            this.bestTourLengths = bestTourLengths;
+        }
+
+        public int getIterationCount() {
+            return iterationNanos.length;
+        }
+
+        public long getIterationNanos(int iteration) {
+            return iterationNanos[iteration];
+        }
+
+        /**
+         * @return The length of the best tour found up to and including the given iteration.
+         */
+        public double getBestTourLength(int iteration) {
+            return bestTourLengths[iteration];
+        }
+
+        public long getTotalNanos() {
+            long total = 0;
+            for (long nanos : iterationNanos) {
+                total += nanos;
+            }
+            return total;
+        }
+
+        public double getAverageIterationMillis() {
+            return iterationNanos.length == 0 ? 0 : getTotalNanos() / 1e6 / iterationNanos.length;
+        }
+    }
+}
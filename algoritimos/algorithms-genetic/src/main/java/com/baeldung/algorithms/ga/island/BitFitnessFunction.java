@@ -0,0 +1,14 @@
+package com.baeldung.algorithms.ga.island;
+
+/**
+ * Fitness of a bit-packed genome, higher being better. Gene {@code i} is bit {@code i % 64} of
+ * {@code genes[i / 64]}, and the bits past the genome length are 0.
+ * <p>
+ * Islands evaluate their genomes concurrently, so implementations must be thread-safe, and must
+ * not keep a reference to the array, which is reused.
+ */
+@FunctionalInterface
+public interface BitFitnessFunction {
+
+    double fitness(long[] genes, int length);
+}
@@ -0,0 +1,60 @@
+package com.baeldung.algorithms.ga.island;
+
+import com.baeldung.algorithms.ga.jenetics.KnapsackItem;
+
+/**
+ * The binary problems of {@code ga.binary} and {@code ga.jenetics} as fitness functions of
+ * bit-packed genomes.
+ */
+public final class BitFitnessFunctions {
+
+    private BitFitnessFunctions() {
+    }
+
+    /**
+     * The number of genes equal to the solution, as in
+     * {@link com.baeldung.algorithms.ga.binary.SimpleGeneticAlgorithm}.
+     *
+     * @param solution Genes as {@code '0'} and {@code '1'} characters; other characters are 0.
+     */
+    public static BitFitnessFunction matching(String solution) {
+        long[] target = new long[words(solution.length())];
+        for (int i = 0; i < solution.length(); i++) {
+            if (solution.charAt(i) == '1') {
+                target[i >>> 6] |= 1L << i;
+            }
+        }
+        return (genes, length) -> {
+            int matches = 0;
+            for (int w = 0; w < target.length; w++) {
+                matches += Long.bitCount(~(genes[w] ^ target[w]));
+            }
+            // the padding bits are 0 in both, so they match
+            return matches - (64 * target.length - length);
+        };
+    }
+
+    /**
+     * The total value of the chosen items, or 0 if they don't fit, as
+     * {@link com.baeldung.algorithms.ga.jenetics.KnapsackFF}.
+     */
+    public static BitFitnessFunction knapsack(KnapsackItem[] items, double size) {
+        KnapsackItem[] copy = items.clone();
+        return (genes, length) -> {
+            double totalSize = 0;
+            double totalValue = 0;
+            for (int w = 0; w < genes.length; w++) {
+                for (long word = genes[w]; word != 0; word &= word - 1) {
+                    KnapsackItem item = copy[(w << 6) + Long.numberOfTrailingZeros(word)];
+                    totalSize += item.size;
+                    totalValue += item.value;
+                }
+            }
+            return totalSize <= size ? totalValue : 0;
+        };
+    }
+
+    static int words(int length) {
+        return (length + 63) >>> 6;
+    }
+}
@@ -0,0 +1,53 @@
+package com.baeldung.algorithms.ga.island;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A slot per hash of the genome, holding an immutable entry, so that readers and writers never
+ * lock: a reader sees either a whole entry or the one it replaced.
+ */
+final class DirectMappedFitnessCache implements FitnessCache {
+
+    private final AtomicReferenceArray<Entry> entries;
+    private final int mask;
+
+    DirectMappedFitnessCache(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("The cache should hold at least one genome");
+        }
+        int slots = Integer.highestOneBit(capacity);
+        this.entries = new AtomicReferenceArray<>(slots);
+        this.mask = slots - 1;
+    }
+
+    @Override
+    public double get(long[] genes) {
+        Entry entry = entries.get(slot(genes));
+        return entry != null && Arrays.equals(entry.genes, genes) ? entry.fitness : Double.NaN;
+    }
+
+    @Override
+    public void put(long[] genes, double fitness) {
+        entries.set(slot(genes), new Entry(genes.clone(), fitness));
+    }
+
+    private int slot(long[] genes) {
+        long hash = 0;
+        for (long word : genes) {
+            hash = (hash + word) * 0x9E3779B97F4A7C15L;
+        }
+        return (int) (hash ^ hash >>> 32) & mask;
+    }
+
+    private static final class Entry {
+
+        private final long[] genes;
+        private final double fitness;
+
+        Entry(long[] genes, double fitness) {
+            this.genes = genes;
+            this.fitness = fitness;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.baeldung.algorithms.ga.island;
+
+/**
+ * Cache of the fitness of genomes, shared by all islands, for fitness functions expensive enough
+ * that recognising a genome already evaluated pays off. Implementations must be thread-safe and
+ * must copy the genomes they keep.
+ */
+public interface FitnessCache {
+
+    /**
+     * @return The cached fitness of the genome, or {@code NaN} if it's not cached.
+     */
+    double get(long[] genes);
+
+    void put(long[] genes, double fitness);
+
+    /**
+     * @return A cache which caches nothing.
+     */
+    static FitnessCache none() {
+        return NoFitnessCache.INSTANCE;
+    }
+
+    /**
+     * @return A lock-free cache of at most {@code capacity} genomes, each of which replaces the
+     *         genome cached in its slot.
+     */
+    static FitnessCache directMapped(int capacity) {
+        return new DirectMappedFitnessCache(capacity);
+    }
+}
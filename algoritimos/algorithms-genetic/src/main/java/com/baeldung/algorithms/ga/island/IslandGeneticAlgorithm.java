@@ -0,0 +1,504 @@
+package com.baeldung.algorithms.ga.island;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
+
+/**
+ * Genetic algorithm on bit-packed genomes, with several populations (islands) evolving
+ * concurrently. Compared to {@link com.baeldung.algorithms.ga.binary.SimpleGeneticAlgorithm}:
+ * <ul>
+ * <li>a genome is a {@code long[]} of 64 genes per word, so that uniform crossover mixes 64
+ * genes with one random word, and mutation jumps from one mutated gene to the next with a
+ * geometric distribution instead of drawing a number per gene;</li>
+ * <li>each island evolves on its own thread, with its own random generator, for
+ * {@code migrationInterval} generations; then the best genomes of each island replace the worst
+ * of the next one, around a ring;</li>
+ * <li>populations are reused from one generation to the next, so breeding allocates nothing;</li>
+ * <li>genomes may be evaluated in parallel within an island as well, and their fitness cached
+ * in a pluggable {@link FitnessCache}.</li>
+ * </ul>
+ * With a seed and without parallel evaluation of a non-deterministic fitness function, runs are
+ * reproducible whatever the number of threads.
+ */
+public class IslandGeneticAlgorithm {
+
+    private int islandCount = 4;
+    private int islandSize = 50;
+    private int migrationInterval = 10;
+    private int migrantCount = 2;
+    private int tournamentSize = 5;
+    private int eliteCount = 1;
+    private double crossoverRate = 0.9;
+    private double mutationRate = 0.025;
+    private boolean parallelEvaluation;
+    private FitnessCache fitnessCache = FitnessCache.none();
+    private SplittableRandom random = new SplittableRandom();
+
+    private final int genomeLength;
+    private final int words;
+    private final BitFitnessFunction fitnessFunction;
+    private final ForkJoinPool pool;
+
+    private final LongAdder evaluations = new LongAdder();
+    private final LongAdder cacheHits = new LongAdder();
+
+    private long[] bestGenome;
+    private double bestFitness;
+    private IslandMetrics metrics;
+
+    /**
+     * @param genomeLength    Number of genes of each genome.
+     * @param fitnessFunction Fitness of the genomes, which is maximised.
+     * @param parallelism     Number of worker threads.
+     */
+    public IslandGeneticAlgorithm(int genomeLength, BitFitnessFunction fitnessFunction, int parallelism) {
+        if (genomeLength < 1) {
+            throw new IllegalArgumentException("The genome should have at least one gene");
+        }
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("At least one thread is required");
+        }
+        this.genomeLength = genomeLength;
+        this.words = BitFitnessFunctions.words(genomeLength);
+        this.fitnessFunction = fitnessFunction;
+        this.pool = new ForkJoinPool(parallelism);
+    }
+
+    public void setIslandCount(int islandCount) {
+        if (islandCount < 1) {
+            throw new IllegalArgumentException("At least one island is required");
+        }
+        this.islandCount = islandCount;
+    }
+
+    public void setIslandSize(int islandSize) {
+        if (islandSize < 2) {
+            throw new IllegalArgumentException("An island should hold at least two genomes");
+        }
+        this.islandSize = islandSize;
+    }
+
+    /**
+     * @param migrationInterval Generations between migrations.
+     * @param migrantCount      Genomes sent by each island at each migration.
+     */
+    public void setMigration(int migrationInterval, int migrantCount) {
+        if (migrationInterval < 1 || migrantCount < 0) {
+            throw new IllegalArgumentException("The migration interval should be positive and the number of migrants not negative");
+        }
+        this.migrationInterval = migrationInterval;
+        this.migrantCount = migrantCount;
+    }
+
+    public void setTournamentSize(int tournamentSize) {
+        if (tournamentSize < 1) {
+            throw new IllegalArgumentException("A tournament needs at least one genome");
+        }
+        this.tournamentSize = tournamentSize;
+    }
+
+    /**
+     * @param eliteCount Best genomes of each island copied unchanged to its next generation.
+     */
+    public void setEliteCount(int eliteCount) {
+        if (eliteCount < 0) {
+            throw new IllegalArgumentException("The number of elites should not be negative");
+        }
+        this.eliteCount = eliteCount;
+    }
+
+    /**
+     * @param crossoverRate Probability that a child mixes two parents rather than copying one.
+     * @param mutationRate  Probability that each gene of a child is flipped.
+     */
+    public void setRates(double crossoverRate, double mutationRate) {
+        if (crossoverRate < 0 || crossoverRate > 1 || mutationRate < 0 || mutationRate >= 1) {
+            throw new IllegalArgumentException("The rates should be probabilities, and the mutation rate less than 1");
+        }
+        this.crossoverRate = crossoverRate;
+        this.mutationRate = mutationRate;
+    }
+
+    /**
+     * Also evaluates the genomes of each island in parallel, which pays off when there are more
+     * threads than islands and the fitness function is expensive.
+     */
+    public void setParallelEvaluation(boolean parallelEvaluation) {
+        this.parallelEvaluation = parallelEvaluation;
+    }
+
+    public void setFitnessCache(FitnessCache fitnessCache) {
+        this.fitnessCache = fitnessCache;
+    }
+
+    /**
+     * Makes the following runs reproducible.
+     */
+    public void setSeed(long seed) {
+        this.random = new SplittableRandom(seed);
+    }
+
+    /**
+     * Evolves the islands for the given number of generations.
+     *
+     * @return The best genome found.
+     */
+    public long[] solve(int maxGenerations) {
+        return solve(maxGenerations, Double.POSITIVE_INFINITY);
+    }
+
+    /**
+     * Evolves the islands until one of them finds a genome at least as fit as the target, or for
+     * the given number of generations.
+     *
+     * @return The best genome found.
+     */
+    public long[] solve(int maxGenerations, double targetFitness) {
+        if (eliteCount >= islandSize || migrantCount >= islandSize) {
+            throw new IllegalArgumentException("The elites and the migrants should be fewer than the genomes of an island");
+        }
+        evaluations.reset();
+        cacheHits.reset();
+        bestGenome = null;
+        bestFitness = Double.NEGATIVE_INFINITY;
+        long start = System.nanoTime();
+
+        Island[] islands = new Island[islandCount];
+        for (int i = 0; i < islandCount; i++) {
+            islands[i] = new Island(random.split());
+        }
+        inPool(() -> IntStream.range(0, islandCount)
+            .parallel()
+            .forEach(i -> islands[i].initialize()));
+        long initializationNanos = System.nanoTime() - start;
+        updateBest(islands);
+
+        int epochs = (maxGenerations + migrationInterval - 1) / migrationInterval;
+        int[] epochGenerations = new int[epochs];
+        long[] epochNanos = new long[epochs];
+        double[] epochBestFitness = new double[epochs];
+        int epoch = 0;
+        int generation = 0;
+        while (generation < maxGenerations && bestFitness < targetFitness) {
+            int generations = Math.min(migrationInterval, maxGenerations - generation);
+            long epochStart = System.nanoTime();
+            inPool(() -> IntStream.range(0, islandCount)
+                .parallel()
+                .forEach(i -> islands[i].evolve(generations, targetFitness)));
+            migrate(islands);
+            epochNanos[epoch] = System.nanoTime() - epochStart;
+            epochGenerations[epoch] = generations;
+            updateBest(islands);
+            epochBestFitness[epoch] = bestFitness;
+            generation += generations;
+            epoch++;
+        }
+
+        metrics = new IslandMetrics(initializationNanos, Arrays.copyOf(epochGenerations, epoch), Arrays.copyOf(epochNanos, epoch),
+            Arrays.copyOf(epochBestFitness, epoch), evaluations.sum(), cacheHits.sum());
+        return getBestGenome();
+    }
+
+    public long[] getBestGenome() {
+        return bestGenome.clone();
+    }
+
+    public double getBestFitness() {
+        return bestFitness;
+    }
+
+    public IslandMetrics getMetrics() {
+        return metrics;
+    }
+
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    /**
+     * Sends copies of the best genomes of each island to the next one, where they replace the
+     * worst genomes.
+     */
+    private void migrate(Island[] islands) {
+        if (islandCount < 2 || migrantCount == 0) {
+            return;
+        }
+        long[][][] migrants = new long[islandCount][][];
+        double[][] migrantFitness = new double[islandCount][migrantCount];
+        for (int i = 0; i < islandCount; i++) {
+            int[] ranking = islands[i].ranking();
+            migrants[i] = new long[migrantCount][];
+            for (int m = 0; m < migrantCount; m++) {
+                migrants[i][m] = islands[i].genes[ranking[m]].clone();
+                migrantFitness[i][m] = islands[i].fitness[ranking[m]];
+            }
+        }
+        for (int i = 0; i < islandCount; i++) {
+            Island target = islands[(i + 1) % islandCount];
+            int[] ranking = target.ranking();
+            for (int m = 0; m < migrantCount; m++) {
+                int slot = ranking[islandSize - 1 - m];
+                System.arraycopy(migrants[i][m], 0, target.genes[slot], 0, words);
+                target.fitness[slot] = migrantFitness[i][m];
+            }
+        }
+    }
+
+    private void updateBest(Island[] islands) {
+        for (Island island : islands) {
+            int best = island.best();
+            if (bestGenome == null || island.fitness[best] > bestFitness) {
+                bestGenome = island.genes[best].clone();
+                bestFitness = island.fitness[best];
+            }
+        }
+    }
+
+    private double evaluate(long[] genes) {
+        double fitness = fitnessCache.get(genes);
+        if (Double.isNaN(fitness)) {
+            fitness = fitnessFunction.fitness(genes, genomeLength);
+            fitnessCache.put(genes, fitness);
+            evaluations.increment();
+        } else {
+            cacheHits.increment();
+        }
+        return fitness;
+    }
+
+    private void inPool(Runnable task) {
+        pool.submit(task)
+            .join();
+    }
+
+    /**
+     * A population and the buffer its next generation is bred into.
+     */
+    private class Island {
+
+        private final SplittableRandom random;
+        private long[][] genes = new long[islandSize][words];
+        private double[] fitness = new double[islandSize];
+        private long[][] nextGenes = new long[islandSize][words];
+        private double[] nextFitness = new double[islandSize];
+        private final long lastWordMask = genomeLength % 64 == 0 ? -1L : (1L << genomeLength) - 1;
+        private final double logKeepRate = Math.log1p(-mutationRate);
+        private final int[] elites = new int[eliteCount];
+
+        Island(SplittableRandom random) {
+            this.random = random;
+        }
+
+        void initialize() {
+            for (long[] genome : genes) {
+                for (int w = 0; w < words; w++) {
+                    genome[w] = random.nextLong();
+                }
+                genome[words - 1] &= lastWordMask;
+            }
+            evaluate(genes, fitness, 0);
+        }
+
+        void evolve(int generations, double targetFitness) {
+            for (int g = 0; g < generations && fitness[best()] < targetFitness; g++) {
+                selectElites();
+                for (int e = 0; e < eliteCount; e++) {
+                    System.arraycopy(genes[elites[e]], 0, nextGenes[e], 0, words);
+                    nextFitness[e] = fitness[elites[e]];
+                }
+                for (int i = eliteCount; i < islandSize; i++) {
+                    breed(genes[select()], genes[select()], nextGenes[i]);
+                }
+                evaluate(nextGenes, nextFitness, eliteCount);
+
+                long[][] swapGenes = genes;
+                genes = nextGenes;
+                nextGenes = swapGenes;
+                double[] swapFitness = fitness;
+                fitness = nextFitness;
+                nextFitness = swapFitness;
+            }
+        }
+
+        /**
+         * @return The indexes of the genomes, fittest first.
+         */
+        int[] ranking() {
+            return IntStream.range(0, islandSize)
+                .boxed()
+                .sorted((a, b) -> Double.compare(fitness[b], fitness[a]))
+                .mapToInt(Integer::intValue)
+                .toArray();
+        }
+
+        int best() {
+            int best = 0;
+            for (int i = 1; i < islandSize; i++) {
+                if (fitness[i] > fitness[best]) {
+                    best = i;
+                }
+            }
+            return best;
+        }
+
+        /**
+         * Finds the fittest genomes, one pass each, as there are few of them.
+         */
+        private void selectElites() {
+            for (int e = 0; e < eliteCount; e++) {
+                int best = -1;
+                for (int i = 0; i < islandSize; i++) {
+                    if ((best < 0 || fitness[i] > fitness[best]) && !isElite(i, e)) {
+                        best = i;
+                    }
+                }
+                elites[e] = best;
+            }
+        }
+
+        private boolean isElite(int index, int count) {
+            for (int e = 0; e < count; e++) {
+                if (elites[e] == index) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void evaluate(long[][] population, double[] values, int from) {
+            if (parallelEvaluation) {
+                IntStream.range(from, islandSize)
+                    .parallel()
+                    .forEach(i -> values[i] = IslandGeneticAlgorithm.this.evaluate(population[i]));
+            } else {
+                for (int i = from; i < islandSize; i++) {
+                    values[i] = IslandGeneticAlgorithm.this.evaluate(population[i]);
+                }
+            }
+        }
+
+        private int select() {
+            int best = random.nextInt(islandSize);
+            for (int t = 1; t < tournamentSize; t++) {
+                int challenger = random.nextInt(islandSize);
+                if (fitness[challenger] > fitness[best]) {
+                    best = challenger;
+                }
+            }
+            return best;
+        }
+
+        private void breed(long[] first, long[] second, long[] child) {
+            if (random.nextDouble() < crossoverRate) {
+                for (int w = 0; w < words; w++) {
+                    long mask = random.nextLong();
+                    child[w] = first[w] & mask | second[w] & ~mask;
+                }
+            } else {
+                System.arraycopy(first, 0, child, 0, words);
+            }
+
+            if (mutationRate > 0) {
+                for (long gene = skip(); gene < genomeLength; gene += 1 + skip()) {
+                    child[(int) (gene >>> 6)] ^= 1L << gene;
+                }
+            }
+        }
+
+        /**
+         * @return The number of genes before the next mutated one.
+         */
+        private long skip() {
+            return (long) (Math.log(1 - random.nextDouble()) / logKeepRate);
+        }
+    }
+
+    public static class IslandMetrics {
+
+        private final long initializationNanos;
+        private final int[] epochGenerations;
+        private final long[] epochNanos;
+        private final double[] bestFitness;
+        private final long evaluations;
+        private final long cacheHits;
+
+        IslandMetrics(long initializationNanos, int[] epochGenerations, long[] epochNanos, double[] bestFitness, long evaluations, long cacheHits) {
+            this.initializationNanos = initializationNanos;
+            this.epochGenerations = epochGenerations;
+            this.epochNanos = epochNanos;
+            this.bestFitness = bestFitness;
+            this.evaluations = evaluations;
+            this.cacheHits = cacheHits;
+        }
+
+        /**
+         * @return The number of migration intervals run.
+         */
+        public int getEpochCount() {
+            return epochNanos.length;
+        }
+
+        public int getGenerationCount() {
+            return Arrays.stream(epochGenerations)
+                .sum();
+        }
+
+        /**
+         * @return The time of the generations of the given interval, and of the migration ending it.
+         */
+        public long getEpochNanos(int epoch) {
+            return epochNanos[epoch];
+        }
+
+        /**
+         * @return The fitness of the best genome found up to and including the given interval.
+         */
+        public double getBestFitness(int epoch) {
+            return bestFitness[epoch];
+        }
+
+        /**
+         * @return The number of calls to the fitness function.
+         */
+        public long getEvaluations() {
+            return evaluations;
+        }
+
+        /**
+         * @return The number of genomes whose fitness was found in the cache.
+         */
+        public long getCacheHits() {
+            return cacheHits;
+        }
+
+        public long getTotalNanos() {
+            return initializationNanos + Arrays.stream(epochNanos)
+                .sum();
+        }
+
+        public double getEvaluationsPerSecond() {
+            long nanos = getTotalNanos();
+            return nanos == 0 ? 0 : evaluations * 1e9 / nanos;
+        }
+
+        public double getAverageGenerationMillis() {
+            int generations = getGenerationCount();
+            return generations == 0 ? 0 : Arrays.stream(epochNanos)
+                .sum() / 1e6 / generations;
+        }
+
+        /**
+         * @return The longest time per generation over the intervals.
+         */
+        public double getMaxGenerationMillis() {
+            double max = 0;
+            for (int e = 0; e < epochNanos.length; e++) {
+                max = Math.max(max, epochNanos[e] / 1e6 / epochGenerations[e]);
+            }
+            return max;
+        }
+    }
+}
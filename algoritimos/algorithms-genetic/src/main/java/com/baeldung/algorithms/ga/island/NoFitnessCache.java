@@ -0,0 +1,18 @@
+package com.baeldung.algorithms.ga.island;
+
+final class NoFitnessCache implements FitnessCache {
+
+    static final NoFitnessCache INSTANCE = new NoFitnessCache();
+
+    private NoFitnessCache() {
+    }
+
+    @Override
+    public double get(long[] genes) {
+        return Double.NaN;
+    }
+
+    @Override
+    public void put(long[] genes, double fitness) {
+    }
+}
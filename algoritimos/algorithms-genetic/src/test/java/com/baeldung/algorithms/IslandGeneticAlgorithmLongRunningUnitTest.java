@@ -0,0 +1,138 @@
+package com.baeldung.algorithms;
+
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.baeldung.algorithms.ga.island.BitFitnessFunction;
+import com.baeldung.algorithms.ga.island.BitFitnessFunctions;
+import com.baeldung.algorithms.ga.island.FitnessCache;
+import com.baeldung.algorithms.ga.island.IslandGeneticAlgorithm;
+import com.baeldung.algorithms.ga.island.IslandGeneticAlgorithm.IslandMetrics;
+import com.baeldung.algorithms.ga.jenetics.KnapsackItem;
+
+public class IslandGeneticAlgorithmLongRunningUnitTest {
+
+    private static final String SOLUTION = "1011000100000100010000100000100111001000000100000100000000001111";
+
+    @Test
+    public void testSolveFindsSolutionAndReportsThroughput() {
+        IslandGeneticAlgorithm ga = new IslandGeneticAlgorithm(64, BitFitnessFunctions.matching(SOLUTION), 4);
+        ga.setSeed(42);
+        try {
+            long[] genes = ga.solve(1000, 64);
+            Assert.assertEquals(64, ga.getBestFitness(), 0);
+            Assert.assertEquals(Long.parseUnsignedLong(new StringBuilder(SOLUTION).reverse()
+                .toString(), 2), genes[0]);
+
+            IslandMetrics metrics = ga.getMetrics();
+            Assert.assertTrue(metrics.getGenerationCount() < 1000);
+            Assert.assertTrue(metrics.getEvaluations() >= 4 * 50);
+            Assert.assertTrue(metrics.getEvaluationsPerSecond() > 0);
+            Assert.assertTrue(metrics.getAverageGenerationMillis() <= metrics.getMaxGenerationMillis());
+            for (int e = 1; e < metrics.getEpochCount(); e++) {
+                Assert.assertTrue(metrics.getBestFitness(e) >= metrics.getBestFitness(e - 1));
+            }
+        } finally {
+            ga.shutdown();
+        }
+    }
+
+    @Test
+    public void testEachSolveStartsFromScratch() {
+        IslandGeneticAlgorithm ga = new IslandGeneticAlgorithm(64, BitFitnessFunctions.matching(SOLUTION), 2);
+        ga.setSeed(3);
+        try {
+            ga.solve(500, 64);
+            Assert.assertEquals(64, ga.getBestFitness(), 0);
+
+            // only the random initial genomes, far from the solution
+            long[] genes = ga.solve(0);
+            Assert.assertTrue(ga.getBestFitness() < 64);
+            Assert.assertEquals(BitFitnessFunctions.matching(SOLUTION)
+                .fitness(genes, 64), ga.getBestFitness(), 0);
+        } finally {
+            ga.shutdown();
+        }
+    }
+
+    @Test
+    public void testSeededRunsAreReproducibleWhateverTheThreads() {
+        BitFitnessFunction fitness = BitFitnessFunctions.matching(SOLUTION + SOLUTION + "101");
+        double[] bestFitness = new double[2];
+        long[][] bestGenes = new long[2][];
+        int[] parallelisms = { 1, 4 };
+        for (int run = 0; run < 2; run++) {
+            IslandGeneticAlgorithm ga = new IslandGeneticAlgorithm(131, fitness, parallelisms[run]);
+            ga.setSeed(7);
+            ga.setParallelEvaluation(run == 1);
+            try {
+                bestGenes[run] = ga.solve(30);
+                bestFitness[run] = ga.getBestFitness();
+                Assert.assertEquals(30, ga.getMetrics()
+                    .getGenerationCount());
+            } finally {
+                ga.shutdown();
+            }
+        }
+        Assert.assertEquals(bestFitness[0], bestFitness[1], 0);
+        Assert.assertArrayEquals(bestGenes[0], bestGenes[1]);
+        Assert.assertEquals(0, bestGenes[0][2] >>> 3);
+    }
+
+    @Test
+    public void testCacheAnswersRepeatedGenomes() {
+        IslandGeneticAlgorithm ga = new IslandGeneticAlgorithm(16, BitFitnessFunctions.matching("1111000011110000"), 2);
+        ga.setSeed(3);
+        ga.setFitnessCache(FitnessCache.directMapped(1 << 16));
+        try {
+            ga.solve(50);
+            IslandMetrics metrics = ga.getMetrics();
+            // 16 genes have at most 65536 genomes, most of which are never bred
+            Assert.assertTrue(metrics.getCacheHits() > 0);
+            Assert.assertTrue(metrics.getEvaluations() <= 1 << 16);
+            Assert.assertEquals(16, ga.getBestFitness(), 0);
+        } finally {
+            ga.shutdown();
+        }
+    }
+
+    @Test
+    public void testKnapsackReachesBestSubset() {
+        Random random = new Random(11);
+        int n = 15;
+        KnapsackItem[] items = new KnapsackItem[n];
+        for (int i = 0; i < n; i++) {
+            items[i] = new KnapsackItem(random.nextDouble() * 100, random.nextDouble() * 100);
+        }
+        double size = n * 100.0 / 3.0;
+        BitFitnessFunction fitness = BitFitnessFunctions.knapsack(items, size);
+
+        double best = 0;
+        for (long subset = 0; subset < 1 << n; subset++) {
+            best = Math.max(best, fitness.fitness(new long[] { subset }, n));
+        }
+
+        IslandGeneticAlgorithm ga = new IslandGeneticAlgorithm(n, fitness, 4);
+        ga.setSeed(5);
+        try {
+            ga.solve(200, best);
+            Assert.assertEquals(best, ga.getBestFitness(), 1e-9);
+        } finally {
+            ga.shutdown();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRejectsMoreElitesThanGenomes() {
+        IslandGeneticAlgorithm ga = new IslandGeneticAlgorithm(8, (genes, length) -> 0, 1);
+        try {
+            ga.setIslandSize(4);
+            ga.setEliteCount(4);
+            ga.solve(1);
+        } finally {
+            ga.shutdown();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.baeldung.algorithms;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.baeldung.algorithms.ga.ant_colony.ParallelAntColonyOptimization;
+import com.baeldung.algorithms.ga.ant_colony.ParallelAntColonyOptimization.ColonyMetrics;
+
+public class ParallelAntColonyOptimizationLongRunningUnitTest {
+
+    @Test
+    public void testSolveReturnsTourVisitingEveryCity() {
+        ParallelAntColonyOptimization antTSP = new ParallelAntColonyOptimization(circle(50), 10, 4);
+        antTSP.setMaxIterations(20);
+        try {
+            int[] tour = antTSP.solve();
+            int[] sorted = tour.clone();
+            Arrays.sort(sorted);
+            Assert.assertArrayEquals(IntStream.range(0, 50)
+                .toArray(), sorted);
+        } finally {
+            antTSP.shutdown();
+        }
+    }
+
+    @Test
+    public void testSolveFindsShortTourAndReportsConvergence() {
+        int n = 40;
+        ParallelAntColonyOptimization antTSP = new ParallelAntColonyOptimization(circle(n), 8, 4);
+        antTSP.setMaxIterations(50);
+        antTSP.setSeed(42);
+        try {
+            antTSP.solve();
+            double perimeter = 2 * n * Math.sin(Math.PI / n);
+            Assert.assertEquals(perimeter, antTSP.getBestTourLength(), perimeter * 0.05);
+
+            ColonyMetrics metrics = antTSP.getMetrics();
+            Assert.assertEquals(50, metrics.getIterationCount());
+            for (int i = 1; i < metrics.getIterationCount(); i++) {
+                Assert.assertTrue(metrics.getBestTourLength(i) <= metrics.getBestTourLength(i - 1));
+            }
+            Assert.assertEquals(antTSP.getBestTourLength(), metrics.getBestTourLength(49), 0);
+        } finally {
+            antTSP.shutdown();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testZeroIterationsRejected() {
+        ParallelAntColonyOptimization antTSP = new ParallelAntColonyOptimization(circle(10), 4, 1);
+        try {
+            antTSP.setMaxIterations(0);
+        } finally {
+            antTSP.shutdown();
+        }
+    }
+
+    /**
+     * Cities on a unit circle, whose shortest tour follows the circle.
+     */
+    private static double[][] circle(int n) {
+        double[][] graph = new double[n][n];
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                double dx = Math.cos(2 * Math.PI * i / n) - Math.cos(2 * Math.PI * j / n);
+                double dy = Math.sin(2 * Math.PI * i / n) - Math.sin(2 * Math.PI * j / n);
+                graph[i][j] = Math.sqrt(dx * dx + dy * dy);
+            }
+        }
+        return graph;
+    }
+}
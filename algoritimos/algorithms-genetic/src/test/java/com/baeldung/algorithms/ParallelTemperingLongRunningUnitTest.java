@@ -0,0 +1,118 @@
+package com.baeldung.algorithms;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.baeldung.algorithms.ga.annealing.DistanceMatrix;
+import com.baeldung.algorithms.ga.annealing.ParallelTempering;
+
+public class ParallelTemperingLongRunningUnitTest {
+
+    private static DistanceMatrix circle(int size) {
+        double[] x = new double[size];
+        double[] y = new double[size];
+        for (int i = 0; i < size; i++) {
+            x[i] = 100 * Math.cos(2 * Math.PI * i / size);
+            y[i] = 100 * Math.sin(2 * Math.PI * i / size);
+        }
+        return DistanceMatrix.euclidean(x, y, 8, null);
+    }
+
+    private static void assertPermutation(int[] tour) {
+        int[] sorted = tour.clone();
+        Arrays.sort(sorted);
+        for (int i = 0; i < sorted.length; i++) {
+            Assert.assertEquals(i, sorted[i]);
+        }
+    }
+
+    @Test
+    public void givenCitiesOnACircle_whenAnnealed_thenTourFollowsTheCircle() {
+        DistanceMatrix distances = circle(200);
+        double perimeter = 200 * distances.distance(0, 1);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            ParallelTempering tempering = new ParallelTempering(distances, pool);
+            tempering.setSeed(42);
+            int[] tour = tempering.solve(300);
+
+            assertPermutation(tour);
+            Assert.assertEquals(distances.tourLength(tour), tempering.getBestLength(), 1e-6);
+            Assert.assertEquals(perimeter, tempering.getBestLength(), perimeter * 0.01);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void givenASeed_whenSolvedSequentiallyOrInParallel_thenToursAreTheSame() {
+        DistanceMatrix distances = circle(100);
+        ParallelTempering sequential = new ParallelTempering(distances, null);
+        sequential.setSeed(7);
+        int[] expected = sequential.solve(50);
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            ParallelTempering parallel = new ParallelTempering(distances, pool);
+            parallel.setSeed(7);
+            Assert.assertArrayEquals(expected, parallel.solve(50));
+            Assert.assertEquals(sequential.getBestLength(), parallel.getBestLength(), 0);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void givenAListener_whenSolved_thenItSeesEveryRoundAndTheBestLengthNeverIncreases() {
+        DistanceMatrix distances = circle(60);
+        ParallelTempering tempering = new ParallelTempering(distances, null);
+        tempering.setSeed(1);
+        tempering.setReplicaCount(4);
+        double[] previous = { Double.MAX_VALUE };
+        int[] rounds = { 0 };
+        tempering.setListener((round, bestLength, lengths) -> {
+            Assert.assertEquals(rounds[0]++, round);
+            Assert.assertEquals(4, lengths.length);
+            Assert.assertTrue(bestLength <= previous[0]);
+            previous[0] = bestLength;
+        });
+        tempering.solve(20);
+
+        Assert.assertEquals(20, rounds[0]);
+        ParallelTempering.TemperingMetrics metrics = tempering.getMetrics();
+        Assert.assertEquals(20, metrics.getRoundCount());
+        Assert.assertEquals(tempering.getBestLength(), metrics.getBestLength(19), 0);
+        Assert.assertTrue(metrics.getAcceptedMoves() <= metrics.getProposedMoves());
+        Assert.assertTrue(metrics.getExchangeRate(0) >= 0 && metrics.getExchangeRate(0) <= 1);
+    }
+
+    @Test
+    public void givenAnAsymmetricOrTooSmallMatrix_whenCreated_thenRejected() {
+        try {
+            DistanceMatrix.of(new float[10], 2, null);
+            Assert.fail();
+        } catch (IllegalArgumentException expected) {
+        }
+        try {
+            DistanceMatrix.of(new float[9], 2, null);
+            Assert.fail();
+        } catch (IllegalArgumentException expected) {
+        }
+        float[] asymmetric = new float[16];
+        for (int i = 0; i < 4; i++) {
+            for (int j = 0; j < 4; j++) {
+                asymmetric[i * 4 + j] = i == j ? 0 : 1;
+            }
+        }
+        DistanceMatrix.of(asymmetric, 2, null);
+        asymmetric[1 * 4 + 0] = 4;
+        try {
+            DistanceMatrix.of(asymmetric, 2, null);
+            Assert.fail();
+        } catch (IllegalArgumentException expected) {
+        }
+    }
+}
@@ -0,0 +1,435 @@
+package com.baeldung.algorithms.automata;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Finite state machine compiled from a graph of {@link State}s into a minimal deterministic
+ * automaton with a dense transition table.
+ * <p>
+ * Characters which lead every state to the same states share an equivalence class, so the
+ * table has one column per class rather than per character: {@code next[state * classes +
+ * classOf[c]]}. Characters outside the alphabet are in class 0, which leads every state to the
+ * dead state, from which no input is accepted.
+ * <p>
+ * States are plain {@code int}s, so {@link #match(CharSequence)} and
+ * {@link #feed(int, char[], int, int)} don't allocate. This class is immutable and thread-safe.
+ */
+public final class CompiledDfa {
+
+    /**
+     * Equivalence class of each character up to the highest one of the alphabet.
+     */
+    private final char[] classOf;
+
+    /**
+     * Per state and class, the next state, multiplied by the number of classes so that it is
+     * also the offset of its row.
+     */
+    private final int[] next;
+
+    private final boolean[] accepting;
+    private final int classes;
+    private final int dead;
+
+    private CompiledDfa(final char[] classOf, final int[] next, final boolean[] accepting, final int classes, final int dead) {
+        this.classOf = classOf;
+        this.next = next;
+        this.accepting = accepting;
+        this.classes = classes;
+        this.dead = dead;
+    }
+
+    /**
+     * Builder of a machine from its initial state.
+     * @param initial Initial state.
+     * @return Builder.
+     */
+    public static Builder builder(final State initial) {
+        return new Builder(initial);
+    }
+
+    /**
+     * Initial state, from which to {@link #feed(int, char[], int, int)}.
+     * @return State.
+     */
+    public int start() {
+        return 0;
+    }
+
+    /**
+     * Follows the transitions of the given characters.
+     * @param state State to start from.
+     * @param chars Characters.
+     * @param off Index of the first character.
+     * @param len Number of characters.
+     * @return State after the characters, dead if one of them wasn't accepted.
+     */
+    public int feed(final int state, final char[] chars, final int off, final int len) {
+        int row = state * classes;
+        int deadRow = dead * classes;
+        for (int i = off, end = off + len; i < end && row != deadRow; i++) {
+            char c = chars[i];
+            row = next[row + (c < classOf.length ? classOf[c] : 0)];
+        }
+        return row / classes;
+    }
+
+    /**
+     * Follows the transitions of the given characters.
+     * @param state State to start from.
+     * @param input Characters.
+     * @return State after the characters, dead if one of them wasn't accepted.
+     */
+    public int feed(final int state, final CharSequence input) {
+        int row = state * classes;
+        int deadRow = dead * classes;
+        for (int i = 0, end = input.length(); i < end && row != deadRow; i++) {
+            char c = input.charAt(i);
+            row = next[row + (c < classOf.length ? classOf[c] : 0)];
+        }
+        return row / classes;
+    }
+
+    /**
+     * Does the machine accept the whole input?
+     * @param input Characters.
+     * @return true or false.
+     */
+    public boolean match(final CharSequence input) {
+        return accepting[feed(0, input)];
+    }
+
+    /**
+     * Can the machine stop on this state?
+     * @param state State.
+     * @return true or false.
+     */
+    public boolean isFinal(final int state) {
+        return accepting[state];
+    }
+
+    /**
+     * Is this the state from which no input is accepted?
+     * @param state State.
+     * @return true or false.
+     */
+    public boolean isDead(final int state) {
+        return state == dead;
+    }
+
+    public int getStateCount() {
+        return accepting.length;
+    }
+
+    public int getClassCount() {
+        return classes;
+    }
+
+    /**
+     * This machine as a {@link FiniteStateMachine}, in its initial state.
+     * @return Finite state machine.
+     */
+    public FiniteStateMachine machine() {
+        return new Machine(this, 0);
+    }
+
+    /**
+     * Facade of a compiled machine in a given state.
+     */
+    private static final class Machine implements FiniteStateMachine {
+
+        private final CompiledDfa dfa;
+        private final int state;
+
+        Machine(final CompiledDfa dfa, final int state) {
+            this.dfa = dfa;
+            this.state = state;
+        }
+
+        /**
+         * Follows the transitions of each character of the sequence.
+         * @param c Characters.
+         * @return A new finite state machine with the new state.
+         * @throws IllegalArgumentException if the characters are not accepted.
+         */
+        public FiniteStateMachine switchState(final CharSequence c) {
+            int target = this.dfa.feed(this.state, c);
+            if (this.dfa.isDead(target)) {
+                throw new IllegalArgumentException("Input not accepted: " + c);
+            }
+            return new Machine(this.dfa, target);
+        }
+
+        public boolean canStop() {
+            return this.dfa.isFinal(this.state);
+        }
+    }
+
+    /**
+     * Compiles a graph of states, probing each one with every character of the alphabet through
+     * {@link State#transit(CharSequence)}. The alphabet is given explicitly, and also holds the
+     * characters of the single-character rules of {@link RtTransition}s, in both cases.
+     */
+    public static final class Builder {
+
+        private final State initial;
+        private final BitSet alphabet = new BitSet();
+
+        Builder(final State initial) {
+            this.initial = initial;
+        }
+
+        /**
+         * Adds characters to the alphabet.
+         * @param chars Characters.
+         * @return This builder.
+         */
+        public Builder alphabet(final CharSequence chars) {
+            for (int i = 0; i < chars.length(); i++) {
+                this.alphabet.set(chars.charAt(i));
+            }
+            return this;
+        }
+
+        /**
+         * Adds a range of characters to the alphabet.
+         * @param from First character.
+         * @param to Last character, included.
+         * @return This builder.
+         */
+        public Builder alphabet(final char from, final char to) {
+            if (from > to) {
+                throw new IllegalArgumentException("The range should not be empty");
+            }
+            this.alphabet.set(from, to + 1);
+            return this;
+        }
+
+        public CompiledDfa build() {
+            BitSet chars = (BitSet) this.alphabet.clone();
+            List<State> states = new ArrayList<>();
+            List<int[]> rows = new ArrayList<>();
+            int probed;
+            // the rules of newly found states may add characters, with which all states are probed again
+            do {
+                probed = chars.cardinality();
+                discover(chars, states, rows);
+            } while (chars.cardinality() != probed);
+            int[] alphabet = chars.stream().toArray();
+
+            int count = states.size() + 1;
+            int dead = count - 1;
+            int[][] delta = new int[count][];
+            boolean[] accepting = new boolean[count];
+            for (int s = 0; s < dead; s++) {
+                delta[s] = rows.get(s);
+                for (int a = 0; a < alphabet.length; a++) {
+                    if (delta[s][a] < 0) {
+                        delta[s][a] = dead;
+                    }
+                }
+                accepting[s] = states.get(s).isFinal();
+            }
+            delta[dead] = new int[alphabet.length];
+            Arrays.fill(delta[dead], dead);
+
+            return minimize(delta, accepting, alphabet, dead);
+        }
+
+        /**
+         * Finds the states reachable from the initial one, and their transitions with each
+         * character, -1 where it's not accepted.
+         */
+        private void discover(final BitSet chars, final List<State> states, final List<int[]> rows) {
+            int[] alphabet = chars.stream().toArray();
+            Map<State, Integer> ids = new IdentityHashMap<>();
+            states.clear();
+            rows.clear();
+            ids.put(this.initial, 0);
+            states.add(this.initial);
+            addRules(this.initial, chars);
+            for (int i = 0; i < states.size(); i++) {
+                State state = states.get(i);
+                int[] row = new int[alphabet.length];
+                for (int a = 0; a < alphabet.length; a++) {
+                    State target = transit(state, (char) alphabet[a]);
+                    if (target == null) {
+                        row[a] = -1;
+                        continue;
+                    }
+                    Integer id = ids.get(target);
+                    if (id == null) {
+                        id = states.size();
+                        ids.put(target, id);
+                        states.add(target);
+                        addRules(target, chars);
+                    }
+                    row[a] = id;
+                }
+                rows.add(row);
+            }
+        }
+
+        /**
+         * Merges equivalent states by Moore's partition refinement, then merges the characters
+         * whose columns are equal.
+         */
+        private static CompiledDfa minimize(final int[][] delta, final boolean[] accepting, final int[] alphabet, final int dead) {
+            int count = delta.length;
+            int[] block = new int[count];
+            for (int s = 0; s < count; s++) {
+                block[s] = accepting[s] ? 1 : 0;
+            }
+            int blocks = 0;
+            while (true) {
+                Map<List<Integer>, Integer> signatures = new HashMap<>();
+                int[] refined = new int[count];
+                for (int s = 0; s < count; s++) {
+                    List<Integer> signature = new ArrayList<>(alphabet.length + 1);
+                    signature.add(block[s]);
+                    for (int target : delta[s]) {
+                        signature.add(block[target]);
+                    }
+                    Integer id = signatures.get(signature);
+                    if (id == null) {
+                        id = signatures.size();
+                        signatures.put(signature, id);
+                    }
+                    refined[s] = id;
+                }
+                block = refined;
+                if (signatures.size() == blocks) {
+                    break;
+                }
+                blocks = signatures.size();
+            }
+
+            // numbers the blocks breadth-first from the initial state
+            int[] order = new int[blocks];
+            Arrays.fill(order, -1);
+            int[] representatives = new int[blocks];
+            Deque<Integer> queue = new ArrayDeque<>();
+            int numbered = 0;
+            order[block[0]] = numbered++;
+            representatives[0] = 0;
+            queue.add(0);
+            while (!queue.isEmpty()) {
+                int s = queue.poll();
+                for (int target : delta[s]) {
+                    if (order[block[target]] < 0) {
+                        order[block[target]] = numbered;
+                        representatives[numbered++] = target;
+                        queue.add(target);
+                    }
+                }
+            }
+            if (order[block[dead]] < 0) {
+                order[block[dead]] = numbered;
+                representatives[numbered++] = dead;
+            }
+
+            // characters with equal columns share a class, and those always leading to the dead
+            // state share class 0 with the characters outside the alphabet
+            int deadState = order[block[dead]];
+            Map<List<Integer>, Integer> columns = new HashMap<>();
+            List<Integer> deadColumn = new ArrayList<>();
+            for (int s = 0; s < numbered; s++) {
+                deadColumn.add(deadState);
+            }
+            columns.put(deadColumn, 0);
+            int maxChar = alphabet.length == 0 ? -1 : alphabet[alphabet.length - 1];
+            char[] classOf = new char[maxChar + 1];
+            List<int[]> classColumns = new ArrayList<>();
+            classColumns.add(null);
+            for (int a = 0; a < alphabet.length; a++) {
+                List<Integer> column = new ArrayList<>(numbered);
+                for (int s = 0; s < numbered; s++) {
+                    column.add(order[block[delta[representatives[s]][a]]]);
+                }
+                Integer id = columns.get(column);
+                if (id == null) {
+                    id = columns.size();
+                    columns.put(column, id);
+                    classColumns.add(column.stream().mapToInt(Integer::intValue).toArray());
+                }
+                classOf[alphabet[a]] = (char) id.intValue();
+            }
+
+            int classes = columns.size();
+            int[] next = new int[numbered * classes];
+            boolean[] minimalAccepting = new boolean[numbered];
+            for (int s = 0; s < numbered; s++) {
+                minimalAccepting[s] = accepting[representatives[s]];
+                next[s * classes] = deadState * classes;
+                for (int c = 1; c < classes; c++) {
+                    next[s * classes + c] = classColumns.get(c)[s] * classes;
+                }
+            }
+            return new CompiledDfa(classOf, next, minimalAccepting, classes, deadState);
+        }
+
+        /**
+         * @return The state the character leads to, or {@code null} if it's not accepted.
+         */
+        private static State transit(final State state, final char c) {
+            try {
+                return state.transit(String.valueOf(c));
+            } catch (IllegalArgumentException | IllegalStateException e) {
+                return null;
+            }
+        }
+
+        /**
+         * Adds every char that {@link String#equalsIgnoreCase(String)} matches with {@code c}:
+         * those with the same lower case of their upper case, which include chars such as the
+         * Kelvin sign for {@code k}, besides the upper and lower case of {@code c}.
+         */
+        private static void addCaseVariants(final char c, final BitSet chars) {
+            for (int x = CaseFolding.FIRST[fold(c)]; x >= 0; x = CaseFolding.NEXT[x]) {
+                chars.set(x);
+            }
+        }
+
+        private static char fold(final char c) {
+            return Character.toLowerCase(Character.toUpperCase(c));
+        }
+
+        private static void addRules(final State state, final BitSet chars) {
+            if (state instanceof RtState) {
+                for (Transition transition : ((RtState) state).transitions()) {
+                    if (transition instanceof RtTransition && ((RtTransition) transition).rule().length() == 1) {
+                        addCaseVariants(((RtTransition) transition).rule().charAt(0), chars);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Chars linked by their {@link #fold(char)}, computed once for all rules: {@code FIRST}
+         * holds the first char of each folded char's list, and {@code NEXT} the char after each
+         * one, -1 ending a list.
+         */
+        private static final class CaseFolding {
+
+            private static final int[] FIRST = new int[Character.MAX_VALUE + 1];
+            private static final int[] NEXT = new int[Character.MAX_VALUE + 1];
+
+            static {
+                Arrays.fill(FIRST, -1);
+                for (int x = Character.MIN_VALUE; x <= Character.MAX_VALUE; x++) {
+                    char folded = fold((char) x);
+                    NEXT[x] = FIRST[folded];
+                    FIRST[folded] = x;
+                }
+            }
+        }
+    }
+}
@@ -39,4 +39,12 @@ public final class RtState implements State {
         return this;
     }
 
+    /**
+     * Transitions of this state, in the order they were added.
+     * @return Transitions.
+     */
+    List<Transition> transitions() {
+        return this.transitions;
+    }
+
 }
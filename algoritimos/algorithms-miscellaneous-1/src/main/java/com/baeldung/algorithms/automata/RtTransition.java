@@ -24,6 +24,14 @@ public final class RtTransition implements Transition {
         return this.next;
     }
 
+    /**
+     * Rule that a character has to meet.
+     * @return Rule.
+     */
+    String rule() {
+        return this.rule;
+    }
+
     public boolean isPossible(CharSequence c) {
         return this.rule.equalsIgnoreCase(String.valueOf(c));
     }
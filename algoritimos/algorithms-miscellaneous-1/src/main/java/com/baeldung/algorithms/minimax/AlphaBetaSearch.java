@@ -0,0 +1,342 @@
+package com.baeldung.algorithms.minimax;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Adversarial search of any {@link GameState}, unlike {@link MiniMax} which builds the whole
+ * tree of {@link GameOfBones}:
+ * <ul>
+ * <li>negamax with alpha-beta pruning, trying first the best move found by an earlier search of
+ * the state, then the moves which caused cutoffs at the same depth (killer moves);</li>
+ * <li>a {@link TranspositionTable}, so that a state reached by different move orders is searched
+ * once, kept from one search to the next;</li>
+ * <li>iterative deepening, one move deeper at a time until the maximum depth, a proven result or
+ * the time budget, returning the result of the deepest completed iteration;</li>
+ * <li>with a pool, Lazy SMP: helper threads run the same search on the pool, sharing only the
+ * table, starting at other depths and trying moves in other orders, so that they fill the table
+ * with results which the main search then reuses.</li>
+ * </ul>
+ * Won and lost games are scored {@code WIN - plies} and {@code plies - WIN}, to prefer quick
+ * wins and slow losses. As a proven result holds at any depth, it's stored as deeper than any
+ * search.
+ */
+public class AlphaBetaSearch<S extends GameState<S>> {
+
+    public static final int MAX_DEPTH = 250;
+
+    private static final int PROVEN_DEPTH = 255;
+    private static final int PROVEN_SCORE = GameState.WIN - 1000;
+    private static final int INFINITY = GameState.WIN + 1;
+    private static final int NODES_BETWEEN_CLOCK_CHECKS = 1024;
+
+    private final TranspositionTable table;
+    private final ForkJoinPool pool;
+    private volatile boolean stopped;
+
+    /**
+     * @param tableBits The transposition table holds {@code 2^tableBits} entries, of 16 bytes.
+     * @param pool      The pool running the helper threads of Lazy SMP, as many as its
+     *                  parallelism, or {@code null} to search on the calling thread only.
+     */
+    public AlphaBetaSearch(int tableBits, ForkJoinPool pool) {
+        this.table = new TranspositionTable(tableBits);
+        this.pool = pool;
+    }
+
+    /**
+     * Searches for the best move of the player to move.
+     *
+     * @param maxDepth         The number of moves to look ahead, from 1 to {@value #MAX_DEPTH}.
+     * @param timeBudgetMillis The time after which deeper iterations are abandoned. The first
+     *                         iteration always completes.
+     */
+    public SearchResult search(S root, int maxDepth, long timeBudgetMillis) {
+        if (maxDepth < 1 || maxDepth > MAX_DEPTH) {
+            throw new IllegalArgumentException("The depth should be between 1 and " + MAX_DEPTH);
+        }
+        if (root.isTerminal()) {
+            throw new IllegalArgumentException("The game is already over");
+        }
+        long deadline = deadline(timeBudgetMillis);
+        stopped = false;
+
+        List<ForkJoinTask<?>> helpers = new ArrayList<>();
+        List<Searcher> searchers = new ArrayList<>();
+        if (pool != null) {
+            for (int id = 1; id <= pool.getParallelism(); id++) {
+                Searcher helper = new Searcher(id, deadline);
+                searchers.add(helper);
+                helpers.add(pool.submit(() -> helper.deepen(root, maxDepth)));
+            }
+        }
+        Searcher main = new Searcher(0, deadline);
+        searchers.add(main);
+        SearchResult result = main.deepen(root, maxDepth);
+
+        stopped = true;
+        helpers.forEach(ForkJoinTask::join);
+        long nodes = 0;
+        for (Searcher searcher : searchers) {
+            nodes += searcher.nodes;
+        }
+        return new SearchResult(result.bestMove, result.score, result.depth, nodes);
+    }
+
+    /**
+     * Forgets the results of earlier searches, for instance before searching another game.
+     */
+    public void clear() {
+        table.clear();
+    }
+
+    /**
+     * The state of one thread of a search.
+     */
+    private final class Searcher {
+
+        private final int id;
+        private final long deadline;
+        private final int[][] killers = new int[MAX_DEPTH + 1][2];
+        private long nodes;
+        private boolean abandoned;
+
+        Searcher(int id, long deadline) {
+            this.id = id;
+            this.deadline = deadline;
+            for (int[] plyKillers : killers) {
+                plyKillers[0] = TranspositionTable.NO_MOVE;
+                plyKillers[1] = TranspositionTable.NO_MOVE;
+            }
+        }
+
+        /**
+         * Searches one move deeper at a time. Helpers start one move deeper every other thread,
+         * and may abandon even their first iteration.
+         */
+        SearchResult deepen(S root, int maxDepth) {
+            SearchResult result = null;
+            for (int depth = 1 + id % 2; depth <= maxDepth && !stopped; depth++) {
+                SearchResult iteration = searchRoot(root, depth, result == null && id == 0);
+                if (iteration == null) {
+                    break;
+                }
+                result = iteration;
+                if (Math.abs(result.score) >= PROVEN_SCORE) {
+                    break;
+                }
+            }
+            return result;
+        }
+
+        /**
+         * @return The result, or {@code null} if the time ran out first.
+         */
+        private SearchResult searchRoot(S root, int depth, boolean mustComplete) {
+            int[] moves = order(root.moves(), probeMove(root.hash()), 0);
+            int alpha = -INFINITY;
+            int bestMove = moves[0];
+            for (int move : moves) {
+                int score = -search(root.play(move), depth - 1, -INFINITY, -alpha, 1, mustComplete);
+                if (abandoned) {
+                    abandoned = false;
+                    return null;
+                }
+                if (score > alpha) {
+                    alpha = score;
+                    bestMove = move;
+                }
+            }
+            table.store(root.hash(), alpha, bestMove, Math.abs(alpha) >= PROVEN_SCORE ? PROVEN_DEPTH : depth, TranspositionTable.EXACT);
+            return new SearchResult(bestMove, alpha, depth, nodes);
+        }
+
+        private int search(S state, int depth, int alpha, int beta, int ply, boolean mustComplete) {
+            if (++nodes % NODES_BETWEEN_CLOCK_CHECKS == 0 && !mustComplete && (stopped && id > 0 || System.nanoTime() - deadline > 0)) {
+                abandoned = true;
+            }
+            if (abandoned) {
+                return 0;
+            }
+            if (state.isTerminal()) {
+                return fromStored(state.evaluate(), ply);
+            }
+            if (depth == 0 || ply == MAX_DEPTH) {
+                return state.evaluate();
+            }
+
+            long hash = state.hash();
+            long entry = table.probe(hash);
+            int tableMove = TranspositionTable.NO_MOVE;
+            if (entry != 0) {
+                tableMove = TranspositionTable.move(entry);
+                if (TranspositionTable.depth(entry) >= depth) {
+                    int score = fromStored(TranspositionTable.score(entry), ply);
+                    int bound = TranspositionTable.bound(entry);
+                    if (bound == TranspositionTable.EXACT || bound == TranspositionTable.LOWER && score >= beta
+                        || bound == TranspositionTable.UPPER && score <= alpha) {
+                        return score;
+                    }
+                }
+            }
+
+            int originalAlpha = alpha;
+            int best = -INFINITY;
+            int bestMove = TranspositionTable.NO_MOVE;
+            for (int move : order(state.moves(), tableMove, ply)) {
+                int score = -search(state.play(move), depth - 1, -beta, -alpha, ply + 1, mustComplete);
+                if (abandoned) {
+                    return 0;
+                }
+                if (score > best) {
+                    best = score;
+                    bestMove = move;
+                }
+                if (score > alpha) {
+                    alpha = score;
+                }
+                if (alpha >= beta) {
+                    if (killers[ply][0] != move) {
+                        killers[ply][1] = killers[ply][0];
+                        killers[ply][0] = move;
+                    }
+                    break;
+                }
+            }
+
+            int bound = best <= originalAlpha ? TranspositionTable.UPPER : best >= beta ? TranspositionTable.LOWER : TranspositionTable.EXACT;
+            boolean proven = bound != TranspositionTable.UPPER && best >= PROVEN_SCORE || bound != TranspositionTable.LOWER && best <= -PROVEN_SCORE;
+            table.store(hash, toStored(best, ply), bestMove, proven ? PROVEN_DEPTH : depth, bound);
+            return best;
+        }
+
+        /**
+         * Moves the table move to the front, then the killer moves. Helpers rotate the other
+         * moves, so that each thread explores the tree in its own order.
+         */
+        private int[] order(int[] moves, int tableMove, int ply) {
+            int front = 0;
+            front = moveToFront(moves, front, tableMove);
+            front = moveToFront(moves, front, killers[ply][0]);
+            front = moveToFront(moves, front, killers[ply][1]);
+            int rest = moves.length - front;
+            if (id > 0 && rest > 1) {
+                rotate(moves, front, (id + ply) % rest);
+            }
+            return moves;
+        }
+
+        private int probeMove(long hash) {
+            long entry = table.probe(hash);
+            return entry == 0 ? TranspositionTable.NO_MOVE : TranspositionTable.move(entry);
+        }
+    }
+
+    /**
+     * @return The value of {@code System.nanoTime()} when the budget runs out. The budget in
+     *         nanoseconds saturates at {@code Long.MAX_VALUE}, and as the deadline is compared
+     *         through {@code System.nanoTime() - deadline}, that never runs out even if the sum
+     *         wraps around.
+     */
+    private static long deadline(long timeBudgetMillis) {
+        return System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(Math.max(0, timeBudgetMillis));
+    }
+
+    private static int moveToFront(int[] moves, int front, int move) {
+        if (move == TranspositionTable.NO_MOVE) {
+            return front;
+        }
+        for (int i = front; i < moves.length; i++) {
+            if (moves[i] == move) {
+                moves[i] = moves[front];
+                moves[front] = move;
+                return front + 1;
+            }
+        }
+        return front;
+    }
+
+    private static void rotate(int[] moves, int from, int distance) {
+        for (int step = 0; step < distance; step++) {
+            int first = moves[from];
+            System.arraycopy(moves, from + 1, moves, from, moves.length - from - 1);
+            moves[moves.length - 1] = first;
+        }
+    }
+
+    /**
+     * Converts a score relative to the root into one relative to the state, so that a proven
+     * result stored at one ply is read back right at another.
+     */
+    private static int toStored(int score, int ply) {
+        if (score >= PROVEN_SCORE) {
+            return score + ply;
+        }
+        if (score <= -PROVEN_SCORE) {
+            return score - ply;
+        }
+        return score;
+    }
+
+    private static int fromStored(int score, int ply) {
+        if (score >= PROVEN_SCORE) {
+            return score - ply;
+        }
+        if (score <= -PROVEN_SCORE) {
+            return score + ply;
+        }
+        return score;
+    }
+
+    public static class SearchResult {
+
+        private final int bestMove;
+        private final int score;
+        private final int depth;
+        private final long nodes;
+
+        SearchResult(int bestMove, int score, int depth, long nodes) {
+            this.bestMove = bestMove;
+            this.score = score;
+            this.depth = depth;
+            this.nodes = nodes;
+        }
+
+        public int getBestMove() {
+            return bestMove;
+        }
+
+        /**
+         * @return The score of the best move for the player to move, above
+         *         {@code GameState.WIN - MAX_DEPTH} for a proven win.
+         */
+        public int getScore() {
+            return score;
+        }
+
+        public boolean isProvenWin() {
+            return score >= PROVEN_SCORE;
+        }
+
+        public boolean isProvenLoss() {
+            return score <= -PROVEN_SCORE;
+        }
+
+        /**
+         * @return The depth of the deepest completed iteration.
+         */
+        public int getDepth() {
+            return depth;
+        }
+
+        /**
+         * @return The number of states searched by all threads.
+         */
+        public long getNodes() {
+            return nodes;
+        }
+    }
+}
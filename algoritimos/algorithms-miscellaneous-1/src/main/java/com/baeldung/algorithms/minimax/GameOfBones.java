@@ -4,11 +4,58 @@ import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
-class GameOfBones {
+/**
+ * A heap of bones from which the players take turns removing 1 to 3 bones. The player who takes
+ * the last bone wins. As a {@link GameState}, a move is the number of bones taken.
+ */
+class GameOfBones implements GameState<GameOfBones> {
+
+    private final int noOfBones;
+
+    GameOfBones(int noOfBones) {
+        if (noOfBones < 0) {
+            throw new IllegalArgumentException("The heap can't have a negative number of bones");
+        }
+        this.noOfBones = noOfBones;
+    }
+
     static List<Integer> getPossibleStates(int noOfBonesInHeap) {
         return IntStream.rangeClosed(1, 3).boxed()
           .map(i -> noOfBonesInHeap - i)
           .filter(newHeapCount -> newHeapCount >= 0)
           .collect(Collectors.toList());
     }
+
+    int getNoOfBones() {
+        return noOfBones;
+    }
+
+    @Override
+    public int[] moves() {
+        return IntStream.rangeClosed(1, Math.min(3, noOfBones))
+          .toArray();
+    }
+
+    @Override
+    public GameOfBones play(int move) {
+        return new GameOfBones(noOfBones - move);
+    }
+
+    @Override
+    public boolean isTerminal() {
+        return noOfBones == 0;
+    }
+
+    /**
+     * An empty heap is lost for the player to move, as the other player took the last bone.
+     */
+    @Override
+    public int evaluate() {
+        return noOfBones == 0 ? -WIN : 0;
+    }
+
+    @Override
+    public long hash() {
+        return Zobrist.mix(noOfBones);
+    }
 }
@@ -0,0 +1,44 @@
+package com.baeldung.algorithms.minimax;
+
+/**
+ * A position of a two-player, zero-sum game with perfect information, as searched by
+ * {@link AlphaBetaSearch}. States are immutable: {@link #play(int)} returns a new state, so the
+ * threads of a search can share them.
+ * <p>
+ * Scores are from the point of view of the player to move, so that the search is the same for
+ * both players (negamax).
+ *
+ * @param <S> The type of the state, returned by {@link #play(int)}.
+ */
+public interface GameState<S extends GameState<S>> {
+
+    /**
+     * The score of a won game. Scores of non-terminal states should be well within
+     * {@code -WIN} and {@code WIN}.
+     */
+    int WIN = 1_000_000;
+
+    /**
+     * @return The legal moves, each in {@code [0, 65535)}, or none if the game is over.
+     */
+    int[] moves();
+
+    /**
+     * @return The state after the player to move plays the move.
+     */
+    S play(int move);
+
+    boolean isTerminal();
+
+    /**
+     * @return {@code WIN} or {@code -WIN} if the player to move has won or lost, 0 for a draw,
+     *         else a heuristic score.
+     */
+    int evaluate();
+
+    /**
+     * @return A hash of the state, usually built from {@link Zobrist} keys. Equal states must
+     *         have equal hashes, which the search takes for equal states.
+     */
+    long hash();
+}
@@ -0,0 +1,112 @@
+package com.baeldung.algorithms.minimax;
+
+import com.baeldung.algorithms.mcts.tictactoe.Board;
+import com.baeldung.algorithms.mcts.tictactoe.CompactBoard;
+import com.baeldung.algorithms.mcts.tictactoe.Position;
+
+/**
+ * A tic-tac-toe {@link Board} of the Monte Carlo tree search, as a {@link GameState}. The cells
+ * are kept in a {@link CompactBoard}, and move {@code x * size + y} plays cell {@code (x, y)}.
+ */
+public final class TicTacToeState implements GameState<TicTacToeState> {
+
+    /**
+     * Keys of a piece of either player on each cell of the largest board, then of player 2 to
+     * move.
+     */
+    private static final Zobrist ZOBRIST = new Zobrist(2 * 64 + 1, 0x7AC7AC70EL);
+    private static final int PLAYER_2_TO_MOVE = 2 * 64;
+
+    private final CompactBoard board;
+    private final int player;
+    private final int status;
+    private final long hash;
+
+    private TicTacToeState(CompactBoard board, int player, long hash) {
+        this.board = board;
+        this.player = player;
+        this.status = board.checkStatus();
+        this.hash = hash;
+    }
+
+    /**
+     * @param player The player to move, {@link Board#P1} or {@link Board#P2}.
+     */
+    public static TicTacToeState of(Board board, int player) {
+        if (player != Board.P1 && player != Board.P2) {
+            throw new IllegalArgumentException("The player to move should be " + Board.P1 + " or " + Board.P2);
+        }
+        CompactBoard compact = new CompactBoard(board);
+        int size = compact.getSize();
+        long hash = player == Board.P2 ? ZOBRIST.key(PLAYER_2_TO_MOVE) : 0;
+        for (int x = 0; x < size; x++) {
+            for (int y = 0; y < size; y++) {
+                int piece = compact.get(x, y);
+                if (piece != 0) {
+                    hash ^= ZOBRIST.key(key(piece, x * size + y));
+                }
+            }
+        }
+        return new TicTacToeState(compact, player, hash);
+    }
+
+    public int getPlayer() {
+        return player;
+    }
+
+    public Board toBoard() {
+        return board.toBoard();
+    }
+
+    public Position toPosition(int move) {
+        return new Position(move / board.getSize(), move % board.getSize());
+    }
+
+    @Override
+    public int[] moves() {
+        if (isTerminal()) {
+            return new int[0];
+        }
+        int size = board.getSize();
+        int[] moves = new int[board.getEmptyCount()];
+        int count = 0;
+        for (int cell = 0; cell < size * size; cell++) {
+            if (board.get(cell / size, cell % size) == 0) {
+                moves[count++] = cell;
+            }
+        }
+        return moves;
+    }
+
+    @Override
+    public TicTacToeState play(int move) {
+        int size = board.getSize();
+        CompactBoard next = new CompactBoard(size);
+        next.copyFrom(board);
+        next.performMove(player, move / size, move % size);
+        long nextHash = hash ^ ZOBRIST.key(key(player, move)) ^ ZOBRIST.key(PLAYER_2_TO_MOVE);
+        return new TicTacToeState(next, 3 - player, nextHash);
+    }
+
+    @Override
+    public boolean isTerminal() {
+        return status != Board.IN_PROGRESS;
+    }
+
+    @Override
+    public int evaluate() {
+        if (status == player) {
+            return WIN;
+        }
+        return status == 3 - player ? -WIN : 0;
+    }
+
+    @Override
+    public long hash() {
+        return hash;
+    }
+
+    private static int key(int player, int cell) {
+        return (player - 1) * 64 + cell;
+    }
+}
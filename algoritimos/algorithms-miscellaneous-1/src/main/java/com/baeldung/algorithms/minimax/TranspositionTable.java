@@ -0,0 +1,77 @@
+package com.baeldung.algorithms.minimax;
+
+import java.util.Arrays;
+
+/**
+ * Scores of searched states, indexed by hash, in two flat {@code long[]} arrays shared by all
+ * the threads of a search without locks.
+ * <p>
+ * An entry packs the score, best move, depth and bound into one {@code long}, stored along with
+ * the hash XORed with it: a read torn between two writes doesn't XOR back to the hash, so it's a
+ * miss rather than a corrupt entry.
+ */
+final class TranspositionTable {
+
+    static final int UPPER = 1;
+    static final int LOWER = 2;
+    static final int EXACT = 3;
+
+    static final int NO_MOVE = -1;
+
+    private final long[] keys;
+    private final long[] entries;
+    private final int shift;
+
+    TranspositionTable(int bits) {
+        if (bits < 1 || bits > 30) {
+            throw new IllegalArgumentException("The table should have between 2^1 and 2^30 entries");
+        }
+        keys = new long[1 << bits];
+        entries = new long[1 << bits];
+        shift = 64 - bits;
+    }
+
+    /**
+     * @return The entry of the hash, or 0 if there is none.
+     */
+    long probe(long hash) {
+        int slot = (int) (hash >>> shift);
+        long entry = entries[slot];
+        return (keys[slot] ^ entry) == hash ? entry : 0;
+    }
+
+    /**
+     * Replaces the entry of the slot, unless it's a deeper entry for the same hash.
+     */
+    void store(long hash, int score, int move, int depth, int bound) {
+        int slot = (int) (hash >>> shift);
+        long previous = entries[slot];
+        if ((keys[slot] ^ previous) == hash && depth(previous) > depth) {
+            return;
+        }
+        long entry = (score & 0xFFFFFFFFL) | (long) ((move + 1) & 0xFFFF) << 32 | (long) depth << 48 | (long) bound << 56;
+        entries[slot] = entry;
+        keys[slot] = hash ^ entry;
+    }
+
+    void clear() {
+        Arrays.fill(keys, 0);
+        Arrays.fill(entries, 0);
+    }
+
+    static int score(long entry) {
+        return (int) entry;
+    }
+
+    static int move(long entry) {
+        return (int) (entry >>> 32 & 0xFFFF) - 1;
+    }
+
+    static int depth(long entry) {
+        return (int) (entry >>> 48 & 0xFF);
+    }
+
+    static int bound(long entry) {
+        return (int) (entry >>> 56);
+    }
+}
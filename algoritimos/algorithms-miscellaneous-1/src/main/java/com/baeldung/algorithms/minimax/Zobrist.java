@@ -0,0 +1,39 @@
+package com.baeldung.algorithms.minimax;
+
+import java.util.SplittableRandom;
+
+/**
+ * Random keys for Zobrist hashing: the hash of a state is the XOR of the keys of its features,
+ * such as a piece on a cell or the player to move, so a move updates it with a few XORs.
+ */
+public final class Zobrist {
+
+    private final long[] keys;
+
+    /**
+     * @param features The number of keys.
+     * @param seed     The seed of the keys, so that hashes are the same from one run to the next.
+     */
+    public Zobrist(int features, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        keys = new long[features];
+        for (int i = 0; i < features; i++) {
+            keys[i] = random.nextLong();
+        }
+    }
+
+    public long key(int feature) {
+        return keys[feature];
+    }
+
+    /**
+     * Hashes a state described by a single number, such as a heap of bones, with the finalizer of
+     * SplitMix64.
+     */
+    public static long mix(long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,175 @@
+package com.baeldung.algorithms;
+
+import com.baeldung.algorithms.automata.*;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class CompiledDfaUnitTest {
+
+    @Test
+    public void acceptsSimpleAndMorePairs() {
+        CompiledDfa dfa = CompiledDfa.builder(this.buildJsonState()).build();
+        assertTrue(dfa.match("{\"key\":\"value\"}"));
+        assertTrue(dfa.match("{\"key1\":\"value1\",\"key2\":\"value2\"}"));
+        assertTrue(dfa.match("{\"KEY\":\"Value\"}"));
+        assertFalse(dfa.match("{\"key\"\"value\"}"));
+        assertFalse(dfa.match("{\"key\":\"value\""));
+    }
+
+    @Test
+    public void matchesLikeTheStateGraph() {
+        State initial = this.buildJsonState();
+        CompiledDfa dfa = CompiledDfa.builder(initial).build();
+        String alphabet = "{}\":,abAB01-";
+        Random random = new Random(42);
+        for (int i = 0; i < 20000; i++) {
+            StringBuilder input = new StringBuilder();
+            // mostly valid prefixes, so that the inputs get past the first characters
+            input.append(random.nextInt(4) == 0 ? "" : "{\"");
+            for (int length = random.nextInt(12); length > 0; length--) {
+                input.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            assertEquals(input.toString(), this.acceptedByStates(initial, input), dfa.match(input));
+        }
+    }
+
+    @Test
+    public void matchesCaseVariantsLikeTheStateGraph() {
+        State initial = this.buildJsonState();
+        CompiledDfa dfa = CompiledDfa.builder(initial).build();
+        // the Kelvin sign and the dotted capital I match "k" and "i" ignoring case
+        for (String input : new String[] { "{\"\u212A\":\"v\"}", "{\"\u0130\":\"v\"}", "{\"\u017F\":\"v\"}" }) {
+            assertEquals(input, this.acceptedByStates(initial, input), dfa.match(input));
+        }
+        assertTrue(dfa.match("{\"\u212Aey\":\"value\"}"));
+    }
+
+    @Test
+    public void mergesEquivalentStatesAndCharacters() {
+        CompiledDfa json = CompiledDfa.builder(this.buildJsonState()).build();
+        // dead (with all other characters), '{', '"', ':', ',', '}', then letters and digits
+        assertEquals(7, json.getClassCount());
+        assertEquals(9, json.getStateCount());
+
+        State first = new RtState();
+        State second = new RtState();
+        State third = new RtState(true);
+        State fourth = new RtState();
+        first.with(new RtTransition("a", second));
+        second.with(new RtTransition("b", third));
+        third.with(new RtTransition("a", fourth));
+        fourth.with(new RtTransition("b", third));
+        CompiledDfa repeated = CompiledDfa.builder(first).build();
+        assertEquals(4, repeated.getStateCount());
+        assertTrue(repeated.match("abab"));
+        assertFalse(repeated.match("aba"));
+    }
+
+    @Test
+    public void feedsChunksOfAStream() {
+        CompiledDfa dfa = CompiledDfa.builder(this.buildJsonState()).build();
+        char[] json = "{\"key1\":\"value1\",\"key2\":\"value2\"}".toCharArray();
+        for (int chunk = 1; chunk <= json.length; chunk++) {
+            int state = dfa.start();
+            for (int off = 0; off < json.length; off += chunk) {
+                state = dfa.feed(state, json, off, Math.min(chunk, json.length - off));
+            }
+            assertTrue(dfa.isFinal(state));
+        }
+        assertTrue(dfa.isDead(dfa.feed(dfa.start(), "}".toCharArray(), 0, 1)));
+    }
+
+    @Test
+    public void acceptsThroughTheFacade() {
+        String json = "{\"key\":\"value\"}";
+        FiniteStateMachine machine = CompiledDfa.builder(this.buildJsonState()).build().machine();
+        for (int i = 0; i < json.length(); i++) {
+            machine = machine.switchState(String.valueOf(json.charAt(i)));
+        }
+        assertTrue(machine.canStop());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void missingColonThroughTheFacade() {
+        String json = "{\"key\"\"value\"}";
+        FiniteStateMachine machine = CompiledDfa.builder(this.buildJsonState()).build().machine();
+        for (int i = 0; i < json.length(); i++) {
+            machine = machine.switchState(String.valueOf(json.charAt(i)));
+        }
+    }
+
+    @Test
+    public void compilesOtherStatesOverAGivenAlphabet() {
+        State digits = new State() {
+            public State with(final Transition tr) {
+                return this;
+            }
+
+            public State transit(final CharSequence c) {
+                if (c.length() == 1 && Character.isDigit(c.charAt(0))) {
+                    return this;
+                }
+                throw new IllegalArgumentException("Input not accepted: " + c);
+            }
+
+            public boolean isFinal() {
+                return true;
+            }
+        };
+        CompiledDfa dfa = CompiledDfa.builder(digits).alphabet('0', '9').build();
+        assertTrue(dfa.match("0123456789"));
+        assertTrue(dfa.match(""));
+        assertFalse(dfa.match("12a"));
+    }
+
+    private boolean acceptedByStates(final State initial, final CharSequence input) {
+        State state = initial;
+        try {
+            for (int i = 0; i < input.length(); i++) {
+                state = state.transit(String.valueOf(input.charAt(i)));
+            }
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        return state.isFinal();
+    }
+
+    /**
+     * Builds the states of the finite state machine of
+     * {@link RtFiniteStateMachineLongRunningUnitTest}.
+     * @return Initial state.
+     */
+    private State buildJsonState() {
+        State first = new RtState();
+        State second = new RtState();
+        State third = new RtState();
+        State fourth = new RtState();
+        State fifth = new RtState();
+        State sixth = new RtState();
+        State seventh = new RtState();
+        State eighth = new RtState(true);
+
+        first.with(new RtTransition("{", second));
+        second.with(new RtTransition("\"", third));
+        for (int i = 0; i < 26; i++) {
+            if (i < 10) {
+                third = third.with(new RtTransition(String.valueOf(i), third));
+                sixth = sixth.with(new RtTransition(String.valueOf(i), sixth));
+            }
+            third = third.with(new RtTransition(String.valueOf((char) ('a' + i)), third));
+            sixth = sixth.with(new RtTransition(String.valueOf((char) ('a' + i)), sixth));
+        }
+        third.with(new RtTransition("\"", fourth));
+        fourth.with(new RtTransition(":", fifth));
+        fifth.with(new RtTransition("\"", sixth));
+        sixth.with(new RtTransition("\"", seventh));
+        seventh.with(new RtTransition(",", second));
+        seventh.with(new RtTransition("}", eighth));
+        return first;
+    }
+}
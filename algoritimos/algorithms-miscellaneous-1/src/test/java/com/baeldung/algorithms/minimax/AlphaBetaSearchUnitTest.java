@@ -0,0 +1,103 @@
+package com.baeldung.algorithms.minimax;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+
+import com.baeldung.algorithms.mcts.tictactoe.Board;
+import com.baeldung.algorithms.minimax.AlphaBetaSearch.SearchResult;
+
+public class AlphaBetaSearchUnitTest {
+
+    @Test
+    public void givenHeapsOfBones_whenSearched_thenSameResultAsMiniMax() {
+        AlphaBetaSearch<GameOfBones> search = new AlphaBetaSearch<>(16, null);
+        MiniMax miniMax = new MiniMax();
+        for (int bones = 1; bones <= 12; bones++) {
+            miniMax.constructTree(bones);
+            SearchResult result = search.search(new GameOfBones(bones), 20, 10_000);
+            assertEquals(miniMax.checkWin(), result.isProvenWin());
+            assertEquals(!miniMax.checkWin(), result.isProvenLoss());
+        }
+    }
+
+    @Test
+    public void givenALargeHeap_whenSearched_thenWinningMoveLeavesAMultipleOfFour() {
+        AlphaBetaSearch<GameOfBones> search = new AlphaBetaSearch<>(16, null);
+        SearchResult result = search.search(new GameOfBones(201), AlphaBetaSearch.MAX_DEPTH, 10_000);
+
+        assertTrue(result.isProvenWin());
+        assertEquals(1, result.getBestMove());
+        assertTrue(search.search(new GameOfBones(200), AlphaBetaSearch.MAX_DEPTH, 10_000)
+          .isProvenLoss());
+    }
+
+    @Test
+    public void givenAnEmptyBoard_whenSearched_thenDraw() {
+        AlphaBetaSearch<TicTacToeState> search = new AlphaBetaSearch<>(16, null);
+        SearchResult result = search.search(TicTacToeState.of(new Board(), Board.P1), 9, 10_000);
+
+        assertEquals(0, result.getScore());
+        assertEquals(9, result.getDepth());
+    }
+
+    @Test
+    public void givenAWinInOne_whenSearched_thenItIsPlayedRatherThanABlock() {
+        // player 1 completes the first row rather than blocking the second one
+        int[][] cells = { { 1, 1, 0 }, { 2, 2, 0 }, { 0, 0, 0 } };
+        TicTacToeState state = TicTacToeState.of(new Board(cells, 4), Board.P1);
+        SearchResult result = new AlphaBetaSearch<TicTacToeState>(16, null).search(state, 9, 10_000);
+
+        assertTrue(result.isProvenWin());
+        assertEquals(GameState.WIN - 1, result.getScore());
+        assertEquals(0, state.toPosition(result.getBestMove())
+          .getX());
+        assertEquals(2, state.toPosition(result.getBestMove())
+          .getY());
+    }
+
+    @Test
+    public void givenAPool_whenSearchedWithLazySmp_thenSameScore() {
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            AlphaBetaSearch<TicTacToeState> search = new AlphaBetaSearch<>(16, pool);
+            SearchResult result = search.search(TicTacToeState.of(new Board(), Board.P1), 9, 10_000);
+            assertEquals(0, result.getScore());
+
+            int[][] cells = { { 1, 0, 0 }, { 0, 2, 0 }, { 0, 0, 1 } };
+            TicTacToeState state = TicTacToeState.of(new Board(cells, 3), Board.P2);
+            search.clear();
+            assertFalse(search.search(state, 9, 10_000)
+              .isProvenLoss());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void givenNoTime_whenSearched_thenFirstIterationStillCompletes() {
+        AlphaBetaSearch<TicTacToeState> search = new AlphaBetaSearch<>(16, null);
+        SearchResult result = search.search(TicTacToeState.of(new Board(4), Board.P1), AlphaBetaSearch.MAX_DEPTH, 0);
+
+        assertTrue(result.getDepth() >= 1);
+        assertTrue(result.getBestMove() >= 0 && result.getBestMove() < 16);
+    }
+
+    @Test
+    public void givenAnUnlimitedBudget_whenSearched_thenReachesTheMaximumDepth() {
+        AlphaBetaSearch<TicTacToeState> search = new AlphaBetaSearch<>(16, null);
+        SearchResult result = search.search(TicTacToeState.of(new Board(), Board.P1), 9, Long.MAX_VALUE);
+
+        assertEquals(9, result.getDepth());
+        assertEquals(0, result.getScore());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void givenAFinishedGame_whenSearched_thenRejected() {
+        new AlphaBetaSearch<GameOfBones>(8, null).search(new GameOfBones(0), 1, 1000);
+    }
+}
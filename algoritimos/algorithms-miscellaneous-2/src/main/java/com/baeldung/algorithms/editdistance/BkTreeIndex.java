@@ -0,0 +1,143 @@
+package com.baeldung.algorithms.editdistance;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Index of a corpus of strings which finds all strings within an edit distance of a query, for
+ * fuzzy matching and deduplication. It's a BK-tree (Burkhard and Keller): each child of a node
+ * is at a given distance from it, and by the triangle inequality a query at distance {@code d}
+ * from a node only needs the children at distance {@code d - k} to {@code d + k}, which prunes
+ * most of the corpus for small {@code k}.
+ * <p>
+ * Distances are computed with {@link EditDistanceBitParallel}, reusing the masks of the query
+ * across the nodes. The tree lives in flat arrays and is never modified after construction, so
+ * queries can run from many threads at once, as {@link #searchAll(List, int)} does.
+ */
+public class BkTreeIndex {
+
+    private static final int NONE = -1;
+
+    private final String[] corpus;
+
+    /**
+     * Per corpus entry, the next entry with the same string, or {@code NONE}.
+     */
+    private final int[] nextDuplicate;
+
+    /**
+     * Per node, identified by the first corpus entry with its string: its first child, its next
+     * sibling and its distance to its parent.
+     */
+    private final int[] firstChild;
+    private final int[] nextSibling;
+    private final int[] parentDistance;
+
+    public BkTreeIndex(List<String> corpus) {
+        int size = corpus.size();
+        this.corpus = corpus.toArray(new String[0]);
+        this.nextDuplicate = new int[size];
+        this.firstChild = new int[size];
+        this.nextSibling = new int[size];
+        this.parentDistance = new int[size];
+        Arrays.fill(nextDuplicate, NONE);
+        Arrays.fill(firstChild, NONE);
+        Arrays.fill(nextSibling, NONE);
+
+        for (int entry = 1; entry < size; entry++) {
+            insert(entry);
+        }
+    }
+
+    public int size() {
+        return corpus.length;
+    }
+
+    public String get(int entry) {
+        return corpus[entry];
+    }
+
+    /**
+     * @return The indexes, in ascending order, of the corpus entries within the given edit
+     *         distance of the query.
+     */
+    public int[] search(String query, int maxDistance) {
+        if (maxDistance < 0) {
+            throw new IllegalArgumentException("The maximum distance should not be negative");
+        }
+        if (corpus.length == 0) {
+            return new int[0];
+        }
+
+        PatternMasks masks = new PatternMasks(query);
+        int[] matches = new int[8];
+        int matchCount = 0;
+        int[] stack = new int[16];
+        int top = 0;
+        stack[top++] = 0;
+        while (top > 0) {
+            int node = stack[--top];
+            int distance = EditDistanceBitParallel.calculate(masks, query.length(), corpus[node]);
+            if (distance <= maxDistance) {
+                for (int entry = node; entry != NONE; entry = nextDuplicate[entry]) {
+                    if (matchCount == matches.length) {
+                        matches = Arrays.copyOf(matches, matchCount * 2);
+                    }
+                    matches[matchCount++] = entry;
+                }
+            }
+
+            for (int child = firstChild[node]; child != NONE; child = nextSibling[child]) {
+                if (Math.abs(parentDistance[child] - distance) <= maxDistance) {
+                    if (top == stack.length) {
+                        stack = Arrays.copyOf(stack, top * 2);
+                    }
+                    stack[top++] = child;
+                }
+            }
+        }
+
+        int[] result = Arrays.copyOf(matches, matchCount);
+        Arrays.sort(result);
+        return result;
+    }
+
+    /**
+     * Runs {@link #search(String, int)} for every query in parallel.
+     *
+     * @return The matches of each query, in the order of the queries.
+     */
+    public List<int[]> searchAll(List<String> queries, int maxDistance) {
+        return queries
+          .parallelStream()
+          .map(query -> search(query, maxDistance))
+          .collect(Collectors.toList());
+    }
+
+    private void insert(int entry) {
+        String value = corpus[entry];
+        PatternMasks masks = new PatternMasks(value);
+        int node = 0;
+        while (true) {
+            int distance = EditDistanceBitParallel.calculate(masks, value.length(), corpus[node]);
+            if (distance == 0) {
+                nextDuplicate[entry] = nextDuplicate[node];
+                nextDuplicate[node] = entry;
+                return;
+            }
+
+            int child = firstChild[node];
+            while (child != NONE && parentDistance[child] != distance) {
+                child = nextSibling[child];
+            }
+            if (child == NONE) {
+                parentDistance[entry] = distance;
+                nextSibling[entry] = firstChild[node];
+                firstChild[node] = entry;
+                return;
+            }
+            node = child;
+        }
+    }
+}
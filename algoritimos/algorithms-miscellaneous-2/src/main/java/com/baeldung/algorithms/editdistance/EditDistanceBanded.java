@@ -0,0 +1,64 @@
+package com.baeldung.algorithms.editdistance;
+
+/**
+ * Levenshtein distance when only distances up to a threshold {@code k} matter, as when looking
+ * for near duplicates (Ukkonen's cut-off). Any cell further than {@code k} from the diagonal
+ * is above {@code k}, so each row only computes the {@code 2k + 1} cells around it, and the
+ * computation stops as soon as a whole row is above {@code k}: every path to the last cell
+ * crosses that row. Strings whose lengths differ by more than {@code k} are rejected upfront.
+ * <p>
+ * This takes {@code O(k * n)} time at most, and usually much less for dissimilar strings.
+ */
+public class EditDistanceBanded extends EditDistanceBase {
+
+    /**
+     * @return The distance if it's at most {@code maxDistance}, {@code maxDistance + 1}
+     *         otherwise.
+     */
+    static int calculate(String x, String y, int maxDistance) {
+        if (maxDistance < 0) {
+            throw new IllegalArgumentException("The maximum distance should not be negative");
+        }
+
+        int n = x.length();
+        int m = y.length();
+        int exceeded = maxDistance + 1;
+        if (Math.abs(n - m) > maxDistance) {
+            return exceeded;
+        }
+
+        int[] previous = new int[m + 1];
+        int[] current = new int[m + 1];
+        for (int j = 0; j <= m; j++) {
+            previous[j] = Math.min(j, exceeded);
+        }
+
+        for (int i = 1; i <= n; i++) {
+            int from = Math.max(1, i - maxDistance);
+            int to = Math.min(m, i + maxDistance);
+            // the cell left of the band, which is out of reach unless it's the first column
+            current[from - 1] = from == 1 ? Math.min(i, exceeded) : exceeded;
+            int rowMin = current[from - 1];
+            char c = x.charAt(i - 1);
+            for (int j = from; j <= to; j++) {
+                int distance = previous[j - 1] + costOfSubstitution(c, y.charAt(j - 1));
+                distance = Math.min(distance, previous[j] + 1);
+                distance = Math.min(distance, current[j - 1] + 1);
+                current[j] = Math.min(distance, exceeded);
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            // the cell right of the band, read by the next row
+            if (to < m) {
+                current[to + 1] = exceeded;
+            }
+            if (rowMin > maxDistance) {
+                return exceeded;
+            }
+
+            int[] row = previous;
+            previous = current;
+            current = row;
+        }
+        return previous[m];
+    }
+}
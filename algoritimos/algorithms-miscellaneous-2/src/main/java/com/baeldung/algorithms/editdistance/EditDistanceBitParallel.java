@@ -0,0 +1,114 @@
+package com.baeldung.algorithms.editdistance;
+
+import java.util.Arrays;
+
+/**
+ * Levenshtein distance with Myers' bit-vector algorithm, in Hyyro's formulation. A column of the
+ * dynamic programming table differs by -1, 0 or +1 from one cell to the next, so it's encoded
+ * as two bit vectors of positive and negative differences, and a whole column is computed from
+ * the previous one with a dozen word operations. The shorter string is the pattern: up to 64
+ * characters fit in a single {@code long}, longer ones take a block of 64 rows per {@code long},
+ * with the horizontal difference carried from block to block.
+ * <p>
+ * This takes {@code O(ceil(m / 64) * n)} time and {@code O(m / 64)} memory, instead of
+ * {@code O(m * n)} for both in {@link EditDistanceDynamicProgramming}.
+ */
+public class EditDistanceBitParallel extends EditDistanceBase {
+
+    static int calculate(String x, String y) {
+        String pattern = x.length() <= y.length() ? x : y;
+        String text = pattern == x ? y : x;
+        if (pattern.isEmpty()) {
+            return text.length();
+        }
+
+        return calculate(new PatternMasks(pattern), pattern.length(), text);
+    }
+
+    /**
+     * Distance between a pattern, given by its masks and length, and a text. The pattern may be
+     * longer than the text, which lets callers reuse the masks of a query across many texts.
+     */
+    static int calculate(PatternMasks masks, int m, CharSequence text) {
+        if (m == 0) {
+            return text.length();
+        }
+        if (m <= 64) {
+            return calculateSingleWord(masks, m, text);
+        }
+        return calculateBlocks(masks, m, text);
+    }
+
+    private static int calculateSingleWord(PatternMasks masks, int m, CharSequence text) {
+        long last = 1L << (m - 1);
+        long positive = -1L;
+        long negative = 0;
+        int score = m;
+        for (int j = 0; j < text.length(); j++) {
+            long equal = masks.mask(text.charAt(j), 0);
+            long vertical = equal | negative;
+            long horizontal = (((equal & positive) + positive) ^ positive) | equal;
+            long positiveHorizontal = negative | ~(horizontal | positive);
+            long negativeHorizontal = positive & horizontal;
+            if ((positiveHorizontal & last) != 0) {
+                score++;
+            } else if ((negativeHorizontal & last) != 0) {
+                score--;
+            }
+            // the first row grows by one per column
+            positiveHorizontal = positiveHorizontal << 1 | 1;
+            negativeHorizontal <<= 1;
+            positive = negativeHorizontal | ~(vertical | positiveHorizontal);
+            negative = positiveHorizontal & vertical;
+        }
+        return score;
+    }
+
+    private static int calculateBlocks(PatternMasks masks, int m, CharSequence text) {
+        int blocks = masks.blocks();
+        long[] positive = new long[blocks];
+        long[] negative = new long[blocks];
+        Arrays.fill(positive, -1L);
+        long last = 1L << ((m - 1) & 63);
+        int score = m;
+        for (int j = 0; j < text.length(); j++) {
+            char c = text.charAt(j);
+            // the difference entering block 0 from the first row
+            int carry = 1;
+            for (int b = 0; b < blocks; b++) {
+                long high = b == blocks - 1 ? last : 1L << 63;
+                long equal = masks.mask(c, b);
+                long pv = positive[b];
+                long mv = negative[b];
+
+                long vertical = equal | mv;
+                if (carry < 0) {
+                    equal |= 1;
+                }
+                long horizontal = (((equal & pv) + pv) ^ pv) | equal;
+                long positiveHorizontal = mv | ~(horizontal | pv);
+                long negativeHorizontal = pv & horizontal;
+
+                int out = 0;
+                if ((positiveHorizontal & high) != 0) {
+                    out = 1;
+                } else if ((negativeHorizontal & high) != 0) {
+                    out = -1;
+                }
+
+                positiveHorizontal <<= 1;
+                negativeHorizontal <<= 1;
+                if (carry < 0) {
+                    negativeHorizontal |= 1;
+                } else if (carry > 0) {
+                    positiveHorizontal |= 1;
+                }
+                positive[b] = negativeHorizontal | ~(vertical | positiveHorizontal);
+                negative[b] = positiveHorizontal & vertical;
+                carry = out;
+            }
+            score += carry;
+        }
+        return score;
+    }
+}
@@ -0,0 +1,92 @@
+package com.baeldung.algorithms.editdistance;
+
+/**
+ * For every character of a pattern, the bit mask of the positions where it occurs, split into
+ * 64-bit blocks: bit {@code i % 64} of block {@code i / 64} is set when the pattern has the
+ * character at position {@code i}. ASCII characters are looked up directly, others in a small
+ * open-addressing table.
+ */
+class PatternMasks {
+
+    private static final int ASCII = 128;
+
+    private final int blocks;
+    private final long[] asciiMasks;
+    private char[] keys;
+    private long[] masks;
+    private int size;
+
+    PatternMasks(CharSequence pattern) {
+        blocks = Math.max(1, (pattern.length() + 63) >>> 6);
+        asciiMasks = new long[ASCII * blocks];
+        keys = new char[16];
+        masks = new long[16 * blocks];
+        for (int i = 0; i < pattern.length(); i++) {
+            char c = pattern.charAt(i);
+            if (c < ASCII) {
+                asciiMasks[c * blocks + (i >>> 6)] |= 1L << i;
+            } else {
+                masks[slot(c) * blocks + (i >>> 6)] |= 1L << i;
+            }
+        }
+    }
+
+    int blocks() {
+        return blocks;
+    }
+
+    /**
+     * @return The positions of the character within the block, or 0 if it isn't in the pattern.
+     */
+    long mask(char c, int block) {
+        if (c < ASCII) {
+            return asciiMasks[c * blocks + block];
+        }
+        int mask = keys.length - 1;
+        for (int i = hash(c) & mask;; i = (i + 1) & mask) {
+            if (keys[i] == c) {
+                return masks[i * blocks + block];
+            }
+            if (keys[i] == 0) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * @return The slot of the character, which is added if missing. Non-ASCII characters are
+     *         never 0, so 0 marks empty slots.
+     */
+    private int slot(char c) {
+        if (2 * (size + 1) > keys.length) {
+            grow();
+        }
+        int mask = keys.length - 1;
+        int i = hash(c) & mask;
+        while (keys[i] != 0 && keys[i] != c) {
+            i = (i + 1) & mask;
+        }
+        if (keys[i] == 0) {
+            keys[i] = c;
+            size++;
+        }
+        return i;
+    }
+
+    private void grow() {
+        char[] oldKeys = keys;
+        long[] oldMasks = masks;
+        keys = new char[oldKeys.length * 2];
+        masks = new long[keys.length * blocks];
+        size = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != 0) {
+                System.arraycopy(oldMasks, i * blocks, masks, slot(oldKeys[i]) * blocks, blocks);
+            }
+        }
+    }
+
+    private static int hash(char c) {
+        return c * 0x9E3779B1 >>> 16;
+    }
+}
@@ -0,0 +1,259 @@
+package com.baeldung.algorithms.ga.dijkstra;
+
+import java.util.Arrays;
+
+/**
+ * Dijkstra's algorithm over a {@link CsrGraph}. The next vertex is taken from an
+ * {@link IndexedDaryHeap} and shortest paths are stored as a predecessor {@code int[]} instead
+ * of per-node path lists, so a query costs O((V + E) log V) with no per-edge allocation.
+ * <p>
+ * Point-to-point queries run a bidirectional search and reuse the same buffers between calls,
+ * resetting only the vertices the previous query touched. An instance is therefore not
+ * thread-safe; use one instance per thread.
+ */
+public class CsrDijkstra {
+
+    public static final long UNREACHABLE = Long.MAX_VALUE;
+
+    public static final int NO_PREDECESSOR = -1;
+
+    private static final int DEFAULT_ARITY = 4;
+
+    private final CsrGraph graph;
+    private final CsrGraph reverse;
+    private final Search forward;
+    private final Search backward;
+
+    public CsrDijkstra(CsrGraph graph) {
+        this(graph, DEFAULT_ARITY);
+    }
+
+    public CsrDijkstra(CsrGraph graph, int arity) {
+        this.graph = graph;
+        this.reverse = graph.reverse();
+        this.forward = new Search(graph.getVertexCount(), arity);
+        this.backward = new Search(graph.getVertexCount(), arity);
+    }
+
+    /**
+     * Computes the distance and predecessor of every vertex from the given source.
+     *
+     * @param source The source vertex.
+     * @return The shortest path tree rooted at the source.
+     */
+    public ShortestPathTree calculateShortestPathFromSource(int source) {
+        int n = graph.getVertexCount();
+        long[] distances = new long[n];
+        int[] predecessors = new int[n];
+        Arrays.fill(distances, UNREACHABLE);
+        Arrays.fill(predecessors, NO_PREDECESSOR);
+
+        IndexedDaryHeap heap = forward.heap;
+        heap.clear();
+        distances[source] = 0;
+        heap.insertOrDecrease(source, 0);
+        while (!heap.isEmpty()) {
+            int current = heap.poll();
+            long currentDistance = distances[current];
+            for (int e = graph.firstEdge(current); e < graph.lastEdge(current); e++) {
+                int adjacent = graph.target(e);
+                long distance = currentDistance + graph.weight(e);
+                if (distance < distances[adjacent]) {
+                    distances[adjacent] = distance;
+                    predecessors[adjacent] = current;
+                    heap.insertOrDecrease(adjacent, distance);
+                }
+            }
+        }
+
+        return new ShortestPathTree(source, distances, predecessors);
+    }
+
+    /**
+     * Finds the shortest path between two vertices, searching forward from the source and
+     * backward from the target at the same time.
+     *
+     * @param source The source vertex.
+     * @param target The target vertex.
+     * @return The shortest path, or {@code null} when the target is unreachable.
+     */
+    public Path shortestPath(int source, int target) {
+        forward.reset();
+        backward.reset();
+        forward.visit(source, 0, NO_PREDECESSOR);
+        backward.visit(target, 0, NO_PREDECESSOR);
+
+        long best = source == target ? 0 : UNREACHABLE;
+        int meeting = source == target ? source : NO_PREDECESSOR;
+        while (!forward.heap.isEmpty() && !backward.heap.isEmpty()) {
+            long forwardTop = forward.heap.peekPriority();
+            long backwardTop = backward.heap.peekPriority();
+            if (best != UNREACHABLE && forwardTop + backwardTop >= best) {
+                break;
+            }
+
+            boolean isForward = forwardTop <= backwardTop;
+            Search search = isForward ? forward : backward;
+            Search other = isForward ? backward : forward;
+            CsrGraph edges = isForward ? graph : reverse;
+
+            int current = search.heap.poll();
+            long currentDistance = search.distances[current];
+            for (int e = edges.firstEdge(current); e < edges.lastEdge(current); e++) {
+                int adjacent = edges.target(e);
+                long distance = currentDistance + edges.weight(e);
+                if (distance < search.distances[adjacent]) {
+                    search.visit(adjacent, distance, current);
+                    long otherDistance = other.distances[adjacent];
+                    if (otherDistance != UNREACHABLE && distance + otherDistance < best) {
+                        best = distance + otherDistance;
+                        meeting = adjacent;
+                    }
+                }
+            }
+        }
+
+        if (meeting == NO_PREDECESSOR) {
+            return null;
+        }
+
+        int forwardLength = 0;
+        for (int v = meeting; v != NO_PREDECESSOR; v = forward.predecessors[v]) {
+            forwardLength++;
+        }
+        int backwardLength = 0;
+        for (int v = backward.predecessors[meeting]; v != NO_PREDECESSOR; v = backward.predecessors[v]) {
+            backwardLength++;
+        }
+
+        int[] vertices = new int[forwardLength + backwardLength];
+        int position = forwardLength - 1;
+        for (int v = meeting; v != NO_PREDECESSOR; v = forward.predecessors[v]) {
+            vertices[position--] = v;
+        }
+        position = forwardLength;
+        for (int v = backward.predecessors[meeting]; v != NO_PREDECESSOR; v = backward.predecessors[v]) {
+            vertices[position++] = v;
+        }
+
+        return new Path(best, vertices);
+    }
+
+    /**
+     * State of one search direction. Only the vertices recorded in {@link #touched} have
+     * non-default values, which keeps resetting proportional to the size of the last query.
+     */
+    private static class Search {
+
+        private final IndexedDaryHeap heap;
+        private final long[] distances;
+        private final int[] predecessors;
+        private final int[] touched;
+        private int touchedCount;
+
+        private Search(int vertexCount, int arity) {
+            this.heap = new IndexedDaryHeap(vertexCount, arity);
+            this.distances = new long[vertexCount];
+            this.predecessors = new int[vertexCount];
+            this.touched = new int[vertexCount];
+            Arrays.fill(distances, UNREACHABLE);
+            Arrays.fill(predecessors, NO_PREDECESSOR);
+        }
+
+        private void visit(int vertex, long distance, int predecessor) {
+            if (distances[vertex] == UNREACHABLE) {
+                touched[touchedCount++] = vertex;
+            }
+
+            distances[vertex] = distance;
+            predecessors[vertex] = predecessor;
+            heap.insertOrDecrease(vertex, distance);
+        }
+
+        private void reset() {
+            heap.clear();
+            for (int i = 0; i < touchedCount; i++) {
+                distances[touched[i]] = UNREACHABLE;
+                predecessors[touched[i]] = NO_PREDECESSOR;
+            }
+            touchedCount = 0;
+        }
+    }
+
+    /**
+     * Distances and predecessors of all vertices from a single source.
+     */
+    public static class ShortestPathTree {
+
+        private final int source;
+        private final long[] distances;
+        private final int[] predecessors;
+
+        private ShortestPathTree(int source, long[] distances, int[] predecessors) {
+            this.source = source;
+            this.distances = distances;
+            this.predecessors = predecessors;
+        }
+
+        public int getSource() {
+            return source;
+        }
+
+        /**
+         * @return The distance to the vertex, or {@link #UNREACHABLE}.
+         */
+        public long getDistance(int vertex) {
+            return distances[vertex];
+        }
+
+        /**
+         * @return The vertex preceding the given one on its shortest path, or {@link #NO_PREDECESSOR}.
+         */
+        public int getPredecessor(int vertex) {
+            return predecessors[vertex];
+        }
+
+        /**
+         * @return The vertices from the source to the given target, or an empty array when the
+         * target is unreachable.
+         */
+        public int[] pathTo(int target) {
+            if (distances[target] == UNREACHABLE) {
+                return new int[0];
+            }
+
+            int length = 0;
+            for (int v = target; v != NO_PREDECESSOR; v = predecessors[v]) {
+                length++;
+            }
+
+            int[] path = new int[length];
+            for (int v = target; v != NO_PREDECESSOR; v = predecessors[v]) {
+                path[--length] = v;
+            }
+            return path;
+        }
+    }
+
+    /**
+     * A single shortest path along with its length.
+     */
+    public static class Path {
+
+        private final long distance;
+        private final int[] vertices;
+
+        private Path(long distance, int[] vertices) {
+            this.distance = distance;
+            this.vertices = vertices;
+        }
+
+        public long getDistance() {
+            return distance;
+        }
+
+        public int[] getVertices() {
+            return vertices;
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.baeldung.algorithms.ga.dijkstra;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An immutable, weighted and directed graph in compressed sparse row form. The outgoing edges
+ * of vertex {@code v} are stored at positions {@code [offsets[v], offsets[v + 1])} of the
+ * {@code targets} and {@code weights} arrays.
+ */
+public class CsrGraph {
+
+    private final int vertexCount;
+    private final int[] offsets;
+    private final int[] targets;
+    private final int[] weights;
+
+    private CsrGraph(int vertexCount, int[] offsets, int[] targets, int[] weights) {
+        this.vertexCount = vertexCount;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.weights = weights;
+    }
+
+    /**
+     * Converts an object graph into CSR form. Vertex ids are the positions of the nodes in the
+     * given list.
+     *
+     * @param nodes All nodes of the graph.
+     * @return The CSR graph.
+     * @throws IllegalArgumentException If an edge points to a node which is not in the list.
+     */
+    public static CsrGraph of(List<Node> nodes) {
+        Map<Node, Integer> ids = new HashMap<>(nodes.size() * 2);
+        for (int i = 0; i < nodes.size(); i++) {
+            ids.put(nodes.get(i), i);
+        }
+
+        Builder builder = new Builder(nodes.size());
+        for (int i = 0; i < nodes.size(); i++) {
+            for (Map.Entry<Node, Integer> adjacencyPair : nodes
+              .get(i)
+              .getAdjacentNodes()
+              .entrySet()) {
+                Integer target = ids.get(adjacencyPair.getKey());
+                if (target == null) {
+                    throw new IllegalArgumentException("Unknown node " + adjacencyPair
+                      .getKey()
+                      .getName());
+                }
+                builder.addEdge(i, target, adjacencyPair.getValue());
+            }
+        }
+
+        return builder.build();
+    }
+
+    public int getVertexCount() {
+        return vertexCount;
+    }
+
+    public int getEdgeCount() {
+        return targets.length;
+    }
+
+    public int firstEdge(int vertex) {
+        return offsets[vertex];
+    }
+
+    public int lastEdge(int vertex) {
+        return offsets[vertex + 1];
+    }
+
+    public int target(int edge) {
+        return targets[edge];
+    }
+
+    public int weight(int edge) {
+        return weights[edge];
+    }
+
+    /**
+     * @return A graph with every edge pointing the other way.
+     */
+    public CsrGraph reverse() {
+        int[] reverseOffsets = new int[vertexCount + 1];
+        for (int target : targets) {
+            reverseOffsets[target + 1]++;
+        }
+        for (int v = 0; v < vertexCount; v++) {
+            reverseOffsets[v + 1] += reverseOffsets[v];
+        }
+
+        int[] cursor = Arrays.copyOf(reverseOffsets, vertexCount);
+        int[] reverseTargets = new int[targets.length];
+        int[] reverseWeights = new int[weights.length];
+        for (int v = 0; v < vertexCount; v++) {
+            for (int e = offsets[v]; e < offsets[v + 1]; e++) {
+                int position = cursor[targets[e]]++;
+                reverseTargets[position] = v;
+                reverseWeights[position] = weights[e];
+            }
+        }
+
+        return new CsrGraph(vertexCount, reverseOffsets, reverseTargets, reverseWeights);
+    }
+
+    /**
+     * Collects edges in any order and sorts them by source vertex on {@link #build()}.
+     */
+    public static class Builder {
+
+        private final int vertexCount;
+        private int[] sources = new int[16];
+        private int[] targets = new int[16];
+        private int[] weights = new int[16];
+        private int edgeCount;
+
+        public Builder(int vertexCount) {
+            if (vertexCount < 0) {
+                throw new IllegalArgumentException("The vertex count can't be negative");
+            }
+
+            this.vertexCount = vertexCount;
+        }
+
+        public Builder addEdge(int source, int target, int weight) {
+            if (source < 0 || source >= vertexCount || target < 0 || target >= vertexCount) {
+                throw new IllegalArgumentException("Vertex out of range: " + source + " -> " + target);
+            }
+
+            if (weight < 0) {
+                throw new IllegalArgumentException("Dijkstra requires non-negative weights");
+            }
+
+            if (edgeCount == sources.length) {
+                int capacity = edgeCount * 2;
+                sources = Arrays.copyOf(sources, capacity);
+                targets = Arrays.copyOf(targets, capacity);
+                weights = Arrays.copyOf(weights, capacity);
+            }
+
+            sources[edgeCount] = source;
+            targets[edgeCount] = target;
+            weights[edgeCount] = weight;
+            edgeCount++;
+            return this;
+        }
+
+        public CsrGraph build() {
+            int[] offsets = new int[vertexCount + 1];
+            for (int e = 0; e < edgeCount; e++) {
+                offsets[sources[e] + 1]++;
+            }
+            for (int v = 0; v < vertexCount; v++) {
+                offsets[v + 1] += offsets[v];
+            }
+
+            int[] cursor = Arrays.copyOf(offsets, vertexCount);
+            int[] sortedTargets = new int[edgeCount];
+            int[] sortedWeights = new int[edgeCount];
+            for (int e = 0; e < edgeCount; e++) {
+                int position = cursor[sources[e]]++;
+                sortedTargets[position] = targets[e];
+                sortedWeights[position] = weights[e];
+            }
+
+            return new CsrGraph(vertexCount, offsets, sortedTargets, sortedWeights);
+        }
+    }
+}
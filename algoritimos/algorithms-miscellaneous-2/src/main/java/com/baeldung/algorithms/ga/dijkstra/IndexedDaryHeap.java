@@ -0,0 +1,160 @@
+package com.baeldung.algorithms.ga.dijkstra;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * A d-ary min-heap over the vertex ids {@code [0, capacity)} which supports decrease-key in
+ * O(log_d n). Each vertex remembers its position in the heap, so no search is needed to find it.
+ */
+public class IndexedDaryHeap {
+
+    private final int arity;
+
+    /**
+     * Vertex ids in heap order.
+     */
+    private final int[] heap;
+
+    /**
+     * Position of each vertex in {@link #heap}, or -1 when the vertex is not queued.
+     */
+    private final int[] positions;
+
+    /**
+     * Priority of each queued vertex.
+     */
+    private final long[] priorities;
+
+    private int size;
+
+    public IndexedDaryHeap(int capacity, int arity) {
+        if (arity < 2) {
+            throw new IllegalArgumentException("The heap arity should be at least 2");
+        }
+
+        this.arity = arity;
+        this.heap = new int[capacity];
+        this.positions = new int[capacity];
+        this.priorities = new long[capacity];
+        Arrays.fill(positions, -1);
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean contains(int vertex) {
+        return positions[vertex] >= 0;
+    }
+
+    /**
+     * @return The priority of the vertex on top of the heap.
+     */
+    public long peekPriority() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+
+        return priorities[heap[0]];
+    }
+
+    /**
+     * Adds the vertex with the given priority or, if it is already queued, lowers its priority.
+     * Higher priorities for queued vertices are ignored.
+     */
+    public void insertOrDecrease(int vertex, long priority) {
+        int position = positions[vertex];
+        if (position < 0) {
+            position = size++;
+            heap[position] = vertex;
+            positions[vertex] = position;
+        } else if (priority >= priorities[vertex]) {
+            return;
+        }
+
+        priorities[vertex] = priority;
+        siftUp(position);
+    }
+
+    /**
+     * Removes the vertex with the lowest priority.
+     *
+     * @return The removed vertex.
+     */
+    public int poll() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+
+        int top = heap[0];
+        positions[top] = -1;
+        size--;
+        if (size > 0) {
+            heap[0] = heap[size];
+            positions[heap[0]] = 0;
+            siftDown(0);
+        }
+
+        return top;
+    }
+
+    /**
+     * Removes all queued vertices.
+     */
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            positions[heap[i]] = -1;
+        }
+        size = 0;
+    }
+
+    private void siftUp(int position) {
+        int vertex = heap[position];
+        long priority = priorities[vertex];
+        while (position > 0) {
+            int parent = (position - 1) / arity;
+            int parentVertex = heap[parent];
+            if (priorities[parentVertex] <= priority) {
+                break;
+            }
+
+            heap[position] = parentVertex;
+            positions[parentVertex] = position;
+            position = parent;
+        }
+
+        heap[position] = vertex;
+        positions[vertex] = position;
+    }
+
+    private void siftDown(int position) {
+        int vertex = heap[position];
+        long priority = priorities[vertex];
+        while (true) {
+            int first = position * arity + 1;
+            if (first >= size) {
+                break;
+            }
+
+            int smallest = first;
+            int last = Math.min(first + arity, size);
+            for (int child = first + 1; child < last; child++) {
+                if (priorities[heap[child]] < priorities[heap[smallest]]) {
+                    smallest = child;
+                }
+            }
+
+            if (priorities[heap[smallest]] >= priority) {
+                break;
+            }
+
+            heap[position] = heap[smallest];
+            positions[heap[position]] = position;
+            position = smallest;
+        }
+
+        heap[position] = vertex;
+        positions[vertex] = position;
+    }
+}
@@ -0,0 +1,75 @@
+package com.baeldung.algorithms.maze.solver;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Shortest path search on a {@link MazeGrid}, moving up, down, left or right. Solvers hold no
+ * state: all of it is in the {@link MazeSearchContext} passed to each query, so many threads can
+ * search the same grid at once.
+ */
+public abstract class GridMazeSolver {
+
+    /**
+     * Finds a shortest path and writes its cells, from start to goal, into the given buffer. A
+     * buffer of {@link MazeGrid#getCellCount()} cells always fits the path.
+     *
+     * @return The number of cells in the path, or -1 if there is none.
+     */
+    public int solve(MazeGrid grid, int start, int goal, MazeSearchContext context, int[] path) {
+        checkCell(grid, start);
+        checkCell(grid, goal);
+        if (isWall(grid, start) || isWall(grid, goal)) {
+            return -1;
+        }
+
+        context.reset(grid, start, heuristic(grid, start, goal));
+        for (int cell = context.poll(); cell != -1; cell = context.poll()) {
+            if (cell == goal) {
+                return context.writePath(grid, goal, path);
+            }
+            expand(grid, cell, goal, context);
+        }
+        return -1;
+    }
+
+    /**
+     * Solves the maze from its entry to its exit without marking it as visited, unlike
+     * {@link BFSMazeSolver} and {@link DFSMazeSolver}.
+     *
+     * @return The path from the entry to the exit, or an empty list if there is none.
+     */
+    public List<Coordinate> solve(Maze maze) {
+        MazeGrid grid = MazeGrid.of(maze);
+        int[] path = new int[grid.getCellCount()];
+        int start = grid.cell(maze.getEntry().getX(), maze.getEntry().getY());
+        int goal = grid.cell(maze.getExit().getX(), maze.getExit().getY());
+        int length = solve(grid, start, goal, new MazeSearchContext(), path);
+        if (length < 0) {
+            return Collections.emptyList();
+        }
+        return grid.toCoordinates(path, length);
+    }
+
+    /**
+     * Discovers the successors of a cell which has just been closed.
+     */
+    abstract void expand(MazeGrid grid, int cell, int goal, MazeSearchContext context);
+
+    /**
+     * @return The Manhattan distance, which never overestimates when moving on four directions.
+     */
+    static int heuristic(MazeGrid grid, int cell, int goal) {
+        return Math.abs(grid.row(cell) - grid.row(goal)) + Math.abs(grid.col(cell) - grid.col(goal));
+    }
+
+    private static boolean isWall(MazeGrid grid, int cell) {
+        return grid.isWall(grid.row(cell), grid.col(cell));
+    }
+
+    private static void checkCell(MazeGrid grid, int cell) {
+        if (cell < 0 || cell >= grid.getCellCount()) {
+            throw new IllegalArgumentException("Cell " + cell + " is outside the grid");
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.baeldung.algorithms.maze.solver;
+
+/**
+ * Jump Point Search for grids with four directions of movement. Among shortest paths, it only
+ * considers those which turn from vertical to horizontal as early as possible, so it never
+ * needs to stop on most cells:
+ * <ul>
+ * <li>moving horizontally, it only turns where the cell behind and above (or below) is a wall,
+ * and otherwise jumps ahead, scanning the row 64 cells at a time;</li>
+ * <li>moving vertically, it may turn at any cell, so it stops where a horizontal jump would find
+ * a jump point.</li>
+ * </ul>
+ * The open set then only holds these jump points, and the path is filled in between them.
+ */
+public class JPSMazeSolver extends GridMazeSolver {
+
+    @Override
+    void expand(MazeGrid grid, int cell, int goal, MazeSearchContext context) {
+        int row = grid.row(cell);
+        int col = grid.col(cell);
+        int parent = context.parent(cell);
+        if (parent == cell) {
+            jumpVertically(grid, cell, row, col, -1, goal, context);
+            jumpVertically(grid, cell, row, col, 1, goal, context);
+            jumpHorizontally(grid, cell, row, col, -1, goal, context);
+            jumpHorizontally(grid, cell, row, col, 1, goal, context);
+        } else if (grid.row(parent) == row) {
+            int direction = parent < cell ? 1 : -1;
+            jumpHorizontally(grid, cell, row, col, direction, goal, context);
+            // the forced neighbors, which no shorter or earlier turning path reaches
+            int behind = col - direction;
+            if (grid.isOpen(row - 1, col) && grid.isWall(row - 1, behind)) {
+                jumpVertically(grid, cell, row, col, -1, goal, context);
+            }
+            if (grid.isOpen(row + 1, col) && grid.isWall(row + 1, behind)) {
+                jumpVertically(grid, cell, row, col, 1, goal, context);
+            }
+        } else {
+            jumpVertically(grid, cell, row, col, parent < cell ? 1 : -1, goal, context);
+            jumpHorizontally(grid, cell, row, col, -1, goal, context);
+            jumpHorizontally(grid, cell, row, col, 1, goal, context);
+        }
+    }
+
+    private static void jumpHorizontally(MazeGrid grid, int cell, int row, int col, int direction, int goal, MazeSearchContext context) {
+        int jumpCol = grid.jumpHorizontally(row, col, direction, goalColInRow(grid, row, goal));
+        if (jumpCol >= 0) {
+            int jumpPoint = grid.cell(row, jumpCol);
+            context.discover(jumpPoint, context.distance(cell) + Math.abs(jumpCol - col), cell, heuristic(grid, jumpPoint, goal));
+        }
+    }
+
+    private static void jumpVertically(MazeGrid grid, int cell, int row, int col, int direction, int goal, MazeSearchContext context) {
+        for (int next = row + direction; grid.isOpen(next, col); next += direction) {
+            int goalCol = goalColInRow(grid, next, goal);
+            if (grid.cell(next, col) == goal || grid.jumpHorizontally(next, col, -1, goalCol) >= 0 || grid.jumpHorizontally(next, col, 1, goalCol) >= 0) {
+                int jumpPoint = grid.cell(next, col);
+                context.discover(jumpPoint, context.distance(cell) + Math.abs(next - row), cell, heuristic(grid, jumpPoint, goal));
+                return;
+            }
+        }
+    }
+
+    private static int goalColInRow(MazeGrid grid, int row, int goal) {
+        return grid.row(goal) == row ? grid.col(goal) : -1;
+    }
+}
@@ -0,0 +1,186 @@
+package com.baeldung.algorithms.maze.solver;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Immutable walls of a maze, one bit per cell. Unlike {@link Maze} it holds no search state, so
+ * any number of searches can share it, each with its own {@link MazeSearchContext}.
+ * <p>
+ * Cells are numbered {@code row * width + col}. Internally, each row is padded on both sides
+ * with wall bits and rounded up to whole {@code long}s, so a horizontal scan always stops at a
+ * wall and can test 64 cells per step.
+ */
+public final class MazeGrid {
+
+    private final int height;
+    private final int width;
+    private final int wordsPerRow;
+    private final long[] walls;
+
+    private MazeGrid(int height, int width) {
+        if (height < 1 || width < 1) {
+            throw new IllegalArgumentException("The grid should have at least one cell");
+        }
+        if ((long) height * width > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("The grid has too many cells");
+        }
+        this.height = height;
+        this.width = width;
+        this.wordsPerRow = (width + 2 + 63) >>> 6;
+        this.walls = new long[height * wordsPerRow];
+        for (int row = 0; row < height; row++) {
+            setWall(row, -1);
+            for (int position = width + 1; position < wordsPerRow * 64; position++) {
+                setWall(row, position - 1);
+            }
+        }
+    }
+
+    public static MazeGrid of(Maze maze) {
+        MazeGrid grid = new MazeGrid(maze.getHeight(), maze.getWidth());
+        for (int row = 0; row < grid.height; row++) {
+            for (int col = 0; col < grid.width; col++) {
+                if (maze.isWall(row, col)) {
+                    grid.setWall(row, col);
+                }
+            }
+        }
+        return grid;
+    }
+
+    /**
+     * @param walls The walls, indexed by row then column.
+     */
+    public static MazeGrid of(boolean[][] walls) {
+        MazeGrid grid = new MazeGrid(walls.length, walls.length == 0 ? 0 : walls[0].length);
+        for (int row = 0; row < grid.height; row++) {
+            if (walls[row].length != grid.width) {
+                throw new IllegalArgumentException("Row " + row + " should have " + grid.width + " columns");
+            }
+            for (int col = 0; col < grid.width; col++) {
+                if (walls[row][col]) {
+                    grid.setWall(row, col);
+                }
+            }
+        }
+        return grid;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getCellCount() {
+        return height * width;
+    }
+
+    public int cell(int row, int col) {
+        return row * width + col;
+    }
+
+    public int row(int cell) {
+        return cell / width;
+    }
+
+    public int col(int cell) {
+        return cell % width;
+    }
+
+    public boolean isValidLocation(int row, int col) {
+        return row >= 0 && row < height && col >= 0 && col < width;
+    }
+
+    public boolean isWall(int row, int col) {
+        int position = col + 1;
+        return (walls[row * wordsPerRow + (position >>> 6)] & 1L << position) != 0;
+    }
+
+    /**
+     * @return Whether the location is inside the grid and not a wall.
+     */
+    public boolean isOpen(int row, int col) {
+        return isValidLocation(row, col) && !isWall(row, col);
+    }
+
+    /**
+     * Converts a path found by {@link AStarMazeSolver} or {@link JPSMazeSolver}, for
+     * {@link Maze#printPath(List)}.
+     */
+    public List<Coordinate> toCoordinates(int[] path, int length) {
+        List<Coordinate> coordinates = new ArrayList<>(length);
+        for (int i = 0; i < length; i++) {
+            coordinates.add(new Coordinate(row(path[i]), col(path[i])));
+        }
+        return coordinates;
+    }
+
+    /**
+     * Scans a row from a column, one word at a time, for the first column where a horizontal
+     * jump stops: the goal, a wall, or a forced neighbor, which is an open cell above or below
+     * whose predecessor in the direction of the scan is a wall.
+     *
+     * @param direction 1 to scan to the right, -1 to scan to the left.
+     * @param goalCol The column of the goal if it's in this row, else -1.
+     * @return The column of the jump point, or -1 if the scan hits a wall first.
+     */
+    int jumpHorizontally(int row, int col, int direction, int goalCol) {
+        return direction > 0 ? jumpRight(row, col, goalCol) : jumpLeft(row, col, goalCol);
+    }
+
+    private int jumpRight(int row, int col, int goalCol) {
+        int from = col + 2;
+        long mask = -1L << from;
+        for (int w = from >>> 6;; w++, mask = -1L) {
+            long up = word(row - 1, w);
+            long down = word(row + 1, w);
+            long upBefore = up << 1 | (w > 0 ? word(row - 1, w - 1) >>> 63 : 0);
+            long downBefore = down << 1 | (w > 0 ? word(row + 1, w - 1) >>> 63 : 0);
+            long current = word(row, w);
+            long stops = (current | ~up & upBefore | ~down & downBefore) & mask;
+            if (stops != 0) {
+                int position = (w << 6) + Long.numberOfTrailingZeros(stops);
+                if (goalCol > col && goalCol + 1 <= position) {
+                    return goalCol;
+                }
+                return (current & 1L << position) != 0 ? -1 : position - 1;
+            }
+        }
+    }
+
+    private int jumpLeft(int row, int col, int goalCol) {
+        int from = col;
+        long mask = -1L >>> (63 - (from & 63));
+        for (int w = from >>> 6;; w--, mask = -1L) {
+            long up = word(row - 1, w);
+            long down = word(row + 1, w);
+            long upAfter = up >>> 1 | (w + 1 < wordsPerRow ? word(row - 1, w + 1) << 63 : 0);
+            long downAfter = down >>> 1 | (w + 1 < wordsPerRow ? word(row + 1, w + 1) << 63 : 0);
+            long current = word(row, w);
+            long stops = (current | ~up & upAfter | ~down & downAfter) & mask;
+            if (stops != 0) {
+                int position = (w << 6) + 63 - Long.numberOfLeadingZeros(stops);
+                if (goalCol >= 0 && goalCol < col && goalCol + 1 >= position) {
+                    return goalCol;
+                }
+                return (current & 1L << position) != 0 ? -1 : position - 1;
+            }
+        }
+    }
+
+    /**
+     * @return The word of a row, or only walls outside the grid.
+     */
+    private long word(int row, int w) {
+        return row < 0 || row >= height ? -1L : walls[row * wordsPerRow + w];
+    }
+
+    private void setWall(int row, int col) {
+        int position = col + 1;
+        walls[row * wordsPerRow + (position >>> 6)] |= 1L << position;
+    }
+}
@@ -0,0 +1,169 @@
+package com.baeldung.algorithms.maze.solver;
+
+import java.util.Arrays;
+
+/**
+ * Reusable state of a search on a {@link MazeGrid}: the distance and parent of each cell, the
+ * open and closed sets, and a binary heap of open cells, all in primitive arrays.
+ * <p>
+ * Instead of clearing the arrays between searches, each search has a new generation number and
+ * a cell's state is stale unless it was stamped with the current generation, so a search costs
+ * only what it visits. A context isn't thread-safe: use one per thread, sharing the grid.
+ */
+public class MazeSearchContext {
+
+    private static final int MAX_GENERATION = Integer.MAX_VALUE / 2 - 1;
+
+    /**
+     * {@code 2 * generation} for open cells and {@code 2 * generation + 1} for closed ones.
+     */
+    private int[] stamps = new int[0];
+    private int[] distances = new int[0];
+    private int[] parents = new int[0];
+    private int generation;
+
+    /**
+     * Heap of open cells, ordered by estimated total distance then by estimated remaining
+     * distance. Improved cells are pushed again and their stale entries skipped when polled.
+     */
+    private long[] heapKeys = new long[64];
+    private int[] heapCells = new int[64];
+    private int heapSize;
+
+    private int start;
+
+    /**
+     * Starts a new search from the given cell.
+     */
+    void reset(MazeGrid grid, int start, int heuristic) {
+        int cells = grid.getCellCount();
+        if (stamps.length < cells) {
+            stamps = new int[cells];
+            distances = new int[cells];
+            parents = new int[cells];
+            generation = 0;
+        }
+        if (++generation > MAX_GENERATION) {
+            Arrays.fill(stamps, 0);
+            generation = 1;
+        }
+        heapSize = 0;
+        this.start = start;
+        discover(start, 0, start, heuristic);
+    }
+
+    boolean isClosed(int cell) {
+        return stamps[cell] == 2 * generation + 1;
+    }
+
+    int distance(int cell) {
+        return distances[cell];
+    }
+
+    int parent(int cell) {
+        return parents[cell];
+    }
+
+    /**
+     * Records a path to the cell, unless it's closed or already has a path at most as long.
+     */
+    void discover(int cell, int distance, int parent, int heuristic) {
+        int stamp = stamps[cell];
+        if (stamp == 2 * generation + 1 || stamp == 2 * generation && distances[cell] <= distance) {
+            return;
+        }
+        stamps[cell] = 2 * generation;
+        distances[cell] = distance;
+        parents[cell] = parent;
+        push(cell, (long) (distance + heuristic) << 32 | heuristic);
+    }
+
+    /**
+     * Closes and returns the open cell with the lowest estimated total distance.
+     *
+     * @return The cell, or -1 if no cell is open.
+     */
+    int poll() {
+        while (heapSize > 0) {
+            int cell = heapCells[0];
+            heapSize--;
+            if (heapSize > 0) {
+                siftDown(heapKeys[heapSize], heapCells[heapSize]);
+            }
+            if (!isClosed(cell)) {
+                stamps[cell] = 2 * generation + 1;
+                return cell;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Writes the cells from the start to the given cell into the path. Consecutive cells in the
+     * parent chain must be on the same row or column; the cells between them are filled in.
+     *
+     * @return The number of cells written.
+     */
+    int writePath(MazeGrid grid, int goal, int[] path) {
+        int length = distances[goal] + 1;
+        if (path.length < length) {
+            throw new IllegalArgumentException("The path has " + length + " cells, more than the buffer holds");
+        }
+        int width = grid.getWidth();
+        int index = length - 1;
+        int cell = goal;
+        path[index] = cell;
+        while (cell != start) {
+            int parent = parents[cell];
+            int step;
+            if (grid.row(parent) == grid.row(cell)) {
+                step = parent < cell ? -1 : 1;
+            } else {
+                step = parent < cell ? -width : width;
+            }
+            while (cell != parent) {
+                cell += step;
+                path[--index] = cell;
+            }
+        }
+        return length;
+    }
+
+    private void push(int cell, long key) {
+        if (heapSize == heapKeys.length) {
+            heapKeys = Arrays.copyOf(heapKeys, heapSize * 2);
+            heapCells = Arrays.copyOf(heapCells, heapSize * 2);
+        }
+        int i = heapSize++;
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (heapKeys[parent] <= key) {
+                break;
+            }
+            heapKeys[i] = heapKeys[parent];
+            heapCells[i] = heapCells[parent];
+            i = parent;
+        }
+        heapKeys[i] = key;
+        heapCells[i] = cell;
+    }
+
+    private void siftDown(long key, int cell) {
+        int i = 0;
+        int half = heapSize >>> 1;
+        while (i < half) {
+            int child = 2 * i + 1;
+            if (child + 1 < heapSize && heapKeys[child + 1] < heapKeys[child]) {
+                child++;
+            }
+            if (key <= heapKeys[child]) {
+                break;
+            }
+            heapKeys[i] = heapKeys[child];
+            heapCells[i] = heapCells[child];
+            i = child;
+        }
+        heapKeys[i] = key;
+        heapCells[i] = cell;
+    }
+}
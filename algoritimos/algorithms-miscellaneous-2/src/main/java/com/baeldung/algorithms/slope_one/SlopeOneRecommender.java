@@ -0,0 +1,306 @@
+package com.baeldung.algorithms.slope_one;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Weighted Slope One recommender which, unlike {@link SlopeOne}, is updated one rating at a time.
+ * <p>
+ * For every pair of items rated by the same user, the recommender keeps the sum of the rating
+ * differences and the number of such users. Only pairs {@code (i, j)} with {@code i < j} are
+ * stored, in primitive maps keyed by {@code i << 32 | j}; the reverse difference is the
+ * negation. Each item also lists the items it was co-rated with, so a query only walks the
+ * neighbourhoods of the items the user rated, never the whole catalogue.
+ * <p>
+ * Item ids are expected to be small non-negative numbers, such as database sequence values.
+ * Queries can run concurrently with each other; updates are serialized and block queries only
+ * while they are being applied.
+ */
+public class SlopeOneRecommender {
+
+    /**
+     * Returned by {@link #predict(long, int)} when none of the user's items was co-rated with
+     * the requested item, like {@link SlopeOne} does.
+     */
+    public static final double NO_PREDICTION = -1;
+
+    /**
+     * Sum of {@code rating(i) - rating(j)} over the users who rated both items.
+     */
+    private final LongDoubleHashMap differences = new LongDoubleHashMap(1024);
+
+    /**
+     * Number of users who rated both items.
+     */
+    private final LongDoubleHashMap frequencies = new LongDoubleHashMap(1024);
+
+    private final Map<Long, UserRatings> users = new HashMap<>();
+
+    private int[][] neighbours = new int[16][];
+    private int[] neighbourCounts = new int[16];
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Records a rating, replacing the previous rating of the user for the item if there is one.
+     * Costs one map update per item already rated by the user.
+     */
+    public void rate(long userId, int itemId, double rating) {
+        if (itemId < 0) {
+            throw new IllegalArgumentException("Item ids can't be negative");
+        }
+
+        lock
+          .writeLock()
+          .lock();
+        try {
+            UserRatings ratings = users.computeIfAbsent(userId, id -> new UserRatings());
+            int index = ratings.indexOf(itemId);
+            if (index >= 0) {
+                double change = rating - ratings.ratings[index];
+                ratings.ratings[index] = rating;
+                for (int k = 0; k < ratings.size; k++) {
+                    int other = ratings.items[k];
+                    if (other != itemId) {
+                        differences.addTo(pair(itemId, other), itemId < other ? change : -change);
+                    }
+                }
+                return;
+            }
+
+            for (int k = 0; k < ratings.size; k++) {
+                int other = ratings.items[k];
+                long key = pair(itemId, other);
+                double difference = rating - ratings.ratings[k];
+                differences.addTo(key, itemId < other ? difference : -difference);
+                if (frequencies.addTo(key, 1) == 1) {
+                    link(itemId, other);
+                    link(other, itemId);
+                }
+            }
+            ratings.add(itemId, rating);
+        } finally {
+            lock
+              .writeLock()
+              .unlock();
+        }
+    }
+
+    /**
+     * @return The predicted rating of the user for the item, their own rating if they rated it,
+     * or {@link #NO_PREDICTION}.
+     */
+    public double predict(long userId, int itemId) {
+        lock
+          .readLock()
+          .lock();
+        try {
+            UserRatings ratings = users.get(userId);
+            if (ratings == null) {
+                return NO_PREDICTION;
+            }
+            int index = ratings.indexOf(itemId);
+            if (index >= 0) {
+                return ratings.ratings[index];
+            }
+
+            double weightedSum = 0;
+            double totalWeight = 0;
+            for (int k = 0; k < ratings.size; k++) {
+                int rated = ratings.items[k];
+                long key = pair(itemId, rated);
+                double frequency = frequencies.get(key, 0);
+                if (frequency > 0) {
+                    weightedSum += (averageDifference(itemId, rated, key, frequency) + ratings.ratings[k]) * frequency;
+                    totalWeight += frequency;
+                }
+            }
+            return totalWeight > 0 ? weightedSum / totalWeight : NO_PREDICTION;
+        } finally {
+            lock
+              .readLock()
+              .unlock();
+        }
+    }
+
+    /**
+     * Predicts the ratings of the items the user hasn't rated yet and returns the best ones.
+     *
+     * @param userId The user.
+     * @param n      The maximum number of recommendations.
+     * @return The recommendations, highest predicted rating first.
+     */
+    public List<Recommendation> recommend(long userId, int n) {
+        if (n <= 0) {
+            return Collections.emptyList();
+        }
+
+        lock
+          .readLock()
+          .lock();
+        try {
+            UserRatings ratings = users.get(userId);
+            if (ratings == null) {
+                return Collections.emptyList();
+            }
+
+            // weighted sums and weights of the candidate items, keyed by item id
+            LongDoubleHashMap weightedSums = new LongDoubleHashMap();
+            LongDoubleHashMap totalWeights = new LongDoubleHashMap();
+            LongDoubleHashMap alreadyRated = new LongDoubleHashMap(ratings.size);
+            for (int k = 0; k < ratings.size; k++) {
+                int rated = ratings.items[k];
+                double rating = ratings.ratings[k];
+                alreadyRated.put(rated, rating);
+                if (rated >= neighbours.length) {
+                    // not co-rated with anything yet
+                    continue;
+                }
+
+                int[] candidates = neighbours[rated];
+                for (int c = 0; c < neighbourCounts[rated]; c++) {
+                    int candidate = candidates[c];
+                    long key = pair(candidate, rated);
+                    double frequency = frequencies.get(key, 0);
+                    weightedSums.addTo(candidate, (averageDifference(candidate, rated, key, frequency) + rating) * frequency);
+                    totalWeights.addTo(candidate, frequency);
+                }
+            }
+
+            PriorityQueue<Recommendation> best = new PriorityQueue<>(n + 1, Recommendation.ASCENDING);
+            weightedSums.forEach((candidate, weightedSum) -> {
+                if (alreadyRated.containsKey(candidate)) {
+                    return;
+                }
+                best.offer(new Recommendation((int) candidate, weightedSum / totalWeights.get(candidate, 0)));
+                if (best.size() > n) {
+                    best.poll();
+                }
+            });
+
+            List<Recommendation> recommendations = new ArrayList<>(best);
+            recommendations.sort(Collections.reverseOrder(Recommendation.ASCENDING));
+            return recommendations;
+        } finally {
+            lock
+              .readLock()
+              .unlock();
+        }
+    }
+
+    /**
+     * @return The number of item pairs rated by at least one user.
+     */
+    public int getPairCount() {
+        lock
+          .readLock()
+          .lock();
+        try {
+            return frequencies.size();
+        } finally {
+            lock
+              .readLock()
+              .unlock();
+        }
+    }
+
+    /**
+     * @return The average of {@code rating(item) - rating(other)}.
+     */
+    private double averageDifference(int item, int other, long key, double frequency) {
+        double difference = differences.get(key, 0) / frequency;
+        return item < other ? difference : -difference;
+    }
+
+    private void link(int item, int neighbour) {
+        if (item >= neighbours.length) {
+            int capacity = Math.max(item + 1, neighbours.length * 2);
+            neighbours = Arrays.copyOf(neighbours, capacity);
+            neighbourCounts = Arrays.copyOf(neighbourCounts, capacity);
+        }
+
+        int[] list = neighbours[item];
+        int count = neighbourCounts[item];
+        if (list == null) {
+            list = neighbours[item] = new int[4];
+        } else if (count == list.length) {
+            list = neighbours[item] = Arrays.copyOf(list, count * 2);
+        }
+        list[count] = neighbour;
+        neighbourCounts[item] = count + 1;
+    }
+
+    private static long pair(int a, int b) {
+        return a < b ? (long) a << 32 | b : (long) b << 32 | a;
+    }
+
+    /**
+     * The items rated by one user, in rating order.
+     */
+    private static class UserRatings {
+
+        private int[] items = new int[4];
+        private double[] ratings = new double[4];
+        private int size;
+
+        private int indexOf(int item) {
+            for (int i = 0; i < size; i++) {
+                if (items[i] == item) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private void add(int item, double rating) {
+            if (size == items.length) {
+                items = Arrays.copyOf(items, size * 2);
+                ratings = Arrays.copyOf(ratings, size * 2);
+            }
+            items[size] = item;
+            ratings[size] = rating;
+            size++;
+        }
+    }
+
+    /**
+     * An item and its predicted rating.
+     */
+    public static class Recommendation {
+
+        private static final Comparator<Recommendation> ASCENDING = (a, b) -> {
+            int byRating = Double.compare(a.predictedRating, b.predictedRating);
+            // on ties, lower item ids rank higher
+            return byRating != 0 ? byRating : Integer.compare(b.itemId, a.itemId);
+        };
+
+        private final int itemId;
+        private final double predictedRating;
+
+        public Recommendation(int itemId, double predictedRating) {
+            this.itemId = itemId;
+            this.predictedRating = predictedRating;
+        }
+
+        public int getItemId() {
+            return itemId;
+        }
+
+        public double getPredictedRating() {
+            return predictedRating;
+        }
+
+        @Override
+        public String toString() {
+            return "Recommendation[" + itemId + " -> " + predictedRating + "]";
+        }
+    }
+}
@@ -0,0 +1,387 @@
+package com.baeldung.algorithms.sudoku;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Knuth's Algorithm X with dancing links, for any exact cover problem. It is the same algorithm
+ * as {@link DancingLinks}, but the links live in flat {@code int[]} arrays indexed by node, so
+ * a whole matrix can be copied with a few array clones. The parallel search uses this to give
+ * each of the top levels of the search tree its own copy of the matrix, solved on a fork-join
+ * pool.
+ * <p>
+ * Columns below {@code primaryColumns} must be covered exactly once. The remaining, secondary
+ * columns may be covered at most once, which is what N-queens diagonals or unused polyomino
+ * cells need.
+ * <p>
+ * A solver can run any number of searches, also concurrently, as searches never modify it.
+ */
+public class ExactCoverSolver {
+
+    /**
+     * Levels of the search tree that are split into parallel tasks.
+     */
+    private static final int PARALLEL_DEPTH = 3;
+
+    private final Links initial;
+    private final int rowCount;
+
+    /**
+     * @param columns Number of columns, all primary.
+     * @param rows    The columns of each row.
+     */
+    public ExactCoverSolver(int columns, List<int[]> rows) {
+        this(columns, 0, rows);
+    }
+
+    /**
+     * @param primaryColumns   Columns which must be covered exactly once, numbered first.
+     * @param secondaryColumns Columns which must be covered at most once, numbered after them.
+     * @param rows             The columns of each row; rows are reported by their index here.
+     *                         Rows covering no column are never part of a solution.
+     */
+    public ExactCoverSolver(int primaryColumns, int secondaryColumns, List<int[]> rows) {
+        int columns = primaryColumns + secondaryColumns;
+        int nodeCount = columns + 1;
+        for (int[] row : rows) {
+            nodeCount += row.length;
+        }
+
+        this.rowCount = rows.size();
+        this.initial = new Links(nodeCount, columns);
+        initial.linkHeaders(primaryColumns, columns);
+        boolean[] seen = new boolean[columns];
+        for (int r = 0; r < rows.size(); r++) {
+            int[] row = rows.get(r);
+            for (int column : row) {
+                if (column < 0 || column >= columns) {
+                    throw new IllegalArgumentException("Row " + r + " has a column out of range: " + column);
+                }
+                if (seen[column]) {
+                    throw new IllegalArgumentException("Row " + r + " covers column " + column + " twice");
+                }
+                seen[column] = true;
+            }
+            for (int column : row) {
+                seen[column] = false;
+            }
+            initial.appendRow(r, row);
+        }
+    }
+
+    /**
+     * Builds a solver from a dense matrix, where {@code matrix[r][c]} tells whether row
+     * {@code r} covers column {@code c}. All columns are primary.
+     */
+    public static ExactCoverSolver of(boolean[][] matrix) {
+        int columns = matrix.length == 0 ? 0 : matrix[0].length;
+        List<int[]> rows = new ArrayList<>(matrix.length);
+        for (boolean[] cells : matrix) {
+            int count = 0;
+            for (boolean cell : cells) {
+                if (cell) {
+                    count++;
+                }
+            }
+            int[] row = new int[count];
+            for (int c = 0, i = 0; c < cells.length; c++) {
+                if (cells[c]) {
+                    row[i++] = c;
+                }
+            }
+            rows.add(row);
+        }
+
+        return new ExactCoverSolver(columns, rows);
+    }
+
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    public long countSolutions() {
+        return search(null, null, new AtomicBoolean());
+    }
+
+    public long countSolutions(ForkJoinPool pool) {
+        return search(pool, null, new AtomicBoolean());
+    }
+
+    /**
+     * @return Up to {@code limit} solutions, each as the sorted indexes of its rows.
+     */
+    public List<int[]> findSolutions(int limit) {
+        return findSolutions(limit, null);
+    }
+
+    /**
+     * Parallel variant of {@link #findSolutions(int)}; which solutions are found first depends
+     * on scheduling.
+     */
+    public List<int[]> findSolutions(int limit, ForkJoinPool pool) {
+        if (limit <= 0) {
+            return Collections.emptyList();
+        }
+
+        List<int[]> solutions = new ArrayList<>();
+        AtomicBoolean stop = new AtomicBoolean();
+        search(pool, rows -> {
+            synchronized (solutions) {
+                if (solutions.size() < limit) {
+                    solutions.add(rows);
+                }
+                if (solutions.size() >= limit) {
+                    stop.set(true);
+                }
+            }
+        }, stop);
+        return solutions;
+    }
+
+    /**
+     * Runs a search which reports every solution to the listener until all are found or
+     * {@code cancelled} is set. Setting the flag from any thread stops the search shortly after.
+     *
+     * @param pool      The pool running the search, or null to search on the calling thread.
+     * @param listener  Receives the solutions, possibly from several threads at once; may be null
+     *                  when only the count matters.
+     * @param cancelled Stops the search when set.
+     * @return The number of solutions found.
+     */
+    public long search(ForkJoinPool pool, SolutionListener listener, AtomicBoolean cancelled) {
+        Links links = initial.copy();
+        int[] partial = new int[rowCount];
+        if (pool == null) {
+            return links.search(0, partial, listener, cancelled);
+        }
+        return pool.invoke(new SearchTask(links, 0, partial, listener, cancelled));
+    }
+
+    /**
+     * Receives solutions as the sorted indexes of their rows.
+     */
+    @FunctionalInterface
+    public interface SolutionListener {
+
+        void onSolution(int[] rows);
+    }
+
+    /**
+     * Searches a subtree, splitting it into one task per candidate row while near the root.
+     */
+    private static class SearchTask extends RecursiveTask<Long> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Links links;
+        private final int depth;
+        private final int[] partial;
+        private final SolutionListener listener;
+        private final AtomicBoolean cancelled;
+
+        private SearchTask(Links links, int depth, int[] partial, SolutionListener listener, AtomicBoolean cancelled) {
+            this.links = links;
+            this.depth = depth;
+            this.partial = partial;
+            this.listener = listener;
+            this.cancelled = cancelled;
+        }
+
+        @Override
+        protected Long compute() {
+            if (depth >= PARALLEL_DEPTH || cancelled.get() || links.isSolved()) {
+                return links.search(depth, partial, listener, cancelled);
+            }
+
+            int column = links.chooseColumn();
+            List<SearchTask> tasks = new ArrayList<>();
+            links.cover(column);
+            for (int r = links.down[column]; r != column; r = links.down[r]) {
+                links.selectRow(r);
+                int[] nextPartial = partial.clone();
+                nextPartial[depth] = links.rowOf[r];
+                tasks.add(new SearchTask(links.copy(), depth + 1, nextPartial, listener, cancelled));
+                links.deselectRow(r);
+            }
+            links.uncover(column);
+
+            long count = 0;
+            for (SearchTask task : invokeAll(tasks)) {
+                count += task.join();
+            }
+            return count;
+        }
+    }
+
+    /**
+     * The toroidal doubly-linked matrix. Node 0 is the root, nodes 1 to {@code columns} are the
+     * column headers (column {@code c} has header {@code c + 1}) and the rest are the cells.
+     */
+    private static class Links {
+
+        private static final int ROOT = 0;
+
+        private int[] left;
+        private int[] right;
+        private int[] up;
+        private int[] down;
+        private int[] header;
+        private int[] rowOf;
+        private int[] size;
+        private int nodeCount;
+
+        private Links(int capacity, int columns) {
+            left = new int[capacity];
+            right = new int[capacity];
+            up = new int[capacity];
+            down = new int[capacity];
+            header = new int[capacity];
+            rowOf = new int[capacity];
+            size = new int[columns + 1];
+        }
+
+        private Links copy() {
+            Links copy = new Links(0, 0);
+            copy.left = left.clone();
+            copy.right = right.clone();
+            copy.up = up.clone();
+            copy.down = down.clone();
+            // never modified while searching
+            copy.header = header;
+            copy.rowOf = rowOf;
+            copy.size = size.clone();
+            copy.nodeCount = nodeCount;
+            return copy;
+        }
+
+        private void linkHeaders(int primaryColumns, int columns) {
+            left[ROOT] = ROOT;
+            right[ROOT] = ROOT;
+            for (int node = 1; node <= columns; node++) {
+                up[node] = node;
+                down[node] = node;
+                header[node] = node;
+                rowOf[node] = -1;
+                if (node <= primaryColumns) {
+                    left[node] = left[ROOT];
+                    right[node] = ROOT;
+                    right[left[ROOT]] = node;
+                    left[ROOT] = node;
+                } else {
+                    // secondary columns are never chosen, so they stay out of the header list
+                    left[node] = node;
+                    right[node] = node;
+                }
+            }
+            nodeCount = columns + 1;
+        }
+
+        private void appendRow(int row, int[] columns) {
+            int first = nodeCount;
+            for (int column : columns) {
+                int node = nodeCount++;
+                int head = column + 1;
+                header[node] = head;
+                rowOf[node] = row;
+                up[node] = up[head];
+                down[node] = head;
+                down[up[head]] = node;
+                up[head] = node;
+                size[head]++;
+
+                left[node] = node == first ? node : node - 1;
+                right[node] = first;
+                right[left[node]] = node;
+                left[first] = node;
+            }
+        }
+
+        private boolean isSolved() {
+            return right[ROOT] == ROOT;
+        }
+
+        /**
+         * @return The primary column with the fewest rows left.
+         */
+        private int chooseColumn() {
+            int best = right[ROOT];
+            for (int c = right[best]; c != ROOT; c = right[c]) {
+                if (size[c] < size[best]) {
+                    best = c;
+                }
+            }
+            return best;
+        }
+
+        private void cover(int column) {
+            right[left[column]] = right[column];
+            left[right[column]] = left[column];
+            for (int i = down[column]; i != column; i = down[i]) {
+                for (int j = right[i]; j != i; j = right[j]) {
+                    down[up[j]] = down[j];
+                    up[down[j]] = up[j];
+                    size[header[j]]--;
+                }
+            }
+        }
+
+        private void uncover(int column) {
+            for (int i = up[column]; i != column; i = up[i]) {
+                for (int j = left[i]; j != i; j = left[j]) {
+                    size[header[j]]++;
+                    down[up[j]] = j;
+                    up[down[j]] = j;
+                }
+            }
+            right[left[column]] = column;
+            left[right[column]] = column;
+        }
+
+        private void selectRow(int node) {
+            for (int j = right[node]; j != node; j = right[j]) {
+                cover(header[j]);
+            }
+        }
+
+        private void deselectRow(int node) {
+            for (int j = left[node]; j != node; j = left[j]) {
+                uncover(header[j]);
+            }
+        }
+
+        private long search(int depth, int[] partial, SolutionListener listener, AtomicBoolean cancelled) {
+            if (isSolved()) {
+                if (listener != null) {
+                    int[] solution = Arrays.copyOf(partial, depth);
+                    Arrays.sort(solution);
+                    listener.onSolution(solution);
+                }
+                return 1;
+            }
+            if (cancelled.get()) {
+                return 0;
+            }
+
+            int column = chooseColumn();
+            if (size[column] == 0) {
+                return 0;
+            }
+
+            long count = 0;
+            cover(column);
+            for (int r = down[column]; r != column; r = down[r]) {
+                partial[depth] = rowOf[r];
+                selectRow(r);
+                count += search(depth + 1, partial, listener, cancelled);
+                deselectRow(r);
+            }
+            uncover(column);
+            return count;
+        }
+    }
+}
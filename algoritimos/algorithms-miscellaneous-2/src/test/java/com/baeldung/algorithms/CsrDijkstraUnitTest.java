@@ -0,0 +1,77 @@
+package com.baeldung.algorithms;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.baeldung.algorithms.ga.dijkstra.CsrDijkstra;
+import com.baeldung.algorithms.ga.dijkstra.CsrGraph;
+import com.baeldung.algorithms.ga.dijkstra.Node;
+
+public class CsrDijkstraUnitTest {
+
+    private static CsrGraph sampleGraph() {
+        Node nodeA = new Node("A");
+        Node nodeB = new Node("B");
+        Node nodeC = new Node("C");
+        Node nodeD = new Node("D");
+        Node nodeE = new Node("E");
+        Node nodeF = new Node("F");
+
+        nodeA.addDestination(nodeB, 10);
+        nodeA.addDestination(nodeC, 15);
+
+        nodeB.addDestination(nodeD, 12);
+        nodeB.addDestination(nodeF, 15);
+
+        nodeC.addDestination(nodeE, 10);
+
+        nodeD.addDestination(nodeE, 2);
+        nodeD.addDestination(nodeF, 1);
+
+        nodeF.addDestination(nodeE, 5);
+
+        List<Node> nodes = Arrays.asList(nodeA, nodeB, nodeC, nodeD, nodeE, nodeF);
+        return CsrGraph.of(nodes);
+    }
+
+    @Test
+    public void whenSingleSourceSolved_thenCorrect() {
+        CsrDijkstra dijkstra = new CsrDijkstra(sampleGraph());
+
+        CsrDijkstra.ShortestPathTree tree = dijkstra.calculateShortestPathFromSource(0);
+
+        assertEquals(10, tree.getDistance(1));
+        assertEquals(15, tree.getDistance(2));
+        assertEquals(22, tree.getDistance(3));
+        assertEquals(24, tree.getDistance(4));
+        assertEquals(23, tree.getDistance(5));
+        assertArrayEquals(new int[] { 0, 1, 3, 4 }, tree.pathTo(4));
+        assertArrayEquals(new int[] { 0, 1, 3, 5 }, tree.pathTo(5));
+    }
+
+    @Test
+    public void whenPointToPointSolved_thenMatchesSingleSource() {
+        CsrDijkstra dijkstra = new CsrDijkstra(sampleGraph());
+
+        for (int target = 0; target < 6; target++) {
+            CsrDijkstra.Path path = dijkstra.shortestPath(0, target);
+            CsrDijkstra.ShortestPathTree tree = dijkstra.calculateShortestPathFromSource(0);
+
+            assertEquals(tree.getDistance(target), path.getDistance());
+            assertArrayEquals(tree.pathTo(target), path.getVertices());
+        }
+    }
+
+    @Test
+    public void givenUnreachableTarget_whenPointToPointSolved_thenNull() {
+        CsrDijkstra dijkstra = new CsrDijkstra(sampleGraph());
+
+        assertNull(dijkstra.shortestPath(4, 0));
+    }
+}
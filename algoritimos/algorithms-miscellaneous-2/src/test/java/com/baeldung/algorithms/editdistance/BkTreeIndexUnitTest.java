@@ -0,0 +1,81 @@
+package com.baeldung.algorithms.editdistance;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+
+public class BkTreeIndexUnitTest {
+
+    @Test
+    public void givenLongAndNonAsciiStrings_whenBitParallel_thenMatchDynamicProgramming() {
+        Random random = new Random(1);
+        for (int i = 0; i < 200; i++) {
+            // up to three 64-bit blocks, over an alphabet with accented letters
+            String x = randomString(random, random.nextInt(200), "abcd\u00e9\u00e8\u4e2d");
+            String y = mutate(random, x, random.nextInt(30), "abcd\u00e9\u00e8\u4e2d");
+            int expected = EditDistanceDynamicProgramming.calculate(x, y);
+
+            assertEquals(expected, EditDistanceBitParallel.calculate(x, y));
+            assertEquals(expected, EditDistanceBitParallel.calculate(y, x));
+            assertEquals(Math.min(expected, 11), EditDistanceBanded.calculate(x, y, 10));
+        }
+    }
+
+    @Test
+    public void givenCorpusOfNames_whenSearchingIndex_thenMatchBruteForce() {
+        Random random = new Random(2);
+        List<String> corpus = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            String name = randomString(random, 5 + random.nextInt(10), "abcdefghij ");
+            corpus.add(name);
+            // near duplicates, and one exact duplicate
+            corpus.add(mutate(random, name, 1 + random.nextInt(2), "abcdefghij "));
+            if (i % 100 == 0) {
+                corpus.add(name);
+            }
+        }
+        BkTreeIndex index = new BkTreeIndex(corpus);
+
+        List<String> queries = corpus.subList(0, 200);
+        List<int[]> matches = index.searchAll(queries, 2);
+        for (int q = 0; q < queries.size(); q++) {
+            String query = queries.get(q);
+            int[] expected = IntStream
+              .range(0, corpus.size())
+              .filter(entry -> EditDistanceDynamicProgramming.calculate(query, corpus.get(entry)) <= 2)
+              .toArray();
+            assertArrayEquals(expected, matches.get(q));
+        }
+    }
+
+    private static String randomString(Random random, int length, String alphabet) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            builder.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return builder.toString();
+    }
+
+    private static String mutate(Random random, String value, int edits, String alphabet) {
+        StringBuilder builder = new StringBuilder(value);
+        for (int i = 0; i < edits; i++) {
+            int position = random.nextInt(builder.length() + 1);
+            char c = alphabet.charAt(random.nextInt(alphabet.length()));
+            int operation = builder.length() == 0 ? 0 : random.nextInt(3);
+            if (operation == 0) {
+                builder.insert(position, c);
+            } else if (operation == 1 || position == builder.length()) {
+                builder.deleteCharAt(Math.min(position, builder.length() - 1));
+            } else {
+                builder.setCharAt(position, c);
+            }
+        }
+        return builder.toString();
+    }
+}
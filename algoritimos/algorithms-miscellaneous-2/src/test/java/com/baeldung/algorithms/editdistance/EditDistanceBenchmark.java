@@ -0,0 +1,91 @@
+package com.baeldung.algorithms.editdistance;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@Fork(value = 1, warmups = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class EditDistanceBenchmark {
+
+    private static final int CORPUS_SIZE = 20_000;
+
+    @Param({ "16", "100", "1000" })
+    private int length;
+
+    private String x;
+    private String y;
+    private List<String> corpus;
+    private BkTreeIndex index;
+    private String query;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        x = randomString(random, length);
+        StringBuilder mutated = new StringBuilder(x);
+        for (int i = 0; i < length / 10 + 1; i++) {
+            mutated.setCharAt(random.nextInt(length), (char) ('a' + random.nextInt(26)));
+        }
+        y = mutated.toString();
+
+        corpus = new ArrayList<>(CORPUS_SIZE);
+        for (int i = 0; i < CORPUS_SIZE; i++) {
+            corpus.add(randomString(random, 6 + random.nextInt(8)));
+        }
+        index = new BkTreeIndex(corpus);
+        query = corpus.get(CORPUS_SIZE / 2);
+    }
+
+    @Benchmark
+    public int dynamicProgramming() {
+        return EditDistanceDynamicProgramming.calculate(x, y);
+    }
+
+    @Benchmark
+    public int bitParallel() {
+        return EditDistanceBitParallel.calculate(x, y);
+    }
+
+    @Benchmark
+    public int bandedWithinTen() {
+        return EditDistanceBanded.calculate(x, y, 10);
+    }
+
+    @Benchmark
+    public int bruteForceSearch() {
+        int matches = 0;
+        for (String candidate : corpus) {
+            if (EditDistanceDynamicProgramming.calculate(query, candidate) <= 2) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    @Benchmark
+    public int[] indexSearch() {
+        return index.search(query, 2);
+    }
+
+    private static String randomString(Random random, int length) {
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            builder.append((char) ('a' + random.nextInt(26)));
+        }
+        return builder.toString();
+    }
+}
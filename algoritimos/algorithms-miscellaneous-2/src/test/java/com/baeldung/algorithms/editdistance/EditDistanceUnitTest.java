@@ -29,4 +29,19 @@ public class EditDistanceUnitTest extends EditDistanceDataProvider {
     public void testEditDistance_givenDynamicProgrammingImplementation() {
         assertEquals(result, EditDistanceDynamicProgramming.calculate(x, y));
     }
+
+    @Test
+    public void testEditDistance_givenBitParallelImplementation() {
+        assertEquals(result, EditDistanceBitParallel.calculate(x, y));
+    }
+
+    @Test
+    public void testEditDistance_givenBandedImplementation() {
+        assertEquals(result, EditDistanceBanded.calculate(x, y, result));
+        assertEquals(result, EditDistanceBanded.calculate(x, y, result + 2));
+        if (result > 0) {
+            // over the threshold, the threshold plus one is returned
+            assertEquals(result, EditDistanceBanded.calculate(x, y, result - 1));
+        }
+    }
 }
@@ -0,0 +1,88 @@
+package com.baeldung.algorithms.ga.dijkstra;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@Fork(value = 1, warmups = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class DijkstraBenchmark {
+
+    private static final int EDGES_PER_NODE = 4;
+
+    @Param({ "1000", "10000" })
+    private int size;
+
+    private List<Node> nodes;
+    private Graph graph;
+    private CsrDijkstra csrDijkstra;
+    private int target;
+
+    @Setup(Level.Trial)
+    public void setUpCsrGraph() {
+        createNodes();
+        csrDijkstra = new CsrDijkstra(CsrGraph.of(nodes));
+        target = size - 1;
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpNodeGraph() {
+        // the node based implementation keeps its state inside the nodes
+        createNodes();
+    }
+
+    private void createNodes() {
+        Random random = new Random(42);
+        nodes = new ArrayList<>(size);
+        graph = new Graph();
+        for (int i = 0; i < size; i++) {
+            Node node = new Node("N" + i);
+            nodes.add(node);
+            graph.addNode(node);
+        }
+        for (int i = 0; i < size; i++) {
+            // a ring keeps every node reachable, the rest of the edges are random
+            nodes
+              .get(i)
+              .addDestination(nodes.get((i + 1) % size), 1 + random.nextInt(100));
+            for (int j = 1; j < EDGES_PER_NODE; j++) {
+                nodes
+                  .get(i)
+                  .addDestination(nodes.get(random.nextInt(size)), 1 + random.nextInt(100));
+            }
+        }
+    }
+
+    @Benchmark
+    public Graph nodeGraphSingleSource() {
+        return Dijkstra.calculateShortestPathFromSource(graph, nodes.get(0));
+    }
+
+    @Benchmark
+    public CsrDijkstra.ShortestPathTree csrGraphSingleSource() {
+        return csrDijkstra.calculateShortestPathFromSource(0);
+    }
+
+    @Benchmark
+    public CsrDijkstra.Path csrGraphBidirectional() {
+        return csrDijkstra.shortestPath(0, target);
+    }
+
+    public static void main(String[] args) throws Exception {
+        org.openjdk.jmh.Main.main(args);
+    }
+}
@@ -0,0 +1,142 @@
+package com.baeldung.algorithms.maze.solver;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+
+public class GridMazeSolverUnitTest {
+
+    private static final GridMazeSolver[] SOLVERS = { new AStarMazeSolver(), new JPSMazeSolver() };
+
+    @Test
+    public void givenMazeFile_whenSolving_thenPathHasBreadthFirstLength() throws Exception {
+        Maze maze = new Maze(new File("src/main/resources/maze/maze1.txt"));
+        List<Coordinate> expected = new BFSMazeSolver().solve(maze);
+
+        for (GridMazeSolver solver : SOLVERS) {
+            List<Coordinate> path = solver.solve(maze);
+            assertEquals(expected.size(), path.size());
+            assertTrue(maze.isStart(path.get(0).getX(), path.get(0).getY()));
+            assertTrue(maze.isExit(path.get(path.size() - 1).getX(), path.get(path.size() - 1).getY()));
+        }
+    }
+
+    @Test
+    public void givenRandomGrids_whenSolving_thenPathsAreShortestAndConnected() {
+        Random random = new Random(1);
+        MazeSearchContext context = new MazeSearchContext();
+        for (int i = 0; i < 300; i++) {
+            // widths around multiples of 64 exercise the word boundaries of the scans
+            int height = 1 + random.nextInt(40);
+            int width = 1 + random.nextInt(140);
+            MazeGrid grid = randomGrid(random, height, width, random.nextDouble() * 0.4);
+            int[] path = new int[grid.getCellCount()];
+            for (int query = 0; query < 10; query++) {
+                int start = random.nextInt(grid.getCellCount());
+                int goal = random.nextInt(grid.getCellCount());
+                int expected = breadthFirstLength(grid, start, goal);
+                for (GridMazeSolver solver : SOLVERS) {
+                    int length = solver.solve(grid, start, goal, context, path);
+                    assertEquals(expected, length);
+                    if (length > 0) {
+                        assertPath(grid, start, goal, path, length);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void givenSharedGrid_whenSolvingConcurrently_thenEachThreadUsesItsOwnContext() {
+        Random random = new Random(2);
+        MazeGrid grid = randomGrid(random, 300, 300, 0.3);
+        int[] starts = random.ints(200, 0, grid.getCellCount()).toArray();
+        int[] goals = random.ints(200, 0, grid.getCellCount()).toArray();
+        int[] expected = IntStream.range(0, starts.length)
+            .map(i -> breadthFirstLength(grid, starts[i], goals[i]))
+            .toArray();
+
+        ThreadLocal<MazeSearchContext> contexts = ThreadLocal.withInitial(MazeSearchContext::new);
+        ThreadLocal<int[]> paths = ThreadLocal.withInitial(() -> new int[grid.getCellCount()]);
+        int[] lengths = IntStream.range(0, starts.length)
+            .parallel()
+            .map(i -> new JPSMazeSolver().solve(grid, starts[i], goals[i], contexts.get(), paths.get()))
+            .toArray();
+
+        assertEquals(Arrays.toString(expected), Arrays.toString(lengths));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void givenShortBuffer_whenSolving_thenThrows() {
+        MazeGrid grid = MazeGrid.of(new boolean[3][3]);
+        new AStarMazeSolver().solve(grid, 0, 8, new MazeSearchContext(), new int[4]);
+    }
+
+    @Test
+    public void givenWalledInGoal_whenSolving_thenNoPath() {
+        boolean[][] walls = new boolean[3][3];
+        walls[1][2] = true;
+        walls[2][1] = true;
+        MazeGrid grid = MazeGrid.of(walls);
+        assertFalse(grid.isOpen(2, 1));
+        for (GridMazeSolver solver : SOLVERS) {
+            assertEquals(-1, solver.solve(grid, 0, 8, new MazeSearchContext(), new int[9]));
+        }
+    }
+
+    private static MazeGrid randomGrid(Random random, int height, int width, double wallDensity) {
+        boolean[][] walls = new boolean[height][width];
+        for (boolean[] row : walls) {
+            for (int col = 0; col < width; col++) {
+                row[col] = random.nextDouble() < wallDensity;
+            }
+        }
+        return MazeGrid.of(walls);
+    }
+
+    private static int breadthFirstLength(MazeGrid grid, int start, int goal) {
+        if (grid.isWall(grid.row(start), grid.col(start)) || grid.isWall(grid.row(goal), grid.col(goal))) {
+            return -1;
+        }
+        int[] distances = new int[grid.getCellCount()];
+        Arrays.fill(distances, -1);
+        Queue<Integer> queue = new ArrayDeque<>();
+        distances[start] = 0;
+        queue.add(start);
+        int[][] directions = { { 0, 1 }, { 1, 0 }, { 0, -1 }, { -1, 0 } };
+        while (!queue.isEmpty()) {
+            int cell = queue.remove();
+            for (int[] direction : directions) {
+                int row = grid.row(cell) + direction[0];
+                int col = grid.col(cell) + direction[1];
+                if (grid.isOpen(row, col) && distances[grid.cell(row, col)] < 0) {
+                    distances[grid.cell(row, col)] = distances[cell] + 1;
+                    queue.add(grid.cell(row, col));
+                }
+            }
+        }
+        return distances[goal] < 0 ? -1 : distances[goal] + 1;
+    }
+
+    private static void assertPath(MazeGrid grid, int start, int goal, int[] path, int length) {
+        assertEquals(start, path[0]);
+        assertEquals(goal, path[length - 1]);
+        for (int i = 0; i < length; i++) {
+            assertFalse(grid.isWall(grid.row(path[i]), grid.col(path[i])));
+            if (i > 0) {
+                int step = Math.abs(grid.row(path[i]) - grid.row(path[i - 1])) + Math.abs(grid.col(path[i]) - grid.col(path[i - 1]));
+                assertEquals(1, step);
+            }
+        }
+    }
+}
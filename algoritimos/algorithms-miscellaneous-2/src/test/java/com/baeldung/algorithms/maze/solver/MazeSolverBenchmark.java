@@ -0,0 +1,72 @@
+package com.baeldung.algorithms.maze.solver;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@Fork(value = 1, warmups = 1, jvmArgsAppend = "-Xmx2g")
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MazeSolverBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Grid {
+
+        @Param({ "1024", "4096" })
+        private int size;
+
+        @Param({ "0.02", "0.2" })
+        private double wallDensity;
+
+        private MazeGrid grid;
+        private int start;
+        private int goal;
+
+        @Setup
+        public void setUp() {
+            Random random = new Random(42);
+            boolean[][] walls = new boolean[size][size];
+            for (boolean[] row : walls) {
+                for (int col = 0; col < size; col++) {
+                    row[col] = random.nextDouble() < wallDensity;
+                }
+            }
+            walls[0][0] = false;
+            walls[size - 1][size - 1] = false;
+            grid = MazeGrid.of(walls);
+            start = 0;
+            goal = grid.getCellCount() - 1;
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Context {
+
+        private final MazeSearchContext context = new MazeSearchContext();
+        private int[] path;
+
+        @Setup
+        public void setUp(Grid grid) {
+            path = new int[grid.grid.getCellCount()];
+        }
+    }
+
+    @Benchmark
+    public int aStar(Grid grid, Context context) {
+        return new AStarMazeSolver().solve(grid.grid, grid.start, grid.goal, context.context, context.path);
+    }
+
+    @Benchmark
+    public int jumpPointSearch(Grid grid, Context context) {
+        return new JPSMazeSolver().solve(grid.grid, grid.start, grid.goal, context.context, context.path);
+    }
+}
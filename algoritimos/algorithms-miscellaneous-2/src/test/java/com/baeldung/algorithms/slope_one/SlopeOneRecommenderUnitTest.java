@@ -0,0 +1,90 @@
+package com.baeldung.algorithms.slope_one;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.baeldung.algorithms.slope_one.SlopeOneRecommender.Recommendation;
+
+public class SlopeOneRecommenderUnitTest {
+
+    @Test
+    public void givenTwoUsers_whenPredicting_thenUseAverageDifference() {
+        SlopeOneRecommender recommender = new SlopeOneRecommender();
+        recommender.rate(1, 0, 1.0);
+        recommender.rate(1, 1, 1.5);
+        recommender.rate(2, 0, 2.0);
+
+        // item 1 is rated 0.5 higher than item 0
+        assertEquals(2.5, recommender.predict(2, 1), 1e-9);
+        assertEquals(2.0, recommender.predict(2, 0), 1e-9);
+        assertEquals(SlopeOneRecommender.NO_PREDICTION, recommender.predict(2, 7), 0);
+        assertEquals(SlopeOneRecommender.NO_PREDICTION, recommender.predict(3, 0), 0);
+    }
+
+    @Test
+    public void givenRandomRatings_whenRecommending_thenMatchFullRecomputation() {
+        Random random = new Random(3);
+        int users = 60;
+        int items = 40;
+        Map<Long, Map<Integer, Double>> ratings = new HashMap<>();
+        SlopeOneRecommender recommender = new SlopeOneRecommender();
+        for (int i = 0; i < 1500; i++) {
+            long user = random.nextInt(users);
+            int item = random.nextInt(items);
+            double rating = random.nextInt(10) / 2.0;
+            recommender.rate(user, item, rating);
+            ratings
+              .computeIfAbsent(user, u -> new HashMap<>())
+              .put(item, rating);
+        }
+
+        for (long user : ratings.keySet()) {
+            Map<Integer, Double> own = ratings.get(user);
+            for (int item = 0; item < items; item++) {
+                assertEquals(bruteForcePrediction(ratings, own, item), recommender.predict(user, item), 1e-9);
+            }
+
+            List<Recommendation> recommendations = recommender.recommend(user, 5);
+            assertTrue(recommendations.size() <= 5);
+            for (int i = 0; i < recommendations.size(); i++) {
+                Recommendation recommendation = recommendations.get(i);
+                assertTrue(!own.containsKey(recommendation.getItemId()));
+                assertEquals(bruteForcePrediction(ratings, own, recommendation.getItemId()), recommendation.getPredictedRating(), 1e-9);
+                if (i > 0) {
+                    assertTrue(recommendations.get(i - 1).getPredictedRating() >= recommendation.getPredictedRating());
+                }
+            }
+        }
+    }
+
+    private static double bruteForcePrediction(Map<Long, Map<Integer, Double>> ratings, Map<Integer, Double> own, int item) {
+        if (own.containsKey(item)) {
+            return own.get(item);
+        }
+
+        double weightedSum = 0;
+        int totalWeight = 0;
+        for (Map.Entry<Integer, Double> rated : own.entrySet()) {
+            double differences = 0;
+            int frequency = 0;
+            for (Map<Integer, Double> other : ratings.values()) {
+                if (other.containsKey(item) && other.containsKey(rated.getKey())) {
+                    differences += other.get(item) - other.get(rated.getKey());
+                    frequency++;
+                }
+            }
+            if (frequency > 0) {
+                weightedSum += (differences / frequency + rated.getValue()) * frequency;
+                totalWeight += frequency;
+            }
+        }
+        return totalWeight > 0 ? weightedSum / totalWeight : SlopeOneRecommender.NO_PREDICTION;
+    }
+}
@@ -0,0 +1,101 @@
+package com.baeldung.algorithms.sudoku;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.Test;
+
+public class ExactCoverSolverUnitTest {
+
+    @Test
+    public void givenKnuthsExample_whenSolving_thenFindTheOnlyCover() {
+        boolean[][] matrix = {
+          { false, false, true, false, true, true, false },
+          { true, false, false, true, false, false, true },
+          { false, true, true, false, false, true, false },
+          { true, false, false, true, false, false, false },
+          { false, true, false, false, false, false, true },
+          { false, false, false, true, true, false, true } };
+        ExactCoverSolver solver = ExactCoverSolver.of(matrix);
+
+        List<int[]> solutions = solver.findSolutions(10);
+        assertEquals(1, solutions.size());
+        assertArrayEquals(new int[] { 0, 3, 4 }, solutions.get(0));
+    }
+
+    @Test
+    public void givenNQueens_whenCounting_thenMatchKnownCounts() {
+        assertEquals(92, nQueens(8).countSolutions());
+        assertEquals(724, nQueens(10).countSolutions());
+    }
+
+    @Test
+    public void givenNQueens_whenCountingInParallel_thenMatchSequentialCount() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            assertEquals(14200, nQueens(12).countSolutions(pool));
+            assertEquals(nQueens(9).countSolutions(), nQueens(9).countSolutions(pool));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void givenNQueens_whenFindingFirstSolutions_thenStopAtLimit() {
+        int n = 10;
+        ExactCoverSolver solver = nQueens(n);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            List<int[]> solutions = solver.findSolutions(5, pool);
+            assertEquals(5, solutions.size());
+            for (int[] solution : solutions) {
+                assertEquals(n, solution.length);
+                assertTrue(isValidPlacement(n, solution));
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void givenCancelledSearch_whenSearching_thenFindNothing() {
+        AtomicBoolean cancelled = new AtomicBoolean(true);
+        assertEquals(0, nQueens(10).search(null, rows -> {
+        }, cancelled));
+    }
+
+    /**
+     * Rows are the squares, {@code row * n + column}. Ranks and files are primary columns,
+     * diagonals are secondary.
+     */
+    private static ExactCoverSolver nQueens(int n) {
+        List<int[]> rows = new ArrayList<>();
+        for (int r = 0; r < n; r++) {
+            for (int c = 0; c < n; c++) {
+                rows.add(new int[] { r, n + c, 2 * n + r + c, 2 * n + (2 * n - 1) + (r - c + n - 1) });
+            }
+        }
+        return new ExactCoverSolver(2 * n, 2 * (2 * n - 1), rows);
+    }
+
+    private static boolean isValidPlacement(int n, int[] squares) {
+        for (int i = 0; i < squares.length; i++) {
+            for (int j = i + 1; j < squares.length; j++) {
+                int r1 = squares[i] / n;
+                int c1 = squares[i] % n;
+                int r2 = squares[j] / n;
+                int c2 = squares[j] % n;
+                if (r1 == r2 || c1 == c2 || Math.abs(r1 - r2) == Math.abs(c1 - c2)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+}
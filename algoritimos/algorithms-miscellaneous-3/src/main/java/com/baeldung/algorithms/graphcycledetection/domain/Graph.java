@@ -1,7 +1,11 @@
 package com.baeldung.algorithms.graphcycledetection.domain;
 
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+
+import com.baeldung.algorithms.graph.CsrGraph;
 
 public class Graph {
 
@@ -48,4 +52,30 @@ public class Graph {
         sourceVertex.setVisited(true);
         return false;
     }
+
+    /**
+     * Converts this graph into CSR form. Unlike {@link #hasCycle()}, the traversals over it
+     * keep their state outside the vertices, so they can run concurrently and more than once.
+     * Vertex ids are the positions of the vertices in this graph.
+     *
+     * @throws IllegalArgumentException If an edge points to a vertex which isn't in this graph.
+     */
+    public CsrGraph toCsrGraph() {
+        Map<Vertex, Integer> ids = new IdentityHashMap<>();
+        for (int i = 0; i < vertices.size(); i++) {
+            ids.put(vertices.get(i), i);
+        }
+
+        CsrGraph.Builder builder = CsrGraph.builder(vertices.size());
+        for (int i = 0; i < vertices.size(); i++) {
+            for (Vertex neighbour : vertices.get(i).getAdjacencyList()) {
+                Integer target = ids.get(neighbour);
+                if (target == null) {
+                    throw new IllegalArgumentException("Unknown vertex " + neighbour.getLabel());
+                }
+                builder.addEdge(i, target);
+            }
+        }
+        return builder.build();
+    }
 }
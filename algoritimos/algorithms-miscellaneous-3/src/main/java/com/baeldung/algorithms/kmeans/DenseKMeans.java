@@ -0,0 +1,413 @@
+package com.baeldung.algorithms.kmeans;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * A K-Means implementation which keeps all features in dense {@code double[]} rows instead of
+ * {@code Map<String, Double>} instances. Initial centroids are chosen with k-means++ seeding and
+ * the assignment step runs in parallel on a {@link ForkJoinPool}. Distances are always Euclidean.
+ * Datasets whose matrix wouldn't fit in one array are rejected with an
+ * {@link IllegalArgumentException}, so that no row offset overflows.
+ * <p>
+ * The result has the same shape as {@link KMeans#fit(List, int, Distance, int)}, so both
+ * implementations can be used interchangeably.
+ */
+public class DenseKMeans {
+
+    private DenseKMeans() {
+        throw new IllegalAccessError("You shouldn't call this constructor");
+    }
+
+    /**
+     * Ranges smaller than this are assigned sequentially.
+     */
+    private static final int MIN_CHUNK_SIZE = 1024;
+
+    /**
+     * Performs the K-Means clustering algorithm on the given dataset using the common pool.
+     *
+     * @param records       The dataset.
+     * @param k             Number of Clusters.
+     * @param maxIterations Upper bound for the number of iterations.
+     * @return K clusters along with their features.
+     */
+    public static Map<Centroid, List<Record>> fit(List<Record> records, int k, int maxIterations) {
+        return fit(records, k, maxIterations, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Performs the K-Means clustering algorithm on the given dataset.
+     *
+     * @param records       The dataset.
+     * @param k             Number of Clusters.
+     * @param maxIterations Upper bound for the number of iterations.
+     * @param pool          The pool running the assignment step.
+     * @return K clusters along with their features.
+     */
+    public static Map<Centroid, List<Record>> fit(List<Record> records, int k, int maxIterations, ForkJoinPool pool) {
+        return fit(records, k, maxIterations, pool, new Random());
+    }
+
+    /**
+     * Performs the K-Means clustering algorithm on the given dataset.
+     *
+     * @param records       The dataset.
+     * @param k             Number of Clusters.
+     * @param maxIterations Upper bound for the number of iterations.
+     * @param pool          The pool running the assignment step.
+     * @param random        Source of randomness for the seeding, seeded to reproduce a run.
+     * @return K clusters along with their features.
+     */
+    public static Map<Centroid, List<Record>> fit(List<Record> records, int k, int maxIterations, ForkJoinPool pool, Random random) {
+        applyPreconditions(records, k, maxIterations);
+
+        FeatureIndex index = FeatureIndex.of(records);
+        int d = index.dimensions();
+        int n = records.size();
+        double[] data = index.toMatrix(records);
+        double[] centroids = seed(data, n, d, k, random);
+
+        int[] assignments = new int[n];
+        Arrays.fill(assignments, -1);
+        int chunkSize = chunkSize(n, pool);
+
+        // iterate for a pre-defined number of times
+        for (int i = 0; i < maxIterations; i++) {
+            Partition partition = pool.invoke(new AssignmentTask(data, d, centroids, k, assignments, 0, n, chunkSize));
+
+            // if the assignment does not change, then the algorithm terminates
+            if (i == maxIterations - 1 || partition.changed == 0) {
+                break;
+            }
+
+            // at the end of each iteration we should relocate the centroids
+            relocate(centroids, d, partition);
+        }
+
+        return toClusters(records, index, centroids, assignments);
+    }
+
+    /**
+     * Performs mini-batch K-Means on the given dataset: each iteration only looks at a random
+     * sample of {@code batchSize} records. After the last iteration every record is assigned
+     * to its nearest centroid in parallel.
+     *
+     * @param records       The dataset.
+     * @param k             Number of Clusters.
+     * @param batchSize     Number of records sampled per iteration.
+     * @param maxIterations Number of mini-batch iterations.
+     * @return K clusters along with their features.
+     * @see MiniBatchKMeans
+     */
+    public static Map<Centroid, List<Record>> fitMiniBatch(List<Record> records, int k, int batchSize, int maxIterations) {
+        return fitMiniBatch(records, k, batchSize, maxIterations, new Random());
+    }
+
+    /**
+     * Performs mini-batch K-Means on the given dataset. The dense form of the records is never
+     * built for the whole dataset: only for each batch, then for each row being assigned.
+     *
+     * @param records       The dataset.
+     * @param k             Number of Clusters.
+     * @param batchSize     Number of records sampled per iteration.
+     * @param maxIterations Number of mini-batch iterations.
+     * @param random        Source of randomness for the sampling and seeding.
+     * @return K clusters along with their features.
+     */
+    public static Map<Centroid, List<Record>> fitMiniBatch(List<Record> records, int k, int batchSize, int maxIterations, Random random) {
+        applyPreconditions(records, k, maxIterations);
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size should be a positive number");
+        }
+
+        FeatureIndex index = FeatureIndex.of(records);
+        MiniBatchKMeans miniBatch = new MiniBatchKMeans(index, k, random);
+        List<Record> batch = new ArrayList<>(batchSize);
+        for (int i = 0; i < maxIterations; i++) {
+            batch.clear();
+            for (int j = 0; j < batchSize; j++) {
+                batch.add(records.get(random.nextInt(records.size())));
+            }
+            miniBatch.update(batch);
+        }
+
+        int n = records.size();
+        double[] centroids = miniBatch.centroidMatrix();
+        int[] assignments = new int[n];
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        pool.invoke(new RecordAssignmentTask(records, index, centroids, k, assignments, 0, n, chunkSize(n, pool)));
+
+        return toClusters(records, index, centroids, assignments);
+    }
+
+    /**
+     * Chooses k initial centroids with k-means++: the first one uniformly at random and every
+     * following one with a probability proportional to its squared distance from the nearest
+     * centroid chosen so far.
+     *
+     * @param data   The row-major feature matrix.
+     * @param n      Number of rows.
+     * @param d      Number of columns.
+     * @param k      Number of clusters.
+     * @param random Source of randomness.
+     * @return The row-major centroid matrix.
+     */
+    static double[] seed(double[] data, int n, int d, int k, Random random) {
+        double[] centroids = new double[FeatureIndex.matrixSize(k, d)];
+        double[] nearest = new double[n];
+
+        System.arraycopy(data, random.nextInt(n) * d, centroids, 0, d);
+        double total = 0;
+        for (int i = 0; i < n; i++) {
+            nearest[i] = squaredDistance(data, i * d, centroids, 0, d);
+            total += nearest[i];
+        }
+
+        for (int c = 1; c < k; c++) {
+            int chosen = n - 1;
+            if (total > 0) {
+                double target = random.nextDouble() * total;
+                for (int i = 0; i < n; i++) {
+                    if (target < nearest[i]) {
+                        chosen = i;
+                        break;
+                    }
+                    target -= nearest[i];
+                }
+            } else {
+                // all points coincide with a centroid already
+                chosen = random.nextInt(n);
+            }
+
+            System.arraycopy(data, chosen * d, centroids, c * d, d);
+            total = 0;
+            for (int i = 0; i < n; i++) {
+                double distance = squaredDistance(data, i * d, centroids, c * d, d);
+                if (distance < nearest[i]) {
+                    nearest[i] = distance;
+                }
+                total += nearest[i];
+            }
+        }
+
+        return centroids;
+    }
+
+    /**
+     * Finds the nearest centroid to the row starting at {@code offset}.
+     */
+    static int nearest(double[] data, int offset, double[] centroids, int k, int d) {
+        int nearest = 0;
+        double minimumDistance = Double.MAX_VALUE;
+        for (int c = 0; c < k; c++) {
+            double distance = squaredDistance(data, offset, centroids, c * d, d);
+            if (distance < minimumDistance) {
+                minimumDistance = distance;
+                nearest = c;
+            }
+        }
+
+        return nearest;
+    }
+
+    static double squaredDistance(double[] a, int aOffset, double[] b, int bOffset, int d) {
+        double sum = 0;
+        for (int i = 0; i < d; i++) {
+            double diff = a[aOffset + i] - b[bOffset + i];
+            sum += diff * diff;
+        }
+
+        return sum;
+    }
+
+    /**
+     * Moves every non-empty cluster centroid to the average of its assigned rows.
+     */
+    private static void relocate(double[] centroids, int d, Partition partition) {
+        for (int c = 0; c < partition.counts.length; c++) {
+            long count = partition.counts[c];
+            if (count == 0) {
+                continue;
+            }
+
+            for (int j = 0; j < d; j++) {
+                centroids[c * d + j] = partition.sums[c * d + j] / count;
+            }
+        }
+    }
+
+    private static Map<Centroid, List<Record>> toClusters(List<Record> records, FeatureIndex index, double[] centroids, int[] assignments) {
+        int k = centroids.length / index.dimensions();
+        Centroid[] keys = new Centroid[k];
+        Map<Centroid, List<Record>> clusters = new HashMap<>();
+        for (int i = 0; i < assignments.length; i++) {
+            int c = assignments[i];
+            if (keys[c] == null) {
+                keys[c] = index.toCentroid(centroids, c * index.dimensions());
+            }
+            clusters
+              .computeIfAbsent(keys[c], key -> new ArrayList<>())
+              .add(records.get(i));
+        }
+
+        return clusters;
+    }
+
+    private static int chunkSize(int n, ForkJoinPool pool) {
+        return Math.max(MIN_CHUNK_SIZE, n / (pool.getParallelism() * 4));
+    }
+
+    private static void applyPreconditions(List<Record> records, int k, int maxIterations) {
+        if (records == null || records.isEmpty()) {
+            throw new IllegalArgumentException("The dataset can't be empty");
+        }
+
+        if (k <= 1) {
+            throw new IllegalArgumentException("It doesn't make sense to have less than or equal to 1 cluster");
+        }
+
+        if (maxIterations <= 0) {
+            throw new IllegalArgumentException("Max iterations should be a positive number");
+        }
+    }
+
+    /**
+     * Per-cluster coordinate sums and sizes of a range of rows, along with the number of rows
+     * which moved to another cluster.
+     */
+    private static class Partition {
+
+        private final double[] sums;
+        private final long[] counts;
+        private int changed;
+
+        private Partition(int k, int d) {
+            this.sums = new double[FeatureIndex.matrixSize(k, d)];
+            this.counts = new long[k];
+        }
+
+        private Partition merge(Partition other) {
+            for (int i = 0; i < sums.length; i++) {
+                sums[i] += other.sums[i];
+            }
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] += other.counts[i];
+            }
+            changed += other.changed;
+            return this;
+        }
+    }
+
+    /**
+     * Assigns each row in {@code [from, to)} to its nearest centroid, splitting the range in
+     * halves until it is small enough.
+     */
+    private static class AssignmentTask extends RecursiveTask<Partition> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final double[] data;
+        private final int d;
+        private final double[] centroids;
+        private final int k;
+        private final int[] assignments;
+        private final int from;
+        private final int to;
+        private final int chunkSize;
+
+        private AssignmentTask(double[] data, int d, double[] centroids, int k, int[] assignments, int from, int to, int chunkSize) {
+            this.data = data;
+            this.d = d;
+            this.centroids = centroids;
+            this.k = k;
+            this.assignments = assignments;
+            this.from = from;
+            this.to = to;
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        protected Partition compute() {
+            if (to - from > chunkSize) {
+                int middle = (from + to) >>> 1;
+                AssignmentTask left = new AssignmentTask(data, d, centroids, k, assignments, from, middle, chunkSize);
+                AssignmentTask right = new AssignmentTask(data, d, centroids, k, assignments, middle, to, chunkSize);
+                left.fork();
+                Partition partition = right.compute();
+                return partition.merge(left.join());
+            }
+
+            Partition partition = new Partition(k, d);
+            for (int i = from; i < to; i++) {
+                int offset = i * d;
+                int c = nearest(data, offset, centroids, k, d);
+                if (assignments[i] != c) {
+                    assignments[i] = c;
+                    partition.changed++;
+                }
+
+                partition.counts[c]++;
+                for (int j = 0; j < d; j++) {
+                    partition.sums[c * d + j] += data[offset + j];
+                }
+            }
+
+            return partition;
+        }
+    }
+
+    /**
+     * Assigns each record in {@code [from, to)} to its nearest centroid, converting one record at
+     * a time into a dense row.
+     */
+    private static class RecordAssignmentTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final List<Record> records;
+        private final FeatureIndex index;
+        private final double[] centroids;
+        private final int k;
+        private final int[] assignments;
+        private final int from;
+        private final int to;
+        private final int chunkSize;
+
+        private RecordAssignmentTask(List<Record> records, FeatureIndex index, double[] centroids, int k, int[] assignments, int from, int to,
+            int chunkSize) {
+            this.records = records;
+            this.index = index;
+            this.centroids = centroids;
+            this.k = k;
+            this.assignments = assignments;
+            this.from = from;
+            this.to = to;
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > chunkSize) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new RecordAssignmentTask(records, index, centroids, k, assignments, from, middle, chunkSize),
+                  new RecordAssignmentTask(records, index, centroids, k, assignments, middle, to, chunkSize));
+                return;
+            }
+
+            int d = index.dimensions();
+            double[] row = new double[d];
+            for (int i = from; i < to; i++) {
+                index.copyInto(records.get(i), row, 0);
+                assignments[i] = nearest(row, 0, centroids, k, d);
+            }
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.baeldung.algorithms.kmeans;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Assigns a fixed column to each attribute, so that feature maps can be laid out as
+ * dense {@code double[]} rows. Attributes missing from a record are stored as {@code 0.0}.
+ */
+public class FeatureIndex {
+
+    /**
+     * The largest array some JVMs can allocate.
+     */
+    private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+    /**
+     * Attribute names, ordered by their column.
+     */
+    private final String[] attributes;
+
+    /**
+     * Attribute name to column lookup.
+     */
+    private final Map<String, Integer> columns;
+
+    public FeatureIndex(Collection<String> attributes) {
+        if (attributes == null || attributes.isEmpty()) {
+            throw new IllegalArgumentException("At least one attribute is required");
+        }
+
+        this.attributes = new LinkedHashSet<>(attributes).toArray(new String[0]);
+        this.columns = new HashMap<>(this.attributes.length * 2);
+        for (int i = 0; i < this.attributes.length; i++) {
+            columns.put(this.attributes[i], i);
+        }
+    }
+
+    /**
+     * Creates an index covering every attribute that appears in the given dataset.
+     *
+     * @param records The dataset.
+     * @return The feature index.
+     */
+    public static FeatureIndex of(Collection<Record> records) {
+        Set<String> attributes = new LinkedHashSet<>();
+        for (Record record : records) {
+            attributes.addAll(record
+              .getFeatures()
+              .keySet());
+        }
+
+        return new FeatureIndex(attributes);
+    }
+
+    public int dimensions() {
+        return attributes.length;
+    }
+
+    /**
+     * Writes the features of the given record into {@code target}, starting at {@code offset}.
+     * Attributes which are not part of this index are ignored.
+     *
+     * @param record The record to convert.
+     * @param target The destination array.
+     * @param offset The first column in the destination array.
+     */
+    public void copyInto(Record record, double[] target, int offset) {
+        for (int i = 0; i < attributes.length; i++) {
+            target[offset + i] = 0.0;
+        }
+
+        record
+          .getFeatures()
+          .forEach((key, value) -> {
+              Integer column = columns.get(key);
+              if (column != null && value != null) {
+                  target[offset + column] = value;
+              }
+          });
+    }
+
+    /**
+     * Lays out all records as one row-major {@code double[]} with {@link #dimensions()} columns.
+     *
+     * @param records The dataset.
+     * @return The dense feature matrix.
+     */
+    public double[] toMatrix(List<Record> records) {
+        int d = attributes.length;
+        double[] matrix = new double[matrixSize(records.size(), d)];
+        for (int i = 0; i < records.size(); i++) {
+            copyInto(records.get(i), matrix, i * d);
+        }
+
+        return matrix;
+    }
+
+    /**
+     * Checks that a row-major matrix fits in one array, so that the {@code row * columns} offsets
+     * into it can't overflow either.
+     *
+     * @return The number of values of the matrix.
+     */
+    static int matrixSize(int rows, int columns) {
+        long size = (long) rows * columns;
+        if (size > MAX_ARRAY_SIZE) {
+            throw new IllegalArgumentException(rows + " rows of " + columns + " columns don't fit in one array");
+        }
+
+        return (int) size;
+    }
+
+    /**
+     * Converts a dense row back into a {@link Centroid}.
+     *
+     * @param row    The array holding the row.
+     * @param offset The first column of the row.
+     * @return The centroid.
+     */
+    public Centroid toCentroid(double[] row, int offset) {
+        Map<String, Double> coordinates = new HashMap<>(attributes.length * 2);
+        for (int i = 0; i < attributes.length; i++) {
+            coordinates.put(attributes[i], row[offset + i]);
+        }
+
+        return new Centroid(coordinates);
+    }
+}
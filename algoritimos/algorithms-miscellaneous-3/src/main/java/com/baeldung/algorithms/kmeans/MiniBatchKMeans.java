@@ -0,0 +1,138 @@
+package com.baeldung.algorithms.kmeans;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Streaming variant of K-Means based on Sculley's mini-batch algorithm. Records are fed in
+ * batches through {@link #update(List)}, so the full dataset never has to be in memory. The
+ * centroids are seeded with k-means++ from the first batch, then each batch moves every
+ * centroid towards its assigned records with a per-centroid learning rate of
+ * {@code 1 / (number of records assigned so far)}.
+ * <p>
+ * Instances of this class are not thread-safe.
+ */
+public class MiniBatchKMeans {
+
+    private final FeatureIndex index;
+    private final int k;
+    private final int d;
+    private final Random random;
+
+    /**
+     * Row-major centroid coordinates, {@code k * d} values.
+     */
+    private double[] centroids;
+
+    /**
+     * Number of records each centroid has absorbed so far.
+     */
+    private final long[] counts;
+
+    /**
+     * Reusable buffer for the dense form of the current batch.
+     */
+    private double[] buffer = new double[0];
+
+    public MiniBatchKMeans(FeatureIndex index, int k) {
+        this(index, k, new Random());
+    }
+
+    public MiniBatchKMeans(FeatureIndex index, int k, Random random) {
+        if (index == null) {
+            throw new IllegalArgumentException("The feature index is required");
+        }
+
+        if (k <= 1) {
+            throw new IllegalArgumentException("It doesn't make sense to have less than or equal to 1 cluster");
+        }
+
+        FeatureIndex.matrixSize(k, index.dimensions());
+        this.index = index;
+        this.k = k;
+        this.d = index.dimensions();
+        this.random = random;
+        this.counts = new long[k];
+    }
+
+    /**
+     * Moves the centroids according to the given batch of records.
+     *
+     * @param batch The next batch of records.
+     */
+    public void update(List<Record> batch) {
+        if (batch == null || batch.isEmpty()) {
+            return;
+        }
+
+        int n = batch.size();
+        int size = FeatureIndex.matrixSize(n, d);
+        if (buffer.length < size) {
+            buffer = new double[size];
+        }
+        for (int i = 0; i < n; i++) {
+            index.copyInto(batch.get(i), buffer, i * d);
+        }
+
+        if (centroids == null) {
+            centroids = DenseKMeans.seed(buffer, n, d, k, random);
+        }
+
+        // assign the whole batch against the same centroids before moving any of them
+        int[] assignments = new int[n];
+        for (int i = 0; i < n; i++) {
+            assignments[i] = DenseKMeans.nearest(buffer, i * d, centroids, k, d);
+        }
+
+        for (int i = 0; i < n; i++) {
+            int c = assignments[i];
+            counts[c]++;
+            double learningRate = 1.0 / counts[c];
+            for (int j = 0; j < d; j++) {
+                int position = c * d + j;
+                centroids[position] += learningRate * (buffer[i * d + j] - centroids[position]);
+            }
+        }
+    }
+
+    /**
+     * Finds the cluster the given record belongs to.
+     *
+     * @param record The record.
+     * @return The index of the nearest centroid, in the order of {@link #centroids()}.
+     */
+    public int predict(Record record) {
+        checkSeeded();
+
+        double[] row = new double[d];
+        index.copyInto(record, row, 0);
+        return DenseKMeans.nearest(row, 0, centroids, k, d);
+    }
+
+    /**
+     * @return The current centroids.
+     */
+    public List<Centroid> centroids() {
+        checkSeeded();
+
+        List<Centroid> result = new ArrayList<>(k);
+        for (int c = 0; c < k; c++) {
+            result.add(index.toCentroid(centroids, c * d));
+        }
+
+        return result;
+    }
+
+    double[] centroidMatrix() {
+        checkSeeded();
+
+        return centroids.clone();
+    }
+
+    private void checkSeeded() {
+        if (centroids == null) {
+            throw new IllegalStateException("At least one batch should be fed before using the centroids");
+        }
+    }
+}
@@ -1,10 +1,14 @@
 package com.baeldung.algorithms.graphcycledetection;
 
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 import org.junit.Test;
 
+import com.baeldung.algorithms.graph.DepthFirstSearch;
+import com.baeldung.algorithms.graph.StronglyConnectedComponents;
 import com.baeldung.algorithms.graphcycledetection.domain.Graph;
 import com.baeldung.algorithms.graphcycledetection.domain.Vertex;
 
@@ -30,6 +34,8 @@ public class GraphCycleDetectionUnitTest {
         graph.addEdge(vertexD, vertexC);
 
         assertTrue(graph.hasCycle());
+        assertTrue(DepthFirstSearch.hasCycle(graph.toCsrGraph()));
+        assertEquals(2, StronglyConnectedComponents.of(graph.toCsrGraph()).getCount());
     }
 
     @Test
@@ -52,5 +58,7 @@ public class GraphCycleDetectionUnitTest {
         graph.addEdge(vertexD, vertexC);
 
         assertFalse(graph.hasCycle());
+        assertFalse(DepthFirstSearch.hasCycle(graph.toCsrGraph()));
+        assertArrayEquals(new int[] { 3, 0, 1, 2 }, DepthFirstSearch.topologicalSort(graph.toCsrGraph()));
     }
 }
@@ -0,0 +1,129 @@
+package com.baeldung.algorithms.kmeans;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+
+public class DenseKMeansUnitTest {
+
+    private static final double[][] CENTERS = { { 0, 0 }, { 100, 0 }, { 0, 100 } };
+
+    /**
+     * Three well separated blobs of records, described by the blob they come from.
+     */
+    private static List<Record> blobs(int perBlob, long seed) {
+        Random random = new Random(seed);
+        List<Record> records = new ArrayList<>();
+        for (int blob = 0; blob < CENTERS.length; blob++) {
+            for (int i = 0; i < perBlob; i++) {
+                Map<String, Double> features = new HashMap<>();
+                features.put("x", CENTERS[blob][0] + random.nextGaussian());
+                features.put("y", CENTERS[blob][1] + random.nextGaussian());
+                records.add(new Record("blob" + blob + "-" + i, features));
+            }
+        }
+        return records;
+    }
+
+    private static Set<Set<Record>> partition(Map<Centroid, List<Record>> clusters) {
+        Set<Set<Record>> partition = new HashSet<>();
+        for (Collection<Record> cluster : clusters.values()) {
+            partition.add(new HashSet<>(cluster));
+        }
+        return partition;
+    }
+
+    private static void assertBlobs(Set<Set<Record>> partition) {
+        assertEquals(CENTERS.length, partition.size());
+        for (Set<Record> cluster : partition) {
+            String blob = cluster.iterator()
+              .next()
+              .getDescription()
+              .split("-")[0];
+            assertTrue(cluster.stream()
+              .allMatch(record -> record.getDescription()
+                .startsWith(blob + "-")));
+        }
+    }
+
+    @Test
+    public void givenSeededBlobs_whenFittedWithDenseKMeans_thenSamePartitionAsKMeans() {
+        List<Record> records = blobs(200, 42);
+        Set<Set<Record>> dense = partition(DenseKMeans.fit(records, 3, 100, ForkJoinPool.commonPool(), new Random(7)));
+        assertBlobs(dense);
+
+        // the random centroids of KMeans may merge two blobs, so keep its first run finding all three
+        Set<Set<Record>> expected = null;
+        for (int attempt = 0; attempt < 20 && expected == null; attempt++) {
+            Set<Set<Record>> partition = partition(KMeans.fit(records, 3, new EuclideanDistance(), 100));
+            if (partition.size() == CENTERS.length) {
+                expected = partition;
+            }
+        }
+        assertEquals(expected, dense);
+    }
+
+    @Test
+    public void givenTheSameSeed_whenFittedTwice_thenSameClusters() {
+        List<Record> records = blobs(100, 1);
+        Map<Centroid, List<Record>> first = DenseKMeans.fit(records, 3, 100, ForkJoinPool.commonPool(), new Random(3));
+        Map<Centroid, List<Record>> second = DenseKMeans.fit(records, 3, 100, ForkJoinPool.commonPool(), new Random(3));
+
+        assertEquals(first, second);
+    }
+
+    @Test
+    public void givenBatchesOfBlobs_whenUpdatedWithMiniBatchKMeans_thenCentroidsConvergeToTheCenters() {
+        List<Record> records = blobs(1000, 5);
+        Random random = new Random(11);
+        MiniBatchKMeans miniBatch = new MiniBatchKMeans(FeatureIndex.of(records), 3, random);
+        List<Record> batch = new ArrayList<>();
+        for (int iteration = 0; iteration < 200; iteration++) {
+            batch.clear();
+            for (int i = 0; i < 100; i++) {
+                batch.add(records.get(random.nextInt(records.size())));
+            }
+            miniBatch.update(batch);
+        }
+
+        for (double[] center : CENTERS) {
+            double nearest = Double.MAX_VALUE;
+            for (Centroid centroid : miniBatch.centroids()) {
+                double dx = centroid.getCoordinates()
+                  .get("x") - center[0];
+                double dy = centroid.getCoordinates()
+                  .get("y") - center[1];
+                nearest = Math.min(nearest, Math.sqrt(dx * dx + dy * dy));
+            }
+            assertTrue("No centroid near " + center[0] + ", " + center[1], nearest < 1);
+        }
+    }
+
+    @Test
+    public void givenSeededBlobs_whenFittedWithMiniBatches_thenEachBlobIsACluster() {
+        List<Record> records = blobs(500, 9);
+        Map<Centroid, List<Record>> clusters = DenseKMeans.fitMiniBatch(records, 3, 64, 100, new Random(13));
+
+        assertBlobs(partition(clusters));
+        assertEquals(records.size(), clusters.values()
+          .stream()
+          .mapToInt(List::size)
+          .sum());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void givenAMatrixLargerThanAnArray_whenSized_thenRejected() {
+        FeatureIndex.matrixSize(1 << 20, 1 << 12);
+    }
+}
@@ -0,0 +1,38 @@
+package com.baeldung.algorithms.multiswarm;
+
+/**
+ * Fitness function over real-valued positions, used by
+ * {@link ParallelMultiswarm}. Implementations may be called from many threads
+ * at once and should not keep the position array.
+ *
+ */
+public interface ContinuousFitnessFunction {
+
+	/**
+	 * Returns the fitness of a particle given its position.
+	 * 
+	 * @param particlePosition
+	 *            the position of the particle
+	 * @return the fitness of the particle
+	 */
+	public double getFitness(double[] particlePosition);
+
+	/**
+	 * Adapts a {@link FitnessFunction} of integer positions, rounding each
+	 * coordinate to the nearest integer.
+	 *
+	 * @param fitnessFunction
+	 *            the function to adapt
+	 * @return the adapted function
+	 */
+	public static ContinuousFitnessFunction of(FitnessFunction fitnessFunction) {
+		return particlePosition -> {
+			long[] position = new long[particlePosition.length];
+			for (int i = 0; i < position.length; i++) {
+				position[i] = Math.round(particlePosition[i]);
+			}
+			return fitnessFunction.getFitness(position);
+		};
+	}
+
+}
@@ -0,0 +1,114 @@
+package com.baeldung.algorithms.multiswarm;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded cache of fitness results, keyed by position. It's direct-mapped: each
+ * position hashes to a single slot, and a new result replaces the old one, so
+ * lookups and stores are a single array access with no lock. Particles which
+ * have converged keep revisiting the same positions, especially when these are
+ * rounded to integers, and then skip the evaluation.
+ *
+ */
+class FitnessCache {
+
+	/**
+	 * The cached results, replaced as a whole so that readers never see a
+	 * position with another position's fitness.
+	 */
+	private final AtomicReferenceArray<Entry> entries;
+
+	/**
+	 * The number of lookups which found the position.
+	 */
+	private final LongAdder hits = new LongAdder();
+
+	/**
+	 * The number of lookups which evaluated the fitness function.
+	 */
+	private final LongAdder misses = new LongAdder();
+
+	/**
+	 * Instantiates a new FitnessCache.
+	 *
+	 * @param capacity
+	 *            the number of slots, rounded up to a power of two, or 0 to
+	 *            disable caching
+	 */
+	FitnessCache(int capacity) {
+		if (capacity < 0) {
+			throw new IllegalArgumentException("The capacity can't be negative");
+		}
+		int slots = capacity <= 1 ? capacity : Integer.highestOneBit(capacity - 1) << 1;
+		this.entries = new AtomicReferenceArray<>(slots);
+	}
+
+	/**
+	 * Returns the cached fitness of the position, evaluating and caching it if
+	 * missing.
+	 *
+	 * @param position
+	 *            the position, which the cache may keep and the caller should
+	 *            no longer modify
+	 * @param fitnessFunction
+	 *            the function to evaluate
+	 * @return the fitness of the position
+	 */
+	double getFitness(double[] position, ContinuousFitnessFunction fitnessFunction) {
+		if (entries.length() == 0) {
+			misses.increment();
+			return fitnessFunction.getFitness(position);
+		}
+
+		int hash = Arrays.hashCode(position);
+		hash ^= hash >>> 16;
+		int slot = hash & (entries.length() - 1);
+		Entry entry = entries.get(slot);
+		if (entry != null && entry.hash == hash && Arrays.equals(entry.position, position)) {
+			hits.increment();
+			return entry.fitness;
+		}
+
+		misses.increment();
+		double fitness = fitnessFunction.getFitness(position);
+		entries.set(slot, new Entry(hash, position, fitness));
+		return fitness;
+	}
+
+	/**
+	 * Gets the number of lookups which found the position.
+	 *
+	 * @return the number of hits
+	 */
+	long getHits() {
+		return hits.sum();
+	}
+
+	/**
+	 * Gets the number of lookups which evaluated the fitness function.
+	 *
+	 * @return the number of misses
+	 */
+	long getMisses() {
+		return misses.sum();
+	}
+
+	/**
+	 * A position and its fitness.
+	 */
+	private static final class Entry {
+
+		private final int hash;
+		private final double[] position;
+		private final double fitness;
+
+		Entry(int hash, double[] position, double fitness) {
+			this.hash = hash;
+			this.position = position;
+			this.fitness = fitness;
+		}
+	}
+
+}
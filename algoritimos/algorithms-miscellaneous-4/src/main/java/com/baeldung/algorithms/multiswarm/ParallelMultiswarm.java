@@ -0,0 +1,500 @@
+package com.baeldung.algorithms.multiswarm;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * Multi-swarm optimization like {@link Multiswarm}, for many dimensions and
+ * expensive fitness functions. Particles are evaluated and moved in parallel,
+ * in chunks run on a {@link ForkJoinPool}.
+ * <p>
+ * The state of all particles is kept in a few {@code double[]} blocks, one
+ * particle after the other, instead of one object per particle. Each thread
+ * draws its random numbers from its own {@link SplittableRandom}. A particle
+ * which improves on its swarm's best or on the global best publishes it right
+ * away with a compare-and-set, and the other particles use the latest published
+ * bests when they move. In asynchronous mode, threads don't even wait for each
+ * other at the end of each iteration. Fitness results are cached by position.
+ * <p>
+ * The options must be set before the first iteration.
+ *
+ */
+public class ParallelMultiswarm {
+
+	/**
+	 * The number of swarms.
+	 */
+	private final int numSwarms;
+
+	/**
+	 * The number of particles of each swarm.
+	 */
+	private final int particlesPerSwarm;
+
+	/**
+	 * The number of coordinates of a position.
+	 */
+	private final int dimensions;
+
+	/**
+	 * The fitness function used to determine how good is a particle.
+	 */
+	private final ContinuousFitnessFunction fitnessFunction;
+
+	/**
+	 * The lowest value of each coordinate.
+	 */
+	private double[] lowerBounds;
+
+	/**
+	 * The highest value of each coordinate.
+	 */
+	private double[] upperBounds;
+
+	/**
+	 * The pool running the chunks of particles, or null to run them on the
+	 * calling thread.
+	 */
+	private ForkJoinPool pool;
+
+	/**
+	 * Whether threads go through all iterations without waiting for each other.
+	 */
+	private boolean asynchronous;
+
+	/**
+	 * Whether positions are rounded to integers, as in {@link Multiswarm}.
+	 */
+	private boolean discrete;
+
+	/**
+	 * The number of slots of the {@link #cache}.
+	 */
+	private int cacheCapacity = 1 << 16;
+
+	/**
+	 * Splits into the random generator of each thread.
+	 */
+	private SplittableRandom seeds = new SplittableRandom();
+
+	/**
+	 * The current position of each particle, {@link #dimensions} values per
+	 * particle.
+	 */
+	private double[] positions;
+
+	/**
+	 * The speed of each particle.
+	 */
+	private double[] speeds;
+
+	/**
+	 * The best position found by each particle.
+	 */
+	private double[] bestPositions;
+
+	/**
+	 * The best fitness found by each particle.
+	 */
+	private double[] bestFitnesses;
+
+	/**
+	 * The best position found within each swarm.
+	 */
+	private AtomicReferenceArray<Best> swarmBests;
+
+	/**
+	 * The best position found within all the swarms.
+	 */
+	private final AtomicReference<Best> globalBest = new AtomicReference<>();
+
+	/**
+	 * The fitness of the positions evaluated recently.
+	 */
+	private FitnessCache cache;
+
+	/**
+	 * The random generator of each thread.
+	 */
+	private final ThreadLocal<SplittableRandom> random = ThreadLocal.withInitial(this::splitRandom);
+
+	/**
+	 * Instantiates a new ParallelMultiswarm. Coordinates are bounded by 0 and
+	 * {@link Constants#PARTICLE_UPPER_BOUND} until set otherwise.
+	 * 
+	 * @param numSwarms
+	 *            the number of swarms
+	 * @param particlesPerSwarm
+	 *            the number of particles of each swarm
+	 * @param dimensions
+	 *            the number of coordinates of a position
+	 * @param fitnessFunction
+	 *            the {@link #fitnessFunction}
+	 */
+	public ParallelMultiswarm(int numSwarms, int particlesPerSwarm, int dimensions,
+			ContinuousFitnessFunction fitnessFunction) {
+		if (numSwarms < 1 || particlesPerSwarm < 1 || dimensions < 1) {
+			throw new IllegalArgumentException("At least one swarm, particle and dimension are required");
+		}
+		this.numSwarms = numSwarms;
+		this.particlesPerSwarm = particlesPerSwarm;
+		this.dimensions = dimensions;
+		this.fitnessFunction = fitnessFunction;
+		setBounds(0, Constants.PARTICLE_UPPER_BOUND);
+	}
+
+	/**
+	 * Sets the same bounds for every coordinate.
+	 *
+	 * @param lowerBound
+	 *            the lowest value of a coordinate
+	 * @param upperBound
+	 *            the highest value of a coordinate
+	 */
+	public void setBounds(double lowerBound, double upperBound) {
+		double[] lower = new double[dimensions];
+		double[] upper = new double[dimensions];
+		Arrays.fill(lower, lowerBound);
+		Arrays.fill(upper, upperBound);
+		setBounds(lower, upper);
+	}
+
+	/**
+	 * Sets the bounds of each coordinate.
+	 *
+	 * @param lowerBounds
+	 *            the lowest value of each coordinate
+	 * @param upperBounds
+	 *            the highest value of each coordinate
+	 */
+	public void setBounds(double[] lowerBounds, double[] upperBounds) {
+		checkNotStarted();
+		if (lowerBounds.length != dimensions || upperBounds.length != dimensions) {
+			throw new IllegalArgumentException("The bounds should have " + dimensions + " coordinates");
+		}
+		for (int d = 0; d < dimensions; d++) {
+			if (!(lowerBounds[d] < upperBounds[d])) {
+				throw new IllegalArgumentException("The lower bound should be below the upper bound");
+			}
+		}
+		this.lowerBounds = lowerBounds.clone();
+		this.upperBounds = upperBounds.clone();
+	}
+
+	/**
+	 * Sets the {@link #pool}.
+	 *
+	 * @param pool
+	 *            the new {@link #pool}
+	 */
+	public void setPool(ForkJoinPool pool) {
+		this.pool = pool;
+	}
+
+	/**
+	 * Sets the {@link #asynchronous} mode.
+	 *
+	 * @param asynchronous
+	 *            whether threads go through all iterations of
+	 *            {@link #run(int)} without waiting for each other
+	 */
+	public void setAsynchronous(boolean asynchronous) {
+		this.asynchronous = asynchronous;
+	}
+
+	/**
+	 * Sets the {@link #discrete} mode.
+	 *
+	 * @param discrete
+	 *            whether positions are rounded to integers
+	 */
+	public void setDiscrete(boolean discrete) {
+		checkNotStarted();
+		this.discrete = discrete;
+	}
+
+	/**
+	 * Sets the {@link #cacheCapacity}.
+	 *
+	 * @param cacheCapacity
+	 *            the number of cached results, or 0 to disable caching
+	 */
+	public void setCacheCapacity(int cacheCapacity) {
+		checkNotStarted();
+		if (cacheCapacity < 0) {
+			throw new IllegalArgumentException("The cache capacity can't be negative");
+		}
+		this.cacheCapacity = cacheCapacity;
+	}
+
+	/**
+	 * Sets the seed of the random generators. With no {@link #pool}, runs with
+	 * the same seed give the same result.
+	 *
+	 * @param seed
+	 *            the seed
+	 */
+	public void setSeed(long seed) {
+		checkNotStarted();
+		this.seeds = new SplittableRandom(seed);
+	}
+
+	/**
+	 * Main loop of the algorithm: evaluates and moves every particle once.
+	 */
+	public void mainLoop() {
+		run(1);
+	}
+
+	/**
+	 * Runs the given number of iterations. For each particle, computes the new
+	 * fitness, publishes it if it's a new best for the particle, its swarm or
+	 * all the swarms, and finally updates the particle speed and position.
+	 *
+	 * @param iterations
+	 *            the number of iterations
+	 */
+	public void run(int iterations) {
+		if (positions == null) {
+			initialize();
+		}
+
+		int particles = numSwarms * particlesPerSwarm;
+		int parallelism = pool == null ? 1 : pool.getParallelism();
+		if (asynchronous) {
+			// one chunk per thread, each going through all iterations
+			int chunkSize = (particles + parallelism - 1) / parallelism;
+			forEachChunk(particles, chunkSize, (from, to) -> {
+				for (int i = 0; i < iterations; i++) {
+					moveParticles(from, to);
+				}
+			});
+		} else {
+			int chunkSize = Math.max(1, particles / (parallelism * 4));
+			for (int i = 0; i < iterations; i++) {
+				forEachChunk(particles, chunkSize, this::moveParticles);
+			}
+		}
+	}
+
+	/**
+	 * Gets the best position found within all the swarms.
+	 *
+	 * @return a copy of the best position, or null before the first iteration
+	 */
+	public double[] getBestPosition() {
+		Best best = globalBest.get();
+		return best == null ? null : best.position.clone();
+	}
+
+	/**
+	 * Gets the best fitness found within all the swarms.
+	 *
+	 * @return the best fitness
+	 */
+	public double getBestFitness() {
+		Best best = globalBest.get();
+		return best == null ? Double.NEGATIVE_INFINITY : best.fitness;
+	}
+
+	/**
+	 * Gets the number of times the fitness function was called.
+	 *
+	 * @return the number of evaluations
+	 */
+	public long getEvaluationCount() {
+		return cache == null ? 0 : cache.getMisses();
+	}
+
+	/**
+	 * Gets the number of evaluations skipped thanks to the cache.
+	 *
+	 * @return the number of cache hits
+	 */
+	public long getCacheHitCount() {
+		return cache == null ? 0 : cache.getHits();
+	}
+
+	/**
+	 * Evaluates and moves the particles in the given range.
+	 *
+	 * @param from
+	 *            the first particle
+	 * @param to
+	 *            the particle after the last one
+	 */
+	private void moveParticles(int from, int to) {
+		SplittableRandom generator = random.get();
+		for (int particle = from; particle < to; particle++) {
+			int offset = particle * dimensions;
+			int swarm = particle / particlesPerSwarm;
+
+			// the cache may keep this copy, so it's never modified
+			double[] position = Arrays.copyOfRange(positions, offset, offset + dimensions);
+			double fitness = cache.getFitness(position, fitnessFunction);
+			if (fitness > bestFitnesses[particle]) {
+				bestFitnesses[particle] = fitness;
+				System.arraycopy(position, 0, bestPositions, offset, dimensions);
+				Best best = new Best(fitness, position);
+				if (publish(swarmBests, swarm, best)) {
+					publish(globalBest, best);
+				}
+			}
+
+			double[] swarmBest = bestOrSelf(swarmBests.get(swarm), position);
+			double[] globalBestPosition = bestOrSelf(globalBest.get(), position);
+			for (int d = 0; d < dimensions; d++) {
+				int i = offset + d;
+				double x = positions[i];
+				double range = upperBounds[d] - lowerBounds[d];
+				double speed = Constants.INERTIA_FACTOR * speeds[i]
+						+ Constants.COGNITIVE_WEIGHT * generator.nextDouble() * (bestPositions[i] - x)
+						+ Constants.SOCIAL_WEIGHT * generator.nextDouble() * (swarmBest[d] - x)
+						+ Constants.GLOBAL_WEIGHT * generator.nextDouble() * (globalBestPosition[d] - x);
+				speed = Math.max(-range, Math.min(range, speed));
+
+				x += speed;
+				if (discrete) {
+					x = Math.rint(x);
+				}
+				if (x < lowerBounds[d] || x > upperBounds[d]) {
+					// stops at the bound instead of flying out of the search space
+					x = Math.max(lowerBounds[d], Math.min(upperBounds[d], x));
+					speed = 0;
+				}
+				positions[i] = x;
+				speeds[i] = speed;
+			}
+		}
+	}
+
+	/**
+	 * Splits the particles into chunks of consecutive particles and runs them on
+	 * the {@link #pool}.
+	 *
+	 * @param particles
+	 *            the number of particles
+	 * @param chunkSize
+	 *            the number of particles of a chunk
+	 * @param chunk
+	 *            the task run on each chunk, given its first particle and the
+	 *            particle after its last one
+	 */
+	private void forEachChunk(int particles, int chunkSize, ChunkTask chunk) {
+		int chunks = (particles + chunkSize - 1) / chunkSize;
+		IntConsumer task = c -> chunk.run(c * chunkSize, Math.min(particles, (c + 1) * chunkSize));
+		if (pool == null || chunks == 1) {
+			for (int c = 0; c < chunks; c++) {
+				task.accept(c);
+			}
+		} else {
+			pool.submit(() -> IntStream.range(0, chunks).parallel().forEach(task)).join();
+		}
+	}
+
+	/**
+	 * Creates the particles at random positions, with random speeds.
+	 */
+	private void initialize() {
+		int size = numSwarms * particlesPerSwarm * dimensions;
+		positions = new double[size];
+		speeds = new double[size];
+		SplittableRandom generator = random.get();
+		for (int i = 0; i < size; i++) {
+			int d = i % dimensions;
+			double range = upperBounds[d] - lowerBounds[d];
+			positions[i] = lowerBounds[d] + generator.nextDouble() * range;
+			if (discrete) {
+				positions[i] = Math.min(upperBounds[d], Math.rint(positions[i]));
+			}
+			speeds[i] = (generator.nextDouble() * 2 - 1) * range;
+		}
+		bestPositions = positions.clone();
+		bestFitnesses = new double[numSwarms * particlesPerSwarm];
+		Arrays.fill(bestFitnesses, Double.NEGATIVE_INFINITY);
+		swarmBests = new AtomicReferenceArray<>(numSwarms);
+		cache = new FitnessCache(cacheCapacity);
+	}
+
+	/**
+	 * Replaces the best of a swarm if the candidate is better.
+	 *
+	 * @return whether the candidate was published
+	 */
+	private static boolean publish(AtomicReferenceArray<Best> bests, int swarm, Best candidate) {
+		Best current;
+		do {
+			current = bests.get(swarm);
+			if (current != null && current.fitness >= candidate.fitness) {
+				return false;
+			}
+		} while (!bests.compareAndSet(swarm, current, candidate));
+		return true;
+	}
+
+	/**
+	 * Replaces the global best if the candidate is better.
+	 */
+	private static void publish(AtomicReference<Best> best, Best candidate) {
+		Best current;
+		do {
+			current = best.get();
+			if (current != null && current.fitness >= candidate.fitness) {
+				return;
+			}
+		} while (!best.compareAndSet(current, candidate));
+	}
+
+	/**
+	 * Returns the best position, or the particle's own position while no best
+	 * has been published, which cancels its pull.
+	 */
+	private static double[] bestOrSelf(Best best, double[] position) {
+		return best == null ? position : best.position;
+	}
+
+	/**
+	 * Creates the random generator of a thread.
+	 */
+	private synchronized SplittableRandom splitRandom() {
+		return seeds.split();
+	}
+
+	/**
+	 * Throws if the particles were already created.
+	 */
+	private void checkNotStarted() {
+		if (positions != null) {
+			throw new IllegalStateException("The options must be set before the first iteration");
+		}
+	}
+
+	/**
+	 * The task run on a chunk of particles.
+	 */
+	@FunctionalInterface
+	private interface ChunkTask {
+
+		void run(int from, int to);
+	}
+
+	/**
+	 * An immutable best position and its fitness, published as a whole.
+	 */
+	private static final class Best {
+
+		private final double fitness;
+		private final double[] position;
+
+		Best(double fitness, double[] position) {
+			this.fitness = fitness;
+			this.position = position;
+		}
+	}
+
+}
@@ -0,0 +1,45 @@
+package com.baeldung.algorithms.multiswarm;
+
+/**
+ * Stand-in for an expensive cost model: a shifted Rastrigin function, whose
+ * many local optima make it hard for a single swarm, evaluated several times
+ * over to take about as long as a real model.
+ *
+ */
+public class CostModelFitnessFunction implements ContinuousFitnessFunction {
+
+	/**
+	 * How many times the function is evaluated per call.
+	 */
+	private final int repetitions;
+
+	/**
+	 * Instantiates a new CostModelFitnessFunction.
+	 *
+	 * @param repetitions
+	 *            how many times the function is evaluated per call
+	 */
+	public CostModelFitnessFunction(int repetitions) {
+		this.repetitions = repetitions;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.baeldung.algorithms.multiswarm.ContinuousFitnessFunction#
+	 * getFitness(double[])
+	 */
+	@Override
+	public double getFitness(double[] particlePosition) {
+		double cost = 0;
+		for (int r = 0; r < repetitions; r++) {
+			cost = 10 * particlePosition.length;
+			for (int i = 0; i < particlePosition.length; i++) {
+				double x = particlePosition[i] - 1;
+				cost += x * x - 10 * Math.cos(2 * Math.PI * x);
+			}
+		}
+		return -cost;
+	}
+
+}
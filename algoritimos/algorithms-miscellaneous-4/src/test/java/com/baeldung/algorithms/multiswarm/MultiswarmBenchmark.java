@@ -0,0 +1,84 @@
+package com.baeldung.algorithms.multiswarm;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Time to run a fixed number of iterations, on the League of Legends problem
+ * for both engines and on a 200-dimensional cost model for the parallel one.
+ * Each benchmark returns the best fitness reached, and
+ * {@link MultiswarmConvergence} prints how it evolves.
+ *
+ */
+@Fork(value = 1, warmups = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class MultiswarmBenchmark {
+
+	private static final int ITERATIONS = 100;
+
+	@Param({ "sequential", "parallel", "asynchronous" })
+	private String mode;
+
+	private ForkJoinPool pool;
+
+	@Setup
+	public void setUp() {
+		pool = new ForkJoinPool();
+	}
+
+	@TearDown
+	public void tearDown() {
+		pool.shutdown();
+	}
+
+	@Benchmark
+	public double lolMultiswarm() {
+		Multiswarm multiswarm = new Multiswarm(10, 100, new LolFitnessFunction());
+		for (int i = 0; i < ITERATIONS; i++) {
+			multiswarm.mainLoop();
+		}
+		return multiswarm.getBestFitness();
+	}
+
+	@Benchmark
+	public double lolParallelMultiswarm() {
+		ParallelMultiswarm multiswarm = new ParallelMultiswarm(10, 100, 2,
+				ContinuousFitnessFunction.of(new LolFitnessFunction()));
+		multiswarm.setBounds(new double[] { 0, 0 }, new double[] { 1440, 200 });
+		multiswarm.setDiscrete(true);
+		configure(multiswarm);
+		multiswarm.run(ITERATIONS);
+		return multiswarm.getBestFitness();
+	}
+
+	@Benchmark
+	public double costModel() {
+		ParallelMultiswarm multiswarm = new ParallelMultiswarm(8, 32, 200, new CostModelFitnessFunction(20));
+		multiswarm.setBounds(-5.12, 5.12);
+		configure(multiswarm);
+		multiswarm.run(ITERATIONS);
+		return multiswarm.getBestFitness();
+	}
+
+	private void configure(ParallelMultiswarm multiswarm) {
+		multiswarm.setSeed(42);
+		if (!"sequential".equals(mode)) {
+			multiswarm.setPool(pool);
+			multiswarm.setAsynchronous("asynchronous".equals(mode));
+		}
+	}
+
+}
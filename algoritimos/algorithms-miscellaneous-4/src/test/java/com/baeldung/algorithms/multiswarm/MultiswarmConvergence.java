@@ -0,0 +1,39 @@
+package com.baeldung.algorithms.multiswarm;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Prints the best fitness of {@link ParallelMultiswarm} on a 200-dimensional
+ * cost model every 100 iterations, with the elapsed time, for each mode. The
+ * optimum is 0.
+ *
+ */
+public class MultiswarmConvergence {
+
+	public static void main(String[] args) {
+		ForkJoinPool pool = new ForkJoinPool();
+		try {
+			for (String mode : new String[] { "sequential", "parallel", "asynchronous" }) {
+				ParallelMultiswarm multiswarm = new ParallelMultiswarm(8, 32, 200, new CostModelFitnessFunction(20));
+				multiswarm.setBounds(-5.12, 5.12);
+				multiswarm.setSeed(42);
+				if (!"sequential".equals(mode)) {
+					multiswarm.setPool(pool);
+					multiswarm.setAsynchronous("asynchronous".equals(mode));
+				}
+
+				long start = System.nanoTime();
+				StringBuilder line = new StringBuilder(String.format("%-12s", mode));
+				for (int i = 0; i < 10; i++) {
+					multiswarm.run(100);
+					line.append(String.format(" %9.1f", multiswarm.getBestFitness()));
+				}
+				line.append(String.format(" in %d ms", (System.nanoTime() - start) / 1_000_000));
+				System.out.println(line);
+			}
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+}
@@ -0,0 +1,103 @@
+package com.baeldung.algorithms.multiswarm;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+
+/**
+ * Test for {@link ParallelMultiswarm}.
+ * 
+ */
+public class ParallelMultiswarmUnitTest {
+
+	/**
+	 * Fitness which peaks at 0 when every coordinate is 1.
+	 */
+	private static final ContinuousFitnessFunction NEGATED_SPHERE = position -> {
+		double sum = 0;
+		for (double x : position) {
+			sum += (x - 1) * (x - 1);
+		}
+		return -sum;
+	};
+
+	/**
+	 * Tests the League of Legends problem of {@link MultiswarmUnitTest}, on
+	 * integer positions as there, with a fraction of the particles.
+	 */
+	@Test
+	public void givenLolProblem_whenRunInParallel_thenSolutionFound() {
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			ParallelMultiswarm multiswarm = new ParallelMultiswarm(10, 100, 2,
+					ContinuousFitnessFunction.of(new LolFitnessFunction()));
+			multiswarm.setBounds(new double[] { 0, 0 }, new double[] { 1440, 200 });
+			multiswarm.setDiscrete(true);
+			multiswarm.setPool(pool);
+			multiswarm.setSeed(42);
+			multiswarm.run(300);
+
+			assertArrayEquals(new double[] { 1080, 50 }, multiswarm.getBestPosition(), 0);
+			assertEquals(1620, (int) multiswarm.getBestFitness());
+			// converged particles keep landing on the same integer positions
+			assertTrue(multiswarm.getCacheHitCount() > multiswarm.getEvaluationCount());
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	/**
+	 * Tests that the asynchronous mode converges on many dimensions.
+	 */
+	@Test
+	public void givenManyDimensions_whenRunAsynchronously_thenConverges() {
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			ParallelMultiswarm multiswarm = new ParallelMultiswarm(4, 50, 50, NEGATED_SPHERE);
+			multiswarm.setBounds(-10, 10);
+			multiswarm.setPool(pool);
+			multiswarm.setAsynchronous(true);
+			multiswarm.setSeed(7);
+			multiswarm.run(2000);
+
+			assertTrue(multiswarm.getBestFitness() > -1e-3);
+			assertEquals(4 * 50 * 2000, multiswarm.getEvaluationCount() + multiswarm.getCacheHitCount());
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	/**
+	 * Tests that runs on the calling thread with the same seed are
+	 * reproducible.
+	 */
+	@Test
+	public void givenSameSeed_whenRunSequentially_thenSameResult() {
+		double[][] results = new double[2][];
+		for (int run = 0; run < 2; run++) {
+			ParallelMultiswarm multiswarm = new ParallelMultiswarm(3, 20, 10, NEGATED_SPHERE);
+			multiswarm.setBounds(-5, 5);
+			multiswarm.setSeed(3);
+			for (int i = 0; i < 100; i++) {
+				multiswarm.mainLoop();
+			}
+			results[run] = multiswarm.getBestPosition();
+		}
+		assertArrayEquals(results[0], results[1], 0);
+	}
+
+	/**
+	 * Tests that options can't change once the particles exist.
+	 */
+	@Test(expected = IllegalStateException.class)
+	public void givenStartedMultiswarm_whenSettingBounds_thenThrows() {
+		ParallelMultiswarm multiswarm = new ParallelMultiswarm(1, 1, 1, NEGATED_SPHERE);
+		multiswarm.mainLoop();
+		multiswarm.setBounds(0, 1);
+	}
+
+}
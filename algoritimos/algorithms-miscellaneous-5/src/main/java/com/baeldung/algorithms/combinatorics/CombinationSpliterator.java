@@ -0,0 +1,81 @@
+package com.baeldung.algorithms.combinatorics;
+
+/**
+ * The {@code k}-element subsets of {@code 0} to {@code n - 1}, as ascending arrays in
+ * lexicographic order.
+ * <p>
+ * A combination is unranked with the combinatorial number system, in which each integer below
+ * {@code C(n, k)} is uniquely a sum {@code C(c_k, k) + ... + C(c_1, 1)} with
+ * {@code c_k > ... > c_1 >= 0}, found greedily. Read for the complement of the rank, the
+ * {@code c_i} are the elements of the combination counted from {@code n - 1} down.
+ */
+public final class CombinationSpliterator extends RankSpliterator {
+
+    private final int n;
+    private final int k;
+
+    /**
+     * {@code binomials[m][j]} is {@code C(m, j)}, for {@code m} up to {@code n} and {@code j} up
+     * to {@code k}.
+     */
+    private final long[][] binomials;
+
+    public CombinationSpliterator(int n, int k) {
+        this(n, k, binomials(n, k), 0, binomials(n, k)[n][k]);
+    }
+
+    private CombinationSpliterator(int n, int k, long[][] binomials, long from, long to) {
+        super(k, from, to);
+        this.n = n;
+        this.k = k;
+        this.binomials = binomials;
+    }
+
+    @Override
+    void unrank(long rank) {
+        long remainder = binomials[n][k] - 1 - rank;
+        int c = n - 1;
+        for (int j = k; j >= 1; j--) {
+            while (binomials[c][j] > remainder) {
+                c--;
+            }
+            remainder -= binomials[c][j];
+            state[k - j] = n - 1 - c;
+            c--;
+        }
+    }
+
+    @Override
+    void next() {
+        int i = k - 1;
+        while (state[i] == n - k + i) {
+            i--;
+        }
+        state[i]++;
+        for (int j = i + 1; j < k; j++) {
+            state[j] = state[j - 1] + 1;
+        }
+    }
+
+    @Override
+    RankSpliterator create(long from, long to) {
+        return new CombinationSpliterator(n, k, binomials, from, to);
+    }
+
+    private static long[][] binomials(int n, int k) {
+        if (k < 0 || k > n) {
+            throw new IllegalArgumentException("The combinations should have between 0 and " + n + " elements");
+        }
+        long[][] binomials = new long[n + 1][k + 1];
+        for (int m = 0; m <= n; m++) {
+            binomials[m][0] = 1;
+            for (int j = 1; j <= Math.min(m, k); j++) {
+                binomials[m][j] = binomials[m - 1][j - 1] + binomials[m - 1][j];
+                if (binomials[m][j] < 0) {
+                    throw new IllegalArgumentException("There are too many combinations of " + k + " out of " + n);
+                }
+            }
+        }
+        return binomials;
+    }
+}
@@ -1,6 +1,9 @@
 package com.baeldung.algorithms.combinatorics;
 
 import java.util.*;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static java.util.Collections.swap;
 
@@ -64,4 +67,34 @@ public class Combinatorics {
             powerSetInternal(set, powerSet, accumulator, index + 1);
         }
     }
+
+    /**
+     * The permutations of {@code 0} to {@code n - 1}, generated lazily into a single array, which
+     * must be copied to be kept. Unlike {@link #permutations(List)}, a parallel stream splits them.
+     */
+    public static Stream<int[]> permutationStream(int n) {
+        return StreamSupport.stream(new HeapPermutationSpliterator(n), false);
+    }
+
+    /**
+     * The {@code k}-element subsets of {@code 0} to {@code n - 1}, as in
+     * {@link #permutationStream(int)}.
+     */
+    public static Stream<int[]> combinationStream(int n, int k) {
+        return StreamSupport.stream(new CombinationSpliterator(n, k), false);
+    }
+
+    /**
+     * The subsets of {@code 0} to {@code n - 1}, as bit masks.
+     */
+    public static LongStream powerSetStream(int n) {
+        return StreamSupport.longStream(PowerSetSpliterator.bitmasks(n), false);
+    }
+
+    /**
+     * The subsets of {@code 0} to {@code n - 1}, as bit masks in Gray code order.
+     */
+    public static LongStream grayCodePowerSetStream(int n) {
+        return StreamSupport.longStream(PowerSetSpliterator.grayCode(n), false);
+    }
 }
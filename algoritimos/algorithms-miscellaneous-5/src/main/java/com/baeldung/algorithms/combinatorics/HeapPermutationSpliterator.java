@@ -0,0 +1,146 @@
+package com.baeldung.algorithms.combinatorics;
+
+/**
+ * The permutations of {@code 0} to {@code n - 1} in the order of Heap's algorithm, in which each
+ * permutation differs from the previous one by a single swap.
+ * <p>
+ * The iterative algorithm keeps a counter per position, and the counters read as the digits of
+ * the rank in the factorial number system. A permutation is unranked by replaying the swaps of
+ * the levels above each digit, using the net permutation of a complete run of each level, which
+ * is computed once per spliterator from the level below.
+ */
+public final class HeapPermutationSpliterator extends RankSpliterator {
+
+    /**
+     * The largest {@code n} whose permutations can be ranked with a {@code long}.
+     */
+    public static final int MAX_SIZE = 20;
+
+    private final int n;
+    private final int[] counters;
+    private final int[] moved;
+
+    /**
+     * Per level {@code k}, the number of permutations of {@code k} elements, and where a complete
+     * run of the algorithm on the first {@code k} elements moves the element at each position.
+     */
+    private final long[] factorials;
+    private final int[][] runs;
+
+    public HeapPermutationSpliterator(int n) {
+        this(n, factorials(n), runs(n), 0, factorials(n)[n]);
+    }
+
+    private HeapPermutationSpliterator(int n, long[] factorials, int[][] runs, long from, long to) {
+        super(n, from, to);
+        this.n = n;
+        this.counters = new int[n];
+        this.moved = new int[n];
+        this.factorials = factorials;
+        this.runs = runs;
+    }
+
+    @Override
+    void unrank(long rank) {
+        for (int i = 0; i < n; i++) {
+            state[i] = i;
+        }
+        for (int k = n; k >= 2; k--) {
+            long block = factorials[k - 1];
+            int digit = (int) (rank / block);
+            rank %= block;
+            counters[k - 1] = digit;
+            for (int swaps = 0; swaps < digit; swaps++) {
+                apply(runs[k - 1], k - 1);
+                swap(k, swaps);
+            }
+        }
+    }
+
+    @Override
+    void next() {
+        int i = 1;
+        while (counters[i] >= i) {
+            counters[i] = 0;
+            i++;
+        }
+        swap(i + 1, counters[i]);
+        counters[i]++;
+    }
+
+    @Override
+    RankSpliterator create(long from, long to) {
+        return new HeapPermutationSpliterator(n, factorials, runs, from, to);
+    }
+
+    /**
+     * Swaps the last of the first {@code k} elements as the algorithm does after its
+     * {@code swaps}-th complete run of level {@code k - 1}.
+     */
+    private void swap(int k, int swaps) {
+        int i = k % 2 == 0 ? swaps : 0;
+        int element = state[i];
+        state[i] = state[k - 1];
+        state[k - 1] = element;
+    }
+
+    /**
+     * Moves each of the first {@code k} elements of the state from position {@code i} to
+     * {@code run[i]}.
+     */
+    private void apply(int[] run, int k) {
+        for (int i = 0; i < k; i++) {
+            moved[run[i]] = state[i];
+        }
+        System.arraycopy(moved, 0, state, 0, k);
+    }
+
+    private static long[] factorials(int n) {
+        if (n < 1 || n > MAX_SIZE) {
+            throw new IllegalArgumentException("The number of elements should be between 1 and " + MAX_SIZE);
+        }
+        long[] factorials = new long[n + 1];
+        factorials[0] = 1;
+        for (int k = 1; k <= n; k++) {
+            factorials[k] = factorials[k - 1] * k;
+        }
+        return factorials;
+    }
+
+    /**
+     * A complete run of level {@code k} is a run of level {@code k - 1}, then {@code k - 1} times
+     * a swap followed by a run of level {@code k - 1}.
+     */
+    private static int[][] runs(int n) {
+        int[][] runs = new int[n + 1][];
+        runs[1] = new int[] { 0 };
+        for (int k = 2; k <= n; k++) {
+            // at[i]: the starting position of the element now at position i
+            int[] at = new int[k];
+            for (int i = 0; i < k; i++) {
+                at[i] = i;
+            }
+            for (int swaps = 0; swaps < k; swaps++) {
+                int[] run = runs[k - 1];
+                int[] after = new int[k];
+                after[k - 1] = at[k - 1];
+                for (int i = 0; i < k - 1; i++) {
+                    after[run[i]] = at[i];
+                }
+                at = after;
+                if (swaps < k - 1) {
+                    int i = k % 2 == 0 ? swaps : 0;
+                    int element = at[i];
+                    at[i] = at[k - 1];
+                    at[k - 1] = element;
+                }
+            }
+            int[] run = new int[k];
+            for (int i = 0; i < k; i++) {
+                run[at[i]] = i;
+            }
+            runs[k] = run;
+        }
+        return runs;
+    }
+}
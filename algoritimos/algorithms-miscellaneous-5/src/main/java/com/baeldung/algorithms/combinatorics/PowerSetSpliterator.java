@@ -0,0 +1,85 @@
+package com.baeldung.algorithms.combinatorics;
+
+import java.util.Spliterator;
+import java.util.function.LongConsumer;
+
+/**
+ * The subsets of {@code 0} to {@code n - 1}, as bit masks with bit {@code i} set when element
+ * {@code i} is in the subset, so that no subset is allocated.
+ * <p>
+ * In binary order, the subset of rank {@code r} is {@code r} itself. In Gray code order, it is
+ * {@code r ^ (r >>> 1)}: each subset differs from the previous one by the single element
+ * {@code Long.numberOfTrailingZeros(r)}, so a test can update its state with one change per
+ * subset instead of rebuilding it.
+ */
+public final class PowerSetSpliterator implements Spliterator.OfLong {
+
+    public static final int MAX_SIZE = 62;
+
+    private final boolean grayCode;
+    private long rank;
+    private final long end;
+
+    private PowerSetSpliterator(boolean grayCode, long from, long to) {
+        this.grayCode = grayCode;
+        this.rank = from;
+        this.end = to;
+    }
+
+    public static PowerSetSpliterator bitmasks(int n) {
+        return new PowerSetSpliterator(false, 0, size(n));
+    }
+
+    public static PowerSetSpliterator grayCode(int n) {
+        return new PowerSetSpliterator(true, 0, size(n));
+    }
+
+    @Override
+    public boolean tryAdvance(LongConsumer action) {
+        if (rank >= end) {
+            return false;
+        }
+        action.accept(subset(rank++));
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(LongConsumer action) {
+        for (; rank < end; rank++) {
+            action.accept(subset(rank));
+        }
+    }
+
+    @Override
+    public PowerSetSpliterator trySplit() {
+        long remaining = end - rank;
+        if (remaining < 2) {
+            return null;
+        }
+        long middle = rank + remaining / 2;
+        PowerSetSpliterator prefix = new PowerSetSpliterator(grayCode, rank, middle);
+        rank = middle;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return end - rank;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | SIZED | SUBSIZED | DISTINCT | NONNULL | IMMUTABLE;
+    }
+
+    private long subset(long rank) {
+        return grayCode ? rank ^ (rank >>> 1) : rank;
+    }
+
+    private static long size(int n) {
+        if (n < 0 || n > MAX_SIZE) {
+            throw new IllegalArgumentException("The number of elements should be between 0 and " + MAX_SIZE);
+        }
+        return 1L << n;
+    }
+}
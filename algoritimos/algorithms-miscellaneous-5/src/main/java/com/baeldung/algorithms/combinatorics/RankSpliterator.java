@@ -0,0 +1,93 @@
+package com.baeldung.algorithms.combinatorics;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Enumerates the arrangements of rank {@code from} to {@code to} (excluded) of a combinatorial
+ * family into a single {@code int[]}, which is updated in place: each arrangement is only valid
+ * until the action it's passed to returns, and must be copied to be kept.
+ * <p>
+ * Splitting halves the range of ranks and the new spliterator jumps to its first arrangement by
+ * unranking it, so a parallel stream spreads the enumeration over cores with one array per
+ * split and no allocation per arrangement.
+ */
+abstract class RankSpliterator implements Spliterator<int[]> {
+
+    protected final int[] state;
+    private long rank;
+    private final long end;
+    private boolean positioned;
+
+    RankSpliterator(int length, long from, long to) {
+        this.state = new int[length];
+        this.rank = from;
+        this.end = to;
+    }
+
+    /**
+     * Sets the state to the arrangement of the given rank.
+     */
+    abstract void unrank(long rank);
+
+    /**
+     * Sets the state to the next arrangement, which exists.
+     */
+    abstract void next();
+
+    /**
+     * @return A spliterator over the ranks from {@code from} to {@code to}, excluded.
+     */
+    abstract RankSpliterator create(long from, long to);
+
+    @Override
+    public boolean tryAdvance(Consumer<? super int[]> action) {
+        if (rank >= end) {
+            return false;
+        }
+        advance();
+        action.accept(state);
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super int[]> action) {
+        while (rank < end) {
+            advance();
+            action.accept(state);
+        }
+    }
+
+    @Override
+    public Spliterator<int[]> trySplit() {
+        long remaining = end - rank;
+        if (remaining < 2) {
+            return null;
+        }
+        long middle = rank + remaining / 2;
+        Spliterator<int[]> prefix = create(rank, middle);
+        rank = middle;
+        positioned = false;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return end - rank;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | SIZED | SUBSIZED | NONNULL;
+    }
+
+    private void advance() {
+        if (positioned) {
+            next();
+        } else {
+            unrank(rank);
+            positioned = true;
+        }
+        rank++;
+    }
+}
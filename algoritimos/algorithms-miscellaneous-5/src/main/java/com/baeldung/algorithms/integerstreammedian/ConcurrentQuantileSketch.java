@@ -0,0 +1,139 @@
+package com.baeldung.algorithms.integerstreammedian;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A {@link TDigest} which many threads can feed at once. {@link #add(double)} never blocks:
+ * each thread appends to its own chunk of values, and hands full chunks over through a lock-free
+ * queue. The chunks are merged into the digest by queries, or by a writer which finds the queue
+ * long and the digest free.
+ * <p>
+ * Queries see every value whose {@code add} completed before the query started. Threads which
+ * stop adding keep their last, partially filled chunk, which queries keep reading.
+ */
+public class ConcurrentQuantileSketch {
+
+    private static final int CHUNK_SIZE = 1024;
+
+    /**
+     * Full chunks waiting to be merged before a writer merges them itself.
+     */
+    private static final int DRAIN_THRESHOLD = 16;
+
+    private final TDigest digest;
+    private final ReentrantLock digestLock = new ReentrantLock();
+
+    private final Queue<Recorder> recorders = new ConcurrentLinkedQueue<>();
+    private final ThreadLocal<Recorder> recorder = ThreadLocal.withInitial(this::register);
+
+    private final Queue<Chunk> fullChunks = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger fullChunkCount = new AtomicInteger();
+
+    public ConcurrentQuantileSketch() {
+        this(TDigest.DEFAULT_COMPRESSION);
+    }
+
+    public ConcurrentQuantileSketch(double compression) {
+        this.digest = new TDigest(compression);
+    }
+
+    public void add(double value) {
+        if (Double.isNaN(value)) {
+            throw new IllegalArgumentException("Can't add NaN");
+        }
+
+        Chunk chunk = recorder
+          .get()
+          .append(value);
+        if (chunk != null) {
+            fullChunks.offer(chunk);
+            if (fullChunkCount.incrementAndGet() >= DRAIN_THRESHOLD && digestLock.tryLock()) {
+                try {
+                    drain();
+                } finally {
+                    digestLock.unlock();
+                }
+            }
+        }
+    }
+
+    public double quantile(double q) {
+        return snapshot().quantile(q);
+    }
+
+    public long size() {
+        return snapshot().size();
+    }
+
+    /**
+     * @return A digest of all values added so far, which the caller owns.
+     */
+    public TDigest snapshot() {
+        digestLock.lock();
+        try {
+            drain();
+            TDigest snapshot = digest.copy();
+            for (Recorder r : recorders) {
+                // full chunks are queued only after being replaced, so this one wasn't drained
+                Chunk chunk = r.current;
+                int count = chunk.count;
+                for (int i = 0; i < count; i++) {
+                    snapshot.add(chunk.values[i]);
+                }
+            }
+            return snapshot;
+        } finally {
+            digestLock.unlock();
+        }
+    }
+
+    private void drain() {
+        Chunk chunk;
+        while ((chunk = fullChunks.poll()) != null) {
+            fullChunkCount.decrementAndGet();
+            for (int i = 0; i < CHUNK_SIZE; i++) {
+                digest.add(chunk.values[i]);
+            }
+        }
+    }
+
+    private Recorder register() {
+        Recorder r = new Recorder();
+        recorders.add(r);
+        return r;
+    }
+
+    /**
+     * Values appended by a single thread. {@code count} is written after the value it covers,
+     * so a reader of {@code count} also sees the values.
+     */
+    private static class Chunk {
+
+        private final double[] values = new double[CHUNK_SIZE];
+        private volatile int count;
+    }
+
+    private static class Recorder {
+
+        private volatile Chunk current = new Chunk();
+
+        /**
+         * @return The chunk which this value filled up, or null.
+         */
+        private Chunk append(double value) {
+            Chunk chunk = current;
+            int count = chunk.count;
+            chunk.values[count] = value;
+            chunk.count = count + 1;
+            if (count + 1 < CHUNK_SIZE) {
+                return null;
+            }
+
+            current = new Chunk();
+            return chunk;
+        }
+    }
+}
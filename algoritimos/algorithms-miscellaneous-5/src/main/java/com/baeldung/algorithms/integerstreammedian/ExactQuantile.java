@@ -0,0 +1,69 @@
+package com.baeldung.algorithms.integerstreammedian;
+
+/**
+ * Exact running quantile of an int stream, using the two-heap technique of
+ * {@link MedianOfIntegerStream} generalized to any quantile, on primitive heaps. It keeps every
+ * value, so it suits small streams; {@link TDigest} answers in bounded memory.
+ * <p>
+ * For {@code n} values the quantile {@code q} is found at position {@code q * (n - 1)} of the
+ * sorted values, interpolating linearly between neighbours, so the median of an even number of
+ * values is the average of the two middle ones.
+ */
+public class ExactQuantile {
+
+    private final double quantile;
+
+    /**
+     * The smallest values, holding exactly the values at and below position
+     * {@code floor(q * (n - 1))}.
+     */
+    private final IntHeap lower = new IntHeap(true);
+    private final IntHeap upper = new IntHeap(false);
+
+    public ExactQuantile(double quantile) {
+        if (!(quantile >= 0 && quantile <= 1)) {
+            throw new IllegalArgumentException("The quantile should be between 0 and 1");
+        }
+        this.quantile = quantile;
+    }
+
+    public static ExactQuantile median() {
+        return new ExactQuantile(0.5);
+    }
+
+    public long size() {
+        return (long) lower.size() + upper.size();
+    }
+
+    public void add(int value) {
+        if (!lower.isEmpty() && value <= lower.peek()) {
+            lower.offer(value);
+        } else {
+            upper.offer(value);
+        }
+
+        int target = (int) Math.floor(quantile * (size() - 1)) + 1;
+        while (lower.size() > target) {
+            upper.offer(lower.poll());
+        }
+        while (lower.size() < target) {
+            lower.offer(upper.poll());
+        }
+    }
+
+    /**
+     * @return The quantile of the values added so far, or NaN if there are none.
+     */
+    public double get() {
+        if (lower.isEmpty()) {
+            return Double.NaN;
+        }
+
+        double position = quantile * (size() - 1);
+        double fraction = position - Math.floor(position);
+        if (fraction == 0 || upper.isEmpty()) {
+            return lower.peek();
+        }
+        return lower.peek() + fraction * ((double) upper.peek() - lower.peek());
+    }
+}
@@ -0,0 +1,72 @@
+package com.baeldung.algorithms.integerstreammedian;
+
+import java.util.Arrays;
+
+/**
+ * Binary heap of primitive ints, either a min-heap or a max-heap.
+ */
+class IntHeap {
+
+    private final boolean maxHeap;
+    private int[] values = new int[16];
+    private int size;
+
+    IntHeap(boolean maxHeap) {
+        this.maxHeap = maxHeap;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int peek() {
+        return values[0];
+    }
+
+    void offer(int value) {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size * 2);
+        }
+
+        int index = size++;
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!before(value, values[parent])) {
+                break;
+            }
+            values[index] = values[parent];
+            index = parent;
+        }
+        values[index] = value;
+    }
+
+    int poll() {
+        int top = values[0];
+        int last = values[--size];
+        int index = 0;
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && before(values[child + 1], values[child])) {
+                child++;
+            }
+            if (!before(values[child], last)) {
+                break;
+            }
+            values[index] = values[child];
+            index = child;
+        }
+        values[index] = last;
+        return top;
+    }
+
+    private boolean before(int a, int b) {
+        return maxHeap ? a > b : a < b;
+    }
+}
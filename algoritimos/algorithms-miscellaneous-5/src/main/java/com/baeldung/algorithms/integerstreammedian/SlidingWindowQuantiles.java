@@ -0,0 +1,129 @@
+package com.baeldung.algorithms.integerstreammedian;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Quantiles over the most recent values of a stream, either the last {@code n} values or the
+ * values of the last time period. The window is split into buckets, each summarised by a
+ * {@link TDigest}; a bucket is dropped as a whole once it falls out of the window, and a query
+ * merges the live buckets. The window therefore covers up to one extra bucket of older values,
+ * which more buckets make smaller at the cost of slower queries.
+ * <p>
+ * Not thread-safe.
+ */
+public class SlidingWindowQuantiles {
+
+    private static final long EMPTY = Long.MIN_VALUE;
+
+    private final TDigest[] buckets;
+
+    /**
+     * Epoch of the values held by each bucket; values of epoch {@code e} go to bucket
+     * {@code e % buckets.length}.
+     */
+    private final long[] bucketEpochs;
+
+    /**
+     * Values (in count mode) or nanoseconds (in time mode) covered by one bucket.
+     */
+    private final long bucketSpan;
+    private final LongSupplier clock;
+    private long added;
+
+    private SlidingWindowQuantiles(long window, int bucketCount, double compression, LongSupplier clock) {
+        if (bucketCount < 1) {
+            throw new IllegalArgumentException("At least one bucket is required");
+        }
+        if (window < bucketCount) {
+            throw new IllegalArgumentException("The window should span at least one unit per bucket");
+        }
+
+        // one bucket more than requested, which fills up while the oldest one expires
+        this.buckets = new TDigest[bucketCount + 1];
+        this.bucketEpochs = new long[bucketCount + 1];
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new TDigest(compression);
+        }
+        Arrays.fill(bucketEpochs, EMPTY);
+        this.bucketSpan = (window + bucketCount - 1) / bucketCount;
+        this.clock = clock;
+    }
+
+    /**
+     * A window over the last {@code windowSize} values.
+     */
+    public static SlidingWindowQuantiles ofCount(int windowSize, int bucketCount, double compression) {
+        return new SlidingWindowQuantiles(windowSize, bucketCount, compression, null);
+    }
+
+    /**
+     * A window over the values added during the last {@code window} time units.
+     */
+    public static SlidingWindowQuantiles ofTime(long window, TimeUnit unit, int bucketCount, double compression) {
+        return ofTime(window, unit, bucketCount, compression, System::nanoTime);
+    }
+
+    /**
+     * @param nanoClock The time source, in nanoseconds, such as {@link System#nanoTime()}.
+     */
+    public static SlidingWindowQuantiles ofTime(long window, TimeUnit unit, int bucketCount, double compression, LongSupplier nanoClock) {
+        return new SlidingWindowQuantiles(unit.toNanos(window), bucketCount, compression, nanoClock);
+    }
+
+    public void add(double value) {
+        long epoch = currentEpoch();
+        int slot = (int) Math.floorMod(epoch, (long) buckets.length);
+        if (bucketEpochs[slot] != epoch) {
+            buckets[slot].clear();
+            bucketEpochs[slot] = epoch;
+        }
+        buckets[slot].add(value);
+        added++;
+    }
+
+    /**
+     * @return The number of values in the window.
+     */
+    public long size() {
+        long size = 0;
+        long current = currentEpoch();
+        for (int i = 0; i < buckets.length; i++) {
+            if (isLive(bucketEpochs[i], current)) {
+                size += buckets[i].size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * @return The estimated quantile of the values in the window, or NaN if there are none.
+     */
+    public double quantile(double q) {
+        return snapshot().quantile(q);
+    }
+
+    /**
+     * @return A digest of the values in the window.
+     */
+    public TDigest snapshot() {
+        TDigest merged = new TDigest(buckets[0].getCompression());
+        long current = currentEpoch();
+        for (int i = 0; i < buckets.length; i++) {
+            if (isLive(bucketEpochs[i], current)) {
+                merged.merge(buckets[i]);
+            }
+        }
+        return merged;
+    }
+
+    private long currentEpoch() {
+        // in count mode, the epoch of the next value
+        return clock == null ? added / bucketSpan : Math.floorDiv(clock.getAsLong(), bucketSpan);
+    }
+
+    private boolean isLive(long epoch, long current) {
+        return epoch != EMPTY && epoch > current - buckets.length && epoch <= current;
+    }
+}
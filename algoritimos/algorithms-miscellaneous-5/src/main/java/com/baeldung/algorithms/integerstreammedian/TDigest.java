@@ -0,0 +1,326 @@
+package com.baeldung.algorithms.integerstreammedian;
+
+import java.util.Arrays;
+
+/**
+ * Merging t-digest (Dunning and Ertl), a sketch which answers any quantile of a stream of doubles
+ * in bounded memory. Values are collected in a buffer; when it fills up, the buffer is sorted and
+ * merged with the existing centroids, and neighbouring centroids are combined as long as the
+ * {@code k1} scale function allows. This keeps centroids small near the tails, so extreme
+ * percentiles such as p99.9 stay accurate.
+ * <p>
+ * Memory is about {@code compression} centroids plus a buffer of five times as many values.
+ * Digests can be merged, for instance to combine per-thread or per-interval digests. Not
+ * thread-safe; see {@link ConcurrentQuantileSketch}.
+ */
+public class TDigest {
+
+    public static final double DEFAULT_COMPRESSION = 100;
+
+    private final double compression;
+
+    private double[] means;
+    private double[] weights;
+    private int centroidCount;
+    private double centroidWeight;
+
+    private final double[] bufferMeans;
+    private final double[] bufferWeights;
+    private int bufferCount;
+    private double bufferWeight;
+
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+
+    /**
+     * Merging always from the same end biases the centroids, so every other flush merges from
+     * the largest values down.
+     */
+    private boolean mergeDescending;
+
+    public TDigest() {
+        this(DEFAULT_COMPRESSION);
+    }
+
+    /**
+     * @param compression Roughly the number of centroids kept; higher is more accurate.
+     */
+    public TDigest(double compression) {
+        if (compression < 10) {
+            throw new IllegalArgumentException("The compression should be at least 10");
+        }
+
+        this.compression = compression;
+        int capacity = (int) Math.ceil(compression) + 10;
+        this.means = new double[capacity];
+        this.weights = new double[capacity];
+        this.bufferMeans = new double[5 * capacity];
+        this.bufferWeights = new double[5 * capacity];
+    }
+
+    public double getCompression() {
+        return compression;
+    }
+
+    /**
+     * @return The number of values added, including merged digests.
+     */
+    public long size() {
+        return Math.round(centroidWeight + bufferWeight);
+    }
+
+    public double getMin() {
+        return min;
+    }
+
+    public double getMax() {
+        return max;
+    }
+
+    public void add(double value) {
+        add(value, 1);
+    }
+
+    public void add(double value, double weight) {
+        if (Double.isNaN(value)) {
+            throw new IllegalArgumentException("Can't add NaN");
+        }
+        if (!(weight > 0)) {
+            throw new IllegalArgumentException("The weight should be positive");
+        }
+
+        if (bufferCount == bufferMeans.length) {
+            flush();
+        }
+        bufferMeans[bufferCount] = value;
+        bufferWeights[bufferCount] = weight;
+        bufferCount++;
+        bufferWeight += weight;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    /**
+     * Adds all values of the other digest to this one. The other digest is left unchanged; a
+     * digest merged into itself doubles the weight of its values.
+     */
+    public void merge(TDigest other) {
+        if (other == this) {
+            // adding values to this digest compresses the centroids being read
+            other = other.copy();
+        }
+        for (int i = 0; i < other.centroidCount; i++) {
+            add(other.means[i], other.weights[i]);
+        }
+        for (int i = 0; i < other.bufferCount; i++) {
+            add(other.bufferMeans[i], other.bufferWeights[i]);
+        }
+        // the centroids of the other digest don't carry its exact extremes
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    public TDigest copy() {
+        TDigest copy = new TDigest(compression);
+        copy.merge(this);
+        return copy;
+    }
+
+    public void clear() {
+        centroidCount = 0;
+        centroidWeight = 0;
+        bufferCount = 0;
+        bufferWeight = 0;
+        min = Double.POSITIVE_INFINITY;
+        max = Double.NEGATIVE_INFINITY;
+    }
+
+    /**
+     * @return The number of centroids, once the buffer is merged.
+     */
+    public int getCentroidCount() {
+        flush();
+        return centroidCount;
+    }
+
+    /**
+     * @param q The quantile, from 0 to 1.
+     * @return The estimated value at the quantile, or NaN if the digest is empty.
+     */
+    public double quantile(double q) {
+        if (!(q >= 0 && q <= 1)) {
+            throw new IllegalArgumentException("The quantile should be between 0 and 1");
+        }
+
+        flush();
+        if (centroidCount == 0) {
+            return Double.NaN;
+        }
+        if (centroidCount == 1) {
+            return means[0];
+        }
+
+        // each centroid's weight is centred on its mean; interpolate between the centres
+        double index = q * centroidWeight;
+        double center = weights[0] / 2;
+        if (index <= center) {
+            return min + (means[0] - min) * (index / center);
+        }
+        for (int i = 0; i < centroidCount - 1; i++) {
+            double nextCenter = center + (weights[i] + weights[i + 1]) / 2;
+            if (index <= nextCenter) {
+                return means[i] + (means[i + 1] - means[i]) * (index - center) / (nextCenter - center);
+            }
+            center = nextCenter;
+        }
+
+        double last = centroidWeight - center;
+        return means[centroidCount - 1] + (max - means[centroidCount - 1]) * ((index - center) / last);
+    }
+
+    /**
+     * Sorts the buffer, merges it with the centroids and compresses the result.
+     */
+    private void flush() {
+        if (bufferCount == 0) {
+            return;
+        }
+
+        sortByMean(bufferMeans, bufferWeights, 0, bufferCount - 1);
+
+        int total = centroidCount + bufferCount;
+        double[] mergedMeans = new double[total];
+        double[] mergedWeights = new double[total];
+        int i = 0;
+        int j = 0;
+        for (int k = 0; k < total; k++) {
+            if (j >= bufferCount || (i < centroidCount && means[i] <= bufferMeans[j])) {
+                mergedMeans[k] = means[i];
+                mergedWeights[k] = weights[i++];
+            } else {
+                mergedMeans[k] = bufferMeans[j];
+                mergedWeights[k] = bufferWeights[j++];
+            }
+        }
+
+        if (mergeDescending) {
+            reverse(mergedMeans, total);
+            reverse(mergedWeights, total);
+        }
+
+        double totalWeight = centroidWeight + bufferWeight;
+        int count = 0;
+        double weightSoFar = 0;
+        double weightLimit = totalWeight * inverseScale(scale(0) + 1);
+        double mean = mergedMeans[0];
+        double weight = mergedWeights[0];
+        for (int k = 1; k < total; k++) {
+            double proposed = weight + mergedWeights[k];
+            if (weightSoFar + proposed <= weightLimit) {
+                mean += (mergedMeans[k] - mean) * mergedWeights[k] / proposed;
+                weight = proposed;
+            } else {
+                count = emit(count, mean, weight);
+                weightSoFar += weight;
+                weightLimit = totalWeight * inverseScale(scale(weightSoFar / totalWeight) + 1);
+                mean = mergedMeans[k];
+                weight = mergedWeights[k];
+            }
+        }
+        count = emit(count, mean, weight);
+        if (mergeDescending) {
+            reverse(means, count);
+            reverse(weights, count);
+        }
+        mergeDescending = !mergeDescending;
+
+        centroidCount = count;
+        centroidWeight = totalWeight;
+        bufferCount = 0;
+        bufferWeight = 0;
+    }
+
+    private int emit(int count, double mean, double weight) {
+        if (count == means.length) {
+            means = Arrays.copyOf(means, count * 2);
+            weights = Arrays.copyOf(weights, count * 2);
+        }
+        means[count] = mean;
+        weights[count] = weight;
+        return count + 1;
+    }
+
+    /**
+     * The k1 scale function, {@code k(q) = compression / (2 * PI) * asin(2q - 1)}.
+     */
+    private double scale(double q) {
+        return compression / (2 * Math.PI) * Math.asin(2 * q - 1);
+    }
+
+    private double inverseScale(double k) {
+        if (k >= compression / 4) {
+            return 1;
+        }
+        return (Math.sin(k * 2 * Math.PI / compression) + 1) / 2;
+    }
+
+    /**
+     * Quicksort of the means, moving the weights along.
+     */
+    private static void sortByMean(double[] keys, double[] values, int from, int to) {
+        while (to - from > 16) {
+            double pivot = keys[(from + to) >>> 1];
+            int i = from;
+            int j = to;
+            while (i <= j) {
+                while (keys[i] < pivot) {
+                    i++;
+                }
+                while (keys[j] > pivot) {
+                    j--;
+                }
+                if (i <= j) {
+                    swap(keys, values, i++, j--);
+                }
+            }
+            // recurse into the smaller part to bound the stack depth
+            if (j - from < to - i) {
+                sortByMean(keys, values, from, j);
+                from = i;
+            } else {
+                sortByMean(keys, values, i, to);
+                to = j;
+            }
+        }
+
+        for (int i = from + 1; i <= to; i++) {
+            double key = keys[i];
+            double value = values[i];
+            int j = i - 1;
+            while (j >= from && keys[j] > key) {
+                keys[j + 1] = keys[j];
+                values[j + 1] = values[j];
+                j--;
+            }
+            keys[j + 1] = key;
+            values[j + 1] = value;
+        }
+    }
+
+    private static void reverse(double[] values, int length) {
+        for (int i = 0, j = length - 1; i < j; i++, j--) {
+            double value = values[i];
+            values[i] = values[j];
+            values[j] = value;
+        }
+    }
+
+    private static void swap(double[] keys, double[] values, int i, int j) {
+        double key = keys[i];
+        keys[i] = keys[j];
+        keys[j] = key;
+        double value = values[i];
+        values[i] = values[j];
+        values[j] = value;
+    }
+}
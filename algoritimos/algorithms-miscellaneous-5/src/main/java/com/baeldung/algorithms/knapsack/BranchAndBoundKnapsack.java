@@ -0,0 +1,114 @@
+package com.baeldung.algorithms.knapsack;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Solves knapsacks whose capacity is too large for a row per capacity, but with few items, by
+ * searching the choices of items depth-first. The items are sorted by decreasing value per unit
+ * of weight, so that filling the rest of the knapsack greedily, with a fraction of the first item
+ * which doesn't fit, bounds the value of any completion (Dantzig's bound). Branches whose bound
+ * doesn't beat the best solution found so far are pruned.
+ * <p>
+ * The time doesn't depend on the capacity, but grows exponentially with the number of items in
+ * the worst case. In practice, the bound prunes most branches of a few dozen items.
+ */
+public final class BranchAndBoundKnapsack {
+
+    private BranchAndBoundKnapsack() {
+    }
+
+    public static KnapsackSolution solve(KnapsackInstance instance) {
+        boolean[] taken = new boolean[instance.size()];
+        List<Integer> items = new ArrayList<>();
+        for (int item = 0; item < instance.size(); item++) {
+            // weightless items are always worth taking, and worthless ones never are
+            if (instance.getValue(item) > 0) {
+                if (instance.getWeight(item) == 0) {
+                    taken[item] = true;
+                } else {
+                    items.add(item);
+                }
+            }
+        }
+        items.sort((a, b) -> Long.compare((long) instance.getValue(b) * instance.getWeight(a), (long) instance.getValue(a) * instance.getWeight(b)));
+        int[] order = items
+          .stream()
+          .mapToInt(Integer::intValue)
+          .toArray();
+
+        Search search = new Search(instance, order);
+        search.branch(0, instance.getCapacity(), 0);
+        for (int i = 0; i < order.length; i++) {
+            taken[order[i]] = search.best[i];
+        }
+        return KnapsackSolution.of(instance, taken);
+    }
+
+    private static final class Search {
+
+        private final int size;
+        private final long[] weights;
+        private final long[] values;
+
+        /**
+         * Per sorted item, the total weight and value of the items before it.
+         */
+        private final long[] weightsBefore;
+        private final long[] valuesBefore;
+
+        private final boolean[] current;
+        private final boolean[] best;
+        private long bestValue = -1;
+
+        Search(KnapsackInstance instance, int[] order) {
+            this.size = order.length;
+            this.weights = new long[size];
+            this.values = new long[size];
+            this.weightsBefore = new long[size + 1];
+            this.valuesBefore = new long[size + 1];
+            for (int i = 0; i < size; i++) {
+                weights[i] = instance.getWeight(order[i]);
+                values[i] = instance.getValue(order[i]);
+                weightsBefore[i + 1] = weightsBefore[i] + weights[i];
+                valuesBefore[i + 1] = valuesBefore[i] + values[i];
+            }
+            this.current = new boolean[size];
+            this.best = new boolean[size];
+        }
+
+        void branch(int i, long capacity, long value) {
+            if (value > bestValue) {
+                bestValue = value;
+                System.arraycopy(current, 0, best, 0, size);
+            }
+            if (i == size || bound(i, capacity, value) <= bestValue) {
+                return;
+            }
+
+            if (weights[i] <= capacity) {
+                current[i] = true;
+                branch(i + 1, capacity - weights[i], value + values[i]);
+                current[i] = false;
+            }
+            branch(i + 1, capacity, value);
+        }
+
+        /**
+         * @return The value of the greedy fractional completion from item {@code i}, rounded
+         *         down, as values are whole.
+         */
+        private long bound(int i, long capacity, long value) {
+            // the last item k such that items i to k - 1 all fit
+            long limit = weightsBefore[i] + capacity;
+            int k = Arrays.binarySearch(weightsBefore, i, size + 1, limit);
+            k = k >= 0 ? k : -k - 2;
+            long bound = value + valuesBefore[k] - valuesBefore[i];
+            if (k < size) {
+                bound += (limit - weightsBefore[k]) * values[k] / weights[k];
+            }
+            return bound;
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.baeldung.algorithms.knapsack;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Chooses the items of a best knapsack in {@code O(capacity)} memory, the way Hirschberg's
+ * algorithm aligns strings in linear space. The items are split in two halves, and the rolling
+ * rows of {@link RollingKnapsack} give the best value of each half for every capacity. The
+ * capacity {@code c} maximizing {@code left[c] + right[capacity - c]} is how much of the
+ * knapsack the first half gets in a best solution, so each half is solved on its own share.
+ * <p>
+ * Each level of the recursion costs about as much as the rolling row, so choosing the items
+ * costs {@code O(log n)} times as much as the best value alone. Small subproblems are solved
+ * with a table of one bit per item and capacity instead, and ranges of items which all fit in
+ * their share are taken whole.
+ */
+public final class HirschbergKnapsack {
+
+    /**
+     * Bits of the table for the subproblems small enough to solve in one pass.
+     */
+    private static final int MAX_TABLE_BITS = 1 << 20;
+
+    private HirschbergKnapsack() {
+    }
+
+    public static KnapsackSolution solve(KnapsackInstance instance) {
+        return solve(instance, null);
+    }
+
+    /**
+     * @param pool The pool filling the rolling rows, or {@code null} to fill them on the calling
+     *        thread.
+     */
+    public static KnapsackSolution solve(KnapsackInstance instance, ForkJoinPool pool) {
+        Search search = new Search(instance, pool);
+        if (instance.size() > 0) {
+            search.solve(0, instance.size(), instance.checkedRowCapacity());
+        }
+        return KnapsackSolution.of(instance, search.taken);
+    }
+
+    private static final class Search {
+
+        private final int[] weights;
+        private final int[] values;
+        private final ForkJoinPool pool;
+        private final boolean[] taken;
+
+        /**
+         * Per item, the total weight of the items before it.
+         */
+        private final long[] weightsBefore;
+
+        /**
+         * Rows of the two halves, reused by all levels, which no longer need them once the
+         * capacity is split.
+         */
+        private final int[] left;
+        private final int[] right;
+        private final int[] leftScratch;
+        private final int[] rightScratch;
+
+        private final long[] decisions = new long[MAX_TABLE_BITS / 64];
+
+        Search(KnapsackInstance instance, ForkJoinPool pool) {
+            this.weights = instance.weights();
+            this.values = instance.values();
+            this.pool = pool;
+            this.taken = new boolean[weights.length];
+            this.weightsBefore = new long[weights.length + 1];
+            for (int item = 0; item < weights.length; item++) {
+                weightsBefore[item + 1] = weightsBefore[item] + weights[item];
+            }
+
+            int length = instance.checkedRowCapacity() + 1;
+            this.left = new int[length];
+            this.right = new int[length];
+            this.leftScratch = pool == null ? null : new int[length];
+            this.rightScratch = pool == null ? null : new int[length];
+        }
+
+        void solve(int from, int to, int capacity) {
+            if (weightsBefore[to] - weightsBefore[from] <= capacity) {
+                for (int item = from; item < to; item++) {
+                    taken[item] = values[item] > 0;
+                }
+                return;
+            }
+            if (to - from == 1) {
+                taken[from] = weights[from] <= capacity && values[from] > 0;
+                return;
+            }
+            if ((long) (to - from) * (capacity + 1) <= MAX_TABLE_BITS) {
+                solveWithTable(from, to, capacity);
+                return;
+            }
+
+            int middle = (from + to) >>> 1;
+            int[] first = RollingKnapsack.fill(weights, values, from, middle, capacity, left, leftScratch, pool);
+            int[] second = RollingKnapsack.fill(weights, values, middle, to, capacity, right, rightScratch, pool);
+            int split = 0;
+            int best = -1;
+            for (int c = 0; c <= capacity; c++) {
+                int value = first[c] + second[capacity - c];
+                if (value > best) {
+                    best = value;
+                    split = c;
+                }
+            }
+
+            solve(from, middle, split);
+            solve(middle, to, capacity - split);
+        }
+
+        /**
+         * Fills a rolling row, recording for each item and capacity whether the item improved
+         * it, then walks the records back from the last item.
+         */
+        private void solveWithTable(int from, int to, int capacity) {
+            int width = capacity + 1;
+            Arrays.fill(decisions, 0, (int) (((long) (to - from) * width + 63) >>> 6), 0L);
+            int[] best = left;
+            Arrays.fill(best, 0, width, 0);
+            for (int item = from; item < to; item++) {
+                int weight = weights[item];
+                int value = values[item];
+                int base = (item - from) * width;
+                for (int c = capacity; c >= weight; c--) {
+                    int candidate = best[c - weight] + value;
+                    if (candidate > best[c]) {
+                        best[c] = candidate;
+                        int bit = base + c;
+                        decisions[bit >>> 6] |= 1L << bit;
+                    }
+                }
+            }
+
+            int c = capacity;
+            for (int item = to - 1; item >= from; item--) {
+                int bit = (item - from) * width + c;
+                if ((decisions[bit >>> 6] & 1L << bit) != 0) {
+                    taken[item] = true;
+                    c -= weights[item];
+                }
+            }
+        }
+    }
+}
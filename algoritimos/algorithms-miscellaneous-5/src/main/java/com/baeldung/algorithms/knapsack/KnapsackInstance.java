@@ -0,0 +1,90 @@
+package com.baeldung.algorithms.knapsack;
+
+/**
+ * A 0/1 knapsack problem: items with a weight and a value, and the capacity of the knapsack.
+ * The total value of the items must fit in an {@code int}, so no solver overflows.
+ */
+public final class KnapsackInstance {
+
+    /**
+     * The highest capacity of a row of the solvers, whose length must fit in an array.
+     */
+    static final int MAX_ROW_CAPACITY = Integer.MAX_VALUE - 9;
+
+    private final int[] weights;
+    private final int[] values;
+    private final int capacity;
+    private final long totalWeight;
+
+    public KnapsackInstance(int[] weights, int[] values, int capacity) {
+        if (weights.length != values.length) {
+            throw new IllegalArgumentException("There should be as many values as weights");
+        }
+        if (capacity < 0) {
+            throw new IllegalArgumentException("The capacity should not be negative");
+        }
+        long totalWeight = 0;
+        long totalValue = 0;
+        for (int i = 0; i < weights.length; i++) {
+            if (weights[i] < 0 || values[i] < 0) {
+                throw new IllegalArgumentException("Item " + i + " should not have a negative weight or value");
+            }
+            totalWeight += weights[i];
+            totalValue += values[i];
+        }
+        if (totalValue > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("The total value of the items should fit in an int");
+        }
+        this.weights = weights.clone();
+        this.values = values.clone();
+        this.capacity = capacity;
+        this.totalWeight = totalWeight;
+    }
+
+    public int size() {
+        return weights.length;
+    }
+
+    public int getWeight(int item) {
+        return weights[item];
+    }
+
+    public int getValue(int item) {
+        return values[item];
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public long getTotalWeight() {
+        return totalWeight;
+    }
+
+    /**
+     * @return The capacity of the rows of the solvers: capacities beyond the total weight all
+     *         have the same best value.
+     */
+    long rowCapacity() {
+        return Math.min(capacity, totalWeight);
+    }
+
+    /**
+     * @return {@link #rowCapacity()}, if a row that long can be allocated.
+     */
+    int checkedRowCapacity() {
+        long rowCapacity = rowCapacity();
+        if (rowCapacity > MAX_ROW_CAPACITY) {
+            throw new IllegalArgumentException("A row of " + (rowCapacity + 1) + " capacities is too long to allocate");
+        }
+        return (int) rowCapacity;
+    }
+
+    int[] weights() {
+        return weights;
+    }
+
+    int[] values() {
+        return values;
+    }
+}
@@ -0,0 +1,54 @@
+package com.baeldung.algorithms.knapsack;
+
+import java.util.Arrays;
+
+/**
+ * The items chosen for a {@link KnapsackInstance}, with their total weight and value.
+ */
+public final class KnapsackSolution {
+
+    private final int[] items;
+    private final int weight;
+    private final int value;
+
+    private KnapsackSolution(int[] items, int weight, int value) {
+        this.items = items;
+        this.weight = weight;
+        this.value = value;
+    }
+
+    static KnapsackSolution of(KnapsackInstance instance, boolean[] taken) {
+        int[] items = new int[instance.size()];
+        int count = 0;
+        long weight = 0;
+        int value = 0;
+        for (int item = 0; item < taken.length; item++) {
+            if (taken[item]) {
+                items[count++] = item;
+                weight += instance.getWeight(item);
+                value += instance.getValue(item);
+            }
+        }
+        return new KnapsackSolution(Arrays.copyOf(items, count), (int) weight, value);
+    }
+
+    /**
+     * @return The indexes of the chosen items, in ascending order.
+     */
+    public int[] getItems() {
+        return items.clone();
+    }
+
+    public int getWeight() {
+        return weight;
+    }
+
+    public int getValue() {
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return "KnapsackSolution{items=" + Arrays.toString(items) + ", weight=" + weight + ", value=" + value + "}";
+    }
+}
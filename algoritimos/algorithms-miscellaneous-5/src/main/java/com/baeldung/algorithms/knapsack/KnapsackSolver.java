@@ -0,0 +1,54 @@
+package com.baeldung.algorithms.knapsack;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+/**
+ * Solves knapsacks with whichever solver suits them: {@link HirschbergKnapsack} unless its rows
+ * would be too long for the number of items, or too long to allocate at all, then
+ * {@link BranchAndBoundKnapsack}.
+ */
+public final class KnapsackSolver {
+
+    /**
+     * Items times capacities above which a row per capacity is slower than branch and bound,
+     * when there are few enough items for it.
+     */
+    static final long MAX_ROW_CELLS = 1L << 27;
+    static final int MAX_BRANCH_AND_BOUND_ITEMS = 64;
+
+    private KnapsackSolver() {
+    }
+
+    public static KnapsackSolution solve(KnapsackInstance instance) {
+        long rowCapacity = instance.rowCapacity();
+        boolean longRows = rowCapacity > KnapsackInstance.MAX_ROW_CAPACITY || instance.size() * (rowCapacity + 1) > MAX_ROW_CELLS;
+        if (instance.size() <= MAX_BRANCH_AND_BOUND_ITEMS && longRows) {
+            return BranchAndBoundKnapsack.solve(instance);
+        }
+        return HirschbergKnapsack.solve(instance);
+    }
+
+    /**
+     * Solves many knapsacks at once, one per thread of the pool.
+     *
+     * @param pool The pool solving the knapsacks, or {@code null} to solve them on the calling
+     *        thread.
+     * @return The solutions, in the order of the knapsacks.
+     */
+    public static List<KnapsackSolution> solveAll(List<KnapsackInstance> instances, ForkJoinPool pool) {
+        if (pool == null) {
+            return instances
+              .stream()
+              .map(KnapsackSolver::solve)
+              .collect(Collectors.toList());
+        }
+        return pool
+          .submit(() -> instances
+            .parallelStream()
+            .map(KnapsackSolver::solve)
+            .collect(Collectors.toList()))
+          .join();
+    }
+}
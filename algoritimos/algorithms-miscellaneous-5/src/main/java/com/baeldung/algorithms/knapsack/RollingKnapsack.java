@@ -0,0 +1,107 @@
+package com.baeldung.algorithms.knapsack;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * The best value of a knapsack with one row of {@code capacity + 1} values instead of the
+ * {@code (n + 1) x (capacity + 1)} table of {@link Knapsack#knapsackDP(int[], int[], int, int)}:
+ * each item only needs the row of the items before it, and updating the row from the highest
+ * capacity down reads every value before overwriting it.
+ * <p>
+ * With a pool, the row is split into ranges of capacities updated in parallel, item after item.
+ * A range then reads values below it, which another thread may be overwriting, so the parallel
+ * version alternates between two rows.
+ */
+public final class RollingKnapsack {
+
+    /**
+     * Capacities per parallel range, below which a range costs more to schedule than to update.
+     */
+    static final int MIN_RANGE = 1 << 13;
+
+    private RollingKnapsack() {
+    }
+
+    public static int maxValue(KnapsackInstance instance) {
+        return maxValue(instance, null);
+    }
+
+    /**
+     * @param pool The pool updating ranges of capacities, or {@code null} to update them on the
+     *        calling thread.
+     */
+    public static int maxValue(KnapsackInstance instance, ForkJoinPool pool) {
+        int capacity = instance.checkedRowCapacity();
+        int[] best = new int[capacity + 1];
+        int[] scratch = isParallel(capacity, pool) ? new int[capacity + 1] : null;
+        return fill(instance.weights(), instance.values(), 0, instance.size(), capacity, best, scratch, pool)[capacity];
+    }
+
+    /**
+     * Fills {@code best[c]}, for each {@code c} from 0 to {@code capacity}, with the best value of
+     * the items from {@code from} to {@code to} (excluded) within capacity {@code c}.
+     *
+     * @param scratch A row at least as long as {@code best}, for a parallel fill, or {@code null}
+     *        if {@code pool} is {@code null}.
+     * @return {@code best} or {@code scratch}, whichever holds the result.
+     */
+    static int[] fill(int[] weights, int[] values, int from, int to, int capacity, int[] best, int[] scratch, ForkJoinPool pool) {
+        if (isParallel(capacity, pool)) {
+            return pool
+              .submit(() -> fillParallel(weights, values, from, to, capacity, best, scratch, pool.getParallelism()))
+              .join();
+        }
+
+        Arrays.fill(best, 0, capacity + 1, 0);
+        for (int item = from; item < to; item++) {
+            int weight = weights[item];
+            int value = values[item];
+            for (int c = capacity; c >= weight; c--) {
+                int candidate = best[c - weight] + value;
+                if (candidate > best[c]) {
+                    best[c] = candidate;
+                }
+            }
+        }
+        return best;
+    }
+
+    private static boolean isParallel(int capacity, ForkJoinPool pool) {
+        return pool != null && capacity >= 2 * MIN_RANGE;
+    }
+
+    private static int[] fillParallel(int[] weights, int[] values, int from, int to, int capacity, int[] best, int[] scratch, int parallelism) {
+        int length = capacity + 1;
+        int ranges = Math.min(length / MIN_RANGE, 4 * parallelism);
+        int[] previous = best;
+        int[] next = scratch;
+        Arrays.fill(previous, 0, length, 0);
+        for (int item = from; item < to; item++) {
+            int weight = weights[item];
+            int value = values[item];
+            if (weight > capacity || value == 0) {
+                continue;
+            }
+
+            int[] source = previous;
+            int[] target = next;
+            IntStream
+              .range(0, ranges)
+              .parallel()
+              .forEach(range -> {
+                  int low = (int) ((long) length * range / ranges);
+                  int high = (int) ((long) length * (range + 1) / ranges);
+                  int split = Math.min(Math.max(low, weight), high);
+                  System.arraycopy(source, low, target, low, split - low);
+                  for (int c = split; c < high; c++) {
+                      target[c] = Math.max(source[c], source[c - weight] + value);
+                  }
+              });
+            previous = target;
+            next = source;
+        }
+        return previous;
+    }
+}
@@ -0,0 +1,140 @@
+package com.baeldung.algorithms.combinatorics;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Spliterator;
+
+import org.junit.Test;
+
+public class CombinatoricsSpliteratorUnitTest {
+
+    @Test
+    public void givenN_whenStreamingPermutations_thenEachDiffersFromPreviousBySwap() {
+        for (int n = 1; n <= 7; n++) {
+            List<int[]> permutations = collect(new HeapPermutationSpliterator(n));
+
+            assertEquals(factorial(n), permutations.size());
+            assertEquals(factorial(n), permutations.stream().map(Arrays::toString).distinct().count());
+            for (int i = 1; i < permutations.size(); i++) {
+                assertEquals(2, differences(permutations.get(i - 1), permutations.get(i)));
+            }
+        }
+    }
+
+    @Test
+    public void givenN_whenSplittingPermutations_thenMatchSequentialOrder() {
+        for (int n = 1; n <= 7; n++) {
+            assertSameArrangements(collect(new HeapPermutationSpliterator(n)), splitAll(new HeapPermutationSpliterator(n)));
+        }
+    }
+
+    @Test
+    public void givenNAndK_whenStreamingCombinations_thenLexicographicOrder() {
+        for (int n = 0; n <= 10; n++) {
+            for (int k = 0; k <= n; k++) {
+                List<int[]> combinations = collect(new CombinationSpliterator(n, k));
+                List<int[]> expected = new ArrayList<>();
+                for (List<Integer> combination : Combinatorics.combinations(range(n), k)) {
+                    expected.add(combination.stream().mapToInt(Integer::intValue).toArray());
+                }
+                expected.sort(CombinatoricsSpliteratorUnitTest::compare);
+
+                assertSameArrangements(expected, combinations);
+                assertSameArrangements(combinations, splitAll(new CombinationSpliterator(n, k)));
+            }
+        }
+    }
+
+    @Test
+    public void givenN_whenStreamingPowerSetInGrayCode_thenEachDiffersFromPreviousByOneElement() {
+        long[] subsets = Combinatorics.grayCodePowerSetStream(10).toArray();
+
+        assertEquals(1024, subsets.length);
+        assertEquals(1024, Arrays.stream(subsets).distinct().count());
+        for (int i = 1; i < subsets.length; i++) {
+            assertEquals(1, Long.bitCount(subsets[i - 1] ^ subsets[i]));
+            assertEquals(1L << Long.numberOfTrailingZeros(i), subsets[i - 1] ^ subsets[i]);
+        }
+        assertArrayEquals(subsets, Combinatorics.grayCodePowerSetStream(10).parallel().toArray());
+    }
+
+    @Test
+    public void givenN_whenStreamingInParallel_thenEnumerateEverything() {
+        assertEquals(factorial(9), Combinatorics.permutationStream(9).parallel().map(Arrays::toString).distinct().count());
+        assertEquals(184756, Combinatorics.combinationStream(20, 10).parallel().map(Arrays::toString).distinct().count());
+        assertEquals(1 << 20, Combinatorics.powerSetStream(20).parallel().distinct().count());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void givenTooManyElements_whenStreamingPermutations_thenThrow() {
+        Combinatorics.permutationStream(21);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void givenTooManyCombinations_whenStreamingCombinations_thenThrow() {
+        Combinatorics.combinationStream(70, 35);
+    }
+
+    private static List<int[]> collect(Spliterator<int[]> spliterator) {
+        List<int[]> arrangements = new ArrayList<>();
+        spliterator.forEachRemaining(arrangement -> arrangements.add(arrangement.clone()));
+        return arrangements;
+    }
+
+    /**
+     * Splits down to single arrangements, advancing each split before splitting it again.
+     */
+    private static List<int[]> splitAll(Spliterator<int[]> spliterator) {
+        List<int[]> arrangements = new ArrayList<>();
+        Spliterator<int[]> prefix = spliterator.trySplit();
+        if (prefix == null) {
+            return collect(spliterator);
+        }
+        arrangements.addAll(splitAll(prefix));
+        spliterator.tryAdvance(arrangement -> arrangements.add(arrangement.clone()));
+        arrangements.addAll(splitAll(spliterator));
+        return arrangements;
+    }
+
+    private static void assertSameArrangements(List<int[]> expected, List<int[]> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertArrayEquals(expected.get(i), actual.get(i));
+        }
+    }
+
+    private static int differences(int[] a, int[] b) {
+        int count = 0;
+        for (int i = 0; i < a.length; i++) {
+            if (a[i] != b[i]) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static int compare(int[] a, int[] b) {
+        for (int i = 0; i < a.length; i++) {
+            if (a[i] != b[i]) {
+                return Integer.compare(a[i], b[i]);
+            }
+        }
+        return 0;
+    }
+
+    private static List<Integer> range(int n) {
+        List<Integer> range = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            range.add(i);
+        }
+        return range;
+    }
+
+    private static long factorial(int n) {
+        return n <= 1 ? 1 : n * factorial(n - 1);
+    }
+}
@@ -0,0 +1,107 @@
+package com.baeldung.algorithms.integerstreammedian;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Throughput of adding a stream of values and reading a quantile. The accuracy of the sketches
+ * is checked by {@link QuantileSketchUnitTest}.
+ */
+@Fork(value = 1, warmups = 1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class QuantileSketchBenchmark {
+
+    private static final int STREAM_SIZE = 100_000;
+
+    @State(Scope.Benchmark)
+    public static class Stream {
+
+        private int[] values;
+
+        @Setup
+        public void setUp() {
+            Random random = new Random(42);
+            values = new int[STREAM_SIZE];
+            for (int i = 0; i < STREAM_SIZE; i++) {
+                values[i] = (int) (1000 * Math.exp(random.nextGaussian()));
+            }
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class SharedSketch {
+
+        private ConcurrentQuantileSketch sketch;
+
+        @Setup(Level.Iteration)
+        public void setUp() {
+            sketch = new ConcurrentQuantileSketch();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+
+        private int next;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(STREAM_SIZE)
+    public double medianOfIntegerStream(Stream stream) {
+        MedianOfIntegerStream median = new MedianOfIntegerStream();
+        for (int value : stream.values) {
+            median.add(value);
+        }
+        return median.getMedian();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(STREAM_SIZE)
+    public double exactQuantile(Stream stream) {
+        ExactQuantile median = ExactQuantile.median();
+        for (int value : stream.values) {
+            median.add(value);
+        }
+        return median.get();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(STREAM_SIZE)
+    public double tDigest(Stream stream) {
+        TDigest digest = new TDigest();
+        for (int value : stream.values) {
+            digest.add(value);
+        }
+        return digest.quantile(0.5);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(STREAM_SIZE)
+    public double slidingWindow(Stream stream) {
+        SlidingWindowQuantiles window = SlidingWindowQuantiles.ofCount(10_000, 10, TDigest.DEFAULT_COMPRESSION);
+        for (int value : stream.values) {
+            window.add(value);
+        }
+        return window.quantile(0.5);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void concurrentAdd(Stream stream, SharedSketch shared, Cursor cursor) {
+        shared.sketch.add(stream.values[cursor.next]);
+        cursor.next = (cursor.next + 1) % STREAM_SIZE;
+    }
+}
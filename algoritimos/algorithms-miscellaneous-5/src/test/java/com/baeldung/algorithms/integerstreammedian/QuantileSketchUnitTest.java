@@ -0,0 +1,198 @@
+package com.baeldung.algorithms.integerstreammedian;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+public class QuantileSketchUnitTest {
+
+    @Test
+    public void givenStreamOfIntegers_whenAnElementIsRead_thenExactMedianIsNotTruncated() {
+        ExactQuantile median = ExactQuantile.median();
+        assertTrue(Double.isNaN(median.get()));
+
+        median.add(1);
+        assertEquals(1, median.get(), 0);
+        median.add(2);
+        assertEquals(1.5, median.get(), 0);
+        median.add(Integer.MAX_VALUE);
+        median.add(Integer.MAX_VALUE);
+        assertEquals((2.0 + Integer.MAX_VALUE) / 2, median.get(), 0);
+    }
+
+    @Test
+    public void givenRandomStream_whenTrackingExactQuantile_thenMatchSortedValues() {
+        Random random = new Random(1);
+        ExactQuantile p90 = new ExactQuantile(0.9);
+        int[] values = new int[2001];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextInt(10000) - 5000;
+            p90.add(values[i]);
+        }
+        Arrays.sort(values);
+        assertEquals(values[1800], p90.get(), 0);
+        assertEquals(values.length, p90.size());
+    }
+
+    @Test
+    public void givenSkewedStream_whenQueryingDigest_thenRankErrorIsSmall() {
+        Random random = new Random(2);
+        double[] values = new double[1_000_000];
+        TDigest digest = new TDigest(100);
+        for (int i = 0; i < values.length; i++) {
+            // log-normal, like request latencies
+            values[i] = Math.exp(random.nextGaussian());
+            digest.add(values[i]);
+        }
+        Arrays.sort(values);
+
+        assertEquals(values.length, digest.size());
+        assertTrue(digest.getCentroidCount() <= 2 * 100);
+        assertEquals(values[0], digest.quantile(0), 0);
+        assertEquals(values[values.length - 1], digest.quantile(1), 0);
+        for (double q : new double[] { 0.001, 0.01, 0.5, 0.9, 0.99, 0.999 }) {
+            double tolerance = Math.min(0.005, 0.25 * Math.min(q, 1 - q));
+            assertEquals(q, rank(values, digest.quantile(q)), tolerance);
+        }
+    }
+
+    @Test
+    public void givenTwoDigests_whenMerged_thenMatchDigestOfAllValues() {
+        Random random = new Random(3);
+        TDigest left = new TDigest();
+        TDigest right = new TDigest();
+        double[] values = new double[200_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextDouble() * (i % 2 == 0 ? 1 : 10);
+            (i % 2 == 0 ? left : right).add(values[i]);
+        }
+        Arrays.sort(values);
+
+        left.merge(right);
+        assertEquals(values.length, left.size());
+        for (double q : new double[] { 0.1, 0.5, 0.9, 0.99 }) {
+            assertEquals(q, rank(values, left.quantile(q)), 0.005);
+        }
+    }
+
+    @Test
+    public void givenDigest_whenMergedIntoItself_thenEveryValueCountsTwice() {
+        Random random = new Random(4);
+        TDigest digest = new TDigest();
+        double[] values = new double[100_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextGaussian();
+            digest.add(values[i]);
+        }
+        Arrays.sort(values);
+
+        digest.merge(digest);
+        assertEquals(2L * values.length, digest.size());
+        assertEquals(values[0], digest.getMin(), 0);
+        assertEquals(values[values.length - 1], digest.getMax(), 0);
+        for (double q : new double[] { 0.01, 0.5, 0.99 }) {
+            assertEquals(q, rank(values, digest.quantile(q)), 0.005);
+        }
+    }
+
+    @Test
+    public void givenHigherCompressions_whenQueryingTails_thenMoreCentroidsAndSmallerRankError() {
+        Random random = new Random(42);
+        double[] values = new double[1_000_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = Math.exp(random.nextGaussian());
+        }
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+
+        int previousCentroids = 0;
+        for (double compression : new double[] { 50, 200, 500 }) {
+            TDigest digest = new TDigest(compression);
+            for (double value : values) {
+                digest.add(value);
+            }
+
+            assertTrue(digest.getCentroidCount() > previousCentroids);
+            assertTrue(digest.getCentroidCount() <= 2 * compression);
+            previousCentroids = digest.getCentroidCount();
+            // the rank error shrinks about as fast as the compression grows
+            for (double q : new double[] { 0.001, 0.01, 0.1, 0.5, 0.9, 0.99, 0.999, 0.9999 }) {
+                double tolerance = Math.max(2e-4, 0.15 / compression);
+                assertEquals(q, rank(sorted, digest.quantile(q)), tolerance);
+            }
+        }
+    }
+
+    @Test
+    public void givenCountWindow_whenAddingMoreValues_thenOldValuesExpire() {
+        SlidingWindowQuantiles window = SlidingWindowQuantiles.ofCount(1000, 10, 100);
+        for (int i = 0; i < 10_000; i++) {
+            window.add(i);
+        }
+
+        // the last 1000 values, plus at most one bucket of 100 older ones
+        assertTrue(window.size() >= 1000 && window.size() <= 1100);
+        assertTrue(window.quantile(0) >= 8900);
+        assertEquals(9999, window.quantile(1), 0);
+    }
+
+    @Test
+    public void givenTimeWindow_whenTimePasses_thenOldValuesExpire() {
+        AtomicLong now = new AtomicLong();
+        SlidingWindowQuantiles window = SlidingWindowQuantiles.ofTime(10, TimeUnit.SECONDS, 10, 100, now::get);
+        for (int second = 0; second < 30; second++) {
+            now.set(TimeUnit.SECONDS.toNanos(second));
+            for (int i = 0; i < 100; i++) {
+                window.add(second);
+            }
+        }
+
+        assertTrue(window.quantile(0) >= 19);
+        assertEquals(29, window.quantile(1), 0);
+
+        now.set(TimeUnit.SECONDS.toNanos(100));
+        assertEquals(0, window.size());
+        assertTrue(Double.isNaN(window.quantile(0.5)));
+    }
+
+    @Test
+    public void givenSeveralThreads_whenAddingConcurrently_thenNoValueIsLost() throws InterruptedException {
+        ConcurrentQuantileSketch sketch = new ConcurrentQuantileSketch();
+        int perThread = 250_000;
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            int offset = t;
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    sketch.add(i * threads.length + offset);
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        int total = perThread * threads.length;
+        assertEquals(total, sketch.size());
+        assertEquals(total / 2.0, sketch.quantile(0.5), total * 0.005);
+        assertEquals(total * 0.99, sketch.quantile(0.99), total * 0.001);
+    }
+
+    /**
+     * @return The fraction of the sorted values below the given value.
+     */
+    private static double rank(double[] sorted, double value) {
+        int index = Arrays.binarySearch(sorted, value);
+        if (index < 0) {
+            index = -index - 1;
+        }
+        return (double) index / sorted.length;
+    }
+}
@@ -0,0 +1,86 @@
+package com.baeldung.algorithms.knapsack;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * The full table against the rolling row, sequential and parallel, for the best value of one
+ * knapsack, and the solvers choosing the items of a batch of cargo-sized knapsacks.
+ */
+@Fork(value = 1, warmups = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class KnapsackBenchmark {
+
+    private final Knapsack knapsack = new Knapsack();
+    private KnapsackInstance instance;
+    private List<KnapsackInstance> batch;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        instance = randomInstance(random, 100, 10_000, 200_000);
+        batch = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            batch.add(randomInstance(random, 50, 1000, 10_000));
+        }
+    }
+
+    @Benchmark
+    public int fullTable() {
+        return knapsack.knapsackDP(instance.weights(), instance.values(), instance.size(), instance.getCapacity());
+    }
+
+    @Benchmark
+    public int rollingRow() {
+        return RollingKnapsack.maxValue(instance);
+    }
+
+    @Benchmark
+    public int rollingRowParallel() {
+        return RollingKnapsack.maxValue(instance, ForkJoinPool.commonPool());
+    }
+
+    @Benchmark
+    public KnapsackSolution hirschberg() {
+        return HirschbergKnapsack.solve(instance);
+    }
+
+    @Benchmark
+    public KnapsackSolution branchAndBound() {
+        return BranchAndBoundKnapsack.solve(instance);
+    }
+
+    @Benchmark
+    public List<KnapsackSolution> batchSequential() {
+        return KnapsackSolver.solveAll(batch, null);
+    }
+
+    @Benchmark
+    public List<KnapsackSolution> batchParallel() {
+        return KnapsackSolver.solveAll(batch, ForkJoinPool.commonPool());
+    }
+
+    private static KnapsackInstance randomInstance(Random random, int size, int maxWeight, int capacity) {
+        int[] weights = new int[size];
+        int[] values = new int[size];
+        for (int i = 0; i < size; i++) {
+            weights[i] = 1 + random.nextInt(maxWeight);
+            values[i] = weights[i] + random.nextInt(maxWeight / 10);
+        }
+        return new KnapsackInstance(weights, values, capacity);
+    }
+}
@@ -0,0 +1,163 @@
+package com.baeldung.algorithms.knapsack;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+public class KnapsackSolverUnitTest {
+
+    private static final int[] WEIGHTS = { 23, 26, 20, 18, 32, 27, 29, 26, 30, 27 };
+    private static final int[] VALUES = { 505, 352, 458, 220, 354, 414, 498, 545, 473, 543 };
+
+    private final Knapsack knapsack = new Knapsack();
+
+    @Test
+    public void givenWeightsandValues_whenSolve_thenChooseBestItems() {
+        KnapsackInstance instance = new KnapsackInstance(WEIGHTS, VALUES, 67);
+
+        assertEquals(1270, RollingKnapsack.maxValue(instance));
+        for (KnapsackSolution solution : new KnapsackSolution[] { HirschbergKnapsack.solve(instance), BranchAndBoundKnapsack.solve(instance), KnapsackSolver.solve(instance) }) {
+            assertSolution(instance, 1270, solution);
+        }
+    }
+
+    @Test
+    public void givenRandomInstances_whenSolve_thenMatchFullTable() {
+        Random random = new Random(42);
+        for (int round = 0; round < 200; round++) {
+            KnapsackInstance instance = randomInstance(random, 1 + random.nextInt(20), 1 + random.nextInt(100), random.nextInt(500));
+            int expected = knapsack.knapsackDP(instance.weights(), instance.values(), instance.size(), instance.getCapacity());
+
+            assertEquals(expected, RollingKnapsack.maxValue(instance));
+            assertSolution(instance, expected, HirschbergKnapsack.solve(instance));
+            assertSolution(instance, expected, BranchAndBoundKnapsack.solve(instance));
+        }
+    }
+
+    @Test
+    public void givenLargeCapacity_whenSolveInParallel_thenMatchSequential() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            Random random = new Random(7);
+            KnapsackInstance instance = randomInstance(random, 60, 20000, 300000);
+            int expected = knapsack.knapsackDP(instance.weights(), instance.values(), instance.size(), instance.getCapacity());
+
+            assertEquals(expected, RollingKnapsack.maxValue(instance));
+            assertEquals(expected, RollingKnapsack.maxValue(instance, pool));
+            assertSolution(instance, expected, HirschbergKnapsack.solve(instance));
+            assertSolution(instance, expected, HirschbergKnapsack.solve(instance, pool));
+            assertSolution(instance, expected, BranchAndBoundKnapsack.solve(instance));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void givenHugeCapacityAndFewItems_whenSolve_thenBranchAndBound() {
+        Random random = new Random(3);
+        KnapsackInstance instance = randomInstance(random, 40, 100_000_000, 1_000_000_000);
+        KnapsackSolution solution = KnapsackSolver.solve(instance);
+
+        assertSolution(instance, solution.getValue(), solution);
+        assertTrue(solution.getValue() > 0);
+    }
+
+    @Test
+    public void givenManyInstances_whenSolveAll_thenSolveEachInOrder() {
+        Random random = new Random(11);
+        List<KnapsackInstance> instances = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            instances.add(randomInstance(random, 1 + random.nextInt(30), 1 + random.nextInt(1000), random.nextInt(5000)));
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            List<KnapsackSolution> solutions = KnapsackSolver.solveAll(instances, pool);
+            assertEquals(instances.size(), solutions.size());
+            for (int i = 0; i < instances.size(); i++) {
+                KnapsackInstance instance = instances.get(i);
+                int expected = knapsack.knapsackDP(instance.weights(), instance.values(), instance.size(), instance.getCapacity());
+                assertSolution(instance, expected, solutions.get(i));
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void givenZeroItemsOrCapacity_whenSolve_thenChooseNothing() {
+        KnapsackInstance noItems = new KnapsackInstance(new int[0], new int[0], 67);
+        KnapsackInstance noCapacity = new KnapsackInstance(WEIGHTS, VALUES, 0);
+
+        for (KnapsackInstance instance : new KnapsackInstance[] { noItems, noCapacity }) {
+            assertEquals(0, RollingKnapsack.maxValue(instance));
+            assertEquals(0, HirschbergKnapsack.solve(instance).getItems().length);
+            assertEquals(0, BranchAndBoundKnapsack.solve(instance).getItems().length);
+        }
+    }
+
+    @Test
+    public void givenWeightlessItems_whenSolve_thenTakeThem() {
+        KnapsackInstance instance = new KnapsackInstance(new int[] { 0, 5, 0, 4 }, new int[] { 10, 7, 0, 6 }, 4);
+
+        assertEquals(16, RollingKnapsack.maxValue(instance));
+        assertArrayEquals(new int[] { 0, 3 }, HirschbergKnapsack.solve(instance).getItems());
+        assertArrayEquals(new int[] { 0, 3 }, BranchAndBoundKnapsack.solve(instance).getItems());
+    }
+
+    @Test
+    public void givenMaximumCapacity_whenSolve_thenRowsOnlySpanTheTotalWeight() {
+        Random random = new Random(17);
+        KnapsackInstance light = randomInstance(random, 100, 1000, Integer.MAX_VALUE);
+        int expected = knapsack.knapsackDP(light.weights(), light.values(), light.size(), (int) light.getTotalWeight());
+
+        assertEquals(expected, RollingKnapsack.maxValue(light));
+        assertSolution(light, expected, HirschbergKnapsack.solve(light));
+        assertSolution(light, expected, KnapsackSolver.solve(light));
+
+        KnapsackInstance heavy = randomInstance(random, 30, Integer.MAX_VALUE - 1, Integer.MAX_VALUE);
+        assertThrows(IllegalArgumentException.class, () -> RollingKnapsack.maxValue(heavy));
+        assertThrows(IllegalArgumentException.class, () -> HirschbergKnapsack.solve(heavy));
+        KnapsackSolution solution = KnapsackSolver.solve(heavy);
+        assertSolution(heavy, BranchAndBoundKnapsack.solve(heavy).getValue(), solution);
+    }
+
+    @Test
+    public void givenInvalidItems_whenCreateInstance_thenThrow() {
+        assertThrows(IllegalArgumentException.class, () -> new KnapsackInstance(new int[] { 1 }, new int[0], 10));
+        assertThrows(IllegalArgumentException.class, () -> new KnapsackInstance(new int[] { -1 }, new int[] { 1 }, 10));
+        assertThrows(IllegalArgumentException.class, () -> new KnapsackInstance(new int[] { 1 }, new int[] { 1 }, -1));
+        assertThrows(IllegalArgumentException.class, () -> new KnapsackInstance(new int[] { 1, 1 }, new int[] { Integer.MAX_VALUE, 1 }, 10));
+    }
+
+    private static KnapsackInstance randomInstance(Random random, int size, int maxWeight, int capacity) {
+        int[] weights = new int[size];
+        int[] values = new int[size];
+        for (int i = 0; i < size; i++) {
+            weights[i] = 1 + random.nextInt(maxWeight);
+            values[i] = random.nextInt(1000);
+        }
+        return new KnapsackInstance(weights, values, capacity);
+    }
+
+    private static void assertSolution(KnapsackInstance instance, int expectedValue, KnapsackSolution solution) {
+        int weight = 0;
+        int value = 0;
+        for (int item : solution.getItems()) {
+            weight += instance.getWeight(item);
+            value += instance.getValue(item);
+        }
+        assertEquals(expectedValue, solution.getValue());
+        assertEquals(value, solution.getValue());
+        assertEquals(weight, solution.getWeight());
+        assertTrue(weight <= instance.getCapacity());
+    }
+}
@@ -1,71 +1,41 @@
 package com.baeldung.algorithms.boruvka;
 
-import com.google.common.graph.EndpointPair;
+import java.util.concurrent.ForkJoinPool;
+
+import com.baeldung.algorithms.mst.MinimumSpanningForest;
+import com.baeldung.algorithms.mst.WeightedEdges;
 import com.google.common.graph.MutableValueGraph;
 import com.google.common.graph.ValueGraphBuilder;
 
+/**
+ * The minimum spanning tree of a graph, found by
+ * {@link MinimumSpanningForest#boruvka(WeightedEdges, ForkJoinPool)}, in parallel on the common
+ * pool unless another pool is given.
+ */
 public class BoruvkaMST {
 
-    private static MutableValueGraph<Integer, Integer> mst = ValueGraphBuilder.undirected()
+    private final MutableValueGraph<Integer, Integer> mst = ValueGraphBuilder.undirected()
         .build();
-    private static int totalWeight;
+    private int totalWeight;
 
     public BoruvkaMST(MutableValueGraph<Integer, Integer> graph) {
+        this(graph, ForkJoinPool.commonPool());
+    }
 
-        int size = graph.nodes().size();
-
-        UnionFind uf = new UnionFind(size);
-
-        // repeat at most log N times or until we have N-1 edges
-        for (int t = 1; t < size && mst.edges().size() < size - 1; t = t + t) {
-            
-            EndpointPair<Integer>[] closestEdgeArray = new EndpointPair[size];
-
-            // foreach tree in graph, find closest edge
-            for (EndpointPair<Integer> edge : graph.edges()) {
-                int u = edge.nodeU();
-                int v = edge.nodeV();
-                int uParent = uf.find(u);
-                int vParent = uf.find(v);
-                if (uParent == vParent) {
-                    continue; // same tree
-                }
-
-                int weight = graph.edgeValueOrDefault(u, v, 0);
-
-                if (closestEdgeArray[uParent] == null) {
-                    closestEdgeArray[uParent] = edge;
-                }
-                if (closestEdgeArray[vParent] == null) {
-                    closestEdgeArray[vParent] = edge;
-                }
-
-                int uParentWeight = graph.edgeValueOrDefault(closestEdgeArray[uParent].nodeU(), closestEdgeArray[uParent].nodeV(), 0);
-                int vParentWeight = graph.edgeValueOrDefault(closestEdgeArray[vParent].nodeU(), closestEdgeArray[vParent].nodeV(), 0);
-
-                if (weight < uParentWeight) {
-                    closestEdgeArray[uParent] = edge;
-                }
-                if (weight < vParentWeight) {
-                    closestEdgeArray[vParent] = edge;
-                }
-            }
-
-            // add newly discovered edges to MST
-            for (int i = 0; i < size; i++) {
-                EndpointPair<Integer> edge = closestEdgeArray[i];
-                if (edge != null) {
-                    int u = edge.nodeU();
-                    int v = edge.nodeV();
-                    int weight = graph.edgeValueOrDefault(u, v, 0);
-                    // don't add the same edge twice
-                    if (uf.find(u) != uf.find(v)) {
-                        mst.putEdgeValue(u, v, weight);
-                        totalWeight += weight;
-                        uf.union(u, v);
-                    }
-                }
-            }
+    /**
+     * @param pool The pool running the rounds, or null to run them on the calling thread.
+     */
+    public BoruvkaMST(MutableValueGraph<Integer, Integer> graph, ForkJoinPool pool) {
+        WeightedEdges edges = WeightedEdges.of(graph);
+
+        // each round adds the closest edge of every tree, until no edge joins two trees
+        for (int edge : MinimumSpanningForest.boruvka(edges, pool).getEdgeIndexes()) {
+            int source = edges.getSource(edge);
+            int target = edges.getTarget(edge);
+            // read back from the graph rather than narrowing the double weight of the edges
+            int weight = graph.edgeValueOrDefault(source, target, null);
+            mst.putEdgeValue(source, target, weight);
+            totalWeight += weight;
         }
     }
 
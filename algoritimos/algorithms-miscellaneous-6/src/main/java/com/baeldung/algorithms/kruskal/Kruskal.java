@@ -1,16 +1,12 @@
 package com.baeldung.algorithms.kruskal;
 
-import com.google.common.graph.EndpointPair;
+import com.baeldung.algorithms.mst.MinimumSpanningForest;
+import com.baeldung.algorithms.mst.SpanningForest;
+import com.baeldung.algorithms.mst.WeightedEdges;
 import com.google.common.graph.MutableValueGraph;
 import com.google.common.graph.ValueGraph;
 import com.google.common.graph.ValueGraphBuilder;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Comparator;
-import java.util.List;
-import java.util.Set;
-
 public class Kruskal {
 
     public ValueGraph<Integer, Double> minSpanningTree(ValueGraph<Integer, Double> graph) {
@@ -23,29 +19,14 @@ public class Kruskal {
     }
 
     private ValueGraph<Integer, Double> spanningTree(ValueGraph<Integer, Double> graph, boolean minSpanningTree) {
-        Set<EndpointPair<Integer>> edges = graph.edges();
-        List<EndpointPair<Integer>> edgeList = new ArrayList<>(edges);
-
-        if (minSpanningTree) {
-            edgeList.sort(Comparator.comparing(e -> graph.edgeValue(e).get()));
-        } else {
-            edgeList.sort(Collections.reverseOrder(Comparator.comparing(e -> graph.edgeValue(e).get())));
-        }
-
-        int totalNodes = graph.nodes().size();
-        CycleDetector cycleDetector = new CycleDetector(totalNodes);
-        int edgeCount = 0;
+        // the edges are copied to primitive arrays once, instead of looking up the weights of
+        // both edges on every comparison
+        WeightedEdges edges = WeightedEdges.of(graph);
+        SpanningForest forest = MinimumSpanningForest.filterKruskal(minSpanningTree ? edges : edges.negated());
 
         MutableValueGraph<Integer, Double> spanningTree = ValueGraphBuilder.undirected().build();
-        for (EndpointPair<Integer> edge : edgeList) {
-            if (cycleDetector.detectCycle(edge.nodeU(), edge.nodeV())) {
-                continue;
-            }
-            spanningTree.putEdgeValue(edge.nodeU(), edge.nodeV(), graph.edgeValue(edge).get());
-            edgeCount++;
-            if (edgeCount == totalNodes - 1) {
-                break;
-            }
+        for (int edge : forest.getEdgeIndexes()) {
+            spanningTree.putEdgeValue(edges.getSource(edge), edges.getTarget(edge), edges.getWeight(edge));
         }
         return spanningTree;
     }
@@ -0,0 +1,406 @@
+package com.baeldung.algorithms.minheapmerge;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.stream.IntStream;
+
+import com.baeldung.algorithms.minheapmerge.SortStatistics.Phase;
+
+/**
+ * Sorts a file of fixed-width records which is larger than the heap, in the phases of
+ * {@link SortStatistics.Phase}:
+ * <ol>
+ * <li>the input is memory-mapped one run at a time, and the key of every record is read in
+ * parallel;</li>
+ * <li>the keys of the run are sorted along with the record indexes by a parallel merge
+ * sort;</li>
+ * <li>the records are copied in sorted order to a temporary file;</li>
+ * <li>the runs are merged with a {@link LoserTree}, each run being read ahead into a second
+ * buffer in the background. With more runs than the maximum fan-in, groups of runs are first
+ * merged into longer ones.</li>
+ * </ol>
+ * Records are ordered by the unsigned bytes of their key, the first {@code keyLength} bytes,
+ * and equal keys keep their input order. Only the keys live on the heap, 24 bytes per record
+ * of a run; the records themselves stay in mapped or direct buffers.
+ */
+public class ExternalSort {
+
+    public static final long DEFAULT_RUN_BYTES = 256L << 20;
+    public static final int DEFAULT_BUFFER_BYTES = 1 << 20;
+    public static final int DEFAULT_MAX_FAN_IN = 128;
+
+    private static final int IO_THREADS = 4;
+    private static final int SEQUENTIAL_SORT_THRESHOLD = 1 << 13;
+    private static final int INSERTION_SORT_THRESHOLD = 32;
+
+    private final int recordSize;
+    private final int keyLength;
+    private long runBytes = DEFAULT_RUN_BYTES;
+    private int bufferBytes = DEFAULT_BUFFER_BYTES;
+    private int maxFanIn = DEFAULT_MAX_FAN_IN;
+    private Path tempDirectory;
+    private ForkJoinPool pool = ForkJoinPool.commonPool();
+
+    /**
+     * @param recordSize The size of every record, in bytes.
+     * @param keyLength  The number of leading bytes of a record which it's sorted by, at most 8.
+     */
+    public ExternalSort(int recordSize, int keyLength) {
+        if (recordSize < 1) {
+            throw new IllegalArgumentException("The record size should be positive");
+        }
+        if (keyLength < 1 || keyLength > Math.min(8, recordSize)) {
+            throw new IllegalArgumentException("The key should be 1 to 8 bytes long, within the record");
+        }
+        this.recordSize = recordSize;
+        this.keyLength = keyLength;
+    }
+
+    /**
+     * @param runBytes The size of the input sorted in memory at once, up to 2 GB.
+     */
+    public void setRunBytes(long runBytes) {
+        if (runBytes < recordSize || runBytes > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("A run should hold at least one record and at most 2 GB");
+        }
+        this.runBytes = runBytes;
+    }
+
+    /**
+     * @param bufferBytes The size of each read and write buffer of the merge.
+     */
+    public void setBufferBytes(int bufferBytes) {
+        if (bufferBytes < 1) {
+            throw new IllegalArgumentException("The buffer size should be positive");
+        }
+        this.bufferBytes = bufferBytes;
+    }
+
+    /**
+     * @param maxFanIn The largest number of runs merged at once; each takes two buffers.
+     */
+    public void setMaxFanIn(int maxFanIn) {
+        if (maxFanIn < 2) {
+            throw new IllegalArgumentException("At least two runs should be merged at once");
+        }
+        this.maxFanIn = maxFanIn;
+    }
+
+    /**
+     * @param tempDirectory Where runs are spilled, or null for the default temporary directory.
+     */
+    public void setTempDirectory(Path tempDirectory) {
+        this.tempDirectory = tempDirectory;
+    }
+
+    public void setPool(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Sorts the records of the input file into the output file, which is replaced.
+     */
+    public SortStatistics sort(Path input, Path output) throws IOException {
+        SortStatistics statistics = new SortStatistics();
+        List<Path> runs = new ArrayList<>();
+        ExecutorService ioExecutor = Executors.newFixedThreadPool(IO_THREADS, runnable -> {
+            Thread thread = new Thread(runnable, "external-sort-io");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            spillRuns(input, runs, statistics);
+            mergeRuns(runs, output, statistics, ioExecutor);
+        } finally {
+            ioExecutor.shutdownNow();
+            for (Path run : runs) {
+                Files.deleteIfExists(run);
+            }
+        }
+        return statistics;
+    }
+
+    private void spillRuns(Path input, List<Path> runs, SortStatistics statistics) throws IOException {
+        try (FileChannel channel = FileChannel.open(input, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size % recordSize != 0) {
+                throw new IllegalArgumentException("The input size " + size + " isn't a multiple of the record size " + recordSize);
+            }
+            if (size == 0) {
+                return;
+            }
+
+            int recordsPerRun = (int) Math.min(runBytes / recordSize, size / recordSize);
+            long[] keys = new long[recordsPerRun];
+            int[] indexes = new int[recordsPerRun];
+            long[] keyBuffer = new long[recordsPerRun];
+            int[] indexBuffer = new int[recordsPerRun];
+            ByteBuffer output = ByteBuffer.allocateDirect(outputCapacity());
+
+            for (long start = 0; start < size; start += (long) recordsPerRun * recordSize) {
+                int length = (int) Math.min((long) recordsPerRun * recordSize, size - start);
+                int count = length / recordSize;
+
+                long began = System.nanoTime();
+                MappedByteBuffer run = channel.map(FileChannel.MapMode.READ_ONLY, start, length);
+                // absolute reads don't move the buffer's position, so threads can share it
+                pool
+                  .submit(() -> IntStream
+                    .range(0, count)
+                    .parallel()
+                    .forEach(i -> {
+                        keys[i] = keyAt(run, i * recordSize);
+                        indexes[i] = i;
+                    }))
+                  .join();
+                long read = System.nanoTime();
+                statistics.record(Phase.READ, length, read - began);
+
+                pool.invoke(new RunSortTask(keys, indexes, keyBuffer, indexBuffer, 0, count));
+                long sorted = System.nanoTime();
+                statistics.record(Phase.SORT, length, sorted - read);
+
+                Path file = createRunFile();
+                runs.add(file);
+                writeRun(run, indexes, count, file, output);
+                statistics.record(Phase.SPILL, length, System.nanoTime() - sorted);
+                statistics.runSpilled();
+            }
+        }
+    }
+
+    private void writeRun(ByteBuffer run, int[] indexes, int count, Path file, ByteBuffer output) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer record = run.duplicate();
+            for (int i = 0; i < count; i++) {
+                if (output.remaining() < recordSize) {
+                    flush(channel, output);
+                }
+                int offset = indexes[i] * recordSize;
+                record.clear();
+                record.position(offset);
+                record.limit(offset + recordSize);
+                output.put(record);
+            }
+            flush(channel, output);
+        }
+    }
+
+    private void mergeRuns(List<Path> runs, Path output, SortStatistics statistics, ExecutorService ioExecutor) throws IOException {
+        // groups of consecutive runs are merged, so that equal keys keep their input order
+        List<Path> pending = new ArrayList<>(runs);
+        while (pending.size() > maxFanIn) {
+            List<Path> merges = new ArrayList<>();
+            for (int from = 0; from < pending.size(); from += maxFanIn) {
+                List<Path> group = pending.subList(from, Math.min(from + maxFanIn, pending.size()));
+                if (group.size() == 1) {
+                    merges.add(group.get(0));
+                    continue;
+                }
+                Path merged = createRunFile();
+                runs.add(merged);
+                merge(group, merged, statistics, ioExecutor);
+                for (Path run : group) {
+                    Files.delete(run);
+                }
+                merges.add(merged);
+            }
+            pending = merges;
+        }
+
+        if (pending.isEmpty()) {
+            Files.newByteChannel(output, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)
+              .close();
+        } else {
+            merge(pending, output, statistics, ioExecutor);
+        }
+    }
+
+    private void merge(List<Path> inputs, Path output, SortStatistics statistics, ExecutorService ioExecutor) throws IOException {
+        long began = System.nanoTime();
+        long bytes = 0;
+        List<RunReader> readers = new ArrayList<>();
+        try (FileChannel channel = FileChannel.open(output, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            long[] heads = new long[inputs.size()];
+            boolean[] empty = new boolean[inputs.size()];
+            for (int i = 0; i < inputs.size(); i++) {
+                RunReader reader = new RunReader(inputs.get(i), recordSize, bufferBytes, ioExecutor);
+                readers.add(reader);
+                empty[i] = !reader.hasRecord();
+                if (!empty[i]) {
+                    heads[i] = keyAt(reader.buffer(), reader.buffer()
+                      .position());
+                }
+            }
+
+            LoserTree tree = new LoserTree(heads, empty);
+            ByteBuffer buffer = ByteBuffer.allocateDirect(outputCapacity());
+            while (!tree.isEmpty()) {
+                RunReader reader = readers.get(tree.winner());
+                if (buffer.remaining() < recordSize) {
+                    bytes += flush(channel, buffer);
+                }
+                reader.transferRecord(buffer, recordSize);
+                if (reader.hasRecord()) {
+                    tree.replaceWinner(keyAt(reader.buffer(), reader.buffer()
+                      .position()));
+                } else {
+                    tree.removeWinner();
+                }
+            }
+            bytes += flush(channel, buffer);
+        } finally {
+            closeAll(readers);
+        }
+        statistics.record(Phase.MERGE, bytes, System.nanoTime() - began);
+        statistics.mergeDone();
+    }
+
+    /**
+     * @return The key of the record at the offset, as a long whose signed order is the
+     *         unsigned order of the key bytes.
+     */
+    private long keyAt(ByteBuffer buffer, int offset) {
+        long key;
+        if (keyLength == 8) {
+            key = buffer.getLong(offset);
+        } else {
+            key = 0;
+            for (int i = 0; i < keyLength; i++) {
+                key = key << 8 | (buffer.get(offset + i) & 0xFF);
+            }
+            key <<= 8 * (8 - keyLength);
+        }
+        return key ^ Long.MIN_VALUE;
+    }
+
+    private Path createRunFile() throws IOException {
+        return tempDirectory == null ? Files.createTempFile("run", ".tmp") : Files.createTempFile(tempDirectory, "run", ".tmp");
+    }
+
+    private int outputCapacity() {
+        return Math.max(1, bufferBytes / recordSize) * recordSize;
+    }
+
+    private static long flush(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        long written = buffer.remaining();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+        return written;
+    }
+
+    private static void closeAll(List<RunReader> readers) throws IOException {
+        IOException failure = null;
+        for (RunReader reader : readers) {
+            try {
+                reader.close();
+            } catch (IOException e) {
+                if (failure == null) {
+                    failure = e;
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Stable merge sort of keys along with their record indexes, sorting the halves in
+     * parallel down to {@link #SEQUENTIAL_SORT_THRESHOLD} records. The buffers hold the left
+     * half while it's merged back.
+     */
+    private static class RunSortTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final long[] keys;
+        private final int[] indexes;
+        private final long[] keyBuffer;
+        private final int[] indexBuffer;
+        private final int from;
+        private final int to;
+
+        RunSortTask(long[] keys, int[] indexes, long[] keyBuffer, int[] indexBuffer, int from, int to) {
+            this.keys = keys;
+            this.indexes = indexes;
+            this.keyBuffer = keyBuffer;
+            this.indexBuffer = indexBuffer;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= SEQUENTIAL_SORT_THRESHOLD) {
+                sort(from, to);
+                return;
+            }
+
+            int middle = (from + to) >>> 1;
+            invokeAll(new RunSortTask(keys, indexes, keyBuffer, indexBuffer, from, middle), new RunSortTask(keys, indexes, keyBuffer, indexBuffer, middle, to));
+            merge(from, middle, to);
+        }
+
+        private void sort(int from, int to) {
+            if (to - from <= INSERTION_SORT_THRESHOLD) {
+                for (int i = from + 1; i < to; i++) {
+                    long key = keys[i];
+                    int index = indexes[i];
+                    int j = i - 1;
+                    while (j >= from && keys[j] > key) {
+                        keys[j + 1] = keys[j];
+                        indexes[j + 1] = indexes[j];
+                        j--;
+                    }
+                    keys[j + 1] = key;
+                    indexes[j + 1] = index;
+                }
+                return;
+            }
+
+            int middle = (from + to) >>> 1;
+            sort(from, middle);
+            sort(middle, to);
+            merge(from, middle, to);
+        }
+
+        private void merge(int from, int middle, int to) {
+            if (keys[middle - 1] <= keys[middle]) {
+                return;
+            }
+
+            System.arraycopy(keys, from, keyBuffer, from, middle - from);
+            System.arraycopy(indexes, from, indexBuffer, from, middle - from);
+            int left = from;
+            int right = middle;
+            int target = from;
+            // the right half is read in place, always ahead of the target
+            while (left < middle && right < to) {
+                if (keys[right] < keyBuffer[left]) {
+                    keys[target] = keys[right];
+                    indexes[target++] = indexes[right++];
+                } else {
+                    keys[target] = keyBuffer[left];
+                    indexes[target++] = indexBuffer[left++];
+                }
+            }
+            System.arraycopy(keyBuffer, left, keys, target, middle - left);
+            System.arraycopy(indexBuffer, left, indexes, target, middle - left);
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.baeldung.algorithms.minheapmerge;
+
+/**
+ * Tournament tree for k-way merging, an alternative to {@link MinHeap}. Each source takes part
+ * with the key of its head element; inner nodes remember the loser of the match played there
+ * and the root the overall winner, the smallest head. When the winner's source moves on, only
+ * the matches on its path to the root are replayed: {@code log2(k)} comparisons with no swaps,
+ * where a heap's sift-down needs two comparisons per level.
+ * <p>
+ * Equal keys are won by the source with the lowest index, so merging runs in input order is
+ * stable.
+ */
+public class LoserTree {
+
+    private final long[] keys;
+    private final boolean[] exhausted;
+
+    /**
+     * {@code tree[0]} is the winner; {@code tree[1..k)} hold the losers of an implicit binary
+     * tree whose leaves {@code k..2k)} are the sources.
+     */
+    private final int[] tree;
+    private int remaining;
+
+    /**
+     * @param heads The key of the first element of each source.
+     */
+    public LoserTree(long[] heads) {
+        this(heads, new boolean[heads.length]);
+    }
+
+    /**
+     * @param heads The key of the first element of each source.
+     * @param empty Which sources have no element at all; their heads are ignored.
+     */
+    public LoserTree(long[] heads, boolean[] empty) {
+        if (heads.length == 0 || heads.length != empty.length) {
+            throw new IllegalArgumentException("There should be at least one source, with one head and emptiness flag each");
+        }
+
+        keys = heads.clone();
+        exhausted = empty.clone();
+        for (boolean e : exhausted) {
+            if (!e) {
+                remaining++;
+            }
+        }
+        tree = new int[heads.length];
+        tree[0] = build(1);
+    }
+
+    /**
+     * @return True once every source is exhausted.
+     */
+    public boolean isEmpty() {
+        return remaining == 0;
+    }
+
+    /**
+     * @return The source whose head is the smallest.
+     */
+    public int winner() {
+        return tree[0];
+    }
+
+    public long winnerKey() {
+        return keys[tree[0]];
+    }
+
+    /**
+     * Replaces the winner's head with the next element of its source.
+     */
+    public void replaceWinner(long key) {
+        keys[tree[0]] = key;
+        replay(tree[0]);
+    }
+
+    /**
+     * Marks the winner's source as exhausted.
+     */
+    public void removeWinner() {
+        if (!exhausted[tree[0]]) {
+            exhausted[tree[0]] = true;
+            remaining--;
+        }
+        replay(tree[0]);
+    }
+
+    /**
+     * Merges sorted arrays, like {@link MinHeap#merge(int[][])}.
+     */
+    static int[] merge(int[][] arrays) {
+        long[] heads = new long[arrays.length];
+        boolean[] empty = new boolean[arrays.length];
+        int[] next = new int[arrays.length];
+        int size = 0;
+        for (int i = 0; i < arrays.length; i++) {
+            empty[i] = arrays[i].length == 0;
+            heads[i] = empty[i] ? 0 : arrays[i][0];
+            next[i] = 1;
+            size += arrays[i].length;
+        }
+
+        LoserTree tree = new LoserTree(heads, empty);
+        int[] merged = new int[size];
+        for (int i = 0; i < size; i++) {
+            int source = tree.winner();
+            merged[i] = (int) tree.winnerKey();
+            if (next[source] < arrays[source].length) {
+                tree.replaceWinner(arrays[source][next[source]++]);
+            } else {
+                tree.removeWinner();
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * Plays the matches of the subtree below the node.
+     *
+     * @return The winner of the subtree.
+     */
+    private int build(int node) {
+        int k = keys.length;
+        if (node >= k) {
+            return node - k;
+        }
+
+        int left = build(2 * node);
+        int right = build(2 * node + 1);
+        if (beats(left, right)) {
+            tree[node] = right;
+            return left;
+        }
+        tree[node] = left;
+        return right;
+    }
+
+    private void replay(int source) {
+        int winner = source;
+        for (int node = (source + keys.length) >>> 1; node > 0; node >>>= 1) {
+            if (beats(tree[node], winner)) {
+                int loser = winner;
+                winner = tree[node];
+                tree[node] = loser;
+            }
+        }
+        tree[0] = winner;
+    }
+
+    private boolean beats(int a, int b) {
+        if (exhausted[a] || exhausted[b]) {
+            return !exhausted[a] || (exhausted[b] && a < b);
+        }
+        return keys[a] < keys[b] || (keys[a] == keys[b] && a < b);
+    }
+}
@@ -0,0 +1,129 @@
+package com.baeldung.algorithms.minheapmerge;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Reads the records of a sorted run with two direct buffers: while the merge consumes one, the
+ * other is filled by a background read of the next part of the file.
+ */
+class RunReader implements Closeable {
+
+    private final FileChannel channel;
+    private final long size;
+    private final ExecutorService ioExecutor;
+
+    /**
+     * Positioned at the current record.
+     */
+    private ByteBuffer current;
+    private ByteBuffer spare;
+    private Future<ByteBuffer> pending;
+    private long readPosition;
+
+    RunReader(Path path, int recordSize, int bufferBytes, ExecutorService ioExecutor) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        this.size = channel.size();
+        this.ioExecutor = ioExecutor;
+
+        int capacity = Math.max(1, bufferBytes / recordSize) * recordSize;
+        current = ByteBuffer.allocateDirect(capacity);
+        current.limit(0);
+        spare = ByteBuffer.allocateDirect(capacity);
+        if (size > 0) {
+            pending = readAhead(spare);
+        }
+    }
+
+    /**
+     * @return True if there is a current record, loading the next buffer if needed.
+     */
+    boolean hasRecord() throws IOException {
+        if (current.hasRemaining()) {
+            return true;
+        }
+        if (pending == null) {
+            return false;
+        }
+
+        ByteBuffer filled = await(pending);
+        spare = current;
+        current = filled;
+        pending = readPosition < size ? readAhead(spare) : null;
+        return current.hasRemaining();
+    }
+
+    /**
+     * @return The buffer holding the current record, at its position.
+     */
+    ByteBuffer buffer() {
+        return current;
+    }
+
+    /**
+     * Copies the current record to the output and moves to the next one.
+     */
+    void transferRecord(ByteBuffer output, int recordSize) {
+        int limit = current.limit();
+        current.limit(current.position() + recordSize);
+        output.put(current);
+        current.limit(limit);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (pending != null) {
+            // let the read finish rather than close the channel under it
+            try {
+                pending.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread()
+                  .interrupt();
+            } catch (ExecutionException e) {
+                // the read is abandoned anyway
+            }
+        }
+        channel.close();
+    }
+
+    private Future<ByteBuffer> readAhead(ByteBuffer buffer) {
+        long position = readPosition;
+        int length = (int) Math.min(buffer.capacity(), size - position);
+        readPosition += length;
+        return ioExecutor.submit(() -> {
+            buffer.clear();
+            buffer.limit(length);
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, position + buffer.position()) < 0) {
+                    throw new EOFException("The run ended before " + (position + length) + " bytes");
+                }
+            }
+            buffer.flip();
+            return buffer;
+        });
+    }
+
+    private static ByteBuffer await(Future<ByteBuffer> read) throws IOException {
+        try {
+            return read.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+              .interrupt();
+            throw new InterruptedIOException("Interrupted while reading a run");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException(e.getCause());
+        }
+    }
+}
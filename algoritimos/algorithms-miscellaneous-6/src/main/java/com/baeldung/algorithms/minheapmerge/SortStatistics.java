@@ -0,0 +1,96 @@
+package com.baeldung.algorithms.minheapmerge;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Bytes processed and time spent by each phase of an {@link ExternalSort}.
+ */
+public class SortStatistics {
+
+    public enum Phase {
+        /**
+         * Mapping the input and reading the key of every record.
+         */
+        READ,
+        /**
+         * Sorting the keys of each run.
+         */
+        SORT,
+        /**
+         * Writing the sorted runs to temporary files.
+         */
+        SPILL,
+        /**
+         * Merging the runs, over all merges.
+         */
+        MERGE
+    }
+
+    private final Map<Phase, long[]> totals = new EnumMap<>(Phase.class);
+    private int runCount;
+    private int mergeCount;
+
+    SortStatistics() {
+        for (Phase phase : Phase.values()) {
+            totals.put(phase, new long[2]);
+        }
+    }
+
+    void record(Phase phase, long bytes, long nanos) {
+        long[] total = totals.get(phase);
+        total[0] += bytes;
+        total[1] += nanos;
+    }
+
+    void runSpilled() {
+        runCount++;
+    }
+
+    void mergeDone() {
+        mergeCount++;
+    }
+
+    public long getBytes(Phase phase) {
+        return totals.get(phase)[0];
+    }
+
+    public long getNanos(Phase phase) {
+        return totals.get(phase)[1];
+    }
+
+    /**
+     * @return The throughput of the phase, or 0 if it didn't run.
+     */
+    public double getBytesPerSecond(Phase phase) {
+        long nanos = getNanos(phase);
+        return nanos == 0 ? 0 : getBytes(phase) * 1e9 / nanos;
+    }
+
+    public int getRunCount() {
+        return runCount;
+    }
+
+    /**
+     * @return The number of k-way merges, more than one when there are more runs than the
+     *         maximum fan-in.
+     */
+    public int getMergeCount() {
+        return mergeCount;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("SortStatistics [runs=").append(runCount)
+          .append(", merges=")
+          .append(mergeCount);
+        for (Phase phase : Phase.values()) {
+            builder.append(", ")
+              .append(phase.name()
+                .toLowerCase())
+              .append(String.format("=%.1f MB/s", getBytesPerSecond(phase) / (1 << 20)));
+        }
+        return builder.append("]")
+          .toString();
+    }
+}
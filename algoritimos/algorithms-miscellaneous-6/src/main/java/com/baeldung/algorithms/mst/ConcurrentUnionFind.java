@@ -0,0 +1,100 @@
+package com.baeldung.algorithms.mst;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Union-find which many threads can update at once without locks, after Jayanti and Tarjan.
+ * Roots are linked below the root of higher priority, a fixed pseudo-random order of the
+ * nodes, with a single compare-and-set; finds halve the path they walk the same way. A thread
+ * whose compare-and-set fails simply retries, so no thread ever waits for another.
+ */
+public class ConcurrentUnionFind {
+
+    private final AtomicIntegerArray parents;
+
+    public ConcurrentUnionFind(int size) {
+        parents = new AtomicIntegerArray(size);
+        for (int i = 0; i < size; i++) {
+            parents.set(i, i);
+        }
+    }
+
+    public int size() {
+        return parents.length();
+    }
+
+    /**
+     * @return The root of the set holding the node. Concurrent unions may make it a non-root
+     *         right after it's returned.
+     */
+    public int find(int node) {
+        int parent = parents.get(node);
+        while (parent != node) {
+            int grandparent = parents.get(parent);
+            if (grandparent == parent) {
+                return parent;
+            }
+            // path halving; losing the race only means another thread shortened the path
+            parents.compareAndSet(node, parent, grandparent);
+            node = grandparent;
+            parent = parents.get(node);
+        }
+        return node;
+    }
+
+    /**
+     * Merges the sets holding both nodes.
+     *
+     * @return True if this call merged them, false if they were already in the same set.
+     */
+    public boolean union(int u, int v) {
+        while (true) {
+            int rootU = find(u);
+            int rootV = find(v);
+            if (rootU == rootV) {
+                return false;
+            }
+
+            // parents always have a higher priority than their children, so no cycle can form
+            // even when the new parent stops being a root in the meantime
+            if (hasLowerPriority(rootU, rootV)) {
+                if (parents.compareAndSet(rootU, rootU, rootV)) {
+                    return true;
+                }
+            } else if (parents.compareAndSet(rootV, rootV, rootU)) {
+                return true;
+            }
+        }
+    }
+
+    public boolean sameSet(int u, int v) {
+        while (true) {
+            int rootU = find(u);
+            int rootV = find(v);
+            if (rootU == rootV) {
+                return true;
+            }
+            if (parents.get(rootU) == rootU) {
+                return false;
+            }
+        }
+    }
+
+    private static boolean hasLowerPriority(int a, int b) {
+        int priorityA = mix(a);
+        int priorityB = mix(b);
+        return priorityA < priorityB || (priorityA == priorityB && a < b);
+    }
+
+    /**
+     * The MurmurHash3 finalizer, which spreads consecutive nodes over the whole int range.
+     */
+    private static int mix(int x) {
+        x ^= x >>> 16;
+        x *= 0x85ebca6b;
+        x ^= x >>> 13;
+        x *= 0xc2b2ae35;
+        x ^= x >>> 16;
+        return x;
+    }
+}
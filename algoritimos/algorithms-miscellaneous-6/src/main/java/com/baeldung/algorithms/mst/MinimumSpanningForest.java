@@ -0,0 +1,298 @@
+package com.baeldung.algorithms.mst;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.stream.IntStream;
+
+/**
+ * Minimum spanning forests of {@link WeightedEdges}, with a {@link ConcurrentUnionFind} keeping
+ * track of the components.
+ * <ul>
+ * <li>{@link #boruvka(WeightedEdges, ForkJoinPool)} runs in parallel: in every round, threads
+ * share the edges and each finds, for every component, the cheapest edge leaving it; all these
+ * edges join the forest, which at least halves the number of components.</li>
+ * <li>{@link #filterKruskal(WeightedEdges)} is Kruskal's algorithm which only sorts the edges
+ * it needs: it splits them around a pivot like quicksort, solves the lighter half, then drops
+ * the heavier edges that now connect the same component before solving them (Osipov, Sanders
+ * and Singler). On sparse graphs it runs in close to linear time on a single thread.</li>
+ * </ul>
+ * Both find the same forest, since ties between equal weights are broken by edge index.
+ */
+public final class MinimumSpanningForest {
+
+    /**
+     * Smallest number of edges or nodes a thread processes in a parallel step.
+     */
+    private static final int MIN_CHUNK_SIZE = 1 << 14;
+
+    /**
+     * Edge count below which filter-Kruskal sorts the edges instead of splitting them.
+     */
+    private static final int SORT_THRESHOLD = 1 << 10;
+
+    private MinimumSpanningForest() {
+    }
+
+    public static SpanningForest boruvka(WeightedEdges edges) {
+        return boruvka(edges, null);
+    }
+
+    /**
+     * @param pool The pool running the parallel steps, or null to run on the calling thread.
+     */
+    public static SpanningForest boruvka(WeightedEdges edges, ForkJoinPool pool) {
+        int nodeCount = edges.getNodeCount();
+        ConcurrentUnionFind components = new ConcurrentUnionFind(nodeCount);
+        // the cheapest edge leaving each component, plus one so that 0 means none
+        AtomicIntegerArray cheapest = new AtomicIntegerArray(nodeCount);
+        int[] forest = new int[Math.max(0, nodeCount - 1)];
+        AtomicInteger forestSize = new AtomicInteger();
+
+        int[] active = identity(edges.getEdgeCount());
+        int[] survivors = new int[active.length];
+        int activeCount = active.length;
+        while (activeCount > 0 && forestSize.get() < forest.length) {
+            int[] candidates = active;
+            int chunks = chunkCount(activeCount, pool);
+            int[] kept = new int[chunks];
+            forEachRange(pool, activeCount, chunks, (chunk, from, to) -> {
+                // edges within a component never come back, so each chunk compacts the others
+                int write = from;
+                for (int i = from; i < to; i++) {
+                    int edge = candidates[i];
+                    int rootU = components.find(edges.getSource(edge));
+                    int rootV = components.find(edges.getTarget(edge));
+                    if (rootU != rootV) {
+                        candidates[write++] = edge;
+                        offer(edges, cheapest, rootU, edge);
+                        offer(edges, cheapest, rootV, edge);
+                    }
+                }
+                kept[chunk] = write - from;
+            });
+
+            int[] offsets = new int[chunks + 1];
+            for (int chunk = 0; chunk < chunks; chunk++) {
+                offsets[chunk + 1] = offsets[chunk] + kept[chunk];
+            }
+            int[] gathered = survivors;
+            forEachRange(pool, activeCount, chunks, (chunk, from, to) -> System.arraycopy(candidates, from, gathered, offsets[chunk], kept[chunk]));
+            survivors = active;
+            active = gathered;
+            activeCount = offsets[chunks];
+
+            // the cheapest edges form a forest, so each is merged exactly once, even when both
+            // of its components picked it
+            forEachRange(pool, nodeCount, chunkCount(nodeCount, pool), (chunk, from, to) -> {
+                for (int node = from; node < to; node++) {
+                    int edge = cheapest.get(node) - 1;
+                    if (edge >= 0) {
+                        cheapest.set(node, 0);
+                        if (components.union(edges.getSource(edge), edges.getTarget(edge))) {
+                            forest[forestSize.getAndIncrement()] = edge;
+                        }
+                    }
+                }
+            });
+        }
+        return new SpanningForest(edges, Arrays.copyOf(forest, forestSize.get()));
+    }
+
+    public static SpanningForest filterKruskal(WeightedEdges edges) {
+        FilterKruskal kruskal = new FilterKruskal(edges);
+        kruskal.solve(0, edges.getEdgeCount());
+        return new SpanningForest(edges, Arrays.copyOf(kruskal.forest, kruskal.forestSize));
+    }
+
+    /**
+     * Makes the edge the cheapest one of the component unless a cheaper one is already there.
+     */
+    private static void offer(WeightedEdges edges, AtomicIntegerArray cheapest, int root, int edge) {
+        while (true) {
+            int current = cheapest.get(root);
+            if (current != 0 && !edges.precedes(edge, current - 1)) {
+                return;
+            }
+            if (cheapest.compareAndSet(root, current, edge + 1)) {
+                return;
+            }
+        }
+    }
+
+    private static int[] identity(int length) {
+        int[] indexes = new int[length];
+        for (int i = 0; i < length; i++) {
+            indexes[i] = i;
+        }
+        return indexes;
+    }
+
+    private static int chunkCount(int n, ForkJoinPool pool) {
+        if (pool == null) {
+            return 1;
+        }
+        return Math.max(1, Math.min(pool.getParallelism() * 4, n / MIN_CHUNK_SIZE));
+    }
+
+    private static int chunkStart(int n, int chunks, int chunk) {
+        return (int) ((long) n * chunk / chunks);
+    }
+
+    private static void forEachRange(ForkJoinPool pool, int n, int chunks, RangeAction action) {
+        if (chunks == 1) {
+            action.apply(0, 0, n);
+        } else {
+            // a parallel stream started from a pool's task runs in that pool
+            pool
+              .submit(() -> IntStream
+                .range(0, chunks)
+                .parallel()
+                .forEach(chunk -> action.apply(chunk, chunkStart(n, chunks, chunk), chunkStart(n, chunks, chunk + 1))))
+              .join();
+        }
+    }
+
+    @FunctionalInterface
+    private interface RangeAction {
+
+        void apply(int chunk, int from, int to);
+    }
+
+    private static class FilterKruskal {
+
+        private final WeightedEdges edges;
+        private final ConcurrentUnionFind components;
+        private final int[] order;
+        private final int[] forest;
+        private int forestSize;
+
+        FilterKruskal(WeightedEdges edges) {
+            this.edges = edges;
+            this.components = new ConcurrentUnionFind(edges.getNodeCount());
+            this.order = identity(edges.getEdgeCount());
+            this.forest = new int[Math.max(0, edges.getNodeCount() - 1)];
+        }
+
+        /**
+         * Adds the forest edges among {@code order[from..to)}, given that all lighter edges
+         * have been handled.
+         */
+        void solve(int from, int to) {
+            if (forestSize == forest.length || from == to) {
+                return;
+            }
+
+            if (to - from > SORT_THRESHOLD) {
+                int split = partition(from, to, pivot(from, to));
+                // an unlucky pivot leaves one side empty; sorting is then the way forward
+                if (split < to) {
+                    solve(from, split);
+                    solve(split, filter(split, to));
+                    return;
+                }
+            }
+
+            sort(from, to - 1);
+            for (int i = from; i < to && forestSize < forest.length; i++) {
+                int edge = order[i];
+                if (components.union(edges.getSource(edge), edges.getTarget(edge))) {
+                    forest[forestSize++] = edge;
+                }
+            }
+        }
+
+        /**
+         * @return The median of three random edges of the range.
+         */
+        private int pivot(int from, int to) {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            int a = order[random.nextInt(from, to)];
+            int b = order[random.nextInt(from, to)];
+            int c = order[random.nextInt(from, to)];
+            if (edges.precedes(a, b)) {
+                return edges.precedes(b, c) ? b : edges.precedes(a, c) ? c : a;
+            }
+            return edges.precedes(a, c) ? a : edges.precedes(b, c) ? c : b;
+        }
+
+        /**
+         * Moves the edges up to the pivot, included, before the others.
+         *
+         * @return The index of the first edge after the pivot.
+         */
+        private int partition(int from, int to, int pivot) {
+            int split = from;
+            for (int i = from; i < to; i++) {
+                if (!edges.precedes(pivot, order[i])) {
+                    swap(i, split++);
+                }
+            }
+            return split;
+        }
+
+        /**
+         * Drops the edges whose nodes are already connected.
+         *
+         * @return The end of the remaining edges.
+         */
+        private int filter(int from, int to) {
+            int end = from;
+            for (int i = from; i < to; i++) {
+                int edge = order[i];
+                if (!components.sameSet(edges.getSource(edge), edges.getTarget(edge))) {
+                    order[end++] = edge;
+                }
+            }
+            return end;
+        }
+
+        /**
+         * Quicksort of {@code order[from..to]}.
+         */
+        private void sort(int from, int to) {
+            while (to - from > 16) {
+                int pivot = order[(from + to) >>> 1];
+                int i = from;
+                int j = to;
+                while (i <= j) {
+                    while (edges.precedes(order[i], pivot)) {
+                        i++;
+                    }
+                    while (edges.precedes(pivot, order[j])) {
+                        j--;
+                    }
+                    if (i <= j) {
+                        swap(i++, j--);
+                    }
+                }
+                // recurse into the smaller part to bound the stack depth
+                if (j - from < to - i) {
+                    sort(from, j);
+                    from = i;
+                } else {
+                    sort(i, to);
+                    to = j;
+                }
+            }
+
+            for (int i = from + 1; i <= to; i++) {
+                int edge = order[i];
+                int j = i - 1;
+                while (j >= from && edges.precedes(edge, order[j])) {
+                    order[j + 1] = order[j];
+                    j--;
+                }
+                order[j + 1] = edge;
+            }
+        }
+
+        private void swap(int i, int j) {
+            int edge = order[i];
+            order[i] = order[j];
+            order[j] = edge;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.baeldung.algorithms.mst;
+
+import com.google.common.graph.MutableValueGraph;
+import com.google.common.graph.ValueGraphBuilder;
+
+/**
+ * A minimum spanning forest, as the indexes of its edges in the {@link WeightedEdges} it was
+ * computed from. It's a spanning tree when the graph is connected.
+ */
+public class SpanningForest {
+
+    private final WeightedEdges edges;
+    private final int[] edgeIndexes;
+
+    SpanningForest(WeightedEdges edges, int[] edgeIndexes) {
+        this.edges = edges;
+        this.edgeIndexes = edgeIndexes;
+    }
+
+    public WeightedEdges getEdges() {
+        return edges;
+    }
+
+    public int getEdgeCount() {
+        return edgeIndexes.length;
+    }
+
+    /**
+     * @return The indexes of the forest's edges, in no particular order.
+     */
+    public int[] getEdgeIndexes() {
+        return edgeIndexes.clone();
+    }
+
+    public double getTotalWeight() {
+        double total = 0;
+        for (int edge : edgeIndexes) {
+            total += edges.getWeight(edge);
+        }
+        return total;
+    }
+
+    /**
+     * @return The number of trees, counting isolated nodes.
+     */
+    public int getComponentCount() {
+        return edges.getNodeCount() - edgeIndexes.length;
+    }
+
+    public boolean isSpanningTree() {
+        return getComponentCount() <= 1;
+    }
+
+    /**
+     * @return A graph of every node and the forest's edges.
+     */
+    public MutableValueGraph<Integer, Double> toGraph() {
+        MutableValueGraph<Integer, Double> graph = ValueGraphBuilder
+          .undirected()
+          .expectedNodeCount(edges.getNodeCount())
+          .build();
+        for (int node = 0; node < edges.getNodeCount(); node++) {
+            graph.addNode(node);
+        }
+        for (int edge : edgeIndexes) {
+            graph.putEdgeValue(edges.getSource(edge), edges.getTarget(edge), edges.getWeight(edge));
+        }
+        return graph;
+    }
+
+    @Override
+    public String toString() {
+        return "SpanningForest [edgeCount=" + edgeIndexes.length + ", totalWeight=" + getTotalWeight() + "]";
+    }
+}
@@ -0,0 +1,110 @@
+package com.baeldung.algorithms.mst;
+
+import com.google.common.graph.EndpointPair;
+import com.google.common.graph.ValueGraph;
+
+/**
+ * Undirected weighted edges between nodes numbered from 0, held in parallel primitive arrays
+ * so that large graphs cost 16 bytes per edge. Edge {@code e} connects {@code sources[e]} and
+ * {@code targets[e]}.
+ * <p>
+ * Edges are ordered by weight, then by index, so that every graph has a single minimum
+ * spanning forest, which all algorithms find.
+ */
+public class WeightedEdges {
+
+    private final int nodeCount;
+    private final int[] sources;
+    private final int[] targets;
+    private final double[] weights;
+
+    /**
+     * The arrays aren't copied, and shouldn't be modified while in use.
+     */
+    public WeightedEdges(int nodeCount, int[] sources, int[] targets, double[] weights) {
+        if (nodeCount < 0) {
+            throw new IllegalArgumentException("The node count should not be negative");
+        }
+        if (sources.length != targets.length || sources.length != weights.length) {
+            throw new IllegalArgumentException("The sources, targets and weights should have the same length");
+        }
+        for (int e = 0; e < sources.length; e++) {
+            if (sources[e] < 0 || sources[e] >= nodeCount || targets[e] < 0 || targets[e] >= nodeCount) {
+                throw new IllegalArgumentException("Edge " + e + " has a node outside of 0 to " + (nodeCount - 1));
+            }
+            if (Double.isNaN(weights[e])) {
+                throw new IllegalArgumentException("Edge " + e + " has a NaN weight");
+            }
+        }
+
+        this.nodeCount = nodeCount;
+        this.sources = sources;
+        this.targets = targets;
+        this.weights = weights;
+    }
+
+    /**
+     * Copies the edges of a graph whose nodes are numbered from 0 to {@code n - 1}.
+     */
+    public static WeightedEdges of(ValueGraph<Integer, ? extends Number> graph) {
+        int nodeCount = graph
+          .nodes()
+          .size();
+        int edgeCount = graph
+          .edges()
+          .size();
+        int[] sources = new int[edgeCount];
+        int[] targets = new int[edgeCount];
+        double[] weights = new double[edgeCount];
+        int e = 0;
+        for (EndpointPair<Integer> edge : graph.edges()) {
+            sources[e] = edge.nodeU();
+            targets[e] = edge.nodeV();
+            weights[e] = graph
+              .edgeValueOrDefault(edge.nodeU(), edge.nodeV(), null)
+              .doubleValue();
+            e++;
+        }
+        return new WeightedEdges(nodeCount, sources, targets, weights);
+    }
+
+    /**
+     * @return The same edges with negated weights, whose minimum spanning forest is the maximum
+     *         spanning forest of these edges.
+     */
+    public WeightedEdges negated() {
+        double[] negated = new double[weights.length];
+        for (int e = 0; e < weights.length; e++) {
+            negated[e] = -weights[e];
+        }
+        return new WeightedEdges(nodeCount, sources, targets, negated);
+    }
+
+    public int getNodeCount() {
+        return nodeCount;
+    }
+
+    public int getEdgeCount() {
+        return sources.length;
+    }
+
+    public int getSource(int edge) {
+        return sources[edge];
+    }
+
+    public int getTarget(int edge) {
+        return targets[edge];
+    }
+
+    public double getWeight(int edge) {
+        return weights[edge];
+    }
+
+    /**
+     * @return True if edge {@code e} comes before edge {@code f}: it's lighter, or as heavy
+     *         with a lower index.
+     */
+    boolean precedes(int e, int f) {
+        return weights[e] < weights[f] || (weights[e] == weights[f] && e < f);
+    }
+}
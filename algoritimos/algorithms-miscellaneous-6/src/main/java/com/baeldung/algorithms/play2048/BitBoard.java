@@ -0,0 +1,182 @@
+package com.baeldung.algorithms.play2048;
+
+/**
+ * A 4x4 board packed into a {@code long}: each cell is the 4-bit exponent of its tile, 0 for an
+ * empty cell, 1 for a 2, up to 15 for a 32768. Cell {@code (x, y)} is at nibble
+ * {@code 4 * x + y}, so the 16 bits at {@code 16 * x} hold {@code board[x]} of {@link Board}.
+ * <p>
+ * Moves slide and merge whole 16-bit rows through lookup tables computed once for all 65536
+ * rows; moves along the other axis transpose the board first. A move thus costs a few table
+ * lookups and shifts, with no allocation.
+ */
+public final class BitBoard {
+
+    public static final int SIZE = 4;
+
+    private static final int ROWS = 1 << 16;
+
+    /**
+     * Per row, the row after sliding its tiles towards nibble 0, or towards nibble 3.
+     */
+    private static final char[] MOVE_LOW = new char[ROWS];
+    private static final char[] MOVE_HIGH = new char[ROWS];
+
+    /**
+     * Per row, the sum of the tiles created by merges, which is the same in both directions.
+     */
+    private static final int[] MOVE_SCORE = new int[ROWS];
+
+    static {
+        int[] line = new int[SIZE];
+        for (int row = 0; row < ROWS; row++) {
+            for (int i = 0; i < SIZE; i++) {
+                line[i] = (row >>> (4 * i)) & 0xF;
+            }
+            int score = slideLow(line);
+            MOVE_LOW[row] = (char) pack(line);
+            MOVE_SCORE[row] = score;
+
+            int reversed = reverseRow(row);
+            for (int i = 0; i < SIZE; i++) {
+                line[i] = (reversed >>> (4 * i)) & 0xF;
+            }
+            slideLow(line);
+            MOVE_HIGH[row] = (char) reverseRow(pack(line));
+        }
+    }
+
+    private BitBoard() {
+    }
+
+    /**
+     * @return The exponent of the tile at the cell, 0 if it's empty.
+     */
+    public static int exponent(long board, int x, int y) {
+        return (int) (board >>> (4 * (SIZE * x + y))) & 0xF;
+    }
+
+    /**
+     * @return The board with the tile of the given exponent at the cell.
+     */
+    public static long placeTile(long board, int x, int y, int exponent) {
+        int shift = 4 * (SIZE * x + y);
+        return board & ~(0xFL << shift) | (long) exponent << shift;
+    }
+
+    /**
+     * @return The board after the move, which is the same board if the move is not possible.
+     */
+    public static long move(long board, Move move) {
+        switch (move) {
+        case UP:
+            return moveRows(board, MOVE_LOW);
+        case DOWN:
+            return moveRows(board, MOVE_HIGH);
+        case LEFT:
+            return transpose(moveRows(transpose(board), MOVE_LOW));
+        default:
+            return transpose(moveRows(transpose(board), MOVE_HIGH));
+        }
+    }
+
+    /**
+     * @return The sum of the tiles created by merges during the move.
+     */
+    public static int moveScore(long board, Move move) {
+        long rows = move == Move.UP || move == Move.DOWN ? board : transpose(board);
+        int score = 0;
+        for (int x = 0; x < SIZE; x++) {
+            score += MOVE_SCORE[row(rows, x)];
+        }
+        return score;
+    }
+
+    /**
+     * @return The number of empty cells.
+     */
+    public static int countEmpty(long board) {
+        // folds each nibble to one bit, set when the nibble is not 0
+        long occupied = board | board >>> 1;
+        occupied |= occupied >>> 2;
+        return SIZE * SIZE - Long.bitCount(occupied & 0x1111111111111111L);
+    }
+
+    /**
+     * @return The highest exponent on the board.
+     */
+    public static int maxExponent(long board) {
+        int max = 0;
+        for (; board != 0; board >>>= 4) {
+            max = Math.max(max, (int) board & 0xF);
+        }
+        return max;
+    }
+
+    /**
+     * @return The board with cell {@code (x, y)} swapped with cell {@code (y, x)}.
+     */
+    public static long transpose(long board) {
+        long a1 = board & 0xF0F00F0FF0F00F0FL;
+        long a2 = board & 0x0000F0F00000F0F0L;
+        long a3 = board & 0x0F0F00000F0F0000L;
+        long a = a1 | (a2 << 12) | (a3 >>> 12);
+        long b1 = a & 0xFF00FF0000FF00FFL;
+        long b2 = a & 0x00FF00FF00000000L;
+        long b3 = a & 0x00000000FF00FF00L;
+        return b1 | (b2 >>> 24) | (b3 << 24);
+    }
+
+    static int row(long board, int x) {
+        return (int) (board >>> (16 * x)) & 0xFFFF;
+    }
+
+    private static long moveRows(long board, char[] table) {
+        long result = 0;
+        for (int x = 0; x < SIZE; x++) {
+            result |= (long) table[row(board, x)] << (16 * x);
+        }
+        return result;
+    }
+
+    /**
+     * Slides the tiles of the line towards index 0, merging equal neighbors once per move, as
+     * {@link Board#move(Move)} does. Two 32768 tiles don't merge, as 65536 doesn't fit.
+     *
+     * @return The sum of the tiles created by merges.
+     */
+    private static int slideLow(int[] line) {
+        int score = 0;
+        for (int i = 0; i < SIZE - 1; i++) {
+            int j = i + 1;
+            while (j < SIZE && line[j] == 0) {
+                j++;
+            }
+            if (j == SIZE) {
+                break;
+            }
+            if (line[i] == 0) {
+                line[i] = line[j];
+                line[j] = 0;
+                // the moved tile may still merge with the next one
+                i--;
+            } else if (line[i] == line[j] && line[i] != 0xF) {
+                line[i]++;
+                line[j] = 0;
+                score += 1 << line[i];
+            }
+        }
+        return score;
+    }
+
+    private static int pack(int[] line) {
+        int row = 0;
+        for (int i = 0; i < SIZE; i++) {
+            row |= line[i] << (4 * i);
+        }
+        return row;
+    }
+
+    private static int reverseRow(int row) {
+        return (row >>> 12) | ((row >>> 4) & 0x00F0) | ((row << 4) & 0x0F00) | ((row << 12) & 0xF000);
+    }
+}
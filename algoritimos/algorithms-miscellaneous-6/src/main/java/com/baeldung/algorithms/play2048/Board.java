@@ -38,6 +38,51 @@ public class Board {
         }
     }
 
+    /**
+     * Converts a packed board of {@link BitBoard} into a board.
+     *
+     * @param packed The packed board.
+     * @param score The score of the board.
+     */
+    public static Board fromPacked(long packed, int score) {
+        int[][] tiles = new int[BitBoard.SIZE][BitBoard.SIZE];
+        for (int x = 0; x < BitBoard.SIZE; ++x) {
+            for (int y = 0; y < BitBoard.SIZE; ++y) {
+                int exponent = BitBoard.exponent(packed, x, y);
+                tiles[x][y] = exponent == 0 ? 0 : 1 << exponent;
+            }
+        }
+        return new Board(tiles, score);
+    }
+
+    /**
+     * Converts this board into the packed form of {@link BitBoard}, which drops the score.
+     *
+     * @throws IllegalArgumentException If the board isn't 4x4 or has a tile which isn't a power
+     *         of two up to 32768.
+     */
+    public long toPacked() {
+        if (board.length != BitBoard.SIZE) {
+            throw new IllegalArgumentException("Only 4x4 boards can be packed");
+        }
+
+        long packed = 0;
+        for (int x = 0; x < BitBoard.SIZE; ++x) {
+            for (int y = 0; y < BitBoard.SIZE; ++y) {
+                int value = board[x][y];
+                if (value == 0) {
+                    continue;
+                }
+                int exponent = Integer.numberOfTrailingZeros(value);
+                if (value < 2 || Integer.bitCount(value) != 1 || exponent > 15) {
+                    throw new IllegalArgumentException("Tile " + value + " can't be packed");
+                }
+                packed = BitBoard.placeTile(packed, x, y, exponent);
+            }
+        }
+        return packed;
+    }
+
     public int getSize() {
         return board.length;
     }
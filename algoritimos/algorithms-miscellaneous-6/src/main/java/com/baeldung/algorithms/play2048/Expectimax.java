@@ -0,0 +1,272 @@
+package com.baeldung.algorithms.play2048;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
+
+/**
+ * A player which looks ahead with an expectimax search on packed boards of {@link BitBoard}: it
+ * takes the move with the best expected heuristic score, averaging over where the computer may
+ * place a 2 (90%) or a 4 (10%), a few moves deep, like {@link Human} but at a far higher depth
+ * for the same time.
+ * <p>
+ * Branches less likely than {@value #MIN_PROBABILITY} aren't expanded further, and chance nodes
+ * already scored at the same or a greater depth are taken from a transposition table. The four
+ * top-level moves are searched in parallel, each thread with its own table, reused from one
+ * search to the next, so the search holds no shared mutable state except for its statistics.
+ */
+public class Expectimax {
+
+    private static final double MIN_PROBABILITY = 0.0001;
+
+    /**
+     * Chance nodes deeper than this are too many and too cheap to be worth caching.
+     */
+    private static final int MAX_CACHED_DEPTH = 15;
+
+    private static final int TABLE_BITS = 18;
+
+    private static final Move[] MOVES = Move.values();
+
+    /**
+     * The score of a lost board, below the heuristic score of any board, which is negative on
+     * most real boards.
+     */
+    static final double LOST_SCORE = -1e12;
+
+    /**
+     * Per row, its score: higher for empty cells, possible merges and monotonic rows, lower for
+     * large tiles.
+     */
+    private static final double[] ROW_HEURISTIC = new double[1 << 16];
+
+    static {
+        for (int row = 0; row < ROW_HEURISTIC.length; row++) {
+            int[] line = new int[BitBoard.SIZE];
+            for (int i = 0; i < line.length; i++) {
+                line[i] = (row >>> (4 * i)) & 0xF;
+            }
+
+            double sum = 0;
+            int empty = 0;
+            int merges = 0;
+            int previous = 0;
+            int counter = 0;
+            for (int exponent : line) {
+                sum += Math.pow(exponent, 3.5);
+                if (exponent == 0) {
+                    empty++;
+                    continue;
+                }
+                if (previous == exponent) {
+                    counter++;
+                } else if (counter > 0) {
+                    merges += 1 + counter;
+                    counter = 0;
+                }
+                previous = exponent;
+            }
+            if (counter > 0) {
+                merges += 1 + counter;
+            }
+
+            double monotonicityLeft = 0;
+            double monotonicityRight = 0;
+            for (int i = 1; i < line.length; i++) {
+                double difference = Math.pow(line[i - 1], 4) - Math.pow(line[i], 4);
+                if (difference > 0) {
+                    monotonicityLeft += difference;
+                } else {
+                    monotonicityRight -= difference;
+                }
+            }
+
+            ROW_HEURISTIC[row] = 200000 + 270 * empty + 700 * merges - 47 * Math.min(monotonicityLeft, monotonicityRight) - 11 * sum;
+        }
+    }
+
+    private final int maxDepth;
+    private final ForkJoinPool pool;
+    private final LongAdder evaluatedMoves = new LongAdder();
+    private final ThreadLocal<Search> searches = ThreadLocal.withInitial(Search::new);
+
+    /**
+     * @param maxDepth The number of moves to look ahead, at least 1. The search looks less deep
+     *        while the board has few distinct tiles, as there is little to lose.
+     * @param pool The pool searching the top-level moves, or {@code null} to search them on the
+     *        calling thread.
+     */
+    public Expectimax(int maxDepth, ForkJoinPool pool) {
+        if (maxDepth < 1) {
+            throw new IllegalArgumentException("The search should look at least one move ahead");
+        }
+        this.maxDepth = maxDepth;
+        this.pool = pool;
+    }
+
+    /**
+     * Plays the best move, keeping the board's score up to date.
+     *
+     * @return The board after the move, or the same board if no move is possible.
+     */
+    public Board makeMove(Board input) {
+        long board = input.toPacked();
+        Move move = bestMove(board);
+        if (move == null) {
+            return input;
+        }
+        return Board.fromPacked(BitBoard.move(board, move), input.getScore() + BitBoard.moveScore(board, move));
+    }
+
+    /**
+     * @return The move with the best expected score, or {@code null} if no move is possible.
+     */
+    public Move bestMove(long board) {
+        double[] scores = new double[MOVES.length];
+        if (pool == null) {
+            for (int m = 0; m < MOVES.length; m++) {
+                scores[m] = scoreMove(board, MOVES[m]);
+            }
+        } else {
+            pool
+              .submit(() -> IntStream
+                .range(0, MOVES.length)
+                .parallel()
+                .forEach(m -> scores[m] = scoreMove(board, MOVES[m])))
+              .join();
+        }
+
+        Move best = null;
+        double bestScore = Double.NEGATIVE_INFINITY;
+        for (int m = 0; m < MOVES.length; m++) {
+            if (scores[m] > bestScore) {
+                bestScore = scores[m];
+                best = MOVES[m];
+            }
+        }
+        return best;
+    }
+
+    /**
+     * @return The number of moves tried by all searches so far.
+     */
+    public long getEvaluatedMoves() {
+        return evaluatedMoves.sum();
+    }
+
+    /**
+     * @return The heuristic score of a board, summed over its rows and columns.
+     */
+    static double heuristic(long board) {
+        long columns = BitBoard.transpose(board);
+        double score = 0;
+        for (int x = 0; x < BitBoard.SIZE; x++) {
+            score += ROW_HEURISTIC[BitBoard.row(board, x)] + ROW_HEURISTIC[BitBoard.row(columns, x)];
+        }
+        return score;
+    }
+
+    /**
+     * @return The expected score after the move, {@code Double.NEGATIVE_INFINITY} if the move is
+     *         not possible.
+     */
+    private double scoreMove(long board, Move move) {
+        long moved = BitBoard.move(board, move);
+        if (moved == board) {
+            return Double.NEGATIVE_INFINITY;
+        }
+
+        int depth = Math.min(maxDepth, Math.max(2, distinctTiles(board) - 2));
+        Search search = searches.get();
+        search.reset(depth);
+        double score = search.chance(moved, 1, 0);
+        evaluatedMoves.add(search.evaluatedMoves + 1);
+        return score;
+    }
+
+    private static int distinctTiles(long board) {
+        int seen = 0;
+        for (; board != 0; board >>>= 4) {
+            seen |= 1 << (board & 0xF);
+        }
+        return Integer.bitCount(seen & ~1);
+    }
+
+    /**
+     * The search from a top-level move, and its transposition table. Entries of earlier searches
+     * are told apart by their generation instead of clearing the table.
+     */
+    private static final class Search {
+
+        private final long[] keys = new long[1 << TABLE_BITS];
+        private final double[] scores = new double[1 << TABLE_BITS];
+        private final byte[] depths = new byte[1 << TABLE_BITS];
+        private final int[] generations = new int[1 << TABLE_BITS];
+        private int generation;
+        private int maxDepth;
+        private long evaluatedMoves;
+
+        void reset(int maxDepth) {
+            this.maxDepth = maxDepth;
+            this.evaluatedMoves = 0;
+            generation++;
+        }
+
+        /**
+         * @return The expected score of the board over the tiles the computer may place.
+         */
+        double chance(long board, double probability, int depth) {
+            if (probability < MIN_PROBABILITY || depth >= maxDepth) {
+                return heuristic(board);
+            }
+
+            int slot = -1;
+            if (depth < MAX_CACHED_DEPTH) {
+                slot = slot(board);
+                if (generations[slot] == generation && keys[slot] == board && depths[slot] <= depth) {
+                    return scores[slot];
+                }
+            }
+
+            int empty = BitBoard.countEmpty(board);
+            double cellProbability = probability / empty;
+            double score = 0;
+            for (int shift = 0; shift < 64; shift += 4) {
+                if ((board >>> shift & 0xF) == 0) {
+                    score += max(board | 1L << shift, cellProbability * 0.9, depth) * 0.9;
+                    score += max(board | 2L << shift, cellProbability * 0.1, depth) * 0.1;
+                }
+            }
+            score /= empty;
+
+            if (slot >= 0) {
+                keys[slot] = board;
+                scores[slot] = score;
+                depths[slot] = (byte) depth;
+                generations[slot] = generation;
+            }
+            return score;
+        }
+
+        /**
+         * @return The best score over the player's moves, {@link #LOST_SCORE} if the game is
+         *         lost.
+         */
+        private double max(long board, double probability, int depth) {
+            double best = Double.NEGATIVE_INFINITY;
+            for (Move move : MOVES) {
+                long moved = BitBoard.move(board, move);
+                evaluatedMoves++;
+                if (moved != board) {
+                    best = Math.max(best, chance(moved, probability, depth + 1));
+                }
+            }
+            return best == Double.NEGATIVE_INFINITY ? LOST_SCORE : best;
+        }
+
+        private static int slot(long board) {
+            long hash = board * 0x9E3779B97F4A7C15L;
+            return (int) (hash >>> (64 - TABLE_BITS));
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.baeldung.algorithms.play2048;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Plays games of {@link Expectimax} against a random computer on packed boards, as a CPU
+ * benchmark, and reports for each game its score, its highest tile, and how many moves were
+ * played and searched per second.
+ * <p>
+ * Arguments: the number of games (3), the search depth (3) and the random seed (42).
+ */
+public class Play2048Tournament {
+
+    public static void main(String[] args) {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 3;
+        int depth = args.length > 1 ? Integer.parseInt(args[1]) : 3;
+        SplittableRandom random = new SplittableRandom(args.length > 2 ? Long.parseLong(args[2]) : 42);
+        Expectimax player = new Expectimax(depth, ForkJoinPool.commonPool());
+
+        long totalMoves = 0;
+        long totalNanos = 0;
+        for (int game = 1; game <= games; game++) {
+            long searchedBefore = player.getEvaluatedMoves();
+            long start = System.nanoTime();
+            long board = placeTile(placeTile(0, random), random);
+            int score = 0;
+            int moves = 0;
+            while (true) {
+                Move move = player.bestMove(board);
+                if (move == null) {
+                    break;
+                }
+                score += BitBoard.moveScore(board, move);
+                board = placeTile(BitBoard.move(board, move), random);
+                moves++;
+            }
+            long nanos = System.nanoTime() - start;
+            long searched = player.getEvaluatedMoves() - searchedBefore;
+            totalMoves += moves;
+            totalNanos += nanos;
+
+            System.out.printf("Game %d: score %d, highest tile %d, %d moves in %.1f s, %.1f moves/s, %.0f searched moves/s%n", game, score, 1 << BitBoard.maxExponent(board), moves,
+                nanos / 1e9, moves * 1e9 / nanos, searched * 1e9 / nanos);
+        }
+        System.out.printf("Overall: %.1f moves/s%n", totalMoves * 1e9 / totalNanos);
+    }
+
+    /**
+     * Places a 2 (90%) or a 4 (10%) in a random empty cell, like {@link Computer}.
+     */
+    private static long placeTile(long board, SplittableRandom random) {
+        int target = random.nextInt(BitBoard.countEmpty(board));
+        for (int shift = 0;; shift += 4) {
+            if ((board >>> shift & 0xF) == 0 && target-- == 0) {
+                return board | (random.nextDouble() < 0.9 ? 1L : 2L) << shift;
+            }
+        }
+    }
+}
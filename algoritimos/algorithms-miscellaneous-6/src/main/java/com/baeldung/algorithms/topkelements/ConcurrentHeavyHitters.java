@@ -0,0 +1,60 @@
+package com.baeldung.algorithms.topkelements;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Heavy hitters of a stream fed by many threads. Like {@link ConcurrentTopK}, each thread
+ * counts in its own {@link SpaceSaving} summary, locked only against a concurrent query, and
+ * queries merge the summaries.
+ */
+public class ConcurrentHeavyHitters<K> {
+
+    private final int capacity;
+    private final Queue<SpaceSaving<K>> summaries = new ConcurrentLinkedQueue<>();
+    private final ThreadLocal<SpaceSaving<K>> summary = ThreadLocal.withInitial(this::register);
+
+    /**
+     * @param capacity The number of counters of each thread, and of the merged summary.
+     */
+    public ConcurrentHeavyHitters(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("At least one counter is required");
+        }
+        this.capacity = capacity;
+    }
+
+    public void add(K key) {
+        SpaceSaving<K> local = summary.get();
+        synchronized (local) {
+            local.add(key);
+        }
+    }
+
+    /**
+     * @return The k most frequent keys added so far, most frequent first.
+     */
+    public List<HeavyHitter<K>> topK(int k) {
+        return snapshot().topK(k);
+    }
+
+    /**
+     * @return A summary of all keys added so far, which the caller owns.
+     */
+    public SpaceSaving<K> snapshot() {
+        SpaceSaving<K> merged = new SpaceSaving<>(capacity);
+        for (SpaceSaving<K> s : summaries) {
+            synchronized (s) {
+                merged.merge(s);
+            }
+        }
+        return merged;
+    }
+
+    private SpaceSaving<K> register() {
+        SpaceSaving<K> s = new SpaceSaving<>(capacity);
+        summaries.add(s);
+        return s;
+    }
+}
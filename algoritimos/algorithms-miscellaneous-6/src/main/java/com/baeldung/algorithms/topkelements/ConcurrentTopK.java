@@ -0,0 +1,77 @@
+package com.baeldung.algorithms.topkelements;
+
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * The {@code k} largest ints of an unbounded stream fed by many threads. Each thread keeps its
+ * own primitive min-heap of {@code k} values, so adding never contends with other producers;
+ * {@link #topK()} merges the heaps on demand.
+ * <p>
+ * Once a thread's heap is full, a value no larger than its minimum is dropped without taking
+ * any lock, which is the common case on long streams. Only the values which enter a heap lock
+ * it, against a concurrent merge.
+ */
+public class ConcurrentTopK {
+
+    private final int k;
+    private final Queue<IntMinHeap> heaps = new ConcurrentLinkedQueue<>();
+    private final ThreadLocal<IntMinHeap> heap = ThreadLocal.withInitial(this::register);
+
+    public ConcurrentTopK(int k) {
+        if (k < 1) {
+            throw new IllegalArgumentException("k should be positive");
+        }
+        this.k = k;
+    }
+
+    public void add(int value) {
+        IntMinHeap local = heap.get();
+        // only this thread modifies its heap, so reading the minimum needs no lock
+        if (local.isFull() && value <= local.min()) {
+            return;
+        }
+        synchronized (local) {
+            local.offer(value);
+        }
+    }
+
+    /**
+     * @return The largest values added so far, at most {@code k}, in descending order.
+     */
+    public int[] topK() {
+        IntMinHeap merged = new IntMinHeap(k);
+        int[] values = new int[k];
+        for (IntMinHeap h : heaps) {
+            int size;
+            synchronized (h) {
+                size = h.size();
+                h.copyTo(values, 0);
+            }
+            for (int i = 0; i < size; i++) {
+                merged.offer(values[i]);
+            }
+        }
+
+        int[] top = new int[merged.size()];
+        merged.copyTo(top, 0);
+        Arrays.sort(top);
+        reverse(top);
+        return top;
+    }
+
+    private IntMinHeap register() {
+        IntMinHeap h = new IntMinHeap(k);
+        heaps.add(h);
+        return h;
+    }
+
+    static void reverse(int[] values) {
+        for (int i = 0, j = values.length - 1; i < j; i++, j--) {
+            int value = values[i];
+            values[i] = values[j];
+            values[j] = value;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.baeldung.algorithms.topkelements;
+
+/**
+ * A frequent key with its estimated count. The true count is between {@code count - error} and
+ * {@code count}.
+ */
+public class HeavyHitter<K> {
+
+    private final K key;
+    private final long count;
+    private final long error;
+
+    public HeavyHitter(K key, long count, long error) {
+        this.key = key;
+        this.count = count;
+        this.error = error;
+    }
+
+    public K getKey() {
+        return key;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getError() {
+        return error;
+    }
+
+    /**
+     * @return The count the key is known to have reached.
+     */
+    public long getGuaranteedCount() {
+        return count - error;
+    }
+
+    @Override
+    public String toString() {
+        return "HeavyHitter [key=" + key + ", count=" + count + ", error=" + error + "]";
+    }
+}
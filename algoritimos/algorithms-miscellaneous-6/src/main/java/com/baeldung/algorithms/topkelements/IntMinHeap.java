@@ -0,0 +1,73 @@
+package com.baeldung.algorithms.topkelements;
+
+/**
+ * Min-heap of at most {@code capacity} ints which keeps the largest values offered to it.
+ */
+class IntMinHeap {
+
+    private final int[] values;
+    private int size;
+
+    IntMinHeap(int capacity) {
+        values = new int[capacity];
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isFull() {
+        return size == values.length;
+    }
+
+    /**
+     * @return The smallest value kept; only meaningful when not empty.
+     */
+    int min() {
+        return values[0];
+    }
+
+    /**
+     * Keeps the value if the heap isn't full or the value is larger than its minimum.
+     */
+    void offer(int value) {
+        if (size < values.length) {
+            int index = size++;
+            while (index > 0) {
+                int parent = (index - 1) >>> 1;
+                if (values[parent] <= value) {
+                    break;
+                }
+                values[index] = values[parent];
+                index = parent;
+            }
+            values[index] = value;
+        } else if (size > 0 && value > values[0]) {
+            siftDown(value);
+        }
+    }
+
+    /**
+     * Copies the kept values, in no particular order, to the array at the offset.
+     */
+    void copyTo(int[] target, int offset) {
+        System.arraycopy(values, 0, target, offset, size);
+    }
+
+    private void siftDown(int value) {
+        int index = 0;
+        int half = size >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            if (child + 1 < size && values[child + 1] < values[child]) {
+                child++;
+            }
+            if (value <= values[child]) {
+                break;
+            }
+            values[index] = values[child];
+            index = child;
+        }
+        values[index] = value;
+    }
+}
@@ -0,0 +1,95 @@
+package com.baeldung.algorithms.topkelements;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+/**
+ * Finds the top k with quickselect: partitioning around random pivots moves the k largest
+ * values to the end of a copy of the input in linear expected time, and only those k are then
+ * sorted. Partitions are three-way, so runs of equal values don't slow it down, and it falls
+ * back to sorting if the pivots keep being unlucky.
+ */
+public class QuickselectTopKElementsFinder implements TopKElementsFinder<Integer> {
+
+    public List<Integer> findTopK(List<Integer> input, int k) {
+        int[] values = input
+          .stream()
+          .mapToInt(Integer::intValue)
+          .toArray();
+
+        return Arrays
+          .stream(findTopK(values, k))
+          .boxed()
+          .collect(Collectors.toList());
+    }
+
+    /**
+     * @return The k largest values of the input, or all of them if there are fewer, in
+     *         descending order. The input is left unchanged.
+     */
+    public static int[] findTopK(int[] input, int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("k should not be negative");
+        }
+
+        int[] values = input.clone();
+        int count = Math.min(k, values.length);
+        int from = values.length - count;
+        if (count > 0 && from > 0) {
+            select(values, from);
+        }
+
+        int[] top = Arrays.copyOfRange(values, from, values.length);
+        Arrays.sort(top);
+        ConcurrentTopK.reverse(top);
+        return top;
+    }
+
+    /**
+     * Rearranges the values so that the one at {@code target} is where it would be once sorted,
+     * with no larger value before it and no smaller one after it.
+     */
+    private static void select(int[] values, int target) {
+        int from = 0;
+        int to = values.length - 1;
+        int budget = 2 * (32 - Integer.numberOfLeadingZeros(values.length));
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (from < to) {
+            if (budget-- == 0) {
+                Arrays.sort(values, from, to + 1);
+                return;
+            }
+
+            int pivot = values[random.nextInt(from, to + 1)];
+            // [from, less) < pivot, [less, i) == pivot, (greater, to] > pivot
+            int less = from;
+            int greater = to;
+            int i = from;
+            while (i <= greater) {
+                if (values[i] < pivot) {
+                    swap(values, i++, less++);
+                } else if (values[i] > pivot) {
+                    swap(values, i, greater--);
+                } else {
+                    i++;
+                }
+            }
+
+            if (target < less) {
+                to = less - 1;
+            } else if (target > greater) {
+                from = greater + 1;
+            } else {
+                return;
+            }
+        }
+    }
+
+    private static void swap(int[] values, int i, int j) {
+        int value = values[i];
+        values[i] = values[j];
+        values[j] = value;
+    }
+}
@@ -0,0 +1,193 @@
+package com.baeldung.algorithms.topkelements;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The most frequent keys of a stream, counted with the Space-Saving algorithm (Metwally, Agrawal
+ * and El Abbadi) in a fixed number of counters. A new key takes over the counter with the
+ * smallest count, and inherits that count as its possible overestimate. With {@code m}
+ * counters, every key occurring more than {@code n / m} times in a stream of {@code n} keys is
+ * kept, and no count is off by more than {@code n / m}.
+ * <p>
+ * The counters form a min-heap indexed by key, so adding a key costs a hash lookup and a
+ * sift-down. Summaries can be merged (Agarwal et al., "Mergeable Summaries"), which lets each
+ * thread or node count on its own. Not thread-safe; see {@link ConcurrentHeavyHitters}.
+ */
+public class SpaceSaving<K> {
+
+    private final Map<K, Counter<K>> counters;
+    private final Counter<K>[] heap;
+    private int size;
+    private long total;
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public SpaceSaving(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("At least one counter is required");
+        }
+        counters = new HashMap<>(capacity * 2);
+        heap = new Counter[capacity];
+    }
+
+    public int getCapacity() {
+        return heap.length;
+    }
+
+    /**
+     * @return The number of keys added, with their counts.
+     */
+    public long getTotal() {
+        return total;
+    }
+
+    public void add(K key) {
+        add(key, 1);
+    }
+
+    public void add(K key, long count) {
+        if (count < 1) {
+            throw new IllegalArgumentException("The count should be positive");
+        }
+
+        total += count;
+        Counter<K> counter = counters.get(key);
+        if (counter != null) {
+            counter.count += count;
+            siftDown(counter.index);
+        } else if (size < heap.length) {
+            counter = new Counter<>(key, count, 0);
+            counters.put(key, counter);
+            counter.index = size;
+            heap[size++] = counter;
+            siftUp(counter.index);
+        } else {
+            counter = heap[0];
+            counters.remove(counter.key);
+            counter.key = key;
+            counter.error = counter.count;
+            counter.count += count;
+            counters.put(key, counter);
+            siftDown(0);
+        }
+    }
+
+    /**
+     * @return The estimated count of the key, which is never below its true count.
+     */
+    public long estimate(K key) {
+        Counter<K> counter = counters.get(key);
+        if (counter != null) {
+            return counter.count;
+        }
+        return size < heap.length ? 0 : heap[0].count;
+    }
+
+    /**
+     * @return The k keys with the highest counts, most frequent first.
+     */
+    public List<HeavyHitter<K>> topK(int k) {
+        List<HeavyHitter<K>> hitters = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            hitters.add(new HeavyHitter<>(heap[i].key, heap[i].count, heap[i].error));
+        }
+        hitters.sort(Comparator.comparingLong(HeavyHitter<K>::getCount)
+          .reversed());
+        return hitters.subList(0, Math.min(k, hitters.size()));
+    }
+
+    /**
+     * Adds the counts of the other summary to this one; the other summary is left unchanged.
+     * A key missing from a full summary may have occurred up to its smallest count, which is
+     * added to the key's count and error.
+     */
+    public void merge(SpaceSaving<K> other) {
+        long ownMissing = size < heap.length ? 0 : heap[0].count;
+        long otherMissing = other.size < other.heap.length ? 0 : other.heap[0].count;
+
+        Map<K, Counter<K>> combined = new HashMap<>((size + other.size) * 2);
+        for (int i = 0; i < size; i++) {
+            Counter<K> own = heap[i];
+            Counter<K> theirs = other.counters.get(own.key);
+            if (theirs != null) {
+                combined.put(own.key, new Counter<>(own.key, own.count + theirs.count, own.error + theirs.error));
+            } else {
+                combined.put(own.key, new Counter<>(own.key, own.count + otherMissing, own.error + otherMissing));
+            }
+        }
+        for (int i = 0; i < other.size; i++) {
+            Counter<K> theirs = other.heap[i];
+            if (!combined.containsKey(theirs.key)) {
+                combined.put(theirs.key, new Counter<>(theirs.key, theirs.count + ownMissing, theirs.error + ownMissing));
+            }
+        }
+
+        // keep the largest counts, and rebuild the heap around them
+        List<Counter<K>> kept = new ArrayList<>(combined.values());
+        kept.sort(Comparator.comparingLong((Counter<K> c) -> c.count)
+          .reversed());
+        counters.clear();
+        size = 0;
+        for (Counter<K> counter : kept.subList(0, Math.min(heap.length, kept.size()))) {
+            counters.put(counter.key, counter);
+            counter.index = size;
+            heap[size++] = counter;
+        }
+        for (int i = size / 2 - 1; i >= 0; i--) {
+            siftDown(i);
+        }
+        total += other.total;
+    }
+
+    private void siftUp(int index) {
+        Counter<K> counter = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (heap[parent].count <= counter.count) {
+                break;
+            }
+            place(heap[parent], index);
+            index = parent;
+        }
+        place(counter, index);
+    }
+
+    private void siftDown(int index) {
+        Counter<K> counter = heap[index];
+        int half = size >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            if (child + 1 < size && heap[child + 1].count < heap[child].count) {
+                child++;
+            }
+            if (counter.count <= heap[child].count) {
+                break;
+            }
+            place(heap[child], index);
+            index = child;
+        }
+        place(counter, index);
+    }
+
+    private void place(Counter<K> counter, int index) {
+        heap[index] = counter;
+        counter.index = index;
+    }
+
+    private static class Counter<K> {
+
+        private K key;
+        private long count;
+        private long error;
+        private int index;
+
+        Counter(K key, long count, long error) {
+            this.key = key;
+            this.count = count;
+            this.error = error;
+        }
+    }
+}
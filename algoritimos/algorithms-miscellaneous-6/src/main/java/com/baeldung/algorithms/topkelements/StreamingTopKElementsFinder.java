@@ -0,0 +1,32 @@
+package com.baeldung.algorithms.topkelements;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Feeds the input to a {@link ConcurrentTopK} from a parallel stream, each worker thread
+ * filling its own heap.
+ */
+public class StreamingTopKElementsFinder implements TopKElementsFinder<Integer> {
+
+    public List<Integer> findTopK(List<Integer> input, int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("k should not be negative");
+        }
+        if (k == 0) {
+            return new ArrayList<>();
+        }
+
+        ConcurrentTopK topK = new ConcurrentTopK(k);
+        input
+          .parallelStream()
+          .forEach(topK::add);
+
+        return Arrays
+          .stream(topK.topK())
+          .boxed()
+          .collect(Collectors.toList());
+    }
+}
@@ -2,6 +2,8 @@ package com.baeldung.algorithms.boruvka;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import java.util.concurrent.ForkJoinPool;
+
 import org.junit.Before;
 import org.junit.Test;
 
@@ -34,4 +36,18 @@ public class BoruvkaUnitTest {
         assertEquals(4, mst.edges().size());
     }
 
+    @Test
+    public void givenInputGraph_whenBoruvkaPerformedOnPoolOrCallingThread_thenSameTree() {
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            BoruvkaMST parallel = new BoruvkaMST(graph, pool);
+            BoruvkaMST sequential = new BoruvkaMST(graph, null);
+
+            assertEquals(30, parallel.getTotalWeight());
+            assertEquals(sequential.getMST(), parallel.getMST());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
 }
@@ -0,0 +1,127 @@
+package com.baeldung.algorithms.minheapmerge;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.baeldung.algorithms.minheapmerge.SortStatistics.Phase;
+
+public class ExternalSortUnitTest {
+
+    private static final int RECORD_SIZE = 16;
+
+    private Path directory;
+
+    @Before
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("external-sort");
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(directory);
+    }
+
+    @Test
+    public void givenSortedArrays_whenMergedWithLoserTree_thenMatchMinHeapMerge() {
+        int[][] arrays = { { 0, 6 }, {}, { 1, 5, 10, 100 }, { 2, 4, 200, 650 }, { -3, 5 } };
+        int[][] heapInput = { { 0, 6 }, { 1, 5, 10, 100 }, { 2, 4, 200, 650 }, { -3, 5 } };
+
+        assertArrayEquals(MinHeap.merge(heapInput), LoserTree.merge(arrays));
+    }
+
+    @Test
+    public void givenFileLargerThanRuns_whenSorted_thenRecordsAreOrderedAndStable() throws IOException {
+        // 2-byte keys, so many records share a key; the rest of a record is its input position
+        long[][] records = new long[100_000][];
+        Random random = new Random(1);
+        ByteBuffer content = ByteBuffer.allocate(records.length * RECORD_SIZE);
+        for (int i = 0; i < records.length; i++) {
+            long key = random.nextInt(1 << 16);
+            content.putShort((short) key);
+            content.putShort((short) 0);
+            content.putInt(0);
+            content.putLong(i);
+            records[i] = new long[] { key, i };
+        }
+        Path input = directory.resolve("input");
+        Path output = directory.resolve("output");
+        Files.write(input, content.array());
+
+        ExternalSort sort = new ExternalSort(RECORD_SIZE, 2);
+        // 50 runs merged 8 at a time
+        sort.setRunBytes(2000 * RECORD_SIZE);
+        sort.setMaxFanIn(8);
+        sort.setBufferBytes(1000);
+        sort.setTempDirectory(directory);
+        SortStatistics statistics = sort.sort(input, output);
+
+        Arrays.sort(records, Comparator.<long[]> comparingLong(r -> r[0])
+          .thenComparingLong(r -> r[1]));
+        ByteBuffer sorted = ByteBuffer.wrap(Files.readAllBytes(output));
+        assertEquals(content.capacity(), sorted.capacity());
+        for (long[] record : records) {
+            assertEquals(record[0], sorted.getShort() & 0xFFFF);
+            sorted.getShort();
+            sorted.getInt();
+            assertEquals(record[1], sorted.getLong());
+        }
+
+        assertEquals(50, statistics.getRunCount());
+        assertTrue(statistics.getMergeCount() > 1);
+        assertEquals(content.capacity(), statistics.getBytes(Phase.SPILL));
+        assertTrue(statistics.getBytes(Phase.MERGE) > content.capacity());
+        // only the input and output are left
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(2, files.count());
+        }
+    }
+
+    @Test
+    public void givenSignedLookingKeys_whenSorted_thenOrderIsUnsigned() throws IOException {
+        ByteBuffer content = ByteBuffer.allocate(4 * 8);
+        for (long key : new long[] { -1, 0, Long.MIN_VALUE, 1 }) {
+            content.putLong(key);
+        }
+        Path input = directory.resolve("input");
+        Path output = directory.resolve("output");
+        Files.write(input, content.array());
+
+        new ExternalSort(8, 8).sort(input, output);
+
+        ByteBuffer sorted = ByteBuffer.wrap(Files.readAllBytes(output));
+        assertEquals(0, sorted.getLong());
+        assertEquals(1, sorted.getLong());
+        assertEquals(Long.MIN_VALUE, sorted.getLong());
+        assertEquals(-1, sorted.getLong());
+    }
+
+    @Test
+    public void givenEmptyFile_whenSorted_thenOutputIsEmpty() throws IOException {
+        Path input = Files.createFile(directory.resolve("input"));
+        Path output = directory.resolve("output");
+
+        SortStatistics statistics = new ExternalSort(RECORD_SIZE, 8).sort(input, output);
+
+        assertEquals(0, Files.size(output));
+        assertEquals(0, statistics.getRunCount());
+    }
+}
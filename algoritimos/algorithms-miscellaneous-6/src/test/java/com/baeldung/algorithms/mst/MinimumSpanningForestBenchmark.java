@@ -0,0 +1,67 @@
+package com.baeldung.algorithms.mst;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Scaling of the parallel Borůvka with the number of threads, on a random graph of 1M nodes
+ * and 8M edges. Filter-Kruskal runs on a single thread whatever the parallelism, and serves as
+ * the baseline.
+ */
+@Fork(value = 1, warmups = 1, jvmArgs = "-Xmx4g")
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class MinimumSpanningForestBenchmark {
+
+    private static final int NODE_COUNT = 1 << 20;
+    private static final int EDGE_COUNT = 8 * NODE_COUNT;
+
+    @Param({ "1", "2", "4", "8", "16" })
+    private int parallelism;
+
+    private WeightedEdges edges;
+    private ForkJoinPool pool;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        int[] sources = new int[EDGE_COUNT];
+        int[] targets = new int[EDGE_COUNT];
+        double[] weights = new double[EDGE_COUNT];
+        for (int e = 0; e < EDGE_COUNT; e++) {
+            sources[e] = random.nextInt(NODE_COUNT);
+            targets[e] = random.nextInt(NODE_COUNT);
+            weights[e] = random.nextDouble();
+        }
+        edges = new WeightedEdges(NODE_COUNT, sources, targets, weights);
+        pool = new ForkJoinPool(parallelism);
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public SpanningForest boruvka() {
+        return MinimumSpanningForest.boruvka(edges, pool);
+    }
+
+    @Benchmark
+    public SpanningForest filterKruskal() {
+        return MinimumSpanningForest.filterKruskal(edges);
+    }
+}
@@ -0,0 +1,185 @@
+package com.baeldung.algorithms.mst;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+
+import com.google.common.graph.MutableValueGraph;
+import com.google.common.graph.ValueGraphBuilder;
+
+public class MinimumSpanningForestUnitTest {
+
+    @Test
+    public void givenSmallGraph_whenComputingForest_thenBothAlgorithmsFindMinimumTree() {
+        MutableValueGraph<Integer, Double> graph = ValueGraphBuilder.undirected().build();
+        graph.putEdgeValue(0, 1, 8.0);
+        graph.putEdgeValue(0, 2, 5.0);
+        graph.putEdgeValue(1, 2, 9.0);
+        graph.putEdgeValue(1, 3, 11.0);
+        graph.putEdgeValue(2, 3, 15.0);
+        graph.putEdgeValue(2, 4, 10.0);
+        graph.putEdgeValue(3, 4, 7.0);
+        WeightedEdges edges = WeightedEdges.of(graph);
+
+        SpanningForest boruvka = MinimumSpanningForest.boruvka(edges);
+        SpanningForest kruskal = MinimumSpanningForest.filterKruskal(edges);
+
+        assertEquals(30, boruvka.getTotalWeight(), 0);
+        assertEquals(30, kruskal.getTotalWeight(), 0);
+        assertTrue(boruvka.isSpanningTree());
+        MutableValueGraph<Integer, Double> tree = kruskal.toGraph();
+        assertTrue(tree.hasEdgeConnecting(2, 4));
+        assertFalse(tree.hasEdgeConnecting(1, 2));
+    }
+
+    @Test
+    public void givenRandomGraphWithTies_whenComputingForest_thenAllAlgorithmsFindSameEdges() {
+        WeightedEdges edges = randomEdges(new Random(1), 20_000, 200_000, 100);
+        int[] expected = referenceKruskal(edges);
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            assertArrayEquals(expected, sorted(MinimumSpanningForest.boruvka(edges)));
+            assertArrayEquals(expected, sorted(MinimumSpanningForest.boruvka(edges, pool)));
+            assertArrayEquals(expected, sorted(MinimumSpanningForest.filterKruskal(edges)));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void givenDisconnectedGraph_whenComputingForest_thenOneTreePerComponent() {
+        // two triangles and an isolated node
+        int[] sources = { 0, 1, 2, 3, 4, 5 };
+        int[] targets = { 1, 2, 0, 4, 5, 3 };
+        double[] weights = { 1, 2, 3, 1, 2, 3 };
+        WeightedEdges edges = new WeightedEdges(7, sources, targets, weights);
+
+        SpanningForest forest = MinimumSpanningForest.boruvka(edges, ForkJoinPool.commonPool());
+
+        assertEquals(4, forest.getEdgeCount());
+        assertEquals(3, forest.getComponentCount());
+        assertFalse(forest.isSpanningTree());
+        assertEquals(6, forest.getTotalWeight(), 0);
+        assertEquals(7, forest
+          .toGraph()
+          .nodes()
+          .size());
+    }
+
+    @Test
+    public void givenGraph_whenNegatingWeights_thenMaximumForestIsFound() {
+        WeightedEdges edges = randomEdges(new Random(2), 1000, 5000, 1000);
+        WeightedEdges negated = edges.negated();
+
+        int[] expected = referenceKruskal(negated);
+        assertArrayEquals(expected, sorted(MinimumSpanningForest.filterKruskal(negated)));
+        assertTrue(MinimumSpanningForest
+          .boruvka(negated)
+          .getTotalWeight() < 0);
+    }
+
+    @Test
+    public void givenSeveralThreads_whenUnitingConcurrently_thenEachMergeSucceedsOnce() throws InterruptedException {
+        int size = 100_000;
+        ConcurrentUnionFind unionFind = new ConcurrentUnionFind(size);
+        AtomicInteger merges = new AtomicInteger();
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            int seed = t;
+            threads[t] = new Thread(() -> {
+                // every thread links the whole chain, in its own order
+                Random random = new Random(seed);
+                int[] order = IntStream
+                  .range(0, size - 1)
+                  .toArray();
+                for (int i = order.length - 1; i > 0; i--) {
+                    int j = random.nextInt(i + 1);
+                    int node = order[i];
+                    order[i] = order[j];
+                    order[j] = node;
+                }
+                for (int node : order) {
+                    if (unionFind.union(node, node + 1)) {
+                        merges.incrementAndGet();
+                    }
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(size - 1, merges.get());
+        assertTrue(unionFind.sameSet(0, size - 1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void givenEdgeOutsideOfNodes_whenCreatingEdges_thenFail() {
+        new WeightedEdges(2, new int[] { 0 }, new int[] { 2 }, new double[] { 1 });
+    }
+
+    private static WeightedEdges randomEdges(Random random, int nodeCount, int edgeCount, int maxWeight) {
+        int[] sources = new int[edgeCount];
+        int[] targets = new int[edgeCount];
+        double[] weights = new double[edgeCount];
+        for (int e = 0; e < edgeCount; e++) {
+            sources[e] = random.nextInt(nodeCount);
+            targets[e] = random.nextInt(nodeCount);
+            weights[e] = random.nextInt(maxWeight);
+        }
+        return new WeightedEdges(nodeCount, sources, targets, weights);
+    }
+
+    /**
+     * Plain Kruskal, sorting boxed edge indexes by weight and index.
+     */
+    private static int[] referenceKruskal(WeightedEdges edges) {
+        Integer[] order = new Integer[edges.getEdgeCount()];
+        for (int e = 0; e < order.length; e++) {
+            order[e] = e;
+        }
+        Arrays.sort(order, Comparator
+          .comparingDouble(edges::getWeight)
+          .thenComparingInt(e -> e));
+
+        int[] parents = IntStream
+          .range(0, edges.getNodeCount())
+          .toArray();
+        return Arrays
+          .stream(order)
+          .mapToInt(Integer::intValue)
+          .filter(e -> {
+              int rootU = root(parents, edges.getSource(e));
+              int rootV = root(parents, edges.getTarget(e));
+              parents[rootU] = rootV;
+              return rootU != rootV;
+          })
+          .sorted()
+          .toArray();
+    }
+
+    private static int root(int[] parents, int node) {
+        while (parents[node] != node) {
+            node = parents[node] = parents[parents[node]];
+        }
+        return node;
+    }
+
+    private static int[] sorted(SpanningForest forest) {
+        int[] edges = forest.getEdgeIndexes();
+        Arrays.sort(edges);
+        return edges;
+    }
+}
@@ -0,0 +1,94 @@
+package com.baeldung.algorithms.play2048;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+public class BitBoardUnitTest {
+
+    @Test
+    public void givenRandomBoards_whenMoving_thenSameAsBoard() {
+        Random random = new Random(1);
+        for (int i = 0; i < 2000; i++) {
+            Board board = new Board(BitBoard.SIZE);
+            for (int x = 0; x < BitBoard.SIZE; x++) {
+                for (int y = 0; y < BitBoard.SIZE; y++) {
+                    // few distinct tiles, for many merges
+                    int exponent = random.nextInt(5);
+                    if (exponent > 0) {
+                        board = board.placeTile(new Cell(x, y), 1 << exponent);
+                    }
+                }
+            }
+            long packed = board.toPacked();
+            assertEquals(board, Board.fromPacked(packed, 0));
+
+            for (Move move : Move.values()) {
+                Board expected = board.move(move);
+                assertEquals(expected, Board.fromPacked(BitBoard.move(packed, move), 0));
+                assertEquals(expected.getScore(), BitBoard.moveScore(packed, move));
+            }
+        }
+    }
+
+    @Test
+    public void givenBoard_whenTransposing_thenCellsSwapped() {
+        long board = 0;
+        for (int x = 0; x < BitBoard.SIZE; x++) {
+            for (int y = 0; y < BitBoard.SIZE; y++) {
+                board = BitBoard.placeTile(board, x, y, x * 4 + y);
+            }
+        }
+        long transposed = BitBoard.transpose(board);
+        for (int x = 0; x < BitBoard.SIZE; x++) {
+            for (int y = 0; y < BitBoard.SIZE; y++) {
+                assertEquals(x * 4 + y, BitBoard.exponent(transposed, y, x));
+            }
+        }
+        assertEquals(1, BitBoard.countEmpty(board));
+        assertEquals(15, BitBoard.maxExponent(board));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void givenTileNotPowerOfTwo_whenPacking_thenThrows() {
+        new Board(BitBoard.SIZE).placeTile(new Cell(0, 0), 6).toPacked();
+    }
+
+    @Test
+    public void givenBoards_whenSearching_thenPossibleMoveChosen() {
+        Expectimax player = new Expectimax(2, null);
+        // 2 4 2 4 / 4 2 4 2 / ... only the last row can merge, to the left or right
+        long board = 0;
+        for (int x = 0; x < BitBoard.SIZE; x++) {
+            for (int y = 0; y < BitBoard.SIZE; y++) {
+                board = BitBoard.placeTile(board, x, y, 1 + (x + y) % 2);
+            }
+        }
+        assertNull(player.bestMove(board));
+
+        board = BitBoard.placeTile(board, 3, 3, 0);
+        Move move = player.bestMove(board);
+        assertNotNull(move);
+        assertEquals(true, BitBoard.move(board, move) != board);
+
+        Board played = player.makeMove(Board.fromPacked(board, 100));
+        assertEquals(100, played.getScore());
+    }
+
+    @Test
+    public void givenBoardWithNegativeHeuristic_whenSearching_thenAvoidsMoveWhichCanLose() {
+        // moving up leaves one empty cell, and a 2 there ends the game
+        long board = 0xC7AEBA87790C7E67L;
+        assertTrue(Expectimax.heuristic(board) < 0);
+
+        Move best = new Expectimax(1, null).bestMove(board);
+        assertNotNull(best);
+        assertNotEquals(Move.UP, best);
+    }
+}
@@ -0,0 +1,66 @@
+package com.baeldung.algorithms.play2048;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * A move on {@link Board} against one on the packed form, and a whole expectimax decision,
+ * sequential and parallel.
+ */
+@Fork(value = 1, warmups = 1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class Play2048Benchmark {
+
+    private Board board;
+    private long packed;
+    private Expectimax sequential;
+    private Expectimax parallel;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        board = new Board(BitBoard.SIZE);
+        for (int x = 0; x < BitBoard.SIZE; x++) {
+            for (int y = 0; y < BitBoard.SIZE; y++) {
+                if (random.nextInt(3) > 0) {
+                    board = board.placeTile(new Cell(x, y), 2 << random.nextInt(6));
+                }
+            }
+        }
+        packed = board.toPacked();
+        sequential = new Expectimax(3, null);
+        parallel = new Expectimax(3, ForkJoinPool.commonPool());
+    }
+
+    @Benchmark
+    public Board boardMove() {
+        return board.move(Move.LEFT);
+    }
+
+    @Benchmark
+    public long bitBoardMove() {
+        return BitBoard.move(packed, Move.LEFT);
+    }
+
+    @Benchmark
+    public Move expectimaxSequential() {
+        return sequential.bestMove(packed);
+    }
+
+    @Benchmark
+    public Move expectimaxParallel() {
+        return parallel.bestMove(packed);
+    }
+}
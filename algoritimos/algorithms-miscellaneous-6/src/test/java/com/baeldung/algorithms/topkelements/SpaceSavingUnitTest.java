@@ -0,0 +1,81 @@
+package com.baeldung.algorithms.topkelements;
+
+import static org.assertj.core.api.Java6Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class SpaceSavingUnitTest {
+
+    @Test
+    public void givenSkewedStream_whenCounting_thenHeavyHittersAreFoundWithinErrorBound() {
+        SpaceSaving<Integer> summary = new SpaceSaving<>(100);
+        Map<Integer, Long> exact = new HashMap<>();
+        Random random = new Random(1);
+        int n = 200_000;
+        for (int i = 0; i < n; i++) {
+            // key 0 is the most frequent, then 1, and so on
+            int key = (int) Math.floor(Math.pow(random.nextDouble(), 3) * 10_000);
+            summary.add(key);
+            exact.merge(key, 1L, Long::sum);
+        }
+
+        List<HeavyHitter<Integer>> top = summary.topK(3);
+        assertThat(top).hasSize(3);
+        assertThat(top.get(0).getKey()).isEqualTo(0);
+        for (HeavyHitter<Integer> hitter : top) {
+            long count = exact.get(hitter.getKey());
+            assertThat(hitter.getCount()).isGreaterThanOrEqualTo(count);
+            assertThat(hitter.getGuaranteedCount()).isLessThanOrEqualTo(count);
+            assertThat(hitter.getError()).isLessThanOrEqualTo(n / 100);
+        }
+        assertThat(summary.getTotal()).isEqualTo(n);
+    }
+
+    @Test
+    public void givenTwoSummaries_whenMerged_thenCountsAreAdded() {
+        SpaceSaving<String> left = new SpaceSaving<>(10);
+        SpaceSaving<String> right = new SpaceSaving<>(10);
+        left.add("a", 5);
+        left.add("b", 3);
+        right.add("a", 2);
+        right.add("c", 7);
+
+        left.merge(right);
+
+        assertThat(left.estimate("a")).isEqualTo(7);
+        assertThat(left.estimate("c")).isEqualTo(7);
+        assertThat(left.estimate("b")).isEqualTo(3);
+        assertThat(left.getTotal()).isEqualTo(17);
+    }
+
+    @Test
+    public void givenSeveralProducers_whenCountingConcurrently_thenMostFrequentKeyWins() throws InterruptedException {
+        ConcurrentHeavyHitters<String> hitters = new ConcurrentHeavyHitters<>(50);
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            int seed = t;
+            threads[t] = new Thread(() -> {
+                Random random = new Random(seed);
+                for (int i = 0; i < 100_000; i++) {
+                    hitters.add(i % 4 == 0 ? "hot" : "key" + random.nextInt(10_000));
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        HeavyHitter<String> top = hitters
+          .topK(1)
+          .get(0);
+        assertThat(top.getKey()).isEqualTo("hot");
+        assertThat(top.getGuaranteedCount()).isLessThanOrEqualTo(100_000);
+        assertThat(top.getCount()).isGreaterThanOrEqualTo(100_000);
+    }
+}
@@ -0,0 +1,147 @@
+package com.baeldung.algorithms.topkelements;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * The existing finders against the quickselect and streaming ones on the same input, plus the
+ * cost of feeding the concurrent structures from several producer threads.
+ */
+@Fork(value = 1, warmups = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TopKElementsBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Input {
+
+        @Param({ "100000", "1000000" })
+        private int size;
+
+        @Param({ "10", "100" })
+        private int k;
+
+        private int[] values;
+        private List<Integer> list;
+        private String[] keys;
+
+        @Setup
+        public void setUp() {
+            Random random = new Random(42);
+            values = random
+              .ints(size)
+              .toArray();
+            list = Arrays
+              .stream(values)
+              .boxed()
+              .collect(Collectors.toList());
+            keys = new String[size];
+            for (int i = 0; i < size; i++) {
+                // skewed keys, as in event streams
+                keys[i] = "key" + (int) (Math.pow(random.nextDouble(), 3) * 100_000);
+            }
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Shared {
+
+        private ConcurrentTopK topK;
+        private ConcurrentHeavyHitters<String> heavyHitters;
+
+        @Setup(Level.Iteration)
+        public void setUp() {
+            topK = new ConcurrentTopK(100);
+            heavyHitters = new ConcurrentHeavyHitters<>(1000);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+
+        private int next;
+    }
+
+    @Benchmark
+    public List<Integer> bruteForce(Input input) {
+        return new BruteForceTopKElementsFinder().findTopK(input.list, input.k);
+    }
+
+    @Benchmark
+    public List<Integer> maxHeap(Input input) {
+        return new MaxHeapTopKElementsFinder().findTopK(input.list, input.k);
+    }
+
+    @Benchmark
+    public List<Integer> treeSet(Input input) {
+        return new TreeSetTopKElementsFinder().findTopK(input.list, input.k);
+    }
+
+    @Benchmark
+    public List<Integer> quickselect(Input input) {
+        return new QuickselectTopKElementsFinder().findTopK(input.list, input.k);
+    }
+
+    @Benchmark
+    public int[] quickselectOnArray(Input input) {
+        return QuickselectTopKElementsFinder.findTopK(input.values, input.k);
+    }
+
+    @Benchmark
+    public List<Integer> streaming(Input input) {
+        return new StreamingTopKElementsFinder().findTopK(input.list, input.k);
+    }
+
+    @Benchmark
+    public List<HeavyHitter<String>> spaceSaving(Input input) {
+        SpaceSaving<String> summary = new SpaceSaving<>(1000);
+        for (String key : input.keys) {
+            summary.add(key);
+        }
+        return summary.topK(input.k);
+    }
+
+    @Benchmark
+    public Map<String, Long> exactCounting(Input input) {
+        Map<String, Long> counts = new HashMap<>();
+        for (String key : input.keys) {
+            counts.merge(key, 1L, Long::sum);
+        }
+        return counts;
+    }
+
+    @Benchmark
+    @Threads(4)
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void concurrentTopKAdd(Input input, Shared shared, Cursor cursor) {
+        shared.topK.add(input.values[cursor.next]);
+        cursor.next = (cursor.next + 1) % input.size;
+    }
+
+    @Benchmark
+    @Threads(4)
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void concurrentHeavyHittersAdd(Input input, Shared shared, Cursor cursor) {
+        shared.heavyHitters.add(input.keys[cursor.next]);
+        cursor.next = (cursor.next + 1) % input.size;
+    }
+}
@@ -4,6 +4,7 @@ import org.junit.Test;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Random;
 
 import static org.assertj.core.api.Java6Assertions.assertThat;
 
@@ -11,6 +12,8 @@ public class TopKElementsFinderUnitTest {
     private final TopKElementsFinder<Integer> bruteForceFinder = new BruteForceTopKElementsFinder();
     private final TopKElementsFinder<Integer> maxHeapFinder = new MaxHeapTopKElementsFinder();
     private final TopKElementsFinder<Integer> treeSetFinder = new TreeSetTopKElementsFinder();
+    private final TopKElementsFinder<Integer> quickselectFinder = new QuickselectTopKElementsFinder();
+    private final TopKElementsFinder<Integer> streamingFinder = new StreamingTopKElementsFinder();
 
     private final int k = 4;
     private final List<Integer> distinctIntegers = Arrays.asList(1, 2, 3, 9, 7, 6, 12);
@@ -43,4 +46,54 @@ public class TopKElementsFinderUnitTest {
     public void givenArrayNonDistinctIntegers_whenMaxHeapFindTopK_thenReturnKLargest() {
         assertThat(maxHeapFinder.findTopK(nonDistinctIntegers, k)).containsOnlyElementsOf(nonDistinctIntegersTopK);
     }
+
+    @Test
+    public void givenArrayNonDistinctIntegers_whenQuickselectFindTopK_thenReturnKLargest() {
+        assertThat(quickselectFinder.findTopK(nonDistinctIntegers, k)).containsExactly(12, 9, 9, 7);
+    }
+
+    @Test
+    public void givenArrayNonDistinctIntegers_whenStreamingFindTopK_thenReturnKLargest() {
+        assertThat(streamingFinder.findTopK(nonDistinctIntegers, k)).containsExactly(12, 9, 9, 7);
+    }
+
+    @Test
+    public void givenZeroK_whenStreamingFindTopK_thenReturnEmptyList() {
+        assertThat(streamingFinder.findTopK(distinctIntegers, 0)).isEmpty();
+        assertThat(bruteForceFinder.findTopK(distinctIntegers, 0)).isEmpty();
+    }
+
+    @Test
+    public void givenLargeArray_whenQuickselectFindTopK_thenMatchSortedArray() {
+        int[] values = new Random(1).ints(1_000_000, 0, 1000).toArray();
+        int[] sorted = values.clone();
+        Arrays.sort(sorted);
+        int[] expected = new int[100];
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = sorted[sorted.length - 1 - i];
+        }
+
+        assertThat(QuickselectTopKElementsFinder.findTopK(values, 100)).containsExactly(expected);
+        assertThat(QuickselectTopKElementsFinder.findTopK(new int[] { 3, 1 }, 5)).containsExactly(3, 1);
+    }
+
+    @Test
+    public void givenSeveralProducers_whenAddingConcurrently_thenTopKIsExact() throws InterruptedException {
+        ConcurrentTopK topK = new ConcurrentTopK(5);
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            int offset = t;
+            threads[t] = new Thread(() -> {
+                for (int i = offset; i < 1_000_000; i += threads.length) {
+                    topK.add(i);
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertThat(topK.topK()).containsExactly(999_999, 999_998, 999_997, 999_996, 999_995);
+    }
 }
@@ -1,9 +1,15 @@
 package com.baeldung.algorithms.breadthfirstsearch;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
+import com.baeldung.algorithms.graph.CsrGraph;
+
 public class Node<T> {
 
     private T value;
@@ -28,4 +34,33 @@ public class Node<T> {
         node.neighbors.add(this);
     }
 
+    /**
+     * Converts the nodes reachable from this one into CSR form, with an edge each way between
+     * connected nodes. This node gets id 0.
+     *
+     * @param nodes Receives the nodes, in the order of their ids.
+     */
+    public CsrGraph toCsrGraph(List<Node<T>> nodes) {
+        List<Node<T>> order = new ArrayList<>();
+        Map<Node<T>, Integer> ids = new IdentityHashMap<>();
+        ids.put(this, 0);
+        order.add(this);
+        for (int i = 0; i < order.size(); i++) {
+            for (Node<T> neighbor : order.get(i).neighbors) {
+                if (!ids.containsKey(neighbor)) {
+                    ids.put(neighbor, order.size());
+                    order.add(neighbor);
+                }
+            }
+        }
+
+        CsrGraph.Builder builder = CsrGraph.builder(order.size());
+        for (int i = 0; i < order.size(); i++) {
+            for (Node<T> neighbor : order.get(i).neighbors) {
+                builder.addEdge(i, ids.get(neighbor));
+            }
+        }
+        nodes.addAll(order);
+        return builder.build();
+    }
 }
@@ -4,6 +4,8 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
+import com.baeldung.algorithms.graph.CsrGraph;
+
 public class Tree<T> {
 
     private T value;
@@ -31,4 +33,28 @@ public class Tree<T> {
         children.add(newChild);
         return newChild;
     }
+
+    /**
+     * Converts this tree into CSR form, with an edge from each node to each of its children.
+     * Ids are given in breadth-first order, so this node gets id 0.
+     *
+     * @param nodes Receives the nodes, in the order of their ids.
+     */
+    public CsrGraph toCsrGraph(List<Tree<T>> nodes) {
+        List<Tree<T>> order = new ArrayList<>();
+        order.add(this);
+        for (int i = 0; i < order.size(); i++) {
+            order.addAll(order.get(i).children);
+        }
+
+        CsrGraph.Builder builder = CsrGraph.builder(order.size());
+        int child = 1;
+        for (int i = 0; i < order.size(); i++) {
+            for (int c = 0; c < order.get(i).children.size(); c++) {
+                builder.addEdge(i, child++);
+            }
+        }
+        nodes.addAll(order);
+        return builder.build();
+    }
 }
@@ -7,6 +7,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Stack;
 
+import com.baeldung.algorithms.graph.CsrGraph;
+
 public class Graph {
 
     private Map<Integer, List<Integer>> adjVertices;
@@ -68,6 +70,29 @@ public class Graph {
         result.addFirst(current);
     }
 
+    /**
+     * Converts this graph into CSR form, for the traversals of the
+     * {@code com.baeldung.algorithms.graph} package. Vertex ids are kept, and the vertex count is
+     * the highest id plus one, whether the id was added as a vertex or only as a destination.
+     */
+    public CsrGraph toCsrGraph() {
+        int maxId = -1;
+        for (Map.Entry<Integer, List<Integer>> entry : adjVertices.entrySet()) {
+            maxId = Math.max(maxId, entry.getKey());
+            for (int dest : entry.getValue()) {
+                maxId = Math.max(maxId, dest);
+            }
+        }
+        int vertexCount = maxId + 1;
+        CsrGraph.Builder builder = CsrGraph.builder(vertexCount);
+        for (Map.Entry<Integer, List<Integer>> entry : adjVertices.entrySet()) {
+            for (int dest : entry.getValue()) {
+                builder.addEdge(entry.getKey(), dest);
+            }
+        }
+        return builder.build();
+    }
+
     private void visit(int value) {
         System.out.print(" " + value);        
     }
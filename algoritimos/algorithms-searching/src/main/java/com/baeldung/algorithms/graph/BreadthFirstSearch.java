@@ -0,0 +1,234 @@
+package com.baeldung.algorithms.graph;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * Breadth-first distances on a {@link CsrGraph}.
+ * <p>
+ * The parallel search is direction-optimizing (Beamer, Asanovic and Patterson): while the
+ * frontier is small, each of its vertices claims its unvisited targets (top-down), but once the
+ * frontier's edges outnumber a fraction of the unexplored ones, each unvisited vertex instead
+ * looks for a parent in the frontier among its sources (bottom-up), stopping at the first, which
+ * skips most edges of the few middle levels of a small-world graph.
+ */
+public final class BreadthFirstSearch {
+
+    public static final int UNREACHABLE = -1;
+
+    /**
+     * Switch to bottom-up when the frontier has more than 1/ALPHA of the unexplored edges.
+     */
+    private static final int ALPHA = 14;
+
+    /**
+     * Switch back to top-down when the frontier has less than 1/BETA of the vertices.
+     */
+    private static final int BETA = 24;
+
+    private static final int MIN_CHUNK = 1024;
+
+    private BreadthFirstSearch() {
+    }
+
+    /**
+     * @return The number of edges on a shortest path from the source to each vertex, or
+     *         {@link #UNREACHABLE}.
+     */
+    public static int[] distances(CsrGraph graph, int source) {
+        checkVertex(graph, source);
+        int[] distances = new int[graph.getVertexCount()];
+        Arrays.fill(distances, UNREACHABLE);
+        int[] queue = new int[graph.getVertexCount()];
+        int head = 0;
+        int tail = 0;
+        distances[source] = 0;
+        queue[tail++] = source;
+        while (head < tail) {
+            int v = queue[head++];
+            for (int e = graph.firstEdge(v); e < graph.lastEdge(v); e++) {
+                int w = graph.target(e);
+                if (distances[w] == UNREACHABLE) {
+                    distances[w] = distances[v] + 1;
+                    queue[tail++] = w;
+                }
+            }
+        }
+        return distances;
+    }
+
+    /**
+     * Direction-optimizing search, each level split into chunks run on the given pool.
+     *
+     * @param pool The pool, or {@code null} to run on the calling thread.
+     * @return The same distances as {@link #distances(CsrGraph, int)}.
+     */
+    public static int[] distances(CsrGraph graph, int source, ForkJoinPool pool) {
+        checkVertex(graph, source);
+        int n = graph.getVertexCount();
+        AtomicIntegerArray distances = new AtomicIntegerArray(n);
+        for (int v = 0; v < n; v++) {
+            distances.set(v, UNREACHABLE);
+        }
+        distances.set(source, 0);
+
+        Level level = new Level(graph, distances, pool);
+        int[] frontier = { source };
+        int frontierSize = 1;
+        long frontierEdges = graph.outDegree(source);
+        long unexploredEdges = graph.getEdgeCount();
+        boolean bottomUp = false;
+        for (int depth = 0; frontierSize > 0; depth++) {
+            unexploredEdges -= frontierEdges;
+            if (!bottomUp && frontierEdges > unexploredEdges / ALPHA) {
+                bottomUp = true;
+            } else if (bottomUp && frontierSize < n / BETA) {
+                bottomUp = false;
+            }
+
+            if (bottomUp) {
+                level.bottomUp(depth);
+            } else {
+                level.topDown(frontier, frontierSize, depth);
+            }
+            frontier = level.next;
+            frontierSize = level.nextSize;
+            frontierEdges = level.nextEdges;
+        }
+
+        int[] result = new int[n];
+        for (int v = 0; v < n; v++) {
+            result[v] = distances.get(v);
+        }
+        return result;
+    }
+
+    private static void checkVertex(CsrGraph graph, int vertex) {
+        if (vertex < 0 || vertex >= graph.getVertexCount()) {
+            throw new IllegalArgumentException("Vertex out of range: " + vertex);
+        }
+    }
+
+    /**
+     * Computes the next frontier from the current one. Each chunk collects the vertices it
+     * discovers on its own, and they're concatenated afterwards.
+     */
+    private static final class Level {
+
+        private final CsrGraph graph;
+        private final CsrGraph reverse;
+        private final AtomicIntegerArray distances;
+        private final ForkJoinPool pool;
+        private final int chunkSize;
+        private final int[][] found;
+        private final int[] foundSizes;
+        private final long[] foundEdges;
+
+        private int[] next;
+        private int nextSize;
+        private long nextEdges;
+
+        Level(CsrGraph graph, AtomicIntegerArray distances, ForkJoinPool pool) {
+            int n = graph.getVertexCount();
+            int parallelism = pool == null ? 1 : pool.getParallelism();
+            this.graph = graph;
+            this.reverse = graph.reverse();
+            this.distances = distances;
+            this.pool = pool;
+            this.chunkSize = Math.max(MIN_CHUNK, n / (parallelism * 8) + 1);
+            int chunks = (n + chunkSize - 1) / chunkSize;
+            this.found = new int[chunks][];
+            this.foundSizes = new int[chunks];
+            this.foundEdges = new long[chunks];
+        }
+
+        void topDown(int[] frontier, int frontierSize, int depth) {
+            int step = Math.max(MIN_CHUNK / 16, frontierSize / found.length + 1);
+            int chunks = (frontierSize + step - 1) / step;
+            run(chunks, c -> {
+                for (int i = c * step; i < Math.min(frontierSize, (c + 1) * step); i++) {
+                    int v = frontier[i];
+                    for (int e = graph.firstEdge(v); e < graph.lastEdge(v); e++) {
+                        int w = graph.target(e);
+                        if (distances.get(w) == UNREACHABLE && distances.compareAndSet(w, UNREACHABLE, depth + 1)) {
+                            add(c, w);
+                        }
+                    }
+                }
+            });
+            collect(chunks);
+        }
+
+        void bottomUp(int depth) {
+            int n = graph.getVertexCount();
+            int chunks = (n + chunkSize - 1) / chunkSize;
+            run(chunks, c -> {
+                for (int w = c * chunkSize; w < Math.min(n, (c + 1) * chunkSize); w++) {
+                    if (distances.get(w) != UNREACHABLE) {
+                        continue;
+                    }
+                    for (int e = reverse.firstEdge(w); e < reverse.lastEdge(w); e++) {
+                        // vertices found in this level hold depth + 1, never depth
+                        if (distances.get(reverse.target(e)) == depth) {
+                            distances.set(w, depth + 1);
+                            add(c, w);
+                            break;
+                        }
+                    }
+                }
+            });
+            collect(chunks);
+        }
+
+        private void run(int chunks, IntConsumer chunk) {
+            Arrays.fill(foundSizes, 0, chunks, 0);
+            Arrays.fill(foundEdges, 0, chunks, 0);
+            if (pool == null || chunks == 1) {
+                for (int c = 0; c < chunks; c++) {
+                    chunk.accept(c);
+                }
+            } else {
+                pool
+                  .submit(() -> IntStream
+                    .range(0, chunks)
+                    .parallel()
+                    .forEach(chunk))
+                  .join();
+            }
+        }
+
+        private void add(int chunk, int vertex) {
+            int[] vertices = found[chunk];
+            if (vertices == null) {
+                vertices = found[chunk] = new int[64];
+            } else if (foundSizes[chunk] == vertices.length) {
+                vertices = found[chunk] = Arrays.copyOf(vertices, vertices.length * 2);
+            }
+            vertices[foundSizes[chunk]++] = vertex;
+            foundEdges[chunk] += graph.outDegree(vertex);
+        }
+
+        private void collect(int chunks) {
+            int size = 0;
+            long edges = 0;
+            for (int c = 0; c < chunks; c++) {
+                size += foundSizes[c];
+                edges += foundEdges[c];
+            }
+            int[] vertices = new int[size];
+            int position = 0;
+            for (int c = 0; c < chunks; c++) {
+                if (foundSizes[c] > 0) {
+                    System.arraycopy(found[c], 0, vertices, position, foundSizes[c]);
+                    position += foundSizes[c];
+                }
+            }
+            next = vertices;
+            nextSize = size;
+            nextEdges = edges;
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.baeldung.algorithms.graph;
+
+import java.util.Arrays;
+
+/**
+ * An immutable, directed graph in compressed sparse row form. Vertices are numbered from 0 and
+ * the outgoing edges of vertex {@code v} are stored at positions
+ * {@code [offsets[v], offsets[v + 1])} of the {@code targets} array, in the order they were
+ * added. A graph of millions of vertices thus takes two {@code int}s per edge and one per
+ * vertex, with no object per vertex or edge, and can be shared by any number of threads.
+ */
+public class CsrGraph {
+
+    private final int vertexCount;
+    private final int[] offsets;
+    private final int[] targets;
+
+    private volatile CsrGraph reverse;
+
+    private CsrGraph(int vertexCount, int[] offsets, int[] targets) {
+        this.vertexCount = vertexCount;
+        this.offsets = offsets;
+        this.targets = targets;
+    }
+
+    public static Builder builder(int vertexCount) {
+        return new Builder(vertexCount);
+    }
+
+    public int getVertexCount() {
+        return vertexCount;
+    }
+
+    public int getEdgeCount() {
+        return targets.length;
+    }
+
+    public int firstEdge(int vertex) {
+        return offsets[vertex];
+    }
+
+    public int lastEdge(int vertex) {
+        return offsets[vertex + 1];
+    }
+
+    public int outDegree(int vertex) {
+        return offsets[vertex + 1] - offsets[vertex];
+    }
+
+    public int target(int edge) {
+        return targets[edge];
+    }
+
+    /**
+     * @return A graph with every edge pointing the other way, computed on the first call.
+     */
+    public CsrGraph reverse() {
+        CsrGraph result = reverse;
+        if (result == null) {
+            int[] reverseOffsets = new int[vertexCount + 1];
+            for (int target : targets) {
+                reverseOffsets[target + 1]++;
+            }
+            for (int v = 0; v < vertexCount; v++) {
+                reverseOffsets[v + 1] += reverseOffsets[v];
+            }
+
+            int[] cursor = Arrays.copyOf(reverseOffsets, vertexCount);
+            int[] reverseTargets = new int[targets.length];
+            for (int v = 0; v < vertexCount; v++) {
+                for (int e = offsets[v]; e < offsets[v + 1]; e++) {
+                    reverseTargets[cursor[targets[e]]++] = v;
+                }
+            }
+
+            result = new CsrGraph(vertexCount, reverseOffsets, reverseTargets);
+            result.reverse = this;
+            reverse = result;
+        }
+        return result;
+    }
+
+    /**
+     * Collects edges in any order and sorts them by source vertex on {@link #build()}, keeping
+     * the order in which the edges of each vertex were added.
+     */
+    public static class Builder {
+
+        private final int vertexCount;
+        private int[] sources = new int[16];
+        private int[] targets = new int[16];
+        private int edgeCount;
+
+        public Builder(int vertexCount) {
+            if (vertexCount < 0) {
+                throw new IllegalArgumentException("The vertex count can't be negative");
+            }
+
+            this.vertexCount = vertexCount;
+        }
+
+        public Builder addEdge(int source, int target) {
+            if (source < 0 || source >= vertexCount || target < 0 || target >= vertexCount) {
+                throw new IllegalArgumentException("Vertex out of range: " + source + " -> " + target);
+            }
+
+            if (edgeCount == sources.length) {
+                int capacity = edgeCount * 2;
+                sources = Arrays.copyOf(sources, capacity);
+                targets = Arrays.copyOf(targets, capacity);
+            }
+
+            sources[edgeCount] = source;
+            targets[edgeCount] = target;
+            edgeCount++;
+            return this;
+        }
+
+        public CsrGraph build() {
+            int[] offsets = new int[vertexCount + 1];
+            for (int e = 0; e < edgeCount; e++) {
+                offsets[sources[e] + 1]++;
+            }
+            for (int v = 0; v < vertexCount; v++) {
+                offsets[v + 1] += offsets[v];
+            }
+
+            int[] cursor = Arrays.copyOf(offsets, vertexCount);
+            int[] sortedTargets = new int[edgeCount];
+            for (int e = 0; e < edgeCount; e++) {
+                sortedTargets[cursor[sources[e]]++] = targets[e];
+            }
+
+            return new CsrGraph(vertexCount, offsets, sortedTargets);
+        }
+    }
+}
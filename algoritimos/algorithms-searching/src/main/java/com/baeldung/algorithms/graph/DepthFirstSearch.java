@@ -0,0 +1,140 @@
+package com.baeldung.algorithms.graph;
+
+import java.util.Arrays;
+
+/**
+ * Depth-first traversals of a {@link CsrGraph}. They keep their own stack of vertices and edge
+ * cursors instead of recursing, so a path of millions of vertices can't overflow the thread's
+ * stack, and all their state is local, so any number of them can run on the same graph at once.
+ */
+public final class DepthFirstSearch {
+
+    private static final byte NEW = 0;
+    private static final byte ACTIVE = 1;
+    private static final byte DONE = 2;
+
+    private DepthFirstSearch() {
+    }
+
+    /**
+     * @return The vertices reachable from the start, in the order a recursive depth-first
+     *         search following the edges in order visits them.
+     */
+    public static int[] preorder(CsrGraph graph, int start) {
+        Walk walk = new Walk(graph);
+        walk.run(checkVertex(graph, start));
+        return Arrays.copyOf(walk.preorder, walk.preorderSize);
+    }
+
+    /**
+     * @return Whether a directed cycle exists, a self-loop included.
+     */
+    public static boolean hasCycle(CsrGraph graph) {
+        Walk walk = new Walk(graph);
+        for (int v = 0; v < graph.getVertexCount() && !walk.cycle; v++) {
+            if (walk.states[v] == NEW) {
+                walk.run(v);
+            }
+        }
+        return walk.cycle;
+    }
+
+    /**
+     * @return All vertices, such that every edge goes from a vertex to a later one.
+     * @throws IllegalArgumentException If the graph has a cycle.
+     */
+    public static int[] topologicalSort(CsrGraph graph) {
+        Walk walk = new Walk(graph);
+        for (int v = 0; v < graph.getVertexCount(); v++) {
+            if (walk.states[v] == NEW) {
+                walk.run(v);
+            }
+        }
+        return walk.reversePostorder();
+    }
+
+    /**
+     * @return The vertices reachable from the start, such that every edge between them goes
+     *         from a vertex to a later one.
+     * @throws IllegalArgumentException If a cycle is reachable from the start.
+     */
+    public static int[] topologicalSort(CsrGraph graph, int start) {
+        Walk walk = new Walk(graph);
+        walk.run(checkVertex(graph, start));
+        return walk.reversePostorder();
+    }
+
+    private static int checkVertex(CsrGraph graph, int vertex) {
+        if (vertex < 0 || vertex >= graph.getVertexCount()) {
+            throw new IllegalArgumentException("Vertex out of range: " + vertex);
+        }
+        return vertex;
+    }
+
+    /**
+     * State of the traversal, shared by the searches from several roots.
+     */
+    private static final class Walk {
+
+        private final CsrGraph graph;
+        private final byte[] states;
+        private final int[] stack;
+        private final int[] cursors;
+        private final int[] preorder;
+        private final int[] postorder;
+        private int preorderSize;
+        private int postorderSize;
+        private boolean cycle;
+
+        Walk(CsrGraph graph) {
+            int n = graph.getVertexCount();
+            this.graph = graph;
+            this.states = new byte[n];
+            this.stack = new int[n];
+            this.cursors = new int[n];
+            this.preorder = new int[n];
+            this.postorder = new int[n];
+        }
+
+        void run(int root) {
+            int top = push(root, 0);
+            while (top > 0) {
+                int v = stack[top - 1];
+                int e = cursors[top - 1];
+                if (e < graph.lastEdge(v)) {
+                    cursors[top - 1] = e + 1;
+                    int w = graph.target(e);
+                    if (states[w] == NEW) {
+                        top = push(w, top);
+                    } else if (states[w] == ACTIVE) {
+                        // an edge back to a vertex on the stack closes a cycle
+                        cycle = true;
+                    }
+                } else {
+                    states[v] = DONE;
+                    postorder[postorderSize++] = v;
+                    top--;
+                }
+            }
+        }
+
+        int[] reversePostorder() {
+            if (cycle) {
+                throw new IllegalArgumentException("The graph has a cycle");
+            }
+            int[] result = new int[postorderSize];
+            for (int i = 0; i < postorderSize; i++) {
+                result[i] = postorder[postorderSize - 1 - i];
+            }
+            return result;
+        }
+
+        private int push(int v, int top) {
+            states[v] = ACTIVE;
+            preorder[preorderSize++] = v;
+            stack[top] = v;
+            cursors[top] = graph.firstEdge(v);
+            return top + 1;
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.baeldung.algorithms.graph;
+
+import java.util.Arrays;
+
+/**
+ * The strongly connected components of a {@link CsrGraph}, found with Tarjan's algorithm in one
+ * iterative depth-first pass. Components are numbered in the order Tarjan's algorithm completes
+ * them, which is a reverse topological order: every edge between two components goes from a
+ * higher number to a lower one.
+ */
+public class StronglyConnectedComponents {
+
+    private final CsrGraph graph;
+    private final int[] components;
+    private final int count;
+
+    private StronglyConnectedComponents(CsrGraph graph, int[] components, int count) {
+        this.graph = graph;
+        this.components = components;
+        this.count = count;
+    }
+
+    public static StronglyConnectedComponents of(CsrGraph graph) {
+        int n = graph.getVertexCount();
+        int[] index = new int[n];
+        int[] low = new int[n];
+        int[] components = new int[n];
+        Arrays.fill(index, -1);
+        Arrays.fill(components, -1);
+
+        // the vertices of the components in progress, and the depth-first stack
+        int[] open = new int[n];
+        int openSize = 0;
+        int[] stack = new int[n];
+        int[] cursors = new int[n];
+        int counter = 0;
+        int count = 0;
+
+        for (int root = 0; root < n; root++) {
+            if (index[root] >= 0) {
+                continue;
+            }
+            index[root] = low[root] = counter++;
+            open[openSize++] = root;
+            stack[0] = root;
+            cursors[0] = graph.firstEdge(root);
+            int top = 1;
+            while (top > 0) {
+                int v = stack[top - 1];
+                int e = cursors[top - 1];
+                if (e < graph.lastEdge(v)) {
+                    cursors[top - 1] = e + 1;
+                    int w = graph.target(e);
+                    if (index[w] < 0) {
+                        index[w] = low[w] = counter++;
+                        open[openSize++] = w;
+                        stack[top] = w;
+                        cursors[top] = graph.firstEdge(w);
+                        top++;
+                    } else if (components[w] < 0) {
+                        low[v] = Math.min(low[v], index[w]);
+                    }
+                    continue;
+                }
+
+                top--;
+                if (top > 0) {
+                    int parent = stack[top - 1];
+                    low[parent] = Math.min(low[parent], low[v]);
+                }
+                if (low[v] == index[v]) {
+                    int w;
+                    do {
+                        w = open[--openSize];
+                        components[w] = count;
+                    } while (w != v);
+                    count++;
+                }
+            }
+        }
+
+        return new StronglyConnectedComponents(graph, components, count);
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public int componentOf(int vertex) {
+        return components[vertex];
+    }
+
+    /**
+     * @return The graph of the components, with an edge from one component to another when
+     *         any of their vertices are linked, listed once.
+     */
+    public CsrGraph condensation() {
+        int n = graph.getVertexCount();
+        // the vertices grouped by component
+        int[] offsets = new int[count + 1];
+        for (int component : components) {
+            offsets[component + 1]++;
+        }
+        for (int c = 0; c < count; c++) {
+            offsets[c + 1] += offsets[c];
+        }
+        int[] cursor = Arrays.copyOf(offsets, count);
+        int[] members = new int[n];
+        for (int v = 0; v < n; v++) {
+            members[cursor[components[v]]++] = v;
+        }
+
+        CsrGraph.Builder builder = CsrGraph.builder(count);
+        int[] lastSource = new int[count];
+        Arrays.fill(lastSource, -1);
+        for (int c = 0; c < count; c++) {
+            for (int i = offsets[c]; i < offsets[c + 1]; i++) {
+                int v = members[i];
+                for (int e = graph.firstEdge(v); e < graph.lastEdge(v); e++) {
+                    int target = components[graph.target(e)];
+                    if (target != c && lastSource[target] != c) {
+                        lastSource[target] = c;
+                        builder.addEdge(c, target);
+                    }
+                }
+            }
+        }
+        return builder.build();
+    }
+}
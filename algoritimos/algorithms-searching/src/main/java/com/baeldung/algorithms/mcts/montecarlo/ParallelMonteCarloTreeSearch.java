@@ -0,0 +1,276 @@
+package com.baeldung.algorithms.mcts.montecarlo;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.baeldung.algorithms.mcts.tictactoe.Board;
+import com.baeldung.algorithms.mcts.tictactoe.CompactBoard;
+import com.baeldung.algorithms.mcts.tree.Node;
+
+/**
+ * Runs the same select/expand/simulate/backpropagate loop as {@link MonteCarloTreeSearch} on
+ * several threads, in one of two modes:
+ * <ul>
+ * <li>{@link Mode#ROOT}: every thread grows its own tree and the root visit counts are summed
+ * at the end.</li>
+ * <li>{@link Mode#TREE}: all threads share one tree. A thread adds a virtual loss to every node
+ * it walks through, so the others are steered towards different branches while its playout is
+ * running.</li>
+ * </ul>
+ * Playouts run on a thread-confined {@link CompactBoard}, so they don't allocate.
+ */
+public class ParallelMonteCarloTreeSearch {
+
+    public enum Mode {
+        ROOT, TREE
+    }
+
+    private static final int WIN_SCORE = 10;
+
+    /**
+     * Visits are counted when a node is selected rather than during backpropagation. Until the
+     * playout finishes, the visit counts as a loss, which lowers the node's UCT value for the
+     * other threads.
+     */
+    private static final int VIRTUAL_LOSS = 1;
+
+    private final Mode mode;
+    private final int parallelism;
+    private final ForkJoinPool pool;
+    private int level;
+
+    private volatile long lastPlayoutCount;
+    private volatile double lastPlayoutsPerSecond;
+
+    public ParallelMonteCarloTreeSearch() {
+        this(Mode.TREE, Runtime
+          .getRuntime()
+          .availableProcessors());
+    }
+
+    public ParallelMonteCarloTreeSearch(Mode mode, int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("At least one thread is required");
+        }
+
+        this.mode = mode;
+        this.parallelism = parallelism;
+        this.pool = new ForkJoinPool(parallelism);
+        this.level = 3;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    public void setLevel(int level) {
+        this.level = level;
+    }
+
+    /**
+     * @return The number of playouts run by the last {@link #findNextMove(Board, int)} call.
+     */
+    public long getLastPlayoutCount() {
+        return lastPlayoutCount;
+    }
+
+    /**
+     * @return The playout throughput of the last {@link #findNextMove(Board, int)} call.
+     */
+    public double getLastPlayoutsPerSecond() {
+        return lastPlayoutsPerSecond;
+    }
+
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    private int getMillisForCurrentLevel() {
+        return 2 * (this.level - 1) + 1;
+    }
+
+    public Board findNextMove(Board board, int playerNo) {
+        long start = System.nanoTime();
+        long end = start + TimeUnit.MILLISECONDS.toNanos(60 * getMillisForCurrentLevel());
+        int opponent = 3 - playerNo;
+        LongAdder playouts = new LongAdder();
+
+        Node winnerNode = mode == Mode.TREE ? searchSharedTree(board, opponent, end, playouts) : searchSeparateTrees(board, opponent, end, playouts);
+
+        long elapsed = System.nanoTime() - start;
+        lastPlayoutCount = playouts.sum();
+        lastPlayoutsPerSecond = lastPlayoutCount * 1e9 / elapsed;
+        return winnerNode
+          .getState()
+          .getBoard();
+    }
+
+    private Node searchSharedTree(Board board, int opponent, long end, LongAdder playouts) {
+        Node rootNode = newRoot(board, opponent);
+        List<Callable<Void>> tasks = new ArrayList<>(parallelism);
+        for (int i = 0; i < parallelism; i++) {
+            tasks.add(() -> {
+                search(rootNode, opponent, end, playouts);
+                return null;
+            });
+        }
+        pool.invokeAll(tasks);
+
+        return rootNode.getChildWithMaxVisits();
+    }
+
+    private Node searchSeparateTrees(Board board, int opponent, long end, LongAdder playouts) {
+        List<Node> rootNodes = new ArrayList<>(parallelism);
+        List<Callable<Void>> tasks = new ArrayList<>(parallelism);
+        for (int i = 0; i < parallelism; i++) {
+            Node rootNode = newRoot(board, opponent);
+            rootNodes.add(rootNode);
+            tasks.add(() -> {
+                search(rootNode, opponent, end, playouts);
+                return null;
+            });
+        }
+        pool.invokeAll(tasks);
+
+        // every tree expands the root in the same move order, so children can be matched by index
+        List<Node> children = rootNodes
+          .get(0)
+          .getChildArray();
+        int[] visits = new int[children.size()];
+        for (Node rootNode : rootNodes) {
+            List<Node> rootChildren = rootNode.getChildArray();
+            for (int i = 0; i < rootChildren.size(); i++) {
+                visits[i] += rootChildren
+                  .get(i)
+                  .getVisits();
+            }
+        }
+
+        int best = 0;
+        for (int i = 1; i < visits.length; i++) {
+            if (visits[i] > visits[best]) {
+                best = i;
+            }
+        }
+        return children.get(best);
+    }
+
+    private Node newRoot(Board board, int opponent) {
+        Node rootNode = new Node(new State(board));
+        rootNode
+          .getState()
+          .setPlayerNo(opponent);
+        return rootNode;
+    }
+
+    private void search(Node rootNode, int opponent, long end, LongAdder playouts) {
+        CompactBoard scratch = new CompactBoard(rootNode
+          .getState()
+          .getBoard()
+          .getBoardValues().length);
+        Random random = ThreadLocalRandom.current();
+        long count = 0;
+
+        do {
+            // Phase 1 - Selection
+            Node promisingNode = rootNode;
+            promisingNode.addVisits(VIRTUAL_LOSS);
+            while (!promisingNode
+              .getChildArray()
+              .isEmpty()) {
+                promisingNode = UCT.findBestNodeWithParallelUCT(promisingNode);
+                promisingNode.addVisits(VIRTUAL_LOSS);
+            }
+
+            // Phase 2 - Expansion
+            scratch.load(promisingNode
+              .getState()
+              .getBoard());
+            if (scratch.checkStatus() == Board.IN_PROGRESS) {
+                expandNode(promisingNode);
+                List<Node> children = promisingNode.getChildArray();
+                if (!children.isEmpty()) {
+                    promisingNode = children.get(random.nextInt(children.size()));
+                    promisingNode.addVisits(VIRTUAL_LOSS);
+                    scratch.load(promisingNode
+                      .getState()
+                      .getBoard());
+                }
+            }
+
+            // Phase 3 - Simulation
+            int playoutResult = simulateRandomPlayout(promisingNode, opponent, scratch, random);
+
+            // Phase 4 - Update
+            backPropagation(promisingNode, playoutResult);
+            count++;
+        } while (System.nanoTime() < end);
+
+        playouts.add(count);
+    }
+
+    private void expandNode(Node node) {
+        synchronized (node) {
+            if (!node
+              .getChildArray()
+              .isEmpty()) {
+                // another thread got here first
+                return;
+            }
+
+            List<Node> children = new ArrayList<>();
+            for (State state : node
+              .getState()
+              .getAllPossibleStates()) {
+                Node newNode = new Node(state);
+                newNode.setParent(node);
+                newNode
+                  .getState()
+                  .setPlayerNo(node
+                    .getState()
+                    .getOpponent());
+                children.add(newNode);
+            }
+            node.setChildArray(children);
+        }
+    }
+
+    /**
+     * Plays the game out on {@code scratch}, which must hold the board of the given node.
+     */
+    private int simulateRandomPlayout(Node node, int opponent, CompactBoard scratch, Random random) {
+        int boardStatus = scratch.checkStatus();
+        if (boardStatus == opponent) {
+            if (node.getParent() != null) {
+                node
+                  .getParent()
+                  .markAsLoss();
+            }
+            return boardStatus;
+        }
+
+        if (boardStatus != Board.IN_PROGRESS) {
+            return boardStatus;
+        }
+
+        return scratch.randomPlayout(3 - node
+          .getState()
+          .getPlayerNo(), random);
+    }
+
+    private void backPropagation(Node nodeToExplore, int playerNo) {
+        for (Node tempNode = nodeToExplore; tempNode != null; tempNode = tempNode.getParent()) {
+            if (tempNode
+              .getState()
+              .getPlayerNo() == playerNo) {
+                tempNode.addScore(WIN_SCORE);
+            }
+        }
+    }
+}
@@ -21,4 +21,20 @@ public class UCT {
           node.getChildArray(),
           Comparator.comparing(c -> uctValue(parentVisit, c.getState().getWinScore(), c.getState().getVisitCount())));
     }
+
+    static Node findBestNodeWithParallelUCT(Node node) {
+        int parentVisit = node.getVisits();
+        List<Node> children = node.getChildArray();
+        Node best = null;
+        double bestValue = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < children.size(); i++) {
+            Node child = children.get(i);
+            double value = uctValue(parentVisit, child.getScore(), child.getVisits());
+            if (best == null || value > bestValue) {
+                best = child;
+                bestValue = value;
+            }
+        }
+        return best;
+    }
 }
@@ -0,0 +1,174 @@
+package com.baeldung.algorithms.mcts.tictactoe;
+
+import java.util.Random;
+
+/**
+ * A {@link Board} packed into two bitmasks, one per player, for boards of up to 8x8 cells.
+ * Cell {@code (x, y)} is bit {@code x * size + y}. Moves, status checks and random playouts
+ * work on the masks only, so a playout doesn't allocate anything.
+ */
+public class CompactBoard {
+
+    private static final int MAX_BOARD_SIZE = 8;
+
+    /**
+     * Winning lines (rows, columns and both diagonals) per board size, computed on first use.
+     */
+    private static final long[][] WIN_LINES = new long[MAX_BOARD_SIZE + 1][];
+
+    private final int size;
+    private final long fullMask;
+    private final long[] winLines;
+    private long player1;
+    private long player2;
+
+    public CompactBoard() {
+        this(Board.DEFAULT_BOARD_SIZE);
+    }
+
+    public CompactBoard(int size) {
+        if (size < 1 || size > MAX_BOARD_SIZE) {
+            throw new IllegalArgumentException("Compact boards support sizes from 1 to " + MAX_BOARD_SIZE);
+        }
+
+        this.size = size;
+        this.fullMask = size == MAX_BOARD_SIZE ? -1L : (1L << (size * size)) - 1;
+        this.winLines = winLines(size);
+    }
+
+    public CompactBoard(Board board) {
+        this(board.getBoardValues().length);
+        load(board);
+    }
+
+    /**
+     * Replaces the content of this board with the given one, which must have the same size.
+     */
+    public void load(Board board) {
+        int[][] boardValues = board.getBoardValues();
+        player1 = 0;
+        player2 = 0;
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < size; j++) {
+                if (boardValues[i][j] == Board.P1) {
+                    player1 |= bit(i, j);
+                } else if (boardValues[i][j] == Board.P2) {
+                    player2 |= bit(i, j);
+                }
+            }
+        }
+    }
+
+    public void copyFrom(CompactBoard other) {
+        if (other.size != size) {
+            throw new IllegalArgumentException("Boards should have the same size");
+        }
+
+        player1 = other.player1;
+        player2 = other.player2;
+    }
+
+    public Board toBoard() {
+        int[][] boardValues = new int[size][size];
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < size; j++) {
+                boardValues[i][j] = get(i, j);
+            }
+        }
+
+        return new Board(boardValues, Long.bitCount(player1 | player2));
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public int get(int x, int y) {
+        long bit = bit(x, y);
+        if ((player1 & bit) != 0) {
+            return Board.P1;
+        }
+        if ((player2 & bit) != 0) {
+            return Board.P2;
+        }
+        return 0;
+    }
+
+    public void performMove(int player, int x, int y) {
+        setCell(player, bit(x, y));
+    }
+
+    public int getEmptyCount() {
+        return Long.bitCount(fullMask & ~(player1 | player2));
+    }
+
+    /**
+     * Same contract as {@link Board#checkStatus()}.
+     */
+    public int checkStatus() {
+        for (long line : winLines) {
+            if ((player1 & line) == line) {
+                return Board.P1;
+            }
+            if ((player2 & line) == line) {
+                return Board.P2;
+            }
+        }
+
+        return (player1 | player2) == fullMask ? Board.DRAW : Board.IN_PROGRESS;
+    }
+
+    /**
+     * Plays random moves, starting with {@code playerToMove}, until the game is over.
+     *
+     * @param playerToMove The player making the next move.
+     * @param random       Source of randomness.
+     * @return The final status of the board.
+     */
+    public int randomPlayout(int playerToMove, Random random) {
+        int player = playerToMove;
+        int status = checkStatus();
+        while (status == Board.IN_PROGRESS) {
+            long empty = fullMask & ~(player1 | player2);
+            int skip = random.nextInt(Long.bitCount(empty));
+            for (int i = 0; i < skip; i++) {
+                empty &= empty - 1;
+            }
+
+            setCell(player, Long.lowestOneBit(empty));
+            player = 3 - player;
+            status = checkStatus();
+        }
+
+        return status;
+    }
+
+    private void setCell(int player, long bit) {
+        if (player == Board.P1) {
+            player1 |= bit;
+        } else {
+            player2 |= bit;
+        }
+    }
+
+    private long bit(int x, int y) {
+        return 1L << (x * size + y);
+    }
+
+    private static synchronized long[] winLines(int size) {
+        if (WIN_LINES[size] == null) {
+            long[] lines = new long[2 * size + 2];
+            for (int i = 0; i < size; i++) {
+                for (int j = 0; j < size; j++) {
+                    lines[i] |= 1L << (i * size + j);
+                    lines[size + i] |= 1L << (j * size + i);
+                }
+                lines[2 * size] |= 1L << (i * size + i);
+                lines[2 * size + 1] |= 1L << ((size - 1 - i) * size + i);
+            }
+            WIN_LINES[size] = lines;
+        }
+
+        return WIN_LINES[size];
+    }
+}
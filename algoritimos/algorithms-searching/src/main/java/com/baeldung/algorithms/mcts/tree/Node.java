@@ -4,13 +4,27 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import com.baeldung.algorithms.mcts.montecarlo.State;
 
 public class Node {
+    /**
+     * Win score of a node whose parent lets the opponent win immediately.
+     */
+    public static final long LOSS_SCORE = Integer.MIN_VALUE;
+
     State state;
     Node parent;
-    List<Node> childArray;
+    volatile List<Node> childArray;
+
+    /**
+     * Visit and score counters shared by the threads of a parallel search. The sequential
+     * search keeps its statistics in {@link State} instead.
+     */
+    private final AtomicInteger visits = new AtomicInteger();
+    private final AtomicLong score = new AtomicLong();
 
     public Node() {
         this.state = new State();
@@ -69,6 +83,43 @@ public class Node {
         return this.childArray.get(selectRandom);
     }
 
+    public int getVisits() {
+        return visits.get();
+    }
+
+    public void addVisits(int delta) {
+        visits.addAndGet(delta);
+    }
+
+    public long getScore() {
+        return score.get();
+    }
+
+    public void addScore(long delta) {
+        long current;
+        do {
+            current = score.get();
+            if (current == LOSS_SCORE) {
+                return;
+            }
+        } while (!score.compareAndSet(current, current + delta));
+    }
+
+    public void markAsLoss() {
+        score.set(LOSS_SCORE);
+    }
+
+    public Node getChildWithMaxVisits() {
+        List<Node> children = this.childArray;
+        Node best = null;
+        for (Node child : children) {
+            if (best == null || child.getVisits() > best.getVisits()) {
+                best = child;
+            }
+        }
+        return best;
+    }
+
     public Node getChildWithMaxScore() {
         return Collections.max(this.childArray, Comparator.comparing(c -> {
             return c.getState().getVisitCount();
@@ -0,0 +1,343 @@
+package com.baeldung.algorithms.quadtree;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * An immutable quad tree built in one pass from all of its points. Points are reordered so
+ * that every node covers a contiguous range of the flat {@code xs}/{@code ys} arrays, and the
+ * nodes themselves live in parallel arrays, with the four quadrants of a node stored next to
+ * each other in the same order as {@link Region#getQuadrant(int)}.
+ * <p>
+ * Since nothing changes after construction, any number of threads can query the same tree
+ * without locking. Queries write into a caller-provided {@link QueryBuffer}.
+ */
+public class PackedQuadTree {
+
+    private static final int DEFAULT_LEAF_CAPACITY = 8;
+
+    /**
+     * Nodes below this depth are never split, which bounds the tree for duplicated points.
+     */
+    private static final int MAX_DEPTH = 32;
+
+    private static final int NO_CHILDREN = -1;
+
+    private final Region area;
+
+    /**
+     * Point coordinates in tree order, and the id each point had in the input.
+     */
+    private final float[] xs;
+    private final float[] ys;
+    private final int[] ids;
+
+    private float[] nodeX1;
+    private float[] nodeY1;
+    private float[] nodeX2;
+    private float[] nodeY2;
+    private int[] firstChild;
+    private int[] pointStart;
+    private int[] pointEnd;
+    private int nodeCount;
+
+    public PackedQuadTree(Region area, List<Point> points) {
+        this(area, xsOf(points), ysOf(points), DEFAULT_LEAF_CAPACITY);
+    }
+
+    /**
+     * Bulk-loads a tree. Point {@code i} is {@code (xs[i], ys[i])} and is reported with id
+     * {@code i}; points outside of the area are left out, like {@link QuadTree#addPoint(Point)}
+     * does.
+     *
+     * @param area         The area covered by the tree.
+     * @param xs           The x coordinates.
+     * @param ys           The y coordinates.
+     * @param leafCapacity Maximum number of points kept by a node before it is split.
+     */
+    public PackedQuadTree(Region area, float[] xs, float[] ys, int leafCapacity) {
+        if (xs.length != ys.length) {
+            throw new IllegalArgumentException("Both coordinate arrays should have the same length");
+        }
+        if (leafCapacity < 1) {
+            throw new IllegalArgumentException("Leaf capacity should be a positive number");
+        }
+
+        this.area = area;
+
+        int[] order = new int[xs.length];
+        int count = 0;
+        for (int i = 0; i < xs.length; i++) {
+            if (contains(area.getX1(), area.getY1(), area.getX2(), area.getY2(), xs[i], ys[i])) {
+                order[count++] = i;
+            }
+        }
+        this.ids = Arrays.copyOf(order, count);
+
+        int capacity = Math.max(4, 4 * (count / leafCapacity) + 1);
+        nodeX1 = new float[capacity];
+        nodeY1 = new float[capacity];
+        nodeX2 = new float[capacity];
+        nodeY2 = new float[capacity];
+        firstChild = new int[capacity];
+        pointStart = new int[capacity];
+        pointEnd = new int[capacity];
+
+        newNode(area.getX1(), area.getY1(), area.getX2(), area.getY2());
+        build(0, 0, count, 0, xs, ys, leafCapacity, new int[count]);
+
+        this.xs = new float[count];
+        this.ys = new float[count];
+        for (int i = 0; i < count; i++) {
+            this.xs[i] = xs[ids[i]];
+            this.ys[i] = ys[ids[i]];
+        }
+    }
+
+    public Region getArea() {
+        return area;
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    /**
+     * Finds all points within the region, using the same boundary rules as
+     * {@link Region#containsPoint(Point)}.
+     *
+     * @param region The search region.
+     * @param result The buffer receiving the matches, in no particular order.
+     * @return The number of matches.
+     */
+    public int search(Region region, QueryBuffer result) {
+        result.clear();
+        float x1 = region.getX1();
+        float y1 = region.getY1();
+        float x2 = region.getX2();
+        float y2 = region.getY2();
+
+        int[] stack = result.traversalStack(4 * MAX_DEPTH + 4);
+        int top = 0;
+        stack[top++] = 0;
+        while (top > 0) {
+            int node = stack[--top];
+            if (x1 > nodeX2[node] || x2 < nodeX1[node] || y1 > nodeY2[node] || y2 < nodeY1[node]) {
+                continue;
+            }
+
+            if (x1 <= nodeX1[node] && nodeX2[node] <= x2 && y1 <= nodeY1[node] && nodeY2[node] <= y2) {
+                // the node lies entirely inside the region
+                for (int i = pointStart[node]; i < pointEnd[node]; i++) {
+                    result.add(ids[i], xs[i], ys[i], 0);
+                }
+            } else if (firstChild[node] == NO_CHILDREN) {
+                for (int i = pointStart[node]; i < pointEnd[node]; i++) {
+                    if (contains(x1, y1, x2, y2, xs[i], ys[i])) {
+                        result.add(ids[i], xs[i], ys[i], 0);
+                    }
+                }
+            } else {
+                for (int q = 3; q >= 0; q--) {
+                    stack[top++] = firstChild[node] + q;
+                }
+            }
+        }
+
+        return result.size();
+    }
+
+    /**
+     * Finds all points at most {@code radius} away from {@code (x, y)}.
+     *
+     * @param result The buffer receiving the matches and their distances, in no particular order.
+     * @return The number of matches.
+     */
+    public int searchRadius(float x, float y, float radius, QueryBuffer result) {
+        result.clear();
+        float squaredRadius = radius * radius;
+
+        int[] stack = result.traversalStack(4 * MAX_DEPTH + 4);
+        int top = 0;
+        stack[top++] = 0;
+        while (top > 0) {
+            int node = stack[--top];
+            if (squaredDistanceToNode(node, x, y) > squaredRadius) {
+                continue;
+            }
+
+            if (firstChild[node] == NO_CHILDREN) {
+                for (int i = pointStart[node]; i < pointEnd[node]; i++) {
+                    float distance = squaredDistance(x, y, xs[i], ys[i]);
+                    if (distance <= squaredRadius) {
+                        result.add(ids[i], xs[i], ys[i], distance);
+                    }
+                }
+            } else {
+                for (int q = 3; q >= 0; q--) {
+                    stack[top++] = firstChild[node] + q;
+                }
+            }
+        }
+
+        result.sqrtDistances();
+        return result.size();
+    }
+
+    /**
+     * Finds the {@code k} points nearest to {@code (x, y)}.
+     *
+     * @param result The buffer receiving the matches and their distances, nearest first.
+     * @return The number of matches, which is less than k only if the tree has fewer points.
+     */
+    public int nearest(float x, float y, int k, QueryBuffer result) {
+        result.clear();
+        if (k <= 0) {
+            return 0;
+        }
+
+        int[] stack = result.traversalStack(4 * MAX_DEPTH + 4);
+        int top = 0;
+        stack[top++] = 0;
+        while (top > 0) {
+            int node = stack[--top];
+            if (squaredDistanceToNode(node, x, y) > result.worstDistance(k)) {
+                continue;
+            }
+
+            if (firstChild[node] == NO_CHILDREN) {
+                for (int i = pointStart[node]; i < pointEnd[node]; i++) {
+                    result.offer(k, ids[i], xs[i], ys[i], squaredDistance(x, y, xs[i], ys[i]));
+                }
+            } else {
+                top = pushByDistance(stack, top, firstChild[node], x, y);
+            }
+        }
+
+        result.sortHeap();
+        result.sqrtDistances();
+        return result.size();
+    }
+
+    /**
+     * Pushes the four quadrants starting at {@code first}, farthest first, so that the nearest
+     * one is visited next.
+     */
+    private int pushByDistance(int[] stack, int top, int first, float x, float y) {
+        int start = top;
+        for (int q = 0; q < 4; q++) {
+            int child = first + q;
+            float distance = squaredDistanceToNode(child, x, y);
+            int position = top++;
+            while (position > start && squaredDistanceToNode(stack[position - 1], x, y) < distance) {
+                stack[position] = stack[position - 1];
+                position--;
+            }
+            stack[position] = child;
+        }
+        return top;
+    }
+
+    private void build(int node, int from, int to, int depth, float[] xs, float[] ys, int leafCapacity, int[] scratch) {
+        pointStart[node] = from;
+        pointEnd[node] = to;
+        firstChild[node] = NO_CHILDREN;
+        if (to - from <= leafCapacity || depth == MAX_DEPTH) {
+            return;
+        }
+
+        float x1 = nodeX1[node];
+        float y1 = nodeY1[node];
+        float x2 = nodeX2[node];
+        float y2 = nodeY2[node];
+        float midX = x1 + (x2 - x1) / 2;
+        float midY = y1 + (y2 - y1) / 2;
+
+        // counting sort of the node's points by quadrant: 0=SW, 1=NW, 2=NE, 3=SE
+        int[] counts = new int[5];
+        for (int i = from; i < to; i++) {
+            counts[quadrant(xs[ids[i]], ys[ids[i]], midX, midY) + 1]++;
+        }
+        for (int q = 0; q < 4; q++) {
+            counts[q + 1] += counts[q];
+        }
+        int[] bounds = Arrays.copyOf(counts, 5);
+        for (int i = from; i < to; i++) {
+            scratch[from + counts[quadrant(xs[ids[i]], ys[ids[i]], midX, midY)]++] = ids[i];
+        }
+        System.arraycopy(scratch, from, ids, from, to - from);
+
+        int first = newNode(x1, y1, midX, midY);
+        newNode(x1, midY, midX, y2);
+        newNode(midX, midY, x2, y2);
+        newNode(midX, y1, x2, midY);
+        firstChild[node] = first;
+        for (int q = 0; q < 4; q++) {
+            build(first + q, from + bounds[q], from + bounds[q + 1], depth + 1, xs, ys, leafCapacity, scratch);
+        }
+    }
+
+    private int newNode(float x1, float y1, float x2, float y2) {
+        if (nodeCount == firstChild.length) {
+            int capacity = nodeCount * 2;
+            nodeX1 = Arrays.copyOf(nodeX1, capacity);
+            nodeY1 = Arrays.copyOf(nodeY1, capacity);
+            nodeX2 = Arrays.copyOf(nodeX2, capacity);
+            nodeY2 = Arrays.copyOf(nodeY2, capacity);
+            firstChild = Arrays.copyOf(firstChild, capacity);
+            pointStart = Arrays.copyOf(pointStart, capacity);
+            pointEnd = Arrays.copyOf(pointEnd, capacity);
+        }
+
+        nodeX1[nodeCount] = x1;
+        nodeY1[nodeCount] = y1;
+        nodeX2[nodeCount] = x2;
+        nodeY2[nodeCount] = y2;
+        firstChild[nodeCount] = NO_CHILDREN;
+        return nodeCount++;
+    }
+
+    private float squaredDistanceToNode(int node, float x, float y) {
+        float dx = x < nodeX1[node] ? nodeX1[node] - x : (x > nodeX2[node] ? x - nodeX2[node] : 0);
+        float dy = y < nodeY1[node] ? nodeY1[node] - y : (y > nodeY2[node] ? y - nodeY2[node] : 0);
+        return dx * dx + dy * dy;
+    }
+
+    private static float squaredDistance(float x1, float y1, float x2, float y2) {
+        float dx = x1 - x2;
+        float dy = y1 - y2;
+        return dx * dx + dy * dy;
+    }
+
+    private static int quadrant(float x, float y, float midX, float midY) {
+        if (x < midX) {
+            return y < midY ? 0 : 1;
+        }
+        return y < midY ? 3 : 2;
+    }
+
+    private static boolean contains(float x1, float y1, float x2, float y2, float x, float y) {
+        // same rules as Region.containsPoint
+        return x >= x1 && x < x2 && y >= y1 && y < y2;
+    }
+
+    private static float[] xsOf(List<Point> points) {
+        float[] xs = new float[points.size()];
+        for (int i = 0; i < xs.length; i++) {
+            xs[i] = points
+              .get(i)
+              .getX();
+        }
+        return xs;
+    }
+
+    private static float[] ysOf(List<Point> points) {
+        float[] ys = new float[points.size()];
+        for (int i = 0; i < ys.length; i++) {
+            ys[i] = points
+              .get(i)
+              .getY();
+        }
+        return ys;
+    }
+}
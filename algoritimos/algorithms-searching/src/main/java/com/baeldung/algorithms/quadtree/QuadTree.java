@@ -9,11 +9,44 @@ public class QuadTree {
     private List<Point> points = new ArrayList<>();
     private List<QuadTree> quadTrees = new ArrayList<>();
     private StringBuilder searchTraversePath;
+    private boolean tracingEnabled;
 
     public QuadTree(Region area) {
         this.area = area;
     }
 
+    /**
+     * Records the path walked by {@link #search(Region, List, String)}, for
+     * {@link #printSearchTraversePath()}. Tracing is off by default, as building the path costs
+     * more than the search itself.
+     */
+    public void setTracingEnabled(boolean tracingEnabled) {
+        this.tracingEnabled = tracingEnabled;
+        for (QuadTree quadTree : quadTrees) {
+            quadTree.setTracingEnabled(tracingEnabled);
+        }
+    }
+
+    public boolean isTracingEnabled() {
+        return tracingEnabled;
+    }
+
+    /**
+     * @return An immutable copy of this tree which can be queried by many threads at once.
+     */
+    public PackedQuadTree snapshot() {
+        List<Point> allPoints = new ArrayList<>();
+        collectPoints(allPoints);
+        return new PackedQuadTree(area, allPoints);
+    }
+
+    private void collectPoints(List<Point> allPoints) {
+        allPoints.addAll(points);
+        for (QuadTree quadTree : quadTrees) {
+            quadTree.collectPoints(allPoints);
+        }
+    }
+
     public boolean addPoint(Point point) {
         if (this.area.containsPoint(point)) {
             if (this.points.size() < MAX_POINTS) {
@@ -44,42 +77,52 @@ public class QuadTree {
         Region region;
         for (int i = 0; i < 4; i++) {
             region = this.area.getQuadrant(i);
-            quadTrees.add(new QuadTree(region));
+            QuadTree quadTree = new QuadTree(region);
+            quadTree.tracingEnabled = tracingEnabled;
+            quadTrees.add(quadTree);
         }
     }
 
     public List<Point> search(Region searchRegion, List<Point> matches, String depthIndicator) {
-        searchTraversePath = new StringBuilder();
+        searchTraversePath = tracingEnabled ? new StringBuilder() : null;
         if (matches == null) {
             matches = new ArrayList<Point>();
-            searchTraversePath.append(depthIndicator)
-                .append("Search Boundary =")
-                .append(searchRegion)
-                .append("\n");
+            if (tracingEnabled) {
+                searchTraversePath.append(depthIndicator)
+                    .append("Search Boundary =")
+                    .append(searchRegion)
+                    .append("\n");
+            }
         }
         if (!this.area.doesOverlap(searchRegion)) {
             return matches;
         } else {
             for (Point point : points) {
                 if (searchRegion.containsPoint(point)) {
-                    searchTraversePath.append(depthIndicator)
-                    .append("Found match " + point)
-                    .append("\n");
+                    if (tracingEnabled) {
+                        searchTraversePath.append(depthIndicator)
+                            .append("Found match " + point)
+                            .append("\n");
+                    }
                     matches.add(point);
                 }
             }
             if (this.quadTrees.size() > 0) {
                 for (int i = 0; i < 4; i++) {
-                    searchTraversePath.append(depthIndicator)
-                        .append("Q")
-                        .append(i)
-                        .append("-->")
-                        .append(quadTrees.get(i).area)
-                        .append("\n");
+                    if (tracingEnabled) {
+                        searchTraversePath.append(depthIndicator)
+                            .append("Q")
+                            .append(i)
+                            .append("-->")
+                            .append(quadTrees.get(i).area)
+                            .append("\n");
+                    }
                     quadTrees.get(i)
                         .search(searchRegion, matches, depthIndicator + "\t");
-                    this.searchTraversePath.append(quadTrees.get(i)
-                        .printSearchTraversePath());
+                    if (tracingEnabled) {
+                        this.searchTraversePath.append(quadTrees.get(i)
+                            .printSearchTraversePath());
+                    }
                 }
             }
         }
@@ -104,6 +147,6 @@ public class QuadTree {
     }
 
     public String printSearchTraversePath() {
-        return searchTraversePath.toString();
+        return searchTraversePath == null ? "" : searchTraversePath.toString();
     }
 }
@@ -0,0 +1,171 @@
+package com.baeldung.algorithms.quadtree;
+
+import java.util.Arrays;
+
+/**
+ * Caller-owned storage for the results of {@link PackedQuadTree} queries. A buffer grows when
+ * needed and is cleared by every query, so a thread which reuses its buffer stops allocating
+ * once the buffer is large enough. Buffers are not thread-safe; use one per thread.
+ */
+public class QueryBuffer {
+
+    private int[] ids;
+    private float[] xs;
+    private float[] ys;
+    private float[] distances;
+    private int size;
+
+    /**
+     * Traversal stack, shared by all queries run with this buffer.
+     */
+    private int[] traversal = new int[64];
+
+    public QueryBuffer() {
+        this(16);
+    }
+
+    public QueryBuffer(int initialCapacity) {
+        int capacity = Math.max(1, initialCapacity);
+        ids = new int[capacity];
+        xs = new float[capacity];
+        ys = new float[capacity];
+        distances = new float[capacity];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return The id the point had in the input of the tree.
+     */
+    public int getId(int index) {
+        return ids[index];
+    }
+
+    public float getX(int index) {
+        return xs[index];
+    }
+
+    public float getY(int index) {
+        return ys[index];
+    }
+
+    /**
+     * @return The distance to the query point; 0 for range queries.
+     */
+    public float getDistance(int index) {
+        return distances[index];
+    }
+
+    void clear() {
+        size = 0;
+    }
+
+    void add(int id, float x, float y, float distance) {
+        if (size == ids.length) {
+            grow(size * 2);
+        }
+        ids[size] = id;
+        xs[size] = x;
+        ys[size] = y;
+        distances[size] = distance;
+        size++;
+    }
+
+    int[] traversalStack(int capacity) {
+        if (traversal.length < capacity) {
+            traversal = Arrays.copyOf(traversal, Math.max(capacity, traversal.length * 2));
+        }
+        return traversal;
+    }
+
+    /**
+     * Max-heap on distance, used to keep the k nearest points seen so far.
+     */
+    void offer(int k, int id, float x, float y, float distance) {
+        if (size < k) {
+            add(id, x, y, distance);
+            siftUp(size - 1);
+        } else if (distance < distances[0]) {
+            set(0, id, x, y, distance);
+            siftDown(0, size);
+        }
+    }
+
+    /**
+     * @return The largest distance kept by the heap, or infinity while it holds fewer than k points.
+     */
+    float worstDistance(int k) {
+        return size < k ? Float.POSITIVE_INFINITY : distances[0];
+    }
+
+    /**
+     * Turns the heap into a list sorted by ascending distance.
+     */
+    void sortHeap() {
+        for (int end = size - 1; end > 0; end--) {
+            swap(0, end);
+            siftDown(0, end);
+        }
+    }
+
+    void sqrtDistances() {
+        for (int i = 0; i < size; i++) {
+            distances[i] = (float) Math.sqrt(distances[i]);
+        }
+    }
+
+    private void siftUp(int index) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (distances[parent] >= distances[index]) {
+                break;
+            }
+            swap(parent, index);
+            index = parent;
+        }
+    }
+
+    private void siftDown(int index, int length) {
+        while (true) {
+            int largest = index;
+            int left = 2 * index + 1;
+            int right = left + 1;
+            if (left < length && distances[left] > distances[largest]) {
+                largest = left;
+            }
+            if (right < length && distances[right] > distances[largest]) {
+                largest = right;
+            }
+            if (largest == index) {
+                return;
+            }
+            swap(index, largest);
+            index = largest;
+        }
+    }
+
+    private void set(int index, int id, float x, float y, float distance) {
+        ids[index] = id;
+        xs[index] = x;
+        ys[index] = y;
+        distances[index] = distance;
+    }
+
+    private void swap(int a, int b) {
+        int id = ids[a];
+        float x = xs[a];
+        float y = ys[a];
+        float distance = distances[a];
+        set(a, ids[b], xs[b], ys[b], distances[b]);
+        set(b, id, x, y, distance);
+    }
+
+    private void grow(int capacity) {
+        ids = Arrays.copyOf(ids, capacity);
+        xs = Arrays.copyOf(xs, capacity);
+        ys = Arrays.copyOf(ys, capacity);
+        distances = Arrays.copyOf(distances, capacity);
+    }
+}
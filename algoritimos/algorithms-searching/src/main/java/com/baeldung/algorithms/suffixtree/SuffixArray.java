@@ -0,0 +1,364 @@
+package com.baeldung.algorithms.suffixtree;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * A full-text index built in linear time with the SA-IS algorithm, together with its LCP array
+ * (Kasai et al.). Unlike {@link SuffixTree}, the index never copies the text: suffixes are
+ * offsets into a single shared {@code char[]}, so it needs about 10 bytes per character.
+ * <p>
+ * The index is immutable and can be queried from many threads at once.
+ */
+public class SuffixArray {
+
+    private final char[] text;
+    private final int[] suffixes;
+
+    /**
+     * {@code lcp[i]} is the length of the longest common prefix of the suffixes at
+     * {@code suffixes[i - 1]} and {@code suffixes[i]}; {@code lcp[0]} is 0.
+     */
+    private final int[] lcp;
+
+    public SuffixArray(String text) {
+        this(text.toCharArray());
+    }
+
+    public SuffixArray(char[] text) {
+        this.text = text;
+        this.suffixes = sais(compressAlphabet(text));
+        this.lcp = kasai(text, suffixes);
+    }
+
+    public int length() {
+        return text.length;
+    }
+
+    /**
+     * @return The start position of the suffix with the given rank.
+     */
+    public int suffixAt(int rank) {
+        return suffixes[rank];
+    }
+
+    /**
+     * @return The longest common prefix of the suffixes ranked {@code rank - 1} and {@code rank}.
+     */
+    public int lcpAt(int rank) {
+        return lcp[rank];
+    }
+
+    /**
+     * @param pattern The pattern to look for.
+     * @return The number of occurrences of the pattern in the text.
+     */
+    public int count(CharSequence pattern) {
+        if (pattern.length() == 0) {
+            return text.length;
+        }
+
+        return upperBound(pattern) - lowerBound(pattern);
+    }
+
+    /**
+     * @param pattern The pattern to look for.
+     * @return The sorted start positions of all occurrences of the pattern.
+     */
+    public int[] locate(CharSequence pattern) {
+        if (pattern.length() == 0) {
+            return IntStream
+              .range(0, text.length)
+              .toArray();
+        }
+
+        int[] positions = Arrays.copyOfRange(suffixes, lowerBound(pattern), upperBound(pattern));
+        Arrays.sort(positions);
+        return positions;
+    }
+
+    /**
+     * Counts the occurrences of many patterns at once, spreading the patterns across cores.
+     *
+     * @param patterns The patterns to look for.
+     * @return The number of occurrences of each pattern, in the same order.
+     */
+    public int[] countAll(List<? extends CharSequence> patterns) {
+        int[] counts = new int[patterns.size()];
+        IntStream
+          .range(0, counts.length)
+          .parallel()
+          .forEach(i -> counts[i] = count(patterns.get(i)));
+        return counts;
+    }
+
+    /**
+     * Locates the occurrences of many patterns at once, spreading the patterns across cores.
+     *
+     * @param patterns The patterns to look for.
+     * @return The sorted start positions of each pattern, in the same order.
+     */
+    public int[][] locateAll(List<? extends CharSequence> patterns) {
+        int[][] positions = new int[patterns.size()][];
+        IntStream
+          .range(0, positions.length)
+          .parallel()
+          .forEach(i -> positions[i] = locate(patterns.get(i)));
+        return positions;
+    }
+
+    /**
+     * @return The longest substring which occurs at least twice in the text.
+     */
+    public String longestRepeatedSubstring() {
+        int best = 0;
+        for (int i = 1; i < lcp.length; i++) {
+            if (lcp[i] > lcp[best]) {
+                best = i;
+            }
+        }
+
+        return lcp.length == 0 ? "" : new String(text, suffixes[best], lcp[best]);
+    }
+
+    /**
+     * @return The rank of the first suffix which is not smaller than the pattern.
+     */
+    private int lowerBound(CharSequence pattern) {
+        return bound(pattern, false);
+    }
+
+    /**
+     * @return The rank of the first suffix which doesn't start with the pattern and is greater
+     * than it.
+     */
+    private int upperBound(CharSequence pattern) {
+        return bound(pattern, true);
+    }
+
+    /**
+     * Binary search over the suffix array. Every suffix between {@code low} and {@code high}
+     * shares at least {@code min(lcpLow, lcpHigh)} characters with the pattern, so these are
+     * skipped when comparing.
+     */
+    private int bound(CharSequence pattern, boolean skipMatches) {
+        int m = pattern.length();
+        int low = 0;
+        int high = suffixes.length;
+        int lcpLow = 0;
+        int lcpHigh = 0;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            int position = suffixes[middle];
+            int k = Math.min(lcpLow, lcpHigh);
+            while (k < m && position + k < text.length && text[position + k] == pattern.charAt(k)) {
+                k++;
+            }
+
+            boolean suffixIsSmaller;
+            if (k == m) {
+                suffixIsSmaller = skipMatches;
+            } else {
+                suffixIsSmaller = position + k == text.length || text[position + k] < pattern.charAt(k);
+            }
+
+            if (suffixIsSmaller) {
+                low = middle + 1;
+                lcpLow = k;
+            } else {
+                high = middle;
+                lcpHigh = k;
+            }
+        }
+
+        return low;
+    }
+
+    /**
+     * Maps every character to its rank among the distinct characters of the text.
+     */
+    private static int[] compressAlphabet(char[] text) {
+        int[] ranks = new int[Character.MAX_VALUE + 1];
+        for (char c : text) {
+            ranks[c] = 1;
+        }
+        int rank = 0;
+        for (int c = 0; c < ranks.length; c++) {
+            if (ranks[c] != 0) {
+                ranks[c] = rank++;
+            }
+        }
+
+        int[] s = new int[text.length];
+        for (int i = 0; i < text.length; i++) {
+            s[i] = ranks[text[i]];
+        }
+        return s;
+    }
+
+    private static int[] sais(int[] s) {
+        int upper = 0;
+        for (int c : s) {
+            upper = Math.max(upper, c);
+        }
+        return sais(s, upper);
+    }
+
+    /**
+     * Suffix array construction by induced sorting (Nong, Zhang and Chan). The symbols of
+     * {@code s} must be in {@code [0, upper]}.
+     */
+    private static int[] sais(int[] s, int upper) {
+        int n = s.length;
+        if (n == 0) {
+            return new int[0];
+        }
+        if (n == 1) {
+            return new int[] { 0 };
+        }
+        if (n == 2) {
+            return s[0] < s[1] ? new int[] { 0, 1 } : new int[] { 1, 0 };
+        }
+
+        // S-type suffixes are smaller than the suffix that follows them, L-type ones are larger
+        boolean[] sType = new boolean[n];
+        for (int i = n - 2; i >= 0; i--) {
+            sType[i] = s[i] == s[i + 1] ? sType[i + 1] : s[i] < s[i + 1];
+        }
+
+        // bucket boundaries: L-type suffixes of a symbol come before its S-type suffixes
+        int[] sumL = new int[upper + 1];
+        int[] sumS = new int[upper + 1];
+        for (int i = 0; i < n; i++) {
+            if (!sType[i]) {
+                sumS[s[i]]++;
+            } else {
+                sumL[s[i] + 1]++;
+            }
+        }
+        for (int i = 0; i <= upper; i++) {
+            sumS[i] += sumL[i];
+            if (i < upper) {
+                sumL[i + 1] += sumS[i];
+            }
+        }
+
+        int[] lmsMap = new int[n + 1];
+        Arrays.fill(lmsMap, -1);
+        int m = 0;
+        for (int i = 1; i < n; i++) {
+            if (!sType[i - 1] && sType[i]) {
+                lmsMap[i] = m++;
+            }
+        }
+        int[] lms = new int[m];
+        for (int i = 1, j = 0; i < n; i++) {
+            if (!sType[i - 1] && sType[i]) {
+                lms[j++] = i;
+            }
+        }
+
+        int[] sa = new int[n];
+        induce(s, upper, sType, sumL, sumS, lms, sa);
+
+        if (m > 0) {
+            int[] sortedLms = new int[m];
+            for (int i = 0, j = 0; i < n; i++) {
+                if (lmsMap[sa[i]] != -1) {
+                    sortedLms[j++] = sa[i];
+                }
+            }
+
+            // name the LMS substrings and sort them recursively when names collide
+            int[] reduced = new int[m];
+            int reducedUpper = 0;
+            reduced[lmsMap[sortedLms[0]]] = 0;
+            for (int i = 1; i < m; i++) {
+                int left = sortedLms[i - 1];
+                int right = sortedLms[i];
+                int endLeft = lmsMap[left] + 1 < m ? lms[lmsMap[left] + 1] : n;
+                int endRight = lmsMap[right] + 1 < m ? lms[lmsMap[right] + 1] : n;
+                boolean same = true;
+                if (endLeft - left != endRight - right) {
+                    same = false;
+                } else {
+                    while (left < endLeft && s[left] == s[right]) {
+                        left++;
+                        right++;
+                    }
+                    if (left == n || s[left] != s[right]) {
+                        same = false;
+                    }
+                }
+                if (!same) {
+                    reducedUpper++;
+                }
+                reduced[lmsMap[sortedLms[i]]] = reducedUpper;
+            }
+
+            int[] reducedSa = sais(reduced, reducedUpper);
+            for (int i = 0; i < m; i++) {
+                sortedLms[i] = lms[reducedSa[i]];
+            }
+            induce(s, upper, sType, sumL, sumS, sortedLms, sa);
+        }
+
+        return sa;
+    }
+
+    private static void induce(int[] s, int upper, boolean[] sType, int[] sumL, int[] sumS, int[] lms, int[] sa) {
+        int n = s.length;
+        Arrays.fill(sa, -1);
+        int[] buffer = Arrays.copyOf(sumS, upper + 1);
+        for (int d : lms) {
+            if (d != n) {
+                sa[buffer[s[d]]++] = d;
+            }
+        }
+
+        System.arraycopy(sumL, 0, buffer, 0, upper + 1);
+        sa[buffer[s[n - 1]]++] = n - 1;
+        for (int i = 0; i < n; i++) {
+            int v = sa[i];
+            if (v >= 1 && !sType[v - 1]) {
+                sa[buffer[s[v - 1]]++] = v - 1;
+            }
+        }
+
+        System.arraycopy(sumL, 0, buffer, 0, upper + 1);
+        for (int i = n - 1; i >= 0; i--) {
+            int v = sa[i];
+            if (v >= 1 && sType[v - 1]) {
+                sa[--buffer[s[v - 1] + 1]] = v - 1;
+            }
+        }
+    }
+
+    private static int[] kasai(char[] text, int[] sa) {
+        int n = sa.length;
+        int[] rank = new int[n];
+        for (int i = 0; i < n; i++) {
+            rank[sa[i]] = i;
+        }
+
+        int[] lcp = new int[n];
+        int h = 0;
+        for (int i = 0; i < n; i++) {
+            if (h > 0) {
+                h--;
+            }
+            if (rank[i] == 0) {
+                h = 0;
+                continue;
+            }
+
+            int j = sa[rank[i] - 1];
+            while (i + h < n && j + h < n && text[i + h] == text[j + h]) {
+                h++;
+            }
+            lcp[rank[i]] = h;
+        }
+        return lcp;
+    }
+}
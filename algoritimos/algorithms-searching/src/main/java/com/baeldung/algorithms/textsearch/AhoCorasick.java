@@ -0,0 +1,429 @@
+package com.baeldung.algorithms.textsearch;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Aho-Corasick automaton which finds every occurrence of many keywords in a single pass over
+ * the text. The trie is stored as a double array: the child of state {@code s} for symbol
+ * {@code c} is {@code t = base[s] + c}, valid when {@code check[t] == s}. Symbols are the
+ * characters used by the keywords, renumbered from 1, so the arrays stay small for any
+ * alphabet.
+ * <p>
+ * The automaton is immutable and can be shared between threads. Scanning state lives in a
+ * {@link Cursor}, which lets a text be fed in chunks.
+ */
+public class AhoCorasick {
+
+    private static final int ROOT = 0;
+    private static final int FREE = -1;
+    private static final int NONE = -1;
+    private static final int CHUNK_SIZE = 8192;
+
+    /**
+     * Symbol of each character, 0 for characters which don't appear in any keyword.
+     */
+    private final int[] symbols;
+
+    private int[] base;
+    private int[] check;
+    private int[] fail;
+
+    /**
+     * Keyword ending in each state, or {@link #NONE}.
+     */
+    private int[] terminal;
+
+    /**
+     * Closest state along the failure links which ends a keyword, or {@link #NONE}.
+     */
+    private int[] dictionaryLink;
+
+    private final int[] keywordLengths;
+
+    private AhoCorasick(List<char[]> keywords) {
+        if (keywords.isEmpty()) {
+            throw new IllegalArgumentException("At least one keyword is required");
+        }
+
+        this.symbols = new int[Character.MAX_VALUE + 1];
+        this.keywordLengths = new int[keywords.size()];
+        int alphabetSize = 0;
+        for (int i = 0; i < keywords.size(); i++) {
+            char[] keyword = keywords.get(i);
+            if (keyword.length == 0) {
+                throw new IllegalArgumentException("Keywords can't be empty");
+            }
+
+            keywordLengths[i] = keyword.length;
+            for (char c : keyword) {
+                if (symbols[c] == 0) {
+                    symbols[c] = ++alphabetSize;
+                }
+            }
+        }
+
+        Trie trie = new Trie();
+        for (int i = 0; i < keywords.size(); i++) {
+            trie.insert(keywords.get(i), symbols, i);
+        }
+        build(trie);
+    }
+
+    /**
+     * Creates an automaton which matches the given keywords in character streams.
+     *
+     * @param keywords The keywords; a keyword's position in the list is its index in matches.
+     * @return The automaton.
+     */
+    public static AhoCorasick of(List<String> keywords) {
+        List<char[]> chars = new ArrayList<>(keywords.size());
+        for (String keyword : keywords) {
+            chars.add(keyword.toCharArray());
+        }
+        return new AhoCorasick(chars);
+    }
+
+    /**
+     * Creates an automaton which matches the given keywords, encoded with the given charset, in
+     * byte streams. Offsets reported for {@link ByteBuffer}s are byte offsets.
+     *
+     * @param keywords The keywords; a keyword's position in the list is its index in matches.
+     * @param charset  The encoding of the scanned bytes.
+     * @return The automaton.
+     */
+    public static AhoCorasick ofBytes(List<String> keywords, Charset charset) {
+        List<char[]> chars = new ArrayList<>(keywords.size());
+        for (String keyword : keywords) {
+            byte[] bytes = keyword.getBytes(charset);
+            char[] symbols = new char[bytes.length];
+            for (int i = 0; i < bytes.length; i++) {
+                symbols[i] = (char) (bytes[i] & 0xFF);
+            }
+            chars.add(symbols);
+        }
+        return new AhoCorasick(chars);
+    }
+
+    public int getKeywordCount() {
+        return keywordLengths.length;
+    }
+
+    /**
+     * @return All matches in the given text, ordered by their end offset.
+     */
+    public List<Match> findAll(CharSequence text) {
+        List<Match> matches = new ArrayList<>();
+        Cursor cursor = newCursor((start, end, keyword) -> matches.add(new Match(start, end, keyword)));
+        for (int i = 0; i < text.length(); i++) {
+            cursor.next(text.charAt(i));
+        }
+        return matches;
+    }
+
+    /**
+     * Scans the whole reader in chunks, reporting every match to the listener.
+     *
+     * @return The number of characters read.
+     */
+    public long scan(Reader reader, MatchListener listener) throws IOException {
+        Cursor cursor = newCursor(listener);
+        char[] buffer = new char[CHUNK_SIZE];
+        int read;
+        while ((read = reader.read(buffer)) != -1) {
+            cursor.feed(buffer, 0, read);
+        }
+        return cursor.getOffset();
+    }
+
+    /**
+     * @return A cursor positioned at the start of a new text.
+     */
+    public Cursor newCursor(MatchListener listener) {
+        return new Cursor(listener);
+    }
+
+    private void build(Trie trie) {
+        int capacity = Math.max(16, trie.size * 2);
+        base = new int[capacity];
+        check = new int[capacity];
+        Arrays.fill(check, FREE);
+        check[ROOT] = ROOT;
+
+        // place the trie nodes in breadth-first order, so every state is placed before its children
+        int[] states = new int[trie.size];
+        int[] queue = new int[trie.size];
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = 0;
+        int[] childSymbols = new int[16];
+        int searchStart = 1;
+        while (head < tail) {
+            int node = queue[head++];
+            int state = states[node];
+
+            int childCount = 0;
+            for (int child = trie.firstChild[node]; child != NONE; child = trie.nextSibling[child]) {
+                if (childCount == childSymbols.length) {
+                    childSymbols = Arrays.copyOf(childSymbols, childCount * 2);
+                }
+                childSymbols[childCount++] = trie.symbol[child];
+            }
+            if (childCount == 0) {
+                continue;
+            }
+
+            while (check[searchStart] != FREE) {
+                searchStart++;
+                ensureCapacity(searchStart + 1);
+            }
+            // a non-negative base keeps every child at index 1 or above, as symbols start at 1
+            int candidate = Math.max(0, searchStart - childSymbols[0]);
+            while (!fits(candidate, childSymbols, childCount)) {
+                candidate++;
+            }
+
+            base[state] = candidate;
+            for (int child = trie.firstChild[node]; child != NONE; child = trie.nextSibling[child]) {
+                int childState = candidate + trie.symbol[child];
+                check[childState] = state;
+                states[child] = childState;
+                queue[tail++] = child;
+            }
+        }
+
+        int stateCount = check.length;
+        fail = new int[stateCount];
+        terminal = new int[stateCount];
+        dictionaryLink = new int[stateCount];
+        Arrays.fill(terminal, NONE);
+        Arrays.fill(dictionaryLink, NONE);
+        for (int node = 0; node < trie.size; node++) {
+            terminal[states[node]] = trie.keyword[node];
+        }
+
+        // failure links, again in breadth-first order
+        for (int i = 1; i < tail; i++) {
+            int node = queue[i];
+            int state = states[node];
+            int parent = check[state];
+            int symbol = trie.symbol[node];
+
+            int target = ROOT;
+            if (parent != ROOT) {
+                int fallback = fail[parent];
+                while (true) {
+                    int next = child(fallback, symbol);
+                    if (next != NONE) {
+                        target = next;
+                        break;
+                    }
+                    if (fallback == ROOT) {
+                        break;
+                    }
+                    fallback = fail[fallback];
+                }
+            }
+
+            fail[state] = target;
+            dictionaryLink[state] = terminal[target] != NONE ? target : dictionaryLink[target];
+        }
+    }
+
+    private boolean fits(int candidate, int[] childSymbols, int childCount) {
+        for (int i = 0; i < childCount; i++) {
+            int position = candidate + childSymbols[i];
+            ensureCapacity(position + 1);
+            if (check[position] != FREE) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void ensureCapacity(int size) {
+        if (size > check.length) {
+            int capacity = Math.max(size, check.length * 2);
+            int oldCapacity = check.length;
+            base = Arrays.copyOf(base, capacity);
+            check = Arrays.copyOf(check, capacity);
+            Arrays.fill(check, oldCapacity, capacity, FREE);
+        }
+    }
+
+    private int child(int state, int symbol) {
+        int target = base[state] + symbol;
+        return target < check.length && check[target] == state ? target : NONE;
+    }
+
+    /**
+     * Receives the matches found while scanning.
+     */
+    @FunctionalInterface
+    public interface MatchListener {
+
+        /**
+         * @param start   Offset of the first character of the match.
+         * @param end     Offset just past the last character of the match.
+         * @param keyword Index of the matched keyword.
+         */
+        void onMatch(long start, long end, int keyword);
+    }
+
+    /**
+     * Scanning position of one text. Cursors are cheap and must not be shared between threads.
+     */
+    public class Cursor {
+
+        private final MatchListener listener;
+        private int state = ROOT;
+        private long offset;
+
+        private Cursor(MatchListener listener) {
+            this.listener = listener;
+        }
+
+        /**
+         * @return Number of characters (or bytes) consumed so far.
+         */
+        public long getOffset() {
+            return offset;
+        }
+
+        public void feed(char[] chunk, int from, int length) {
+            for (int i = from; i < from + length; i++) {
+                next(chunk[i]);
+            }
+        }
+
+        /**
+         * Consumes the remaining bytes of the buffer, one symbol per byte.
+         */
+        public void feed(ByteBuffer chunk) {
+            int limit = chunk.limit();
+            for (int i = chunk.position(); i < limit; i++) {
+                next((char) (chunk.get(i) & 0xFF));
+            }
+            chunk.position(limit);
+        }
+
+        private void next(char c) {
+            offset++;
+            int symbol = symbols[c];
+            if (symbol == 0) {
+                state = ROOT;
+                return;
+            }
+
+            while (true) {
+                int target = base[state] + symbol;
+                if (target < check.length && check[target] == state) {
+                    state = target;
+                    break;
+                }
+                if (state == ROOT) {
+                    break;
+                }
+                state = fail[state];
+            }
+
+            int output = terminal[state] != NONE ? state : dictionaryLink[state];
+            while (output != NONE) {
+                int keyword = terminal[output];
+                listener.onMatch(offset - keywordLengths[keyword], offset, keyword);
+                output = dictionaryLink[output];
+            }
+        }
+    }
+
+    /**
+     * A keyword occurrence, with {@code end} exclusive.
+     */
+    public static class Match {
+
+        private final long start;
+        private final long end;
+        private final int keyword;
+
+        public Match(long start, long end, int keyword) {
+            this.start = start;
+            this.end = end;
+            this.keyword = keyword;
+        }
+
+        public long getStart() {
+            return start;
+        }
+
+        public long getEnd() {
+            return end;
+        }
+
+        public int getKeyword() {
+            return keyword;
+        }
+
+        @Override
+        public String toString() {
+            return "Match[" + start + ", " + end + ") #" + keyword;
+        }
+    }
+
+    /**
+     * Pointer-based trie used only while building the double array.
+     */
+    private static class Trie {
+
+        private int[] firstChild = new int[16];
+        private int[] nextSibling = new int[16];
+        private int[] symbol = new int[16];
+        private int[] keyword = new int[16];
+        private int size;
+
+        private Trie() {
+            newNode(0);
+        }
+
+        private void insert(char[] chars, int[] symbols, int index) {
+            int node = 0;
+            for (char c : chars) {
+                int s = symbols[c];
+                int child = firstChild[node];
+                while (child != NONE && symbol[child] != s) {
+                    child = nextSibling[child];
+                }
+                if (child == NONE) {
+                    child = newNode(s);
+                    nextSibling[child] = firstChild[node];
+                    firstChild[node] = child;
+                }
+                node = child;
+            }
+
+            // duplicated keywords are reported with their first index
+            if (keyword[node] == NONE) {
+                keyword[node] = index;
+            }
+        }
+
+        private int newNode(int s) {
+            if (size == firstChild.length) {
+                int capacity = size * 2;
+                firstChild = Arrays.copyOf(firstChild, capacity);
+                nextSibling = Arrays.copyOf(nextSibling, capacity);
+                symbol = Arrays.copyOf(symbol, capacity);
+                keyword = Arrays.copyOf(keyword, capacity);
+            }
+            firstChild[size] = NONE;
+            nextSibling[size] = NONE;
+            symbol[size] = s;
+            keyword[size] = NONE;
+            return size++;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.baeldung.algorithms.textsearch;
 
 import java.math.BigInteger;
+import java.util.Arrays;
 import java.util.Random;
 
 public class TextSearchAlgorithms {
@@ -191,4 +192,125 @@ public class TextSearchAlgorithms {
         }
         return -1;
     }
+
+    public static int[] RabinKarpMethodAll(char[] pattern, char[] text) {
+        int patternSize = pattern.length;
+        int textSize = text.length;
+        if (patternSize == 0 || patternSize > textSize) {
+            return new int[0];
+        }
+
+        // a large fixed prime keeps collisions rare, and the rolling hash needs no per-position table
+        long prime = 1_000_000_007L;
+        long base = 65_599L;
+
+        long r = 1;
+        for (int i = 0; i < patternSize - 1; i++) {
+            r = (r * base) % prime;
+        }
+
+        long tfinger = 0;
+        long pfinger = 0;
+        for (int j = 0; j < patternSize; j++) {
+            tfinger = (base * tfinger + text[j]) % prime;
+            pfinger = (base * pfinger + pattern[j]) % prime;
+        }
+
+        int[] matches = new int[8];
+        int count = 0;
+        int diff = textSize - patternSize;
+        for (int i = 0; i <= diff; i++) {
+            if (tfinger == pfinger && regionMatches(pattern, text, i)) {
+                matches = append(matches, count++, i);
+            }
+
+            if (i < diff) {
+                long value = base * ((tfinger - r * text[i] % prime + prime) % prime) + text[i + patternSize];
+                tfinger = value % prime;
+            }
+        }
+        return Arrays.copyOf(matches, count);
+    }
+
+    public static int[] KnuthMorrisPrattSearchAll(char[] pattern, char[] text) {
+        int patternSize = pattern.length;
+        if (patternSize == 0) {
+            return new int[0];
+        }
+
+        // failure[j] is the length of the longest proper border of pattern[0..j]
+        int[] failure = new int[patternSize];
+        for (int i = 1, k = 0; i < patternSize; i++) {
+            while (k > 0 && pattern[i] != pattern[k]) {
+                k = failure[k - 1];
+            }
+            if (pattern[i] == pattern[k]) {
+                k++;
+            }
+            failure[i] = k;
+        }
+
+        int[] matches = new int[8];
+        int count = 0;
+        for (int i = 0, j = 0; i < text.length; i++) {
+            while (j > 0 && text[i] != pattern[j]) {
+                j = failure[j - 1];
+            }
+            if (text[i] == pattern[j]) {
+                j++;
+            }
+            if (j == patternSize) {
+                matches = append(matches, count++, i - patternSize + 1);
+                j = failure[j - 1];
+            }
+        }
+        return Arrays.copyOf(matches, count);
+    }
+
+    public static int[] BoyerMooreHorspoolSearchAll(char[] pattern, char[] text) {
+        int patternSize = pattern.length;
+        if (patternSize == 0) {
+            return new int[0];
+        }
+
+        // characters sharing their low byte share a slot; the last one wins, which is always the smallest shift
+        int[] shift = new int[256];
+        Arrays.fill(shift, patternSize);
+        for (int k = 0; k < patternSize - 1; k++) {
+            shift[pattern[k] & 0xFF] = patternSize - 1 - k;
+        }
+
+        int[] matches = new int[8];
+        int count = 0;
+        int i = 0;
+        while ((i + patternSize) <= text.length) {
+            int j = patternSize - 1;
+            while (j >= 0 && text[i + j] == pattern[j]) {
+                j--;
+            }
+            if (j < 0) {
+                matches = append(matches, count++, i);
+            }
+
+            i += shift[text[i + patternSize - 1] & 0xFF];
+        }
+        return Arrays.copyOf(matches, count);
+    }
+
+    private static boolean regionMatches(char[] pattern, char[] text, int from) {
+        for (int k = 0; k < pattern.length; k++) {
+            if (text[from + k] != pattern[k]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int[] append(int[] matches, int count, int position) {
+        if (count == matches.length) {
+            matches = Arrays.copyOf(matches, count * 2);
+        }
+        matches[count] = position;
+        return matches;
+    }
 }
@@ -1,8 +1,11 @@
 package com.baeldung.algorithms.dfs;
 
+import static org.junit.Assert.assertEquals;
+
 import java.util.List;
 
 import com.baeldung.algorithms.dfs.Graph;
+import com.baeldung.algorithms.graph.CsrGraph;
 import org.junit.Test;
 
 public class GraphUnitTest {
@@ -22,6 +25,18 @@ public class GraphUnitTest {
         System.out.println(list);
     }
 
+    @Test
+    public void givenEdgeToVertexNeverAdded_whenToCsrGraph_thenDestinationCounted() {
+        Graph graph = new Graph();
+        graph.addVertex(0);
+        graph.addEdge(0, 3);
+
+        CsrGraph csr = graph.toCsrGraph();
+        assertEquals(4, csr.getVertexCount());
+        assertEquals(1, csr.outDegree(0));
+        assertEquals(3, csr.target(csr.firstEdge(0)));
+    }
+
     private Graph createDirectedGraph() {
         Graph graph = new Graph();
         graph.addVertex(0);
@@ -0,0 +1,183 @@
+package com.baeldung.algorithms.graph;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+
+import com.baeldung.algorithms.breadthfirstsearch.Node;
+import com.baeldung.algorithms.breadthfirstsearch.Tree;
+import com.baeldung.algorithms.dfs.Graph;
+
+public class CsrGraphUnitTest {
+
+    @Test
+    public void givenDfsGraph_whenConverted_thenTraversalsFollowEdgeOrder() {
+        Graph graph = new Graph();
+        for (int v = 0; v < 6; v++) {
+            graph.addVertex(v);
+        }
+        graph.addEdge(0, 1);
+        graph.addEdge(0, 2);
+        graph.addEdge(1, 3);
+        graph.addEdge(2, 3);
+        graph.addEdge(3, 4);
+        graph.addEdge(4, 5);
+        CsrGraph csr = graph.toCsrGraph();
+
+        assertArrayEquals(new int[] { 0, 1, 3, 4, 5, 2 }, DepthFirstSearch.preorder(csr, 0));
+        assertEquals(graph.topologicalSort(0).toString(), Arrays.toString(DepthFirstSearch.topologicalSort(csr, 0)));
+        assertArrayEquals(new int[] { 0, 1, 1, 2, 3, 4 }, BreadthFirstSearch.distances(csr, 0));
+    }
+
+    @Test
+    public void givenLongPath_whenTraversing_thenNoStackOverflow() {
+        int n = 1_000_000;
+        CsrGraph.Builder builder = CsrGraph.builder(n);
+        for (int v = 0; v + 1 < n; v++) {
+            builder.addEdge(v, v + 1);
+        }
+        CsrGraph path = builder.build();
+
+        assertEquals(n, DepthFirstSearch.preorder(path, 0).length);
+        assertFalse(DepthFirstSearch.hasCycle(path));
+        assertEquals(n, StronglyConnectedComponents.of(path).getCount());
+
+        CsrGraph cycle = CsrGraph.builder(n)
+            .addEdge(n - 1, 0)
+            .build();
+        assertTrue(DepthFirstSearch.hasCycle(merge(path, cycle)));
+        assertEquals(1, StronglyConnectedComponents.of(merge(path, cycle)).getCount());
+    }
+
+    @Test
+    public void givenRandomGraphs_whenFindingComponents_thenMatchMutualReachability() {
+        Random random = new Random(1);
+        for (int i = 0; i < 200; i++) {
+            int n = 1 + random.nextInt(30);
+            CsrGraph graph = randomGraph(random, n, random.nextInt(3 * n));
+            boolean[][] reaches = new boolean[n][n];
+            for (int v = 0; v < n; v++) {
+                for (int w : DepthFirstSearch.preorder(graph, v)) {
+                    reaches[v][w] = true;
+                }
+            }
+
+            StronglyConnectedComponents components = StronglyConnectedComponents.of(graph);
+            boolean cyclic = false;
+            for (int v = 0; v < n; v++) {
+                for (int w = 0; w < n; w++) {
+                    boolean together = reaches[v][w] && reaches[w][v];
+                    assertEquals(together, components.componentOf(v) == components.componentOf(w));
+                    cyclic |= v != w && together;
+                }
+                for (int e = graph.firstEdge(v); e < graph.lastEdge(v); e++) {
+                    cyclic |= graph.target(e) == v;
+                    // components are numbered in reverse topological order
+                    assertTrue(components.componentOf(v) >= components.componentOf(graph.target(e)));
+                }
+            }
+            assertEquals(cyclic, DepthFirstSearch.hasCycle(graph));
+            assertFalse(DepthFirstSearch.hasCycle(components.condensation()));
+
+            if (!cyclic) {
+                int[] position = new int[n];
+                int[] order = DepthFirstSearch.topologicalSort(graph);
+                assertEquals(n, order.length);
+                for (int p = 0; p < n; p++) {
+                    position[order[p]] = p;
+                }
+                for (int v = 0; v < n; v++) {
+                    for (int e = graph.firstEdge(v); e < graph.lastEdge(v); e++) {
+                        assertTrue(position[v] < position[graph.target(e)]);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void givenCycle_whenSortingTopologically_thenThrows() {
+        CsrGraph graph = CsrGraph.builder(3)
+            .addEdge(0, 1)
+            .addEdge(1, 2)
+            .addEdge(2, 1)
+            .build();
+        DepthFirstSearch.topologicalSort(graph);
+    }
+
+    @Test
+    public void givenRandomGraphs_whenSearchingInParallel_thenSameDistancesAsSequential() {
+        Random random = new Random(2);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (int i = 0; i < 20; i++) {
+                // dense enough for the search to switch to bottom-up and back
+                int n = 1 + random.nextInt(50_000);
+                CsrGraph graph = randomGraph(random, n, random.nextInt(16 * n));
+                int source = random.nextInt(n);
+                int[] expected = BreadthFirstSearch.distances(graph, source);
+
+                assertArrayEquals(expected, BreadthFirstSearch.distances(graph, source, pool));
+                assertArrayEquals(expected, BreadthFirstSearch.distances(graph, source, null));
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void givenNodesAndTrees_whenConverted_thenEdgesAreKept() {
+        Node<Integer> start = new Node<>(10);
+        Node<Integer> first = new Node<>(2);
+        Node<Integer> second = new Node<>(4);
+        start.connect(first);
+        first.connect(second);
+        List<Node<Integer>> nodes = new ArrayList<>();
+        CsrGraph graph = start.toCsrGraph(nodes);
+
+        assertEquals(3, nodes.size());
+        assertEquals(4, graph.getEdgeCount());
+        assertEquals(2, BreadthFirstSearch.distances(graph, 0)[nodes.indexOf(second)]);
+
+        Tree<Integer> root = Tree.of(10);
+        Tree<Integer> child = root.addChild(2);
+        root.addChild(4);
+        child.addChild(6);
+        List<Tree<Integer>> trees = new ArrayList<>();
+        CsrGraph tree = root.toCsrGraph(trees);
+
+        assertEquals(4, trees.size());
+        assertEquals(3, tree.getEdgeCount());
+        assertEquals(6, (int) trees.get(3).getValue());
+        assertArrayEquals(new int[] { 0, 1, 1, 2 }, BreadthFirstSearch.distances(tree, 0));
+    }
+
+    private static CsrGraph randomGraph(Random random, int n, int edges) {
+        CsrGraph.Builder builder = CsrGraph.builder(n);
+        for (int e = 0; e < edges; e++) {
+            builder.addEdge(random.nextInt(n), random.nextInt(n));
+        }
+        return builder.build();
+    }
+
+    private static CsrGraph merge(CsrGraph first, CsrGraph second) {
+        CsrGraph.Builder builder = CsrGraph.builder(first.getVertexCount());
+        for (CsrGraph graph : new CsrGraph[] { first, second }) {
+            for (int v = 0; v < graph.getVertexCount(); v++) {
+                for (int e = graph.firstEdge(v); e < graph.lastEdge(v); e++) {
+                    builder.addEdge(v, graph.target(e));
+                }
+            }
+        }
+        return builder.build();
+    }
+}
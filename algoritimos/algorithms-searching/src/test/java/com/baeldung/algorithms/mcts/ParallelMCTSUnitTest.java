@@ -0,0 +1,61 @@
+package com.baeldung.algorithms.mcts;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.baeldung.algorithms.mcts.montecarlo.ParallelMonteCarloTreeSearch;
+import com.baeldung.algorithms.mcts.tictactoe.Board;
+import com.baeldung.algorithms.mcts.tictactoe.CompactBoard;
+import com.baeldung.algorithms.mcts.tictactoe.Position;
+
+public class ParallelMCTSUnitTest {
+
+    @Test
+    public void givenRandomGames_whenCheckStatus_thenCompactBoardMatchesBoard() {
+        Random random = new Random(42);
+        for (int game = 0; game < 100; game++) {
+            Board board = new Board();
+            CompactBoard compactBoard = new CompactBoard();
+            int player = Board.P1;
+            while (board.checkStatus() == Board.IN_PROGRESS) {
+                List<Position> emptyPositions = board.getEmptyPositions();
+                Position position = emptyPositions.get(random.nextInt(emptyPositions.size()));
+                board.performMove(player, position);
+                compactBoard.performMove(player, position.getX(), position.getY());
+                assertEquals(board.checkStatus(), compactBoard.checkStatus());
+                player = 3 - player;
+            }
+        }
+    }
+
+    @Test
+    public void givenEmptyBoard_whenSimulateTreeParallelPlay_thenGameDraw() {
+        assertEquals(Board.DRAW, playGame(new ParallelMonteCarloTreeSearch(ParallelMonteCarloTreeSearch.Mode.TREE, 4)));
+    }
+
+    @Test
+    public void givenEmptyBoard_whenSimulateRootParallelPlay_thenGameDraw() {
+        assertEquals(Board.DRAW, playGame(new ParallelMonteCarloTreeSearch(ParallelMonteCarloTreeSearch.Mode.ROOT, 4)));
+    }
+
+    private int playGame(ParallelMonteCarloTreeSearch mcts) {
+        Board board = new Board();
+        int player = Board.P1;
+        int totalMoves = Board.DEFAULT_BOARD_SIZE * Board.DEFAULT_BOARD_SIZE;
+        for (int i = 0; i < totalMoves; i++) {
+            board = mcts.findNextMove(board, player);
+            assertTrue(mcts.getLastPlayoutsPerSecond() > 0);
+            if (board.checkStatus() != Board.IN_PROGRESS) {
+                break;
+            }
+            player = 3 - player;
+        }
+        mcts.shutdown();
+        return board.checkStatus();
+    }
+}
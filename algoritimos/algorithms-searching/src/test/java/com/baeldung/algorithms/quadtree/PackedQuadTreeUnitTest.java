@@ -0,0 +1,125 @@
+package com.baeldung.algorithms.quadtree;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class PackedQuadTreeUnitTest {
+
+    private static final float[][] POINTS = new float[][] { { 21, 25 }, { 55, 53 }, { 70, 318 }, { 98, 302 },
+        { 49, 229 }, { 135, 229 }, { 224, 292 }, { 206, 321 }, { 197, 258 }, { 245, 238 } };
+
+    private static PackedQuadTree tree;
+
+    @BeforeClass
+    public static void setUp() {
+        QuadTree quadTree = new QuadTree(new Region(0, 0, 400, 400));
+        for (float[] point : POINTS) {
+            quadTree.addPoint(new Point(point[0], point[1]));
+        }
+        tree = quadTree.snapshot();
+    }
+
+    @Test
+    public void givenSnapshot_whenSearchingForRange_thenReturnMatchingItems() {
+        QueryBuffer result = new QueryBuffer();
+
+        assertEquals(1, tree.search(new Region(200, 200, 250, 250), result));
+        assertEquals(245, result.getX(0), 0);
+        assertEquals(238, result.getY(0), 0);
+
+        assertEquals(2, tree.search(new Region(0, 0, 100, 100), result));
+    }
+
+    @Test
+    public void givenSnapshot_whenSearchingNearest_thenReturnClosestFirst() {
+        QueryBuffer result = new QueryBuffer();
+
+        assertEquals(3, tree.nearest(200, 260, 3, result));
+        assertEquals(197, result.getX(0), 0);
+        assertEquals(258, result.getY(0), 0);
+        assertTrue(result.getDistance(0) <= result.getDistance(1));
+        assertTrue(result.getDistance(1) <= result.getDistance(2));
+
+        assertEquals(POINTS.length, tree.nearest(0, 0, 100, result));
+    }
+
+    @Test
+    public void givenRandomPoints_whenQueryingPackedTree_thenMatchBruteForce() {
+        Random random = new Random(7);
+        int n = 5000;
+        float[] xs = new float[n];
+        float[] ys = new float[n];
+        for (int i = 0; i < n; i++) {
+            xs[i] = random.nextFloat() * 1000;
+            // a few duplicates to exercise the depth limit
+            ys[i] = i % 100 == 0 ? 500 : random.nextFloat() * 1000;
+            if (i % 100 == 0) {
+                xs[i] = 500;
+            }
+        }
+        PackedQuadTree packed = new PackedQuadTree(new Region(0, 0, 1000, 1000), xs, ys, 4);
+        assertEquals(n, packed.size());
+
+        QueryBuffer result = new QueryBuffer();
+        for (int query = 0; query < 50; query++) {
+            float x = random.nextFloat() * 1000;
+            float y = random.nextFloat() * 1000;
+            float radius = random.nextFloat() * 100;
+
+            List<Integer> expected = new ArrayList<>();
+            for (int i = 0; i < n; i++) {
+                float dx = xs[i] - x;
+                float dy = ys[i] - y;
+                if (dx * dx + dy * dy <= radius * radius) {
+                    expected.add(i);
+                }
+            }
+            assertEquals(expected, sortedIds(result, packed.searchRadius(x, y, radius, result)));
+
+            int k = 10;
+            float[] distances = new float[n];
+            for (int i = 0; i < n; i++) {
+                distances[i] = (float) Math.sqrt((xs[i] - x) * (xs[i] - x) + (ys[i] - y) * (ys[i] - y));
+            }
+            Arrays.sort(distances);
+            assertEquals(k, packed.nearest(x, y, k, result));
+            for (int i = 0; i < k; i++) {
+                assertEquals(distances[i], result.getDistance(i), 1e-3f);
+            }
+        }
+    }
+
+    @Test
+    public void givenQuadTree_whenTracingIsDisabled_thenSearchPathIsEmpty() {
+        QuadTree quadTree = new QuadTree(new Region(0, 0, 400, 400));
+        for (float[] point : POINTS) {
+            quadTree.addPoint(new Point(point[0], point[1]));
+        }
+
+        quadTree.search(new Region(0, 0, 100, 100), null, "");
+        assertEquals("", quadTree.printSearchTraversePath());
+
+        quadTree.setTracingEnabled(true);
+        quadTree.search(new Region(0, 0, 100, 100), null, "");
+        assertTrue(quadTree
+          .printSearchTraversePath()
+          .contains("Found match"));
+    }
+
+    private static List<Integer> sortedIds(QueryBuffer result, int size) {
+        List<Integer> ids = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            ids.add(result.getId(i));
+        }
+        ids.sort(null);
+        return ids;
+    }
+}
@@ -0,0 +1,57 @@
+package com.baeldung.algorithms.suffixtree;
+
+import java.util.Arrays;
+
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class SuffixArrayUnitTest {
+
+    private static SuffixArray suffixArray;
+
+    @BeforeClass
+    public static void setUp() {
+        suffixArray = new SuffixArray("havanabanana");
+    }
+
+    @Test
+    public void givenSuffixArray_whenLocatingA_thenReturn6Positions() {
+        Assert.assertArrayEquals(new int[] { 1, 3, 5, 7, 9, 11 }, suffixArray.locate("a"));
+    }
+
+    @Test
+    public void givenSuffixArray_whenLocatingNab_thenReturn1Position() {
+        Assert.assertArrayEquals(new int[] { 4 }, suffixArray.locate("nab"));
+    }
+
+    @Test
+    public void givenSuffixArray_whenLocatingNag_thenReturnNoPositions() {
+        Assert.assertArrayEquals(new int[] {}, suffixArray.locate("nag"));
+    }
+
+    @Test
+    public void givenSuffixArray_whenLocatingAna_thenReturn3Positions() {
+        Assert.assertArrayEquals(new int[] { 3, 7, 9 }, suffixArray.locate("ana"));
+    }
+
+    @Test
+    public void givenSuffixArray_whenCountingManyPatterns_thenReturnCountsInOrder() {
+        int[] counts = suffixArray.countAll(Arrays.asList("a", "na", "banana", "havanabanana", "x"));
+
+        Assert.assertArrayEquals(new int[] { 6, 3, 1, 1, 0 }, counts);
+    }
+
+    @Test
+    public void givenSuffixArray_whenLocatingManyPatterns_thenReturnPositionsInOrder() {
+        int[][] positions = suffixArray.locateAll(Arrays.asList("na", "van"));
+
+        Assert.assertArrayEquals(new int[] { 4, 8, 10 }, positions[0]);
+        Assert.assertArrayEquals(new int[] { 2 }, positions[1]);
+    }
+
+    @Test
+    public void givenSuffixArray_whenFindingLongestRepeatedSubstring_thenReturnAna() {
+        Assert.assertEquals("ana", suffixArray.longestRepeatedSubstring());
+    }
+}
@@ -0,0 +1,69 @@
+package com.baeldung.algorithms.textsearch;
+
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class AhoCorasickUnitTest {
+
+    @Test
+    public void givenKeywords_whenFindAll_thenReportOverlappingMatches() {
+        AhoCorasick ahoCorasick = AhoCorasick.of(Arrays.asList("he", "she", "his", "hers"));
+
+        List<AhoCorasick.Match> matches = ahoCorasick.findAll("ushers");
+
+        Assert.assertEquals(3, matches.size());
+        Assert.assertEquals(1, matches.get(0).getStart());
+        Assert.assertEquals(1, matches.get(0).getKeyword());
+        Assert.assertEquals(2, matches.get(1).getStart());
+        Assert.assertEquals(0, matches.get(1).getKeyword());
+        Assert.assertEquals(2, matches.get(2).getStart());
+        Assert.assertEquals(6, matches.get(2).getEnd());
+        Assert.assertEquals(3, matches.get(2).getKeyword());
+    }
+
+    @Test
+    public void givenReader_whenScan_thenReportMatchesAcrossChunks() throws Exception {
+        AhoCorasick ahoCorasick = AhoCorasick.of(Arrays.asList("ERROR", "WARN"));
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 5000; i++) {
+            text.append(i % 3 == 0 ? "ERROR " : "INFO ");
+        }
+
+        List<Long> starts = new ArrayList<>();
+        long read = ahoCorasick.scan(new StringReader(text.toString()), (start, end, keyword) -> starts.add(start));
+
+        Assert.assertEquals(text.length(), read);
+        Assert.assertEquals(1667, starts.size());
+        Assert.assertEquals(text.lastIndexOf("ERROR"), (long) starts.get(starts.size() - 1));
+    }
+
+    @Test
+    public void givenByteBuffers_whenFeed_thenReportByteOffsets() {
+        AhoCorasick ahoCorasick = AhoCorasick.ofBytes(Arrays.asList("timeout"), StandardCharsets.UTF_8);
+        List<Long> starts = new ArrayList<>();
+        AhoCorasick.Cursor cursor = ahoCorasick.newCursor((start, end, keyword) -> starts.add(start));
+
+        cursor.feed(ByteBuffer.wrap("request time".getBytes(StandardCharsets.UTF_8)));
+        cursor.feed(ByteBuffer.wrap("out after 30s".getBytes(StandardCharsets.UTF_8)));
+
+        Assert.assertEquals(Arrays.asList(8L), starts);
+    }
+
+    @Test
+    public void givenText_whenSearchAll_thenAllAlgorithmsReturnEveryOccurrence() {
+        char[] text = "abracadabra abracadabra".toCharArray();
+        char[] pattern = "abra".toCharArray();
+        int[] expected = { 0, 7, 12, 19 };
+
+        Assert.assertArrayEquals(expected, TextSearchAlgorithms.KnuthMorrisPrattSearchAll(pattern, text));
+        Assert.assertArrayEquals(expected, TextSearchAlgorithms.RabinKarpMethodAll(pattern, text));
+        Assert.assertArrayEquals(expected, TextSearchAlgorithms.BoyerMooreHorspoolSearchAll(pattern, text));
+    }
+}
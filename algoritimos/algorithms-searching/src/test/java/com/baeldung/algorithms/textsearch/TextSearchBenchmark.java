@@ -0,0 +1,97 @@
+package com.baeldung.algorithms.textsearch;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+@Fork(value = 1, warmups = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class TextSearchBenchmark {
+
+    private static final int TEXT_SIZE = 1 << 20;
+    private static final int PATTERN_SIZE = 8;
+
+    @Param({ "1", "10", "100", "1000" })
+    private int patternCount;
+
+    @Param({ "4", "26" })
+    private int alphabetSize;
+
+    private char[] text;
+    private List<char[]> patterns;
+    private AhoCorasick ahoCorasick;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        text = randomChars(random, TEXT_SIZE);
+        patterns = new ArrayList<>(patternCount);
+        List<String> keywords = new ArrayList<>(patternCount);
+        for (int i = 0; i < patternCount; i++) {
+            // half of the patterns are taken from the text so that there are matches to report
+            char[] pattern;
+            if (i % 2 == 0) {
+                int from = random.nextInt(TEXT_SIZE - PATTERN_SIZE);
+                pattern = new String(text, from, PATTERN_SIZE).toCharArray();
+            } else {
+                pattern = randomChars(random, PATTERN_SIZE);
+            }
+            patterns.add(pattern);
+            keywords.add(new String(pattern));
+        }
+        ahoCorasick = AhoCorasick.of(keywords);
+    }
+
+    private char[] randomChars(Random random, int size) {
+        char[] chars = new char[size];
+        for (int i = 0; i < size; i++) {
+            chars[i] = (char) ('a' + random.nextInt(alphabetSize));
+        }
+        return chars;
+    }
+
+    @Benchmark
+    public void knuthMorrisPratt(Blackhole blackhole) {
+        for (char[] pattern : patterns) {
+            blackhole.consume(TextSearchAlgorithms.KnuthMorrisPrattSearchAll(pattern, text));
+        }
+    }
+
+    @Benchmark
+    public void rabinKarp(Blackhole blackhole) {
+        for (char[] pattern : patterns) {
+            blackhole.consume(TextSearchAlgorithms.RabinKarpMethodAll(pattern, text));
+        }
+    }
+
+    @Benchmark
+    public void boyerMooreHorspool(Blackhole blackhole) {
+        for (char[] pattern : patterns) {
+            blackhole.consume(TextSearchAlgorithms.BoyerMooreHorspoolSearchAll(pattern, text));
+        }
+    }
+
+    @Benchmark
+    public void ahoCorasick(Blackhole blackhole) {
+        AhoCorasick.Cursor cursor = ahoCorasick.newCursor((start, end, keyword) -> blackhole.consume(start));
+        cursor.feed(text, 0, text.length);
+    }
+
+    public static void main(String[] args) throws Exception {
+        org.openjdk.jmh.Main.main(args);
+    }
+}
@@ -1,9 +1,19 @@
 package com.baeldung.algorithms.radixsort;
 
 import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
 
 public class RadixSort {
 
+    private static final int RADIX = 256;
+
+    /**
+     * Smallest number of keys a thread sorts in the parallel variants.
+     */
+    private static final int MIN_CHUNK_SIZE = 1 << 16;
+
     public static void sort(int numbers[]) {
         int maximumNumber = findMaximumNumberIn(numbers);
 
@@ -50,4 +60,275 @@ public class RadixSort {
         return Arrays.stream(arr).max().getAsInt();
     }
 
+    /**
+     * Sorts signed ints one byte at a time, least significant byte first. Unlike
+     * {@link #sort(int[])}, which works on decimal digits, this needs at most 4 passes and
+     * accepts negative numbers.
+     */
+    public static void sortByBytes(int[] keys) {
+        sortSignedInts(keys, null, false);
+    }
+
+    public static void sortByBytes(long[] keys) {
+        sortSignedLongs(keys, null, false);
+    }
+
+    /**
+     * Sorts floats in the order of {@link Arrays#sort(float[])}: -0.0 comes before 0.0 and
+     * NaN values come last, as the canonical NaN.
+     */
+    public static void sortByBytes(float[] keys) {
+        sortFloats(keys, null, false);
+    }
+
+    /**
+     * Sorts the keys and applies the same permutation to the payload, typically the indexes
+     * of the records the keys were taken from. The sort is stable.
+     */
+    public static void sortByBytes(int[] keys, int[] payload) {
+        sortSignedInts(keys, checkPayload(keys.length, payload), false);
+    }
+
+    public static void sortByBytes(long[] keys, int[] payload) {
+        sortSignedLongs(keys, checkPayload(keys.length, payload), false);
+    }
+
+    public static void sortByBytes(float[] keys, int[] payload) {
+        sortFloats(keys, checkPayload(keys.length, payload), false);
+    }
+
+    /**
+     * Parallel variant of {@link #sortByBytes(int[])}. The array is split into chunks; every
+     * pass counts the byte values of each chunk in parallel, then moves each chunk to its
+     * precomputed offsets in parallel, so no two threads write to the same position.
+     */
+    public static void parallelSortByBytes(int[] keys) {
+        sortSignedInts(keys, null, true);
+    }
+
+    public static void parallelSortByBytes(long[] keys) {
+        sortSignedLongs(keys, null, true);
+    }
+
+    public static void parallelSortByBytes(float[] keys) {
+        sortFloats(keys, null, true);
+    }
+
+    public static void parallelSortByBytes(int[] keys, int[] payload) {
+        sortSignedInts(keys, checkPayload(keys.length, payload), true);
+    }
+
+    public static void parallelSortByBytes(long[] keys, int[] payload) {
+        sortSignedLongs(keys, checkPayload(keys.length, payload), true);
+    }
+
+    public static void parallelSortByBytes(float[] keys, int[] payload) {
+        sortFloats(keys, checkPayload(keys.length, payload), true);
+    }
+
+    private static int[] checkPayload(int length, int[] payload) {
+        if (payload.length != length) {
+            throw new IllegalArgumentException("The payload should have one value per key");
+        }
+        return payload;
+    }
+
+    private static void sortFloats(float[] keys, int[] payload, boolean parallel) {
+        int[] bits = new int[keys.length];
+        forEachRange(keys.length, chunkCount(keys.length, parallel), (from, to) -> {
+            for (int i = from; i < to; i++) {
+                bits[i] = toSortableBits(Float.floatToIntBits(keys[i]));
+            }
+        });
+
+        sortSignedInts(bits, payload, parallel);
+
+        forEachRange(keys.length, chunkCount(keys.length, parallel), (from, to) -> {
+            for (int i = from; i < to; i++) {
+                keys[i] = Float.intBitsToFloat(toSortableBits(bits[i]));
+            }
+        });
+    }
+
+    /**
+     * Flips the magnitude bits of negative floats, so that their bits compare like signed ints.
+     * Applying it twice gives back the original bits.
+     */
+    private static int toSortableBits(int bits) {
+        return bits ^ ((bits >> 31) & 0x7FFFFFFF);
+    }
+
+    private static void sortSignedInts(int[] keys, int[] payload, boolean parallel) {
+        int n = keys.length;
+        int chunks = chunkCount(n, parallel);
+        int[] source = keys;
+        int[] target = new int[n];
+        int[] sourcePayload = payload;
+        int[] targetPayload = payload == null ? null : new int[n];
+
+        for (int shift = 0; shift < Integer.SIZE; shift += 8) {
+            // flipping the sign bit puts negative numbers before positive ones
+            int flip = shift == Integer.SIZE - 8 ? 0x80 : 0;
+            if (scatter(source, sourcePayload, target, targetPayload, shift, flip, chunks)) {
+                int[] swap = source;
+                source = target;
+                target = swap;
+                swap = sourcePayload;
+                sourcePayload = targetPayload;
+                targetPayload = swap;
+            }
+        }
+
+        if (source != keys) {
+            System.arraycopy(source, 0, keys, 0, n);
+            if (payload != null) {
+                System.arraycopy(sourcePayload, 0, payload, 0, n);
+            }
+        }
+    }
+
+    private static void sortSignedLongs(long[] keys, int[] payload, boolean parallel) {
+        int n = keys.length;
+        int chunks = chunkCount(n, parallel);
+        long[] source = keys;
+        long[] target = new long[n];
+        int[] sourcePayload = payload;
+        int[] targetPayload = payload == null ? null : new int[n];
+
+        for (int shift = 0; shift < Long.SIZE; shift += 8) {
+            int flip = shift == Long.SIZE - 8 ? 0x80 : 0;
+            if (scatter(source, sourcePayload, target, targetPayload, shift, flip, chunks)) {
+                long[] swap = source;
+                source = target;
+                target = swap;
+                int[] swapPayload = sourcePayload;
+                sourcePayload = targetPayload;
+                targetPayload = swapPayload;
+            }
+        }
+
+        if (source != keys) {
+            System.arraycopy(source, 0, keys, 0, n);
+            if (payload != null) {
+                System.arraycopy(sourcePayload, 0, payload, 0, n);
+            }
+        }
+    }
+
+    /**
+     * One stable counting sort pass on the byte at {@code shift}.
+     *
+     * @return false if all keys have the same byte, in which case nothing was moved.
+     */
+    private static boolean scatter(int[] source, int[] sourcePayload, int[] target, int[] targetPayload, int shift, int flip, int chunks) {
+        int n = source.length;
+        int[][] offsets = new int[chunks][RADIX];
+        forEachChunk(chunks, chunk -> {
+            int[] counts = offsets[chunk];
+            int to = chunkStart(n, chunks, chunk + 1);
+            for (int i = chunkStart(n, chunks, chunk); i < to; i++) {
+                counts[((source[i] >>> shift) & 0xFF) ^ flip]++;
+            }
+        });
+
+        if (!prefixSums(offsets, n)) {
+            return false;
+        }
+
+        forEachChunk(chunks, chunk -> {
+            int[] next = offsets[chunk];
+            int to = chunkStart(n, chunks, chunk + 1);
+            for (int i = chunkStart(n, chunks, chunk); i < to; i++) {
+                int position = next[((source[i] >>> shift) & 0xFF) ^ flip]++;
+                target[position] = source[i];
+                if (sourcePayload != null) {
+                    targetPayload[position] = sourcePayload[i];
+                }
+            }
+        });
+        return true;
+    }
+
+    private static boolean scatter(long[] source, int[] sourcePayload, long[] target, int[] targetPayload, int shift, int flip, int chunks) {
+        int n = source.length;
+        int[][] offsets = new int[chunks][RADIX];
+        forEachChunk(chunks, chunk -> {
+            int[] counts = offsets[chunk];
+            int to = chunkStart(n, chunks, chunk + 1);
+            for (int i = chunkStart(n, chunks, chunk); i < to; i++) {
+                counts[((int) (source[i] >>> shift) & 0xFF) ^ flip]++;
+            }
+        });
+
+        if (!prefixSums(offsets, n)) {
+            return false;
+        }
+
+        forEachChunk(chunks, chunk -> {
+            int[] next = offsets[chunk];
+            int to = chunkStart(n, chunks, chunk + 1);
+            for (int i = chunkStart(n, chunks, chunk); i < to; i++) {
+                int position = next[((int) (source[i] >>> shift) & 0xFF) ^ flip]++;
+                target[position] = source[i];
+                if (sourcePayload != null) {
+                    targetPayload[position] = sourcePayload[i];
+                }
+            }
+        });
+        return true;
+    }
+
+    /**
+     * Turns the per-chunk counts into the position where each chunk writes its first key of each
+     * byte value. Within a byte value, earlier chunks write first, which keeps the sort stable.
+     *
+     * @return false if a single byte value covers all keys, including when there are none.
+     */
+    private static boolean prefixSums(int[][] offsets, int n) {
+        int offset = 0;
+        for (int digit = 0; digit < RADIX; digit++) {
+            int start = offset;
+            for (int[] counts : offsets) {
+                int count = counts[digit];
+                counts[digit] = offset;
+                offset += count;
+            }
+            if (offset - start == n) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int chunkCount(int n, boolean parallel) {
+        if (!parallel) {
+            return 1;
+        }
+        return Math.max(1, Math.min(ForkJoinPool.getCommonPoolParallelism() * 4, n / MIN_CHUNK_SIZE));
+    }
+
+    private static int chunkStart(int n, int chunks, int chunk) {
+        return (int) ((long) n * chunk / chunks);
+    }
+
+    private static void forEachChunk(int chunks, IntConsumer action) {
+        if (chunks == 1) {
+            action.accept(0);
+        } else {
+            IntStream.range(0, chunks)
+                .parallel()
+                .forEach(action);
+        }
+    }
+
+    private static void forEachRange(int n, int chunks, RangeAction action) {
+        forEachChunk(chunks, chunk -> action.apply(chunkStart(n, chunks, chunk), chunkStart(n, chunks, chunk + 1)));
+    }
+
+    @FunctionalInterface
+    private interface RangeAction {
+
+        void apply(int from, int to);
+    }
+
 }
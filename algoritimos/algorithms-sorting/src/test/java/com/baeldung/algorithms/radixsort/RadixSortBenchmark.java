@@ -0,0 +1,109 @@
+package com.baeldung.algorithms.radixsort;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@Fork(value = 1, warmups = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class RadixSortBenchmark {
+
+    @Param({ "100000", "10000000" })
+    private int size;
+
+    private int[] ints;
+    private long[] longs;
+    private float[] floats;
+    private int[] indexes;
+
+    private int[] intsToSort;
+    private long[] longsToSort;
+    private float[] floatsToSort;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        ints = random
+          .ints(size)
+          .toArray();
+        longs = random
+          .longs(size)
+          .toArray();
+        floats = new float[size];
+        for (int i = 0; i < size; i++) {
+            floats[i] = (float) random.nextGaussian();
+        }
+        indexes = new int[size];
+    }
+
+    @Setup(Level.Invocation)
+    public void copyInput() {
+        intsToSort = ints.clone();
+        longsToSort = longs.clone();
+        floatsToSort = floats.clone();
+        for (int i = 0; i < size; i++) {
+            indexes[i] = i;
+        }
+    }
+
+    @Benchmark
+    public int[] intsWithArraysParallelSort() {
+        Arrays.parallelSort(intsToSort);
+        return intsToSort;
+    }
+
+    @Benchmark
+    public int[] intsWithRadixSort() {
+        RadixSort.sortByBytes(intsToSort);
+        return intsToSort;
+    }
+
+    @Benchmark
+    public int[] intsWithParallelRadixSort() {
+        RadixSort.parallelSortByBytes(intsToSort);
+        return intsToSort;
+    }
+
+    @Benchmark
+    public long[] longsWithArraysParallelSort() {
+        Arrays.parallelSort(longsToSort);
+        return longsToSort;
+    }
+
+    @Benchmark
+    public long[] longsWithParallelRadixSort() {
+        RadixSort.parallelSortByBytes(longsToSort);
+        return longsToSort;
+    }
+
+    @Benchmark
+    public float[] floatsWithArraysParallelSort() {
+        Arrays.parallelSort(floatsToSort);
+        return floatsToSort;
+    }
+
+    @Benchmark
+    public float[] floatsWithParallelRadixSort() {
+        RadixSort.parallelSortByBytes(floatsToSort);
+        return floatsToSort;
+    }
+
+    @Benchmark
+    public int[] keyIndexPairsWithParallelRadixSort() {
+        RadixSort.parallelSortByBytes(intsToSort, indexes);
+        return indexes;
+    }
+}
@@ -1,6 +1,11 @@
 package com.baeldung.algorithms.radixsort;
 
 import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
 
 import org.junit.Test;
 
@@ -13,4 +18,85 @@ public class RadixSortUnitTest {
         int[] numbersSorted = { 7, 37, 68, 123, 134, 221, 387, 468, 769 };
         assertArrayEquals(numbersSorted, numbers);
     }
+
+    @Test
+    public void givenSignedInts_whenSortByBytes_thenArraySorted() {
+        int[] numbers = { 387, -468, 134, Integer.MIN_VALUE, 0, 221, Integer.MAX_VALUE, -1, 7 };
+        int[] expected = numbers.clone();
+        Arrays.sort(expected);
+
+        RadixSort.sortByBytes(numbers);
+        assertArrayEquals(expected, numbers);
+    }
+
+    @Test
+    public void givenFloats_whenSortByBytes_thenArraySortedLikeArraysSort() {
+        float[] numbers = { 1.5f, -0.0f, Float.NaN, 0.0f, Float.NEGATIVE_INFINITY, -2.25f, Float.MIN_VALUE, Float.POSITIVE_INFINITY, -Float.MAX_VALUE };
+        float[] expected = numbers.clone();
+        Arrays.sort(expected);
+
+        RadixSort.sortByBytes(numbers);
+        assertArrayEquals(expected, numbers, 0);
+        assertEquals(Float.floatToIntBits(-0.0f), Float.floatToIntBits(numbers[3]));
+    }
+
+    @Test
+    public void givenLargeRandomArrays_whenParallelSortByBytes_thenMatchArraysSort() {
+        Random random = new Random(11);
+        int n = 1 << 20;
+
+        int[] ints = random
+          .ints(n)
+          .toArray();
+        int[] expectedInts = ints.clone();
+        Arrays.sort(expectedInts);
+        RadixSort.parallelSortByBytes(ints);
+        assertArrayEquals(expectedInts, ints);
+
+        long[] longs = random
+          .longs(n)
+          .toArray();
+        long[] expectedLongs = longs.clone();
+        Arrays.sort(expectedLongs);
+        RadixSort.parallelSortByBytes(longs);
+        assertArrayEquals(expectedLongs, longs);
+
+        float[] floats = new float[n];
+        for (int i = 0; i < n; i++) {
+            floats[i] = (float) random.nextGaussian() * 1000;
+        }
+        float[] expectedFloats = floats.clone();
+        Arrays.sort(expectedFloats);
+        RadixSort.parallelSortByBytes(floats);
+        assertArrayEquals(expectedFloats, floats, 0);
+    }
+
+    @Test
+    public void givenKeysWithPayload_whenSortByBytes_thenPayloadFollowsKeysStably() {
+        Random random = new Random(5);
+        for (boolean parallel : new boolean[] { false, true }) {
+            int n = parallel ? 1 << 19 : 1000;
+            long[] keys = new long[n];
+            int[] indexes = new int[n];
+            for (int i = 0; i < n; i++) {
+                // few distinct keys, so that stability matters
+                keys[i] = random.nextInt(50) - 25;
+                indexes[i] = i;
+            }
+            long[] original = keys.clone();
+
+            if (parallel) {
+                RadixSort.parallelSortByBytes(keys, indexes);
+            } else {
+                RadixSort.sortByBytes(keys, indexes);
+            }
+
+            for (int i = 0; i < n; i++) {
+                assertEquals(original[indexes[i]], keys[i]);
+                if (i > 0 && keys[i - 1] == keys[i]) {
+                    assertTrue(indexes[i - 1] < indexes[i]);
+                }
+            }
+        }
+    }
 }
@@ -12,6 +12,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.function.Consumer;
 
 public class PowerSetUtility<T> {
 
@@ -89,6 +91,51 @@ public class PowerSetUtility<T> {
             }
         }
 
+        static class SubsetSpliterator<E> implements Spliterator<Set<E>> {
+            private Map<E, Integer> map;
+            private List<E> reverseMap;
+            private int mask;
+            private int end;
+
+            public SubsetSpliterator(Map<E, Integer> map, List<E> reverseMap, int mask, int end) {
+                this.map = map;
+                this.reverseMap = reverseMap;
+                this.mask = mask;
+                this.end = end;
+            }
+
+            @Override
+            public boolean tryAdvance(Consumer<? super Set<E>> action) {
+                if (mask >= end) {
+                    return false;
+                }
+                action.accept(new Subset<>(map, reverseMap, mask++));
+                return true;
+            }
+
+            @Override
+            public Spliterator<Set<E>> trySplit() {
+                int remaining = end - mask;
+                if (remaining < 2) {
+                    return null;
+                }
+                int middle = mask + remaining / 2;
+                Spliterator<Set<E>> prefix = new SubsetSpliterator<>(map, reverseMap, mask, middle);
+                mask = middle;
+                return prefix;
+            }
+
+            @Override
+            public long estimateSize() {
+                return end - mask;
+            }
+
+            @Override
+            public int characteristics() {
+                return ORDERED | SIZED | SUBSIZED | DISTINCT | NONNULL | IMMUTABLE;
+            }
+        }
+
         @Override
         public Iterator<Set<E>> iterator() {
             return new ListIterator<Set<E>>(this.size()) {
@@ -99,6 +146,14 @@ public class PowerSetUtility<T> {
             };
         }
 
+        /**
+         * Splits the subsets by rank, so that a parallel stream builds them on many threads.
+         */
+        @Override
+        public Spliterator<Set<E>> spliterator() {
+            return new SubsetSpliterator<>(map, reverseMap, 0, size());
+        }
+
         @Override
         public int size() {
             return (1 << this.set.size());
@@ -16,6 +16,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Random;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 public class PowerSetUtilityUnitTest {
 
@@ -54,6 +55,18 @@ public class PowerSetUtilityUnitTest {
         counter.forEach((k, v) -> Assertions.assertEquals((1 << (set.size() - 1)), v.intValue()));
     }
 
+    @Test
+    public void givenSet_WhenLazyLoadPowerSetIsStreamedInParallel_ThenItContainsAllSubsetsInOrder() {
+        Set<String> set = RandomSetOfStringGenerator.generateRandomSet();
+        Set<Set<String>> powerSet = new PowerSetUtility<String>().lazyLoadPowerSet(set);
+
+        List<Set<String>> sequential = powerSet.stream().map(HashSet::new).collect(Collectors.toList());
+        List<Set<String>> parallel = powerSet.parallelStream().map(HashSet::new).collect(Collectors.toList());
+
+        Assertions.assertEquals((1 << set.size()), new HashSet<>(parallel).size());
+        Assertions.assertEquals(sequential, parallel);
+    }
+
     @Test
     public void givenSet_WhenPowerSetIsCalculated_ThenItContainsAllSubsets() {
         Set<String> set = RandomSetOfStringGenerator.generateRandomSet();